@@ -1,39 +1,79 @@
 package org.example;
 
 import org.example.config.DependencyContainer;
+import org.example.config.QueryDependencyContainer;
+import org.example.config.ReplayDependencyContainer;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.*;
 
 /**
  * Main class to start and manage the simulation of a virtual ecosystem.
  * It initializes necessary dependencies using a DependencyContainer, executes
- * the simulation and plant regrowing tasks concurrently, and ensures proper
+ * the simulation task, which also regrows the plants, and ensures proper
  * termination and cleanup after completion or in case of exceptions.
+ * The latency summary of the simulation phases is printed when the JVM shuts down.
+ * The optional metrics endpoint is served while the simulation is running.
+ * With the {@code replay} command a recorded run is replayed from its event journal instead,
+ * and with the {@code query} command its history is queried.
  */
 public class Main {
 
     /**
-     * Main method to start the simulation.
+     * Main method to start the simulation, or to replay or query a recorded run.
      *
-     * @param args Command line arguments (not used).
+     * @param args Command line arguments: none to run the simulation, {@code replay [journal file] [day...]},
+     *             or {@code query [journal file] [query]}.
      */
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("replay")) {
+            replay(Arrays.asList(args).subList(1, args.length));
+            return;
+        }
+        if (args.length > 0 && args[0].equals("query")) {
+            query(Arrays.asList(args).subList(1, args.length));
+            return;
+        }
+
         System.out.println("Simulation started.");
 
         var dependencyContainer = new DependencyContainer();
         var simulationTask = dependencyContainer.getSimulationTask();
-        var plantRegrowingTask = dependencyContainer.getPlantRegrowingTask();
+        var phaseMetrics = dependencyContainer.getPhaseMetrics();
+        var prometheusEndpoint = dependencyContainer.getPrometheusEndpoint();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> System.out.print(phaseMetrics.getSummary())));
 
-        try (var executorService = Executors.newSingleThreadExecutor();
-             var scheduledExecutorService = Executors.newScheduledThreadPool(1))
-        {
-            scheduledExecutorService.scheduleAtFixedRate(plantRegrowingTask, 1, 5, TimeUnit.SECONDS);
+        prometheusEndpoint.start();
+
+        try (var executorService = Executors.newSingleThreadExecutor()) {
             var submit = executorService.submit(simulationTask);
             submit.get();
         } catch (Exception e) {
             throw new RuntimeException(e);
+        } finally {
+            prometheusEndpoint.stop();
         }
 
         System.out.println("Simulation has been completed.");
     }
-}
\ No newline at end of file
+
+    /**
+     * Replays a recorded run from its event journal.
+     *
+     * @param args the arguments following the replay command
+     */
+    private static void replay(List<String> args) {
+        new ReplayDependencyContainer(args).getReplayTask().run();
+    }
+
+    /**
+     * Answers queries about the history of a recorded run.
+     *
+     * @param args the arguments following the query command
+     */
+    private static void query(List<String> args) {
+        new QueryDependencyContainer(args).getQueryTask().run();
+    }
+}
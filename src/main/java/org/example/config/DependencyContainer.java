@@ -2,20 +2,39 @@ package org.example.config;
 
 import org.example.task.LifeCycleTask;
 import org.example.task.PlantRegrowingTask;
+import org.example.entity.area.CheckpointLocationCreationStrategy;
 import org.example.entity.area.Island;
+import org.example.entity.area.LocationCreationStrategy;
+import org.example.entity.area.NoiseLocationCreationStrategy;
 import org.example.entity.area.RandomLocationCreationStrategy;
+import org.example.entity.area.TerrainFileLocationCreationStrategy;
+import org.example.entity.area.TerrainGenerator;
 import org.example.entity.characteristic.CharacteristicsFactory;
 import org.example.entity.coordinate.CoordinateFactory;
 import org.example.entity.location.LocationFactory;
 import org.example.entity.organism.OrganismFactory;
 import org.example.entity.organism.OrganismRegistry;
-import org.example.logger.TimeExecutionLogger;
+import org.example.metrics.LocationCostTracker;
+import org.example.metrics.LocationCostWriter;
+import org.example.metrics.PhaseMetrics;
+import org.example.metrics.PrometheusEndpoint;
+import org.example.metrics.SimulationMetrics;
+import org.example.metrics.StatisticsExporter;
+import org.example.metrics.jfr.MigrationEventEmitter;
+import org.example.persistence.CheckpointFile;
+import org.example.persistence.CheckpointWriter;
+import org.example.persistence.JournalWriter;
+import org.example.persistence.WorldSnapshot;
 import org.example.provider.DietProvider;
 import org.example.provider.EmojiProvider;
 import org.example.service.*;
+import org.example.statistics.PopulationCounter;
 import org.example.config.reader.YamlConfigReader;
+import org.example.view.AsyncFrameRenderer;
 import org.example.view.ConsoleView;
-import org.slf4j.LoggerFactory;
+import org.example.view.FrameFactory;
+
+import java.nio.file.Path;
 
 /**
  * The {@code DependencyContainer} class is responsible for creating and injecting all the dependencies
@@ -23,14 +42,16 @@ import org.slf4j.LoggerFactory;
  */
 public class DependencyContainer {
     private final LifeCycleTask lifeCycleTask;
-    private final PlantRegrowingTask plantRegrowingTask;
+    private final PhaseMetrics phaseMetrics;
+    private final PrometheusEndpoint prometheusEndpoint;
 
     /**
      * Constructs a new {@code DependencyContainer} and initializes all the dependencies required for the simulation.
      */
     public DependencyContainer() {
-        // Logger for tracking time execution
-        var timeExecutionLogger = new TimeExecutionLogger(LoggerFactory.getLogger(TimeExecutionLogger.class));
+        // Latency histograms of the simulation phases
+        phaseMetrics = new PhaseMetrics();
+        var simulationMetrics = new SimulationMetrics();
 
         // Registry for organism classes
         var organismRegistry = new OrganismRegistry();
@@ -41,28 +62,39 @@ public class DependencyContainer {
         // Reading simulation, termination, and view configurations
         var simulationConfig = configReader.readSimulationConfig();
         var terminationConfig = configReader.readTerminationConfig();
-        var viewConfig = configReader.readViewConfig();
+        var viewConfig = simulationConfig.headless()
+                ? configReader.readViewConfig().toHeadless()
+                : configReader.readViewConfig();
+        var metricsConfig = configReader.readMetricsConfig();
+        var schedulerConfig = configReader.readSchedulerConfig();
+        var persistenceConfig = configReader.readPersistenceConfig();
+
+        // Checkpoint to resume from, which also defines the dimensions of the island
+        var checkpointFile = new CheckpointFile(persistenceConfig.checkpointFile());
+        var restoredCheckpoint = persistenceConfig.restore() && checkpointFile.exists() ? checkpointFile.read() : null;
+        var restoredSnapshot = restoredCheckpoint == null ? null : restoredCheckpoint.snapshot();
+        var height = restoredSnapshot == null ? simulationConfig.height() : restoredSnapshot.height();
+        var width = restoredSnapshot == null ? simulationConfig.width() : restoredSnapshot.width();
+
+        // Per-location cost attribution of the parallel phases
+        var locationCostTracker = new LocationCostTracker(metricsConfig.locationCosts(), height, width);
+        var locationCostWriter = new LocationCostWriter(metricsConfig.locationCostsFile());
 
         // Initializing factories and services
         var characteristicsFactory = new CharacteristicsFactory(configReader);
-        var randomizerService = new RandomizerService(characteristicsFactory);
-        var coordinateFactory = new CoordinateFactory();
+        var randomizerService = new RandomizerService(characteristicsFactory, simulationConfig.seed());
+        var coordinateFactory = new CoordinateFactory(height, width);
         var locationFactory = new LocationFactory(randomizerService);
         var organismFactory = new OrganismFactory(organismRegistry, characteristicsFactory);
 
-        // Strategy for creating random locations
-        var randomLocationCreationStrategy = new RandomLocationCreationStrategy(
-                simulationConfig.height(),
-                simulationConfig.width(),
-                locationFactory,
-                coordinateFactory
-        );
+        // Strategy for generating the locations, loading the ones of the terrain file, or the checkpointed ones when resuming
+        var locationCreationStrategy = createLocationCreationStrategy(simulationConfig, restoredSnapshot, height, width, randomizerService, locationFactory, coordinateFactory);
 
         // Island area representing the simulation environment
         var area = new Island(
-                simulationConfig.height(),
-                simulationConfig.width(),
-                randomLocationCreationStrategy
+                height,
+                width,
+                locationCreationStrategy
         );
 
         // Various services required for the simulation
@@ -71,22 +103,50 @@ public class DependencyContainer {
         var coordinateCalculator = new MovementCalculator(coordinateFactory, validationService, randomizerService);
         var emojiRepository = new EmojiProvider(configReader);
         var dietRepository = new DietProvider(configReader);
-        var delayService = new DelayService(simulationConfig.iterationMinLatency());
+        var delayService = new DelayService(simulationConfig.headless() ? 0 : simulationConfig.iterationMinLatency());
         var partnerFindingService = new PartnerFindingService();
-        var reproductionService = new ReproductionService(randomizerService, organismFactory, timeExecutionLogger, partnerFindingService);
-        var statisticsService = new StatisticsService();
-        var cleanupService = new DeadOrganismRemover(statisticsService);
-        var feedingService = new FeedingService(dietRepository, randomizerService, statisticsService, timeExecutionLogger);
-        var movementService = new MovementService(coordinateCalculator, lockCoordinator, timeExecutionLogger);
+        var populationCounter = new PopulationCounter(organismRegistry);
+        organismFactory.addCreationListener(populationCounter::onOrganismsCreated);
+        organismFactory.addCreationListener(simulationMetrics::onOrganismsCreated);
+        var statisticsService = new StatisticsService(populationCounter, phaseMetrics, simulationConfig.historyLength());
+        var speciesNames = organismRegistry.getSpecies().stream().map(Class::getName).toList();
+        var journalWriter = new JournalWriter(persistenceConfig.journalFile(), height, width, speciesNames);
+        var journalService = new JournalService(journalWriter, organismRegistry, statisticsService, width);
+        organismFactory.addCreationListener(journalService::recordBirths);
+        var phaseScheduler = new PhaseScheduler(schedulerConfig, populationCounter);
+        var reproductionService = new ReproductionService(randomizerService, organismFactory, phaseMetrics, partnerFindingService, locationCostTracker, phaseScheduler, simulationMetrics);
+        var hungerKernel = new HungerKernelFactory().createHungerKernel();
+        var hungerService = new HungerService(simulationConfig.hungerRatio(), simulationConfig.lazyHunger(), hungerKernel, statisticsService, journalService, phaseMetrics, phaseScheduler);
+        var cleanupService = new DeadOrganismRemover(statisticsService, phaseMetrics, phaseScheduler, journalService, hungerService);
+        organismFactory.addCreationListener(hungerService::registerOrganisms);
+        var feedingService = new FeedingService(dietRepository, randomizerService, statisticsService, hungerService, journalService, phaseMetrics, locationCostTracker, phaseScheduler);
+        var migrationEventEmitter = new MigrationEventEmitter();
+        var movementService = new MovementService(coordinateCalculator, lockCoordinator, phaseMetrics, simulationMetrics, migrationEventEmitter, locationCostTracker, phaseScheduler, journalService);
         var populationService = new PopulationService(organismRegistry, organismFactory, randomizerService);
-        var terminationService = new TerminationService(terminationConfig, statisticsService);
-        var hungerService = new HungerService(simulationConfig.hungerRatio());
-        var simulationService = new SimulationService(movementService, feedingService, reproductionService, hungerService);
+        var terminationService = new TerminationService(terminationConfig, statisticsService, phaseMetrics);
+        var checkpointService = new CheckpointService(
+                persistenceConfig,
+                new CheckpointWriter(checkpointFile),
+                restoredCheckpoint,
+                organismRegistry,
+                organismFactory,
+                hungerService,
+                statisticsService,
+                randomizerService,
+                phaseMetrics
+        );
+        var simulationService = new SimulationService(movementService, feedingService, reproductionService, hungerService, phaseScheduler);
 
         // Console view for displaying simulation statistics
-        var consoleView = new ConsoleView(statisticsService, emojiRepository, coordinateFactory, viewConfig);
+        var consoleView = new ConsoleView(statisticsService, emojiRepository, coordinateFactory, organismRegistry, viewConfig);
+        var frameFactory = new FrameFactory(statisticsService, organismRegistry, viewConfig);
+        var frameRenderer = new AsyncFrameRenderer(consoleView);
+
+        // Streaming export of the statistics of every tick
+        var statisticsExporter = new StatisticsExporter(metricsConfig, statisticsService, organismRegistry);
 
         // Initializing the tasks for the simulation
+        var plantRegrowingTask = new PlantRegrowingTask(area, populationService);
         lifeCycleTask = new LifeCycleTask(
                 consoleView,
                 area,
@@ -95,9 +155,59 @@ public class DependencyContainer {
                 statisticsService,
                 terminationService,
                 cleanupService,
-                delayService
+                delayService,
+                phaseMetrics,
+                simulationMetrics,
+                migrationEventEmitter,
+                locationCostTracker,
+                locationCostWriter,
+                frameFactory,
+                frameRenderer,
+                plantRegrowingTask,
+                checkpointService,
+                journalService,
+                statisticsExporter,
+                simulationConfig
         );
-        plantRegrowingTask = new PlantRegrowingTask(area, populationService);
+
+        // Optional endpoint exposing the metrics in the Prometheus format
+        prometheusEndpoint = new PrometheusEndpoint(metricsConfig, simulationMetrics, phaseMetrics, statisticsService);
+    }
+
+    /**
+     * Creates the strategy creating the locations of the island: the ones of the terrain generator for a new island,
+     * the ones of the terrain file if it's set, or the ones with the checkpointed terrain when resuming.
+     * The seed of the noise is drawn from the randomizer, so the terrain only depends on the seed of the simulation.
+     *
+     * @param simulationConfig  the simulation configuration with the terrain file and generator
+     * @param restoredSnapshot  the snapshot read from the checkpoint, or {@code null} for a new island
+     * @param height            the height of the island
+     * @param width             the width of the island
+     * @param randomizerService the randomizer providing the seed of the noise
+     * @param locationFactory   the factory used to create locations
+     * @param coordinateFactory the factory used to create coordinates
+     * @return the location creation strategy
+     */
+    private static LocationCreationStrategy createLocationCreationStrategy(SimulationConfig simulationConfig,
+                                                                           WorldSnapshot restoredSnapshot,
+                                                                           int height,
+                                                                           int width,
+                                                                           RandomizerService randomizerService,
+                                                                           LocationFactory locationFactory,
+                                                                           CoordinateFactory coordinateFactory) {
+        if (restoredSnapshot != null) {
+            return new CheckpointLocationCreationStrategy(restoredSnapshot, locationFactory, coordinateFactory);
+        }
+
+        if (simulationConfig.hasTerrainFile()) {
+            return new TerrainFileLocationCreationStrategy(Path.of(simulationConfig.terrainFile()), height, width, locationFactory, coordinateFactory);
+        }
+
+        if (simulationConfig.terrainGenerator() == TerrainGenerator.NOISE) {
+            return new NoiseLocationCreationStrategy(height, width, simulationConfig.getTerrainNoiseScale(), randomizerService.nextSeed(), locationFactory, coordinateFactory);
+        }
+
+        return new RandomLocationCreationStrategy(height, width, locationFactory, coordinateFactory);
     }
 
     /**
@@ -110,11 +220,20 @@ public class DependencyContainer {
     }
 
     /**
-     * Returns the {@code PlantRegrowingTask} responsible for regrowing plants in the simulation.
+     * Returns the {@code PhaseMetrics} with the latency histograms of the simulation phases.
+     *
+     * @return the {@code PhaseMetrics} instance
+     */
+    public PhaseMetrics getPhaseMetrics() {
+        return phaseMetrics;
+    }
+
+    /**
+     * Returns the {@code PrometheusEndpoint} serving the simulation metrics.
      *
-     * @return the {@code PlantRegrowingTask} instance
+     * @return the {@code PrometheusEndpoint} instance
      */
-    public PlantRegrowingTask getPlantRegrowingTask() {
-        return plantRegrowingTask;
+    public PrometheusEndpoint getPrometheusEndpoint() {
+        return prometheusEndpoint;
     }
 }
@@ -0,0 +1,21 @@
+package org.example.config;
+
+import org.example.metrics.StatisticsExportFormat;
+
+/**
+ * The {@code MetricsConfig} class represents the configuration settings of the metrics endpoint.
+ * When it's enabled, the metrics are served in the Prometheus text format on {@code http://host:port/metrics}.
+ * The {@code locationCosts} flag turns on the per-location cost attribution, which is shown as a heatmap
+ * and optionally dumped into the {@code locationCostsFile} CSV file.
+ * The statistics of every tick are exported into the {@code statisticsExportFile} in the {@code statisticsExportFormat},
+ * or nowhere if it's empty; up to {@code statisticsExportQueueCapacity} ticks are queued before ticks are dropped.
+ */
+public record MetricsConfig(boolean enabled,
+                            String host,
+                            int port,
+                            boolean locationCosts,
+                            String locationCostsFile,
+                            String statisticsExportFile,
+                            StatisticsExportFormat statisticsExportFormat,
+                            int statisticsExportQueueCapacity) {
+}
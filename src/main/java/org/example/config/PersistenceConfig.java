@@ -0,0 +1,28 @@
+package org.example.config;
+
+/**
+ * The {@code PersistenceConfig} class represents the configuration settings of the world checkpoints.
+ * A checkpoint is written into the {@code checkpointFile} every {@code checkpointInterval} ticks,
+ * or never if the interval is {@code 0}. Every {@code fullCheckpointInterval}-th checkpoint contains the whole island,
+ * the others only the locations changed since the previous checkpoint, appended to a delta file next to it. With {@code restore} enabled, the simulation resumes from the checkpoint file
+ * if it exists instead of populating a new island. The lifecycle events are recorded into the {@code journalFile},
+ * or nowhere if it's empty. A replay of the journal takes a keyframe every {@code replayKeyframeInterval} ticks.
+ * The history index of the journal stores the regional populations in square tiles of {@code historyTileSize} cells.
+ */
+public record PersistenceConfig(int checkpointInterval,
+                                int fullCheckpointInterval,
+                                String checkpointFile,
+                                boolean restore,
+                                String journalFile,
+                                int replayKeyframeInterval,
+                                int historyTileSize) {
+
+    /**
+     * Checks if checkpoints are written during the simulation.
+     *
+     * @return {@code true} if the checkpoint interval is positive
+     */
+    public boolean isCheckpointEnabled() {
+        return checkpointInterval > 0;
+    }
+}
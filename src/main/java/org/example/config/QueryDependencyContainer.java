@@ -0,0 +1,65 @@
+package org.example.config;
+
+import org.example.config.reader.YamlConfigReader;
+import org.example.entity.organism.OrganismRegistry;
+import org.example.history.HistoryIndex;
+import org.example.history.HistoryIndexBuilder;
+import org.example.persistence.JournalReader;
+import org.example.task.QueryTask;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The {@code QueryDependencyContainer} class creates the dependencies required for querying the history
+ * of a recorded run. The history index is kept next to the journal with the {@code .idx} extension
+ * and is rebuilt if it's missing or has been built for another version of the journal.
+ */
+public class QueryDependencyContainer {
+    private static final Set<String> QUERY_NAMES = Set.of("population", "extinction", "lifetime");
+    private static final String INDEX_EXTENSION = ".idx";
+
+    private final QueryTask queryTask;
+
+    /**
+     * Constructs a new {@code QueryDependencyContainer} from the arguments of the query command:
+     * an optional journal file followed by an optional query. The {@code journalFile} from the persistence
+     * configuration is queried if no file is passed.
+     *
+     * @param args the arguments following the query command
+     * @throws IllegalArgumentException if no journal file is passed or configured
+     */
+    public QueryDependencyContainer(List<String> args) {
+        var configReader = new YamlConfigReader(new OrganismRegistry());
+        var persistenceConfig = configReader.readPersistenceConfig();
+
+        var journalFile = persistenceConfig.journalFile();
+        var query = args;
+        if (!args.isEmpty() && !QUERY_NAMES.contains(args.get(0))) {
+            journalFile = args.get(0);
+            query = args.subList(1, args.size());
+        }
+
+        if (journalFile == null || journalFile.isBlank()) {
+            throw new IllegalArgumentException("No journal file to query, pass it or set journalFile in the persistence config");
+        }
+
+        var journalReader = new JournalReader(journalFile);
+        var indexPath = Path.of(journalFile + INDEX_EXTENSION);
+        if (!HistoryIndex.isCurrent(indexPath, journalReader)) {
+            new HistoryIndexBuilder(persistenceConfig.historyTileSize()).build(journalReader, indexPath);
+        }
+
+        queryTask = new QueryTask(new HistoryIndex(indexPath, journalReader), List.copyOf(query));
+    }
+
+    /**
+     * Returns the {@code QueryTask} answering the queries.
+     *
+     * @return the {@code QueryTask} instance
+     */
+    public QueryTask getQueryTask() {
+        return queryTask;
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.config;
+
+import org.example.config.reader.YamlConfigReader;
+import org.example.entity.organism.OrganismRegistry;
+import org.example.persistence.JournalReader;
+import org.example.replay.ReplayEngine;
+import org.example.task.ReplayTask;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code ReplayDependencyContainer} class creates the dependencies required for replaying a recorded run
+ * from its event journal. Unlike the {@code DependencyContainer}, it doesn't create the island or the services
+ * of the simulation.
+ */
+public class ReplayDependencyContainer {
+    private static final String USAGE = "Usage: replay [journal file] [day...]";
+
+    private final ReplayTask replayTask;
+
+    /**
+     * Constructs a new {@code ReplayDependencyContainer} from the arguments of the replay command:
+     * an optional journal file followed by the days to print. The {@code journalFile} from the persistence
+     * configuration is replayed if no file is passed.
+     *
+     * @param args the arguments following the replay command
+     * @throws IllegalArgumentException if an argument after the journal file isn't a day,
+     *                                  or no journal file is passed or configured
+     */
+    public ReplayDependencyContainer(List<String> args) {
+        var configReader = new YamlConfigReader(new OrganismRegistry());
+        var persistenceConfig = configReader.readPersistenceConfig();
+
+        var journalFile = persistenceConfig.journalFile();
+        var ticks = new ArrayList<Long>();
+        for (var i = 0; i < args.size(); i++) {
+            if (i == 0 && !isNumber(args.get(i))) {
+                journalFile = args.get(i);
+            } else {
+                ticks.add(parseDay(args.get(i)));
+            }
+        }
+
+        if (journalFile == null || journalFile.isBlank()) {
+            throw new IllegalArgumentException("No journal file to replay, pass it or set journalFile in the persistence config. " + USAGE);
+        }
+
+        var replayEngine = new ReplayEngine(new JournalReader(journalFile), persistenceConfig.replayKeyframeInterval());
+        replayTask = new ReplayTask(replayEngine, List.copyOf(ticks));
+    }
+
+    /**
+     * Returns the {@code ReplayTask} printing the replayed days.
+     *
+     * @return the {@code ReplayTask} instance
+     */
+    public ReplayTask getReplayTask() {
+        return replayTask;
+    }
+
+    /**
+     * Parses the argument as a day to print.
+     *
+     * @param arg the argument
+     * @return the day
+     * @throws IllegalArgumentException if the argument isn't a non-negative number of days
+     */
+    private static long parseDay(String arg) {
+        if (isNumber(arg)) {
+            try {
+                return Long.parseLong(arg);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Day %s is too large. %s".formatted(arg, USAGE), e);
+            }
+        }
+
+        throw new IllegalArgumentException("%s isn't a day. %s".formatted(arg, USAGE));
+    }
+
+    /**
+     * Checks if the argument is a day rather than a file name.
+     *
+     * @param arg the argument
+     * @return {@code true} if the argument consists of digits only
+     */
+    private static boolean isNumber(String arg) {
+        return !arg.isEmpty() && arg.chars().allMatch(Character::isDigit);
+    }
+}
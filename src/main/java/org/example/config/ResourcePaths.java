@@ -13,4 +13,7 @@ public class ResourcePaths {
     public static final File SIMULATION_CONFIG_FILE = new File("./src/main/resources/simulation.yml");
     public static final File TERMINATION_CONFIG_FILE = new File("./src/main/resources/termination.yml");
     public static final File VIEW_CONFIG_FILE = new File("./src/main/resources/view.yml");
+    public static final File METRICS_CONFIG_FILE = new File("./src/main/resources/metrics.yml");
+    public static final File SCHEDULER_CONFIG_FILE = new File("./src/main/resources/scheduler.yml");
+    public static final File PERSISTENCE_CONFIG_FILE = new File("./src/main/resources/persistence.yml");
 }
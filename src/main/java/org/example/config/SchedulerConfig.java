@@ -0,0 +1,14 @@
+package org.example.config;
+
+/**
+ * The {@code SchedulerConfig} class represents the configuration settings of the phase scheduler.
+ * The locations are split into {@code partitionsPerWorker} partitions of roughly equal cost per worker thread,
+ * and the partitions are rebalanced every {@code rebalanceInterval} ticks as the populations migrate.
+ * A phase runs sequentially if it has to process fewer than {@code parallelThreshold} organisms, and the organisms
+ * of a location are processed in parallel only if there are at least {@code nestedThreshold} of them.
+ */
+public record SchedulerConfig(int rebalanceInterval,
+                              int partitionsPerWorker,
+                              int parallelThreshold,
+                              int nestedThreshold) {
+}
@@ -1,11 +1,51 @@
 package org.example.config;
 
+import org.example.entity.area.TerrainGenerator;
+
 /**
  * The {@code SimulationConfig} class represents the configuration settings for the simulation.
  * It includes parameters related to the hunger ratio, iteration latency, and the dimensions of the simulation area.
+ * The {@code lazyHunger} flag switches hunger from updating every animal each tick to deriving satiety on demand.
+ * The {@code iterationMinLatency} is the target period of a tick in milliseconds; the simulation only sleeps for the part
+ * of it the tick didn't take. The {@code headless} flag runs the ticks back-to-back without the map and prints the
+ * statistics every {@code statisticsInterval} ticks. The statistics of the last {@code historyLength} ticks are kept
+ * in memory for the trends. Plants regrow every {@code plantRegrowthInterval} ticks.
+ * The {@code seed} initializes the random generators, or a random seed is chosen if it's {@code 0}.
+ * The terrain of the {@code height} x {@code width} island is loaded from the raw {@code terrainFile},
+ * or generated by the {@code terrainGenerator} if it's empty. The noise generator shapes landmasses
+ * whose largest features span about {@code terrainNoiseScale} locations, or a quarter of the longer side
+ * of the island if it's {@code 0}.
  */
 public record SimulationConfig(double hungerRatio,
+                               boolean lazyHunger,
                                int iterationMinLatency,
+                               boolean headless,
+                               int statisticsInterval,
+                               int historyLength,
+                               int plantRegrowthInterval,
+                               long seed,
                                int height,
-                               int width) {
+                               int width,
+                               String terrainFile,
+                               TerrainGenerator terrainGenerator,
+                               int terrainNoiseScale) {
+
+    /**
+     * Checks if the terrain of the island is loaded from a terrain file.
+     *
+     * @return {@code true} if a terrain file is set
+     */
+    public boolean hasTerrainFile() {
+        return terrainFile != null && !terrainFile.isBlank();
+    }
+
+    /**
+     * Returns the size of the largest features of the noise terrain: the configured scale, or a quarter
+     * of the longer side of the island, at least two locations, if the scale is {@code 0}.
+     *
+     * @return the noise scale in locations
+     */
+    public int getTerrainNoiseScale() {
+        return terrainNoiseScale > 0 ? terrainNoiseScale : Math.max(2, Math.max(height, width) / 4);
+    }
 }
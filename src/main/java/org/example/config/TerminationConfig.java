@@ -3,10 +3,27 @@ package org.example.config;
 /**
  * The {@code TerminationConfig} class represents the configuration settings for terminating the simulation.
  * It includes various conditions that can trigger the end of the simulation.
+ * The steady state and limit cycle conditions are evaluated over the population of every species
+ * in the last {@code dynamicsWindow} iterations, with {@code dynamicsTolerance} as the allowed relative deviation.
+ * The window is read from the statistics history, so it can't be longer than its {@code historyLength}.
  */
 public record TerminationConfig(boolean iterationLimit,
                                 int iterationCount,
                                 boolean allAnimalsDead,
                                 boolean allPredatorsDead,
-                                boolean allHerbivoreDead) {
+                                boolean allHerbivoreDead,
+                                boolean steadyState,
+                                boolean limitCycle,
+                                int dynamicsWindow,
+                                double dynamicsTolerance,
+                                int limitCycleMaxPeriod) {
+
+    /**
+     * Checks if any condition based on the population dynamics is configured.
+     *
+     * @return {@code true} if the steady state or the limit cycle condition is enabled
+     */
+    public boolean isDynamicsTracked() {
+        return steadyState || limitCycle;
+    }
 }
@@ -2,7 +2,63 @@ package org.example.config;
 
 /**
  * The {@code ViewConfig} class represents the configuration settings for the simulation view.
- * It includes a setting to control the visibility of detailed location information.
+ * It includes a setting to control the visibility of detailed location information and a setting
+ * to keep the map on the screen and redraw it with the dominant species of every cell after each iteration.
+ * Large islands can be shown as a grid of {@code superCellSize} x {@code superCellSize} blocks with their
+ * dominant terrain and population density, and the {@code viewport} selects a region shown in full detail.
+ * The population of every species is followed by its trend over the last {@code trendLength} iterations,
+ * or by nothing if it's {@code 0}.
  */
-public record ViewConfig(boolean isDetailedLocationInfoVisible) {
+public record ViewConfig(boolean isDetailedLocationInfoVisible,
+                         boolean isLiveMapVisible,
+                         int superCellSize,
+                         Viewport viewport,
+                         int trendLength) {
+
+    /**
+     * Checks if the map is shown as a grid of super-cells.
+     *
+     * @return {@code true} if a super-cell covers more than one location
+     */
+    public boolean isOverviewVisible() {
+        return superCellSize > 1;
+    }
+
+    /**
+     * Checks if a region of the map is inspected in full detail.
+     *
+     * @return {@code true} if the viewport isn't empty
+     */
+    public boolean isViewportVisible() {
+        return viewport != null && viewport.height() > 0 && viewport.width() > 0;
+    }
+
+    /**
+     * Checks if the population trends are shown.
+     *
+     * @return {@code true} if the trend length is positive
+     */
+    public boolean isTrendVisible() {
+        return trendLength > 0;
+    }
+
+    /**
+     * Returns the configuration of a run without a view, which only prints the statistics.
+     *
+     * @return the view configuration with the map, the viewport and the location details hidden
+     */
+    public ViewConfig toHeadless() {
+        return new ViewConfig(false, false, 1, null, trendLength);
+    }
+
+    /**
+     * The {@code Viewport} record is a rectangular region of the map.
+     *
+     * @param y      the y-coordinate of the top left cell
+     * @param x      the x-coordinate of the top left cell
+     * @param height the number of rows
+     * @param width  the number of columns
+     */
+    public record Viewport(int y, int x, int height, int width) {
+    }
 }
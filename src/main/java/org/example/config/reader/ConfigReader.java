@@ -1,5 +1,8 @@
 package org.example.config.reader;
 
+import org.example.config.MetricsConfig;
+import org.example.config.PersistenceConfig;
+import org.example.config.SchedulerConfig;
 import org.example.config.SimulationConfig;
 import org.example.config.TerminationConfig;
 import org.example.config.ViewConfig;
@@ -64,4 +67,25 @@ public interface ConfigReader {
      * @return the view configuration settings
      */
     ViewConfig readViewConfig();
+
+    /**
+     * Reads and returns the metrics endpoint configuration settings.
+     *
+     * @return the metrics endpoint configuration settings
+     */
+    MetricsConfig readMetricsConfig();
+
+    /**
+     * Reads and returns the phase scheduler configuration settings.
+     *
+     * @return the phase scheduler configuration settings
+     */
+    SchedulerConfig readSchedulerConfig();
+
+    /**
+     * Reads and returns the checkpoint configuration settings.
+     *
+     * @return the checkpoint configuration settings
+     */
+    PersistenceConfig readPersistenceConfig();
 }
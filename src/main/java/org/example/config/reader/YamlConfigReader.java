@@ -4,7 +4,10 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import org.example.config.MetricsConfig;
+import org.example.config.PersistenceConfig;
 import org.example.config.ResourcePaths;
+import org.example.config.SchedulerConfig;
 import org.example.config.SimulationConfig;
 import org.example.config.TerminationConfig;
 import org.example.config.ViewConfig;
@@ -30,6 +33,9 @@ public class YamlConfigReader implements ConfigReader {
     private final File simulationConfigFile;
     private final File terminationConfigFile;
     private final File viewConfigFile;
+    private final File metricsConfigFile;
+    private final File schedulerConfigFile;
+    private final File persistenceConfigFile;
     private final OrganismRegistry organismRegistry;
     private final ObjectMapper mapper;
 
@@ -45,6 +51,9 @@ public class YamlConfigReader implements ConfigReader {
         this.simulationConfigFile = ResourcePaths.SIMULATION_CONFIG_FILE;
         this.terminationConfigFile = ResourcePaths.TERMINATION_CONFIG_FILE;
         this.viewConfigFile = ResourcePaths.VIEW_CONFIG_FILE;
+        this.metricsConfigFile = ResourcePaths.METRICS_CONFIG_FILE;
+        this.schedulerConfigFile = ResourcePaths.SCHEDULER_CONFIG_FILE;
+        this.persistenceConfigFile = ResourcePaths.PERSISTENCE_CONFIG_FILE;
         this.organismRegistry = organismRegistry;
         this.mapper = new YAMLMapper().enable(JsonParser.Feature.STRICT_DUPLICATE_DETECTION);
     }
@@ -113,7 +122,10 @@ public class YamlConfigReader implements ConfigReader {
         checkFileExtension(simulationConfigFile);
 
         try {
-            return mapper.readValue(simulationConfigFile, SimulationConfig.class);
+            var simulationConfig = mapper.readValue(simulationConfigFile, SimulationConfig.class);
+            checkSimulationConfig(simulationConfig);
+
+            return simulationConfig;
         } catch (IOException e) {
             throw new InvalidConfigFile("Can't read simulation config file. " + e);
         }
@@ -127,7 +139,10 @@ public class YamlConfigReader implements ConfigReader {
         checkFileExtension(terminationConfigFile);
 
         try {
-            return mapper.readValue(terminationConfigFile, TerminationConfig.class);
+            var terminationConfig = mapper.readValue(terminationConfigFile, TerminationConfig.class);
+            checkTerminationConfig(terminationConfig);
+
+            return terminationConfig;
         } catch (IOException e) {
             throw new InvalidConfigFile("Can't read termination config file. " + e);
         }
@@ -147,6 +162,57 @@ public class YamlConfigReader implements ConfigReader {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MetricsConfig readMetricsConfig() {
+        checkFileExtension(metricsConfigFile);
+
+        try {
+            var metricsConfig = mapper.readValue(metricsConfigFile, MetricsConfig.class);
+            checkMetricsConfig(metricsConfig);
+
+            return metricsConfig;
+        } catch (IOException e) {
+            throw new InvalidConfigFile("Can't read metrics config file. " + e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SchedulerConfig readSchedulerConfig() {
+        checkFileExtension(schedulerConfigFile);
+
+        try {
+            var schedulerConfig = mapper.readValue(schedulerConfigFile, SchedulerConfig.class);
+            checkSchedulerConfig(schedulerConfig);
+
+            return schedulerConfig;
+        } catch (IOException e) {
+            throw new InvalidConfigFile("Can't read scheduler config file. " + e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PersistenceConfig readPersistenceConfig() {
+        checkFileExtension(persistenceConfigFile);
+
+        try {
+            var persistenceConfig = mapper.readValue(persistenceConfigFile, PersistenceConfig.class);
+            checkPersistenceConfig(persistenceConfig);
+
+            return persistenceConfig;
+        } catch (IOException e) {
+            throw new InvalidConfigFile("Can't read persistence config file. " + e);
+        }
+    }
+
     /**
      * Checks if the given file has a valid YAML extension.
      *
@@ -160,6 +226,122 @@ public class YamlConfigReader implements ConfigReader {
         }
     }
 
+    /**
+     * Checks if the pacing and terrain settings of the simulation are valid.
+     *
+     * @param simulationConfig the simulation configuration to check
+     * @throws InvalidConfigFile if the latency or the noise scale is negative, an interval or the history length isn't positive,
+     *                           or the terrain generator is missing
+     */
+    private void checkSimulationConfig(SimulationConfig simulationConfig) {
+        if (simulationConfig.iterationMinLatency() < 0) {
+            throw new InvalidConfigFile("Simulation config file is invalid. Iteration latency can't be negative.");
+        }
+
+        if (simulationConfig.statisticsInterval() <= 0 || simulationConfig.plantRegrowthInterval() <= 0) {
+            throw new InvalidConfigFile("Simulation config file is invalid. The statistics and plant regrowth intervals must be positive.");
+        }
+
+        if (simulationConfig.historyLength() <= 0) {
+            throw new InvalidConfigFile("Simulation config file is invalid. History length must be positive.");
+        }
+
+        if (simulationConfig.terrainGenerator() == null) {
+            throw new InvalidConfigFile("Simulation config file is invalid. Terrain generator must be RANDOM or NOISE.");
+        }
+
+        if (simulationConfig.terrainNoiseScale() < 0) {
+            throw new InvalidConfigFile("Simulation config file is invalid. Terrain noise scale can't be negative.");
+        }
+    }
+
+    /**
+     * Checks if the population dynamics conditions are valid. Their window is read from the statistics history,
+     * so it must fit into the history length of the simulation config.
+     *
+     * @param terminationConfig the termination configuration to check
+     * @throws InvalidConfigFile if the window isn't positive or is longer than the history
+     */
+    private void checkTerminationConfig(TerminationConfig terminationConfig) {
+        if (!terminationConfig.isDynamicsTracked()) {
+            return;
+        }
+
+        if (terminationConfig.dynamicsWindow() <= 0) {
+            throw new InvalidConfigFile("Termination config file is invalid. Dynamics window must be positive.");
+        }
+
+        var historyLength = readSimulationConfig().historyLength();
+        if (terminationConfig.dynamicsWindow() > historyLength) {
+            throw new InvalidConfigFile("Termination config file is invalid. Dynamics window %d is longer than the history length %d of the simulation config."
+                    .formatted(terminationConfig.dynamicsWindow(), historyLength));
+        }
+    }
+
+    /**
+     * Checks if the statistics export settings are valid.
+     *
+     * @param metricsConfig the metrics configuration to check
+     * @throws InvalidConfigFile if the export format is missing or the queue capacity isn't positive
+     */
+    private void checkMetricsConfig(MetricsConfig metricsConfig) {
+        if (metricsConfig.statisticsExportFormat() == null) {
+            throw new InvalidConfigFile("Metrics config file is invalid. Statistics export format must be CSV or COLUMNAR.");
+        }
+
+        if (metricsConfig.statisticsExportQueueCapacity() <= 0) {
+            throw new InvalidConfigFile("Metrics config file is invalid. Statistics export queue capacity must be positive.");
+        }
+    }
+
+    /**
+     * Checks if the checkpoint settings are valid.
+     *
+     * @param persistenceConfig the persistence configuration to check
+     * @throws InvalidConfigFile if the interval is negative, the full checkpoint interval isn't positive,
+     *                            the file is missing while checkpoints are used, or the replay keyframe interval
+     *                            or the history tile size isn't positive
+     */
+    private void checkPersistenceConfig(PersistenceConfig persistenceConfig) {
+        if (persistenceConfig.checkpointInterval() < 0) {
+            throw new InvalidConfigFile("Persistence config file is invalid. Checkpoint interval can't be negative.");
+        }
+
+        if (persistenceConfig.fullCheckpointInterval() <= 0) {
+            throw new InvalidConfigFile("Persistence config file is invalid. Full checkpoint interval must be positive.");
+        }
+
+        if (persistenceConfig.replayKeyframeInterval() <= 0) {
+            throw new InvalidConfigFile("Persistence config file is invalid. Replay keyframe interval must be positive.");
+        }
+
+        if (persistenceConfig.historyTileSize() <= 0) {
+            throw new InvalidConfigFile("Persistence config file is invalid. History tile size must be positive.");
+        }
+
+        var isFileRequired = persistenceConfig.isCheckpointEnabled() || persistenceConfig.restore();
+        if (isFileRequired && (persistenceConfig.checkpointFile() == null || persistenceConfig.checkpointFile().isBlank())) {
+            throw new InvalidConfigFile("Persistence config file is invalid. Checkpoint file must be set.");
+        }
+    }
+
+    /**
+     * Checks if the phase scheduler settings are valid.
+     *
+     * @param schedulerConfig the scheduler configuration to check
+     * @throws InvalidConfigFile if the rebalance interval or the number of partitions per worker isn't positive,
+     *                            or a threshold is negative
+     */
+    private void checkSchedulerConfig(SchedulerConfig schedulerConfig) {
+        if (schedulerConfig.rebalanceInterval() <= 0 || schedulerConfig.partitionsPerWorker() <= 0) {
+            throw new InvalidConfigFile("Scheduler config file is invalid. The rebalance interval and partitions per worker must be positive.");
+        }
+
+        if (schedulerConfig.parallelThreshold() < 0 || schedulerConfig.nestedThreshold() < 0) {
+            throw new InvalidConfigFile("Scheduler config file is invalid. Thresholds can't be negative.");
+        }
+    }
+
     /**
      * Validates the eating chance value.
      *
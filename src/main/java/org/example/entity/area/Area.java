@@ -64,6 +64,15 @@ public abstract class Area {
         locations.add(location);
     }
 
+    /**
+     * Adds the locations to the area at once, copying the list of locations a single time.
+     *
+     * @param locations the locations to be added
+     */
+    public void addLocations(List<Location> locations) {
+        this.locations.addAll(locations);
+    }
+
     /**
      * Returns the location at the specified coordinate.
      * This method must be implemented by subclasses to provide specific behavior.
@@ -0,0 +1,54 @@
+package org.example.entity.area;
+
+import org.example.entity.coordinate.CoordinateFactory;
+import org.example.entity.location.Location;
+import org.example.entity.location.LocationFactory;
+import org.example.entity.location.LocationType;
+import org.example.persistence.WorldSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code CheckpointLocationCreationStrategy} class implements {@code LocationCreationStrategy}.
+ * It recreates the grid of {@code Location} instances with the terrain stored in a checkpoint.
+ */
+public class CheckpointLocationCreationStrategy implements LocationCreationStrategy {
+    private final WorldSnapshot snapshot;
+    private final LocationFactory locationFactory;
+    private final CoordinateFactory coordinateFactory;
+
+    /**
+     * Constructs a {@code CheckpointLocationCreationStrategy} with the specified snapshot, location factory, and coordinate factory.
+     *
+     * @param snapshot the snapshot read from the checkpoint
+     * @param locationFactory the factory used to create locations
+     * @param coordinateFactory the factory used to create coordinates
+     */
+    public CheckpointLocationCreationStrategy(WorldSnapshot snapshot, LocationFactory locationFactory, CoordinateFactory coordinateFactory) {
+        this.snapshot = snapshot;
+        this.locationFactory = locationFactory;
+        this.coordinateFactory = coordinateFactory;
+    }
+
+    /**
+     * Creates and returns a list of {@code Location} instances with the checkpointed terrain in row-major order.
+     *
+     * @return a list of restored locations
+     */
+    @Override
+    public List<Location> createLocations() {
+        var locationTypes = LocationType.values();
+        var locations = new ArrayList<Location>(snapshot.terrain().length);
+
+        for (var y = 0; y < snapshot.height(); y++) {
+            for (var x = 0; x < snapshot.width(); x++) {
+                var coordinate = coordinateFactory.getCoordinate(y, x);
+                var locationType = locationTypes[snapshot.terrain()[y * snapshot.width() + x]];
+                locations.add(locationFactory.createLocation(locationType, coordinate));
+            }
+        }
+
+        return locations;
+    }
+}
@@ -3,21 +3,18 @@ package org.example.entity.area;
 import org.example.entity.coordinate.Coordinate;
 import org.example.entity.location.Location;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
-
 /**
  * The {@code Island} class represents an island, which is a specific type of {@code Area}.
- * It uses a {@code LocationCreationStrategy} to create its locations and maps coordinates to locations for quick access.
+ * It uses a {@code LocationCreationStrategy} to create its locations and keeps them in a flat row-major grid
+ * for quick access by coordinate.
  */
 public class Island extends Area {
     private final LocationCreationStrategy locationCreationStrategy;
-    private final Map<Coordinate, Location> coordinateToLocationsMap;
+    private final Location[] locationGrid;
 
     /**
      * Constructs an {@code Island} with the specified height, width, and location creation strategy.
-     * Initializes the locations using the provided strategy and creates a map from coordinates to locations.
+     * Initializes the locations using the provided strategy and places them into the grid.
      *
      * @param height the height of the island
      * @param width the width of the island
@@ -27,7 +24,7 @@ public class Island extends Area {
         super(height, width);
         this.locationCreationStrategy = locationCreationStrategy;
         createLocations();
-        this.coordinateToLocationsMap = initializeCoordinateToLocationMap();
+        this.locationGrid = initializeLocationGrid();
     }
 
     /**
@@ -38,24 +35,34 @@ public class Island extends Area {
      */
     @Override
     public Location getLocationByCoordinate(Coordinate coordinate) {
-        return coordinateToLocationsMap.get(coordinate);
+        var y = coordinate.y();
+        var x = coordinate.x();
+        if (y < 0 || y >= getHeight() || x < 0 || x >= getWidth()) {
+            return null;
+        }
+
+        return locationGrid[y * getWidth() + x];
     }
 
     /**
      * Creates locations using the specified location creation strategy and adds them to the island.
      */
     private void createLocations() {
-        locationCreationStrategy.createLocations().forEach(this::addLocation);
+        addLocations(locationCreationStrategy.createLocations());
     }
 
     /**
-     * Initializes a map from coordinates to locations for quick access.
+     * Places the locations into a row-major grid by their coordinates, in parallel.
      *
-     * @return a map from coordinates to locations
+     * @return the grid of locations
      */
-    private Map<Coordinate, Location> initializeCoordinateToLocationMap() {
-        return this.getLocations()
+    private Location[] initializeLocationGrid() {
+        var grid = new Location[Math.multiplyExact(getHeight(), getWidth())];
+
+        getLocations()
                 .parallelStream()
-                .collect(Collectors.toMap(Location::getCoordinate, location -> location, (a, b) -> b, ConcurrentHashMap::new));
+                .forEach(location -> grid[location.getCoordinate().y() * getWidth() + location.getCoordinate().x()] = location);
+
+        return grid;
     }
 }
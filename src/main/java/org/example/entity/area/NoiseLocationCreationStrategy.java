@@ -0,0 +1,271 @@
+package org.example.entity.area;
+
+import org.example.entity.coordinate.CoordinateFactory;
+import org.example.entity.location.Location;
+import org.example.entity.location.LocationFactory;
+import org.example.entity.location.LocationType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * The {@code NoiseLocationCreationStrategy} class implements {@code LocationCreationStrategy}.
+ * It shapes coherent landmasses from seeded fractal value noise: every location gets an elevation, and the location
+ * types are assigned from the lowest to the highest elevation, sea, forest and then mountains, at the quantiles
+ * that give every type the share of the island set by its probability.
+ * <p>
+ * The elevation of a location only depends on the seed and its coordinate, so the island is generated in parallel
+ * by square tiles and is the same for the same seed whatever the number of threads. The elevations are quantized
+ * into levels, which makes the quantiles a pass over a histogram instead of a sort of the whole island.
+ */
+public class NoiseLocationCreationStrategy implements LocationCreationStrategy {
+    private static final Logger logger = LoggerFactory.getLogger(NoiseLocationCreationStrategy.class);
+    private static final LocationType[] ELEVATION_ORDER = {LocationType.SEA, LocationType.FOREST, LocationType.MOUNTAIN};
+    private static final int TILE_SIZE = 256;
+    private static final int LEVELS = 1 << 16;
+    private static final int OCTAVES = 4;
+    private static final double PERSISTENCE = 0.5;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final int height;
+    private final int width;
+    private final int scale;
+    private final long seed;
+    private final long[] octaveSeeds;
+    private final LocationFactory locationFactory;
+    private final CoordinateFactory coordinateFactory;
+    private final int tileColumns;
+    private final int tileAmount;
+
+    /**
+     * Constructs a {@code NoiseLocationCreationStrategy} with the specified dimensions, noise scale, seed, location factory, and coordinate factory.
+     *
+     * @param height the height of the grid
+     * @param width the width of the grid
+     * @param scale the size in locations of the largest features of the noise
+     * @param seed the seed of the noise
+     * @param locationFactory the factory used to create locations
+     * @param coordinateFactory the factory used to create coordinates
+     */
+    public NoiseLocationCreationStrategy(int height, int width, int scale, long seed, LocationFactory locationFactory, CoordinateFactory coordinateFactory) {
+        this.height = height;
+        this.width = width;
+        this.scale = scale;
+        this.seed = seed;
+        this.octaveSeeds = new long[OCTAVES];
+        for (var octave = 0; octave < OCTAVES; octave++) {
+            octaveSeeds[octave] = mix(seed + (octave + 1) * GOLDEN_GAMMA);
+        }
+        this.locationFactory = locationFactory;
+        this.coordinateFactory = coordinateFactory;
+        this.tileColumns = (width + TILE_SIZE - 1) / TILE_SIZE;
+        this.tileAmount = (height + TILE_SIZE - 1) / TILE_SIZE * tileColumns;
+    }
+
+    /**
+     * Creates and returns a list of {@code Location} instances with the generated terrain in row-major order.
+     *
+     * @return a list of generated locations
+     */
+    @Override
+    public List<Location> createLocations() {
+        var startNanos = System.nanoTime();
+        var levels = new char[Math.multiplyExact(height, width)];
+
+        var histogram = IntStream.range(0, tileAmount)
+                .parallel()
+                .collect(() -> new long[LEVELS], (tileHistogram, tile) -> generateTile(tile, levels, tileHistogram), NoiseLocationCreationStrategy::mergeHistograms);
+        var locationTypes = assignLocationTypes(histogram, levels.length);
+
+        var locations = new Location[levels.length];
+        IntStream.range(0, tileAmount)
+                .parallel()
+                .forEach(tile -> createTile(tile, levels, locationTypes, locations));
+
+        logger.info("Terrain of {}x{} locations has been generated from the noise seed {} in {} ms",
+                height, width, seed, (System.nanoTime() - startNanos) / 1_000_000);
+
+        return Arrays.asList(locations);
+    }
+
+    /**
+     * Computes the elevation levels of the locations of a tile and counts them into the histogram.
+     *
+     * @param tile      the row-major index of the tile
+     * @param levels    the elevation levels of all locations in row-major order
+     * @param histogram the number of locations per elevation level
+     */
+    private void generateTile(int tile, char[] levels, long[] histogram) {
+        var fromY = tile / tileColumns * TILE_SIZE;
+        var fromX = tile % tileColumns * TILE_SIZE;
+
+        for (var y = fromY; y < Math.min(height, fromY + TILE_SIZE); y++) {
+            for (var x = fromX; x < Math.min(width, fromX + TILE_SIZE); x++) {
+                var level = (char) Math.min(LEVELS - 1, (int) (getElevation(y, x) * LEVELS));
+                levels[y * width + x] = level;
+                histogram[level]++;
+            }
+        }
+    }
+
+    /**
+     * Creates the locations of a tile with the location types of their elevation levels.
+     *
+     * @param tile          the row-major index of the tile
+     * @param levels        the elevation levels of all locations in row-major order
+     * @param locationTypes the location type of every elevation level
+     * @param locations     the array of all locations in row-major order
+     */
+    private void createTile(int tile, char[] levels, LocationType[] locationTypes, Location[] locations) {
+        var fromY = tile / tileColumns * TILE_SIZE;
+        var fromX = tile % tileColumns * TILE_SIZE;
+
+        for (var y = fromY; y < Math.min(height, fromY + TILE_SIZE); y++) {
+            for (var x = fromX; x < Math.min(width, fromX + TILE_SIZE); x++) {
+                var index = y * width + x;
+                var coordinate = coordinateFactory.getCoordinate(y, x);
+                locations[index] = locationFactory.createLocation(locationTypes[levels[index]], coordinate);
+            }
+        }
+    }
+
+    /**
+     * Assigns a location type to every elevation level from the lowest one, giving each type the levels
+     * that hold its share of the locations. The shares are rounded to whole levels.
+     *
+     * @param histogram      the number of locations per elevation level
+     * @param locationAmount the number of locations
+     * @return the location type of every elevation level
+     */
+    private static LocationType[] assignLocationTypes(long[] histogram, long locationAmount) {
+        var locationTypes = Arrays.stream(ELEVATION_ORDER)
+                .filter(locationType -> locationType.getProbability() > 0)
+                .toArray(LocationType[]::new);
+        var totalProbability = Arrays.stream(locationTypes).mapToDouble(LocationType::getProbability).sum();
+
+        var levelTypes = new LocationType[LEVELS];
+        var cumulativeProbability = 0.0;
+        var count = 0L;
+        var level = 0;
+
+        for (var i = 0; i < locationTypes.length; i++) {
+            var isHighest = i == locationTypes.length - 1;
+            cumulativeProbability += locationTypes[i].getProbability();
+            var target = Math.round(cumulativeProbability / totalProbability * locationAmount);
+
+            while (level < LEVELS && (isHighest || count < target)) {
+                count += histogram[level];
+                levelTypes[level++] = locationTypes[i];
+            }
+        }
+
+        return levelTypes;
+    }
+
+    /**
+     * Returns the elevation of a location, the sum of the octaves of value noise of halving size and amplitude.
+     *
+     * @param y the y-coordinate
+     * @param x the x-coordinate
+     * @return the elevation between {@code 0} inclusive and {@code 1} exclusive
+     */
+    private double getElevation(int y, int x) {
+        var elevation = 0.0;
+        var amplitude = 1.0;
+        var amplitudes = 0.0;
+        var frequency = 1.0 / scale;
+
+        for (var octave = 0; octave < OCTAVES; octave++) {
+            elevation += amplitude * getValueNoise(octaveSeeds[octave], y * frequency, x * frequency);
+            amplitudes += amplitude;
+            amplitude *= PERSISTENCE;
+            frequency *= 2;
+        }
+
+        return elevation / amplitudes;
+    }
+
+    /**
+     * Interpolates the random values of the four lattice points around a point with a smoothstep.
+     *
+     * @param octaveSeed the seed of the octave
+     * @param y          the y-coordinate of the point in lattice units
+     * @param x          the x-coordinate of the point in lattice units
+     * @return the value between {@code 0} inclusive and {@code 1} exclusive
+     */
+    private static double getValueNoise(long octaveSeed, double y, double x) {
+        var y0 = (int) Math.floor(y);
+        var x0 = (int) Math.floor(x);
+        var ty = smoothstep(y - y0);
+        var tx = smoothstep(x - x0);
+
+        var top = lerp(getLatticeValue(octaveSeed, y0, x0), getLatticeValue(octaveSeed, y0, x0 + 1), tx);
+        var bottom = lerp(getLatticeValue(octaveSeed, y0 + 1, x0), getLatticeValue(octaveSeed, y0 + 1, x0 + 1), tx);
+
+        return lerp(top, bottom, ty);
+    }
+
+    /**
+     * Returns the random value of a lattice point, hashed from the seed and the point.
+     *
+     * @param octaveSeed the seed of the octave
+     * @param y          the y-coordinate of the lattice point
+     * @param x          the x-coordinate of the lattice point
+     * @return the value between {@code 0} inclusive and {@code 1} exclusive
+     */
+    private static double getLatticeValue(long octaveSeed, int y, int x) {
+        var hash = mix(octaveSeed ^ mix(((long) y << 32) ^ (x & 0xFFFFFFFFL)));
+
+        return (hash >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Scrambles the bits of a value with the finalizer of SplitMix64.
+     *
+     * @param value the value
+     * @return the scrambled value
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+
+        return value ^ (value >>> 31);
+    }
+
+    /**
+     * Eases the interpolation weight, so the noise has no creases at the lattice lines.
+     *
+     * @param t the weight between {@code 0} and {@code 1}
+     * @return the eased weight
+     */
+    private static double smoothstep(double t) {
+        return t * t * (3 - 2 * t);
+    }
+
+    /**
+     * Interpolates linearly between two values.
+     *
+     * @param a the value at {@code 0}
+     * @param b the value at {@code 1}
+     * @param t the weight of {@code b}
+     * @return the interpolated value
+     */
+    private static double lerp(double a, double b, double t) {
+        return a + (b - a) * t;
+    }
+
+    /**
+     * Adds the counts of a histogram to another one.
+     *
+     * @param histogram the histogram to add to
+     * @param other     the histogram to add
+     */
+    private static void mergeHistograms(long[] histogram, long[] other) {
+        for (var level = 0; level < LEVELS; level++) {
+            histogram[level] += other[level];
+        }
+    }
+}
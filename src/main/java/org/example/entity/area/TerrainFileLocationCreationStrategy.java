@@ -0,0 +1,123 @@
+package org.example.entity.area;
+
+import org.example.entity.coordinate.CoordinateFactory;
+import org.example.entity.location.Location;
+import org.example.entity.location.LocationFactory;
+import org.example.entity.location.LocationType;
+import org.example.exception.InvalidTerrainFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * The {@code TerrainFileLocationCreationStrategy} class implements {@code LocationCreationStrategy}.
+ * It creates the grid of {@code Location} instances with the terrain of a raw terrain file: one byte per location
+ * in row-major order, holding the ordinal of its {@code LocationType}, without a header.
+ * <p>
+ * The file is read through read-only memory mappings of chunks of rows, and the chunks are built in parallel,
+ * each one into its own range of a preallocated array, so maps of hundreds of millions of locations
+ * are loaded without copying the file onto the heap or synchronizing the workers.
+ */
+public class TerrainFileLocationCreationStrategy implements LocationCreationStrategy {
+    private static final Logger logger = LoggerFactory.getLogger(TerrainFileLocationCreationStrategy.class);
+    private static final int CHUNK_SIZE = 1 << 20;
+    private static final LocationType[] LOCATION_TYPES = LocationType.values();
+
+    private final Path file;
+    private final int height;
+    private final int width;
+    private final LocationFactory locationFactory;
+    private final CoordinateFactory coordinateFactory;
+
+    /**
+     * Constructs a {@code TerrainFileLocationCreationStrategy} with the specified file, dimensions, location factory, and coordinate factory.
+     *
+     * @param file the raw terrain file
+     * @param height the height of the grid
+     * @param width the width of the grid
+     * @param locationFactory the factory used to create locations
+     * @param coordinateFactory the factory used to create coordinates
+     */
+    public TerrainFileLocationCreationStrategy(Path file, int height, int width, LocationFactory locationFactory, CoordinateFactory coordinateFactory) {
+        this.file = file;
+        this.height = height;
+        this.width = width;
+        this.locationFactory = locationFactory;
+        this.coordinateFactory = coordinateFactory;
+    }
+
+    /**
+     * Creates and returns a list of {@code Location} instances with the terrain of the file in row-major order.
+     *
+     * @return a list of locations loaded from the terrain file
+     * @throws InvalidTerrainFile if the size of the file doesn't match the grid or it contains an unknown location type
+     * @throws UncheckedIOException if the file can't be read
+     */
+    @Override
+    public List<Location> createLocations() {
+        var startNanos = System.nanoTime();
+        var locations = new Location[Math.multiplyExact(height, width)];
+        var chunkRows = Math.max(1, CHUNK_SIZE / width);
+        var chunkAmount = (height + chunkRows - 1) / chunkRows;
+
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() != locations.length) {
+                throw new InvalidTerrainFile("Terrain file %s has %d bytes instead of %d for an island of %dx%d"
+                        .formatted(file, channel.size(), locations.length, height, width));
+            }
+
+            IntStream.range(0, chunkAmount)
+                    .parallel()
+                    .forEach(chunk -> createChunk(channel, locations, chunk * chunkRows, Math.min(height, (chunk + 1) * chunkRows)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't read the terrain file " + file, e);
+        }
+
+        logger.info("Terrain of {}x{} locations has been loaded from {} in {} ms",
+                height, width, file, (System.nanoTime() - startNanos) / 1_000_000);
+
+        return Arrays.asList(locations);
+    }
+
+    /**
+     * Maps the rows of a chunk and creates their locations.
+     *
+     * @param channel   the channel of the terrain file
+     * @param locations the array of all locations in row-major order
+     * @param fromRow   the first row of the chunk
+     * @param toRow     the row after the last row of the chunk
+     * @throws UncheckedIOException if the chunk can't be mapped
+     * @throws InvalidTerrainFile if the chunk contains an unknown location type
+     */
+    private void createChunk(FileChannel channel, Location[] locations, int fromRow, int toRow) {
+        var start = fromRow * width;
+
+        try {
+            var buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, (long) (toRow - fromRow) * width);
+
+            for (var y = fromRow; y < toRow; y++) {
+                for (var x = 0; x < width; x++) {
+                    var index = y * width + x;
+                    var code = Byte.toUnsignedInt(buffer.get(index - start));
+                    if (code >= LOCATION_TYPES.length) {
+                        throw new InvalidTerrainFile("Terrain file %s has unknown location type %d at row %d, column %d"
+                                .formatted(file, code, y, x));
+                    }
+
+                    var coordinate = coordinateFactory.getCoordinate(y, x);
+                    locations[index] = locationFactory.createLocation(LOCATION_TYPES[code], coordinate);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't map the rows %d-%d of the terrain file %s".formatted(fromRow, toRow, file), e);
+        }
+    }
+}
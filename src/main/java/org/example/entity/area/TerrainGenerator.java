@@ -0,0 +1,16 @@
+package org.example.entity.area;
+
+/**
+ * The {@code TerrainGenerator} enum lists the ways the terrain of a new island can be generated.
+ */
+public enum TerrainGenerator {
+    /**
+     * Every location gets a location type drawn independently with the probabilities of the location types.
+     */
+    RANDOM,
+
+    /**
+     * Coherent landmasses are shaped from seeded value noise in the proportions of the location type probabilities.
+     */
+    NOISE
+}
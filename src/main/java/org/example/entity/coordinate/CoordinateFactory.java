@@ -1,35 +1,50 @@
 package org.example.entity.coordinate;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
  * The {@code CoordinateFactory} class is responsible for creating and managing {@code Coordinate} instances.
- * It ensures that for any given pair of coordinates (y, x), only one {@code Coordinate} object is created and reused.
+ * It ensures that for any given pair of coordinates (y, x) inside the grid, one {@code Coordinate} object is reused.
+ * The coordinates are cached in a flat array indexed in row-major order, so a lookup neither hashes nor allocates,
+ * and the coordinates outside the grid, e.g. the neighbours of a border location, are created without being cached.
+ * Concurrent first lookups of a coordinate may create it twice, which is harmless since coordinates are compared by value.
  */
 public class CoordinateFactory {
-    private final Map<int[], Coordinate> coordinates;
+    private final int height;
+    private final int width;
+    private final Coordinate[] coordinates;
 
     /**
-     * Constructs a {@code CoordinateFactory} with an empty coordinate cache.
+     * Constructs a {@code CoordinateFactory} with an empty coordinate cache for the grid.
+     *
+     * @param height the height of the grid
+     * @param width  the width of the grid
      */
-    public CoordinateFactory() {
-        coordinates = new ConcurrentHashMap<>();
+    public CoordinateFactory(int height, int width) {
+        this.height = height;
+        this.width = width;
+        this.coordinates = new Coordinate[Math.multiplyExact(height, width)];
     }
 
     /**
      * Returns a {@code Coordinate} object for the given y and x values.
      * If a coordinate with the specified values already exists, it returns the existing one.
-     * Otherwise, it creates a new {@code Coordinate} object and stores it in the cache.
+     * Otherwise, it creates a new {@code Coordinate} object and stores it in the cache if it's inside the grid.
      *
      * @param y the y-coordinate
      * @param x the x-coordinate
      * @return a {@code Coordinate} object for the specified y and x values
      */
     public Coordinate getCoordinate(int y, int x) {
-        var key = new int[]{y, x};
-        coordinates.putIfAbsent(key, new Coordinate(y, x));
+        if (y < 0 || y >= height || x < 0 || x >= width) {
+            return new Coordinate(y, x);
+        }
+
+        var index = y * width + x;
+        var coordinate = coordinates[index];
+        if (coordinate == null) {
+            coordinate = new Coordinate(y, x);
+            coordinates[index] = coordinate;
+        }
 
-        return coordinates.get(key);
+        return coordinate;
     }
 }
@@ -15,6 +15,7 @@ import java.util.stream.Collectors;
  * The {@code Location} class represents a location in the simulation.
  * It contains information about the type of location, its coordinates, and the organisms within it.
  * It also provides various methods to interact with and manipulate the organisms present in the location.
+ * The location is marked dirty whenever its organisms change, so checkpoints can skip the unchanged locations.
  */
 public class Location {
     private static final AtomicLong idCounter = new AtomicLong(0);
@@ -24,6 +25,9 @@ public class Location {
     private final Coordinate coordinate;
     private final ReentrantLock reentrantLock;
     private List<Organism> organisms;
+    private int arrivals;
+    private int departures;
+    private volatile boolean isDirty;
 
     /**
      * Constructs a {@code Location} with the specified location type and coordinate.
@@ -85,6 +89,69 @@ public class Location {
         return id;
     }
 
+    /**
+     * Counts an animal that moved into this location. It must be called while holding the location lock.
+     */
+    public void registerArrival() {
+        arrivals++;
+    }
+
+    /**
+     * Counts an animal that moved out of this location. It must be called while holding the location lock.
+     */
+    public void registerDeparture() {
+        departures++;
+    }
+
+    /**
+     * Returns the number of animals that moved into this location since the last reset.
+     *
+     * @return the number of arrivals
+     */
+    public int getArrivals() {
+        return arrivals;
+    }
+
+    /**
+     * Returns the number of animals that moved out of this location since the last reset.
+     *
+     * @return the number of departures
+     */
+    public int getDepartures() {
+        return departures;
+    }
+
+    /**
+     * Resets the migration counters of this location.
+     */
+    public void resetMigrations() {
+        arrivals = 0;
+        departures = 0;
+    }
+
+    /**
+     * Checks if the organisms of this location have changed since the last checkpoint.
+     *
+     * @return {@code true} if the location has changed
+     */
+    public boolean isDirty() {
+        return isDirty;
+    }
+
+    /**
+     * Marks the location as changed, e.g. after the state of its animals has been updated in place.
+     */
+    public void markDirty() {
+        isDirty = true;
+    }
+
+    /**
+     * Marks the location as unchanged after it has been checkpointed.
+     */
+    public void clearDirty() {
+        isDirty = false;
+    }
+
     /**
      * Adds an organism to this location.
      *
@@ -93,6 +160,7 @@ public class Location {
     public void addOrganism(Organism organism) {
         if (organism != null) {
             organisms.add(organism);
+            isDirty = true;
         }
     }
 
@@ -102,8 +170,9 @@ public class Location {
      * @param organisms the list of organisms to be added
      */
     public void addOrganisms(List<Organism> organisms) {
-        if (organisms != null) {
+        if (organisms != null && !organisms.isEmpty()) {
             this.organisms.addAll(organisms);
+            isDirty = true;
         }
     }
 
@@ -113,8 +182,8 @@ public class Location {
      * @param organism the organism to be removed
      */
     public void removeOrganism(Organism organism) {
-        if (organism != null) {
-            this.organisms.remove(organism);
+        if (organism != null && this.organisms.remove(organism)) {
+            isDirty = true;
         }
     }
 
@@ -122,7 +191,12 @@ public class Location {
      * Removes all dead organisms from this location.
      */
     public void removeDeadOrganisms() {
-        organisms = getAiveOrganisms();
+        var aliveOrganisms = getAiveOrganisms();
+
+        if (aliveOrganisms.size() != organisms.size()) {
+            organisms = aliveOrganisms;
+            isDirty = true;
+        }
     }
 
     /**
@@ -131,7 +205,7 @@ public class Location {
      * @return the map grouping organisms by superclass
      */
     public Map<Class<?>, List<Organism>> getGroupedOrganismsBySuperclass() {
-        return organisms.parallelStream()
+        return organisms.stream()
                 .collect(Collectors.groupingBy(organism -> organism.getClass().getSuperclass()));
     }
 
@@ -141,7 +215,7 @@ public class Location {
      * @return the map grouping organisms by class
      */
     public Map<Class<?>, List<Organism>> getGroupedOrganismsByClass() {
-        return organisms.parallelStream()
+        return organisms.stream()
                 .collect(Collectors.groupingBy(Organism::getClass));
     }
 
@@ -151,7 +225,7 @@ public class Location {
      * @return the map grouping animals by class
      */
     public Map<Class<?>, List<Animal>> getGroupedAnimalsByClass() {
-        return getAnimals().parallelStream()
+        return getAnimals().stream()
                 .collect(Collectors.groupingBy(Animal::getClass));
     }
 
@@ -168,13 +242,31 @@ public class Location {
         return organismCounter;
     }
 
+    /**
+     * Returns the number of alive organisms of the specified species in this location.
+     *
+     * @param organismClass the class of the species to count
+     * @return the number of alive organisms of the species
+     */
+    public int countOrganisms(Class<? extends Organism> organismClass) {
+        var counter = 0;
+
+        for (var organism : organisms) {
+            if (organism.isAlive() && organism.getClass() == organismClass) {
+                counter++;
+            }
+        }
+
+        return counter;
+    }
+
     /**
      * Returns a list of all animals present in this location.
      *
      * @return the list of animals
      */
     public List<Animal> getAnimals() {
-        return organisms.parallelStream()
+        return organisms.stream()
                 .filter(organism -> Animal.class.isAssignableFrom(organism.getClass()))
                 .map(organism -> (Animal) organism)
                 .toList();
@@ -186,7 +278,7 @@ public class Location {
      * @return the list of dead organisms
      */
     public List<Organism> getDeadOrganisms() {
-        return organisms.parallelStream()
+        return organisms.stream()
                 .filter(organism -> !organism.isAlive())
                 .toList();
     }
@@ -17,7 +17,7 @@ import java.util.concurrent.atomic.AtomicLong;
 public abstract class Organism {
     private static final AtomicLong idCounter = new AtomicLong(0);
 
-    private final long id;
+    private long id;
     private final Characteristics characteristics;
     protected Coordinate coordinate;
     private volatile boolean isAlive;
@@ -45,6 +45,35 @@ public abstract class Organism {
         return id;
     }
 
+    /**
+     * Replaces the ID of this organism with the one it had when it was checkpointed.
+     * It must be called before the organism is added to a location.
+     *
+     * @param id the restored ID
+     */
+    void restoreId(long id) {
+        this.id = id;
+        idCounter.accumulateAndGet(id, Math::max);
+    }
+
+    /**
+     * Returns the last ID assigned to an organism.
+     *
+     * @return the last assigned ID
+     */
+    static long getLastId() {
+        return idCounter.get();
+    }
+
+    /**
+     * Makes sure that organisms created from now on get IDs greater than the specified one.
+     *
+     * @param lastId the last ID assigned before the checkpoint
+     */
+    static void restoreLastId(long lastId) {
+        idCounter.accumulateAndGet(lastId, Math::max);
+    }
+
     /**
      * Returns the characteristics of this organism.
      *
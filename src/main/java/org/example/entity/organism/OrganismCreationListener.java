@@ -0,0 +1,21 @@
+package org.example.entity.organism;
+
+import org.example.entity.location.Location;
+
+import java.util.List;
+
+/**
+ * The {@code OrganismCreationListener} interface is notified by the {@code OrganismFactory}
+ * every time a batch of organisms has been created and added to a location.
+ */
+@FunctionalInterface
+public interface OrganismCreationListener {
+
+    /**
+     * Called after the organisms have been added to the location.
+     *
+     * @param location  the location where the organisms have been placed
+     * @param organisms the created organisms
+     */
+    void onOrganismsCreated(Location location, List<Organism> organisms);
+}
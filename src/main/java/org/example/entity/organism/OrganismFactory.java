@@ -2,6 +2,13 @@ package org.example.entity.organism;
 
 import org.example.entity.coordinate.Coordinate;
 import org.example.entity.characteristic.CharacteristicsFactory;
+import org.example.entity.characteristic.Characteristics;
+import org.example.entity.location.Location;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiFunction;
 
 /**
  * The {@code OrganismFactory} class is responsible for creating instances of different
@@ -11,6 +18,7 @@ import org.example.entity.characteristic.CharacteristicsFactory;
 public class OrganismFactory {
     private final OrganismRegistry organismRegistry;
     private final CharacteristicsFactory characteristicsFactory;
+    private final List<OrganismCreationListener> creationListeners;
 
     /**
      * Constructs an {@code OrganismFactory} with the specified registry and
@@ -24,6 +32,16 @@ public class OrganismFactory {
                            CharacteristicsFactory characteristicsFactory) {
         this.organismRegistry = organismRegistry;
         this.characteristicsFactory = characteristicsFactory;
+        this.creationListeners = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Registers a listener that is notified about every batch of organisms created for a location.
+     *
+     * @param listener the listener to register
+     */
+    public void addCreationListener(OrganismCreationListener listener) {
+        creationListeners.add(listener);
     }
 
     /**
@@ -35,14 +53,131 @@ public class OrganismFactory {
      * @throws IllegalArgumentException if the given organism class cannot be created
      */
     public Organism createOrganism(Class<? extends Organism> organismClass, Coordinate coordinate) {
-        var organismRegistryMap = organismRegistry.getOrganismClassToConstructorMap();
+        var constructor = getConstructor(organismClass);
+        var characteristics = characteristicsFactory.getCharacteristics(organismClass);
 
-        if (!organismRegistryMap.containsKey(organismClass)) {
-            throw new IllegalArgumentException("The given %s can't be created.%n".formatted(organismClass));
+        return constructor.apply(characteristics, coordinate);
+    }
+
+    /**
+     * Creates up to {@code amount} organisms of the specified class and adds them to the given location
+     * in a single operation. The amount is limited by the remaining capacity of the location, which is
+     * defined by the {@code maxSpeciesPerCoordinate} characteristic of the species.
+     * The capacity check and the insertion are done under the location lock, so concurrent creators and
+     * moving animals can't overpopulate the location. Registered creation listeners are notified afterwards.
+     *
+     * @param organismClass the class of the organisms to create
+     * @param location the location where the organisms will be placed
+     * @param amount the requested number of organisms
+     * @return the list of created organisms, which can be shorter than requested or empty
+     * @throws IllegalArgumentException if the given organism class cannot be created
+     */
+    public List<Organism> createOrganisms(Class<? extends Organism> organismClass, Location location, int amount) {
+        if (amount <= 0) {
+            return List.of();
         }
 
+        var constructor = getConstructor(organismClass);
         var characteristics = characteristicsFactory.getCharacteristics(organismClass);
+        var coordinate = location.getCoordinate();
+        var lock = location.getReentrantLock();
+        List<Organism> organisms;
+
+        lock.lock();
+        try {
+            var remainingCapacity = characteristics.maxSpeciesPerCoordinate() - location.countOrganisms(organismClass);
+            var organismsAmount = Math.min(amount, remainingCapacity);
+            if (organismsAmount <= 0) {
+                return List.of();
+            }
+
+            organisms = new ArrayList<>(organismsAmount);
+            for (int i = 0; i < organismsAmount; i++) {
+                organisms.add(constructor.apply(characteristics, coordinate));
+            }
+
+            location.addOrganisms(organisms);
+        } finally {
+            lock.unlock();
+        }
+
+        creationListeners.forEach(listener -> listener.onOrganismsCreated(location, organisms));
+
+        return organisms;
+    }
+
+    /**
+     * Creates an organism of the specified class with the ID it had when it was checkpointed.
+     * The organism isn't added to any location until {@link #addRestoredOrganisms(Location, List)} is called.
+     *
+     * @param organismClass the class of the organism to restore
+     * @param coordinate    the coordinate of the organism
+     * @param id            the ID of the organism
+     * @return the restored organism
+     * @throws IllegalArgumentException if the given organism class cannot be created
+     */
+    public Organism restoreOrganism(Class<? extends Organism> organismClass, Coordinate coordinate, long id) {
+        var organism = createOrganism(organismClass, coordinate);
+        organism.restoreId(id);
+
+        return organism;
+    }
+
+    /**
+     * Adds restored organisms of one species to the location without checking its capacity,
+     * and notifies the registered creation listeners as if they had been created.
+     *
+     * @param location  the location of the organisms
+     * @param organisms the restored organisms
+     */
+    public void addRestoredOrganisms(Location location, List<Organism> organisms) {
+        if (organisms.isEmpty()) {
+            return;
+        }
+
+        var lock = location.getReentrantLock();
+        lock.lock();
+        try {
+            location.addOrganisms(organisms);
+        } finally {
+            lock.unlock();
+        }
+
+        creationListeners.forEach(listener -> listener.onOrganismsCreated(location, organisms));
+    }
+
+    /**
+     * Returns the last ID assigned to an organism.
+     *
+     * @return the last assigned ID
+     */
+    public long getLastOrganismId() {
+        return Organism.getLastId();
+    }
+
+    /**
+     * Makes sure that organisms created from now on get IDs greater than the last one before the checkpoint.
+     *
+     * @param lastId the last ID assigned before the checkpoint
+     */
+    public void restoreLastOrganismId(long lastId) {
+        Organism.restoreLastId(lastId);
+    }
+
+    /**
+     * Returns the registered constructor of the specified organism class.
+     *
+     * @param organismClass the class of the organism
+     * @return the constructor of the organism
+     * @throws IllegalArgumentException if the given organism class cannot be created
+     */
+    private BiFunction<Characteristics, Coordinate, Organism> getConstructor(Class<? extends Organism> organismClass) {
+        var constructor = organismRegistry.getOrganismClassToConstructorMap().get(organismClass);
+
+        if (constructor == null) {
+            throw new IllegalArgumentException("The given %s can't be created.%n".formatted(organismClass));
+        }
 
-        return organismRegistryMap.get(organismClass).apply(characteristics, coordinate);
+        return constructor;
     }
 }
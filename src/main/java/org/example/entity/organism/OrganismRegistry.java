@@ -17,6 +17,8 @@ import java.util.function.BiFunction;
 public class OrganismRegistry {
     private final Map<String, Class<? extends Organism>> organismNameToOrganismClassMap;
     private final Map<Class<? extends Organism>, BiFunction<Characteristics, Coordinate, Organism>> organismClassToConstructorMap;
+    private final List<Class<? extends Organism>> species;
+    private final Map<Class<? extends Organism>, Integer> speciesIds;
 
     /**
      * Constructs an {@code OrganismRegistry} and initializes the mappings for organism names to classes
@@ -26,6 +28,8 @@ public class OrganismRegistry {
         this.organismNameToOrganismClassMap = initializeClassMap();
         this.organismClassToConstructorMap = initializeConstructorMap();
         checkRegistry();
+        this.species = initializeSpecies();
+        this.speciesIds = initializeSpeciesIds();
     }
 
     /**
@@ -63,6 +67,61 @@ public class OrganismRegistry {
         return organismNameToOrganismClassMap.values();
     }
 
+    /**
+     * Returns all possible organism classes ordered by their species id.
+     *
+     * @return the list of organism classes, where the index of a class is its species id
+     */
+    public List<Class<? extends Organism>> getSpecies() {
+        return species;
+    }
+
+    /**
+     * Returns the species id of the specified organism class. Species ids are dense, start from zero
+     * and are stable between runs, so they can be used as array indexes and in persisted data.
+     *
+     * @param organismClass the class of the organism
+     * @return the species id
+     * @throws IllegalArgumentException if the organism class is unknown
+     */
+    public int getSpeciesId(Class<? extends Organism> organismClass) {
+        var speciesId = speciesIds.get(organismClass);
+
+        if (speciesId == null) {
+            throw new IllegalArgumentException("Unknown organism: " + organismClass);
+        }
+
+        return speciesId;
+    }
+
+    /**
+     * Initializes the list of species ordered by their names.
+     *
+     * @return the ordered list of organism classes
+     */
+    private List<Class<? extends Organism>> initializeSpecies() {
+        return organismNameToOrganismClassMap.entrySet()
+                .stream()
+                .sorted(Map.Entry.comparingByKey())
+                .<Class<? extends Organism>>map(Map.Entry::getValue)
+                .toList();
+    }
+
+    /**
+     * Initializes the mapping of organism classes to their species ids.
+     *
+     * @return the mapping of organism classes to species ids
+     */
+    private Map<Class<? extends Organism>, Integer> initializeSpeciesIds() {
+        var ids = new HashMap<Class<? extends Organism>, Integer>();
+
+        for (int i = 0; i < species.size(); i++) {
+            ids.put(species.get(i), i);
+        }
+
+        return Map.copyOf(ids);
+    }
+
     /**
      * Initializes the mapping of organism names to their corresponding classes.
      * All the new implmentations must be registered here, otherwise you won't be able to create them with the factory.
@@ -4,13 +4,19 @@ import org.example.entity.coordinate.Coordinate;
 import org.example.entity.organism.Organism;
 import org.example.entity.characteristic.Characteristics;
 
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
 /**
  * The {@code Animal} class represents a generic animal in the simulation, extending the {@code Organism} class.
  * It includes additional properties and behaviors specific to animals, such as satiety and readiness to mate.
  */
 public abstract class Animal extends Organism {
+    private static final AtomicLongFieldUpdater<Animal> moveRoundUpdater = AtomicLongFieldUpdater.newUpdater(Animal.class, "moveRound");
+
     private double satiety;
+    private long satietyTick;
     private boolean isReadyToMate;
+    private volatile long moveRound;
 
     /**
      * Constructs an {@code Animal} with specified characteristics and coordinate.
@@ -31,13 +37,18 @@ public abstract class Animal extends Organism {
      * The eaten organism is marked as dead.
      *
      * @param organism the organism to be eaten
+     * @return {@code true} if the organism has been eaten, {@code false} if it was already dead
      */
-    public void eat(Organism organism) {
-        if (organism.isAlive()) {
-            increaseSatiety(organism.getCharacteristics().weight());
-            isReadyToMate = true;
-            organism.die();
+    public boolean eat(Organism organism) {
+        if (!organism.isAlive()) {
+            return false;
         }
+
+        increaseSatiety(organism.getCharacteristics().weight());
+        isReadyToMate = true;
+        organism.die();
+
+        return true;
     }
 
     /**
@@ -49,6 +60,19 @@ public abstract class Animal extends Organism {
         this.coordinate = coordinate;
     }
 
+    /**
+     * Claims the move of the animal in the specified movement round. An animal that has moved to another location
+     * can be met again by the worker of that location in the same round, and the claim makes sure it moves only once.
+     *
+     * @param round the movement round, greater than any previous one
+     * @return {@code true} if the move has been claimed, {@code false} if the animal has already been claimed in the round
+     */
+    public boolean claimMove(long round) {
+        var claimedRound = moveRound;
+
+        return claimedRound < round && moveRoundUpdater.compareAndSet(this, claimedRound, round);
+    }
+
     /**
      * Marks the animal as having reproduced, resetting its readiness to mate.
      */
@@ -65,6 +89,93 @@ public abstract class Animal extends Organism {
         return isReadyToMate;
     }
 
+    /**
+     * Returns the current satiety of the animal.
+     *
+     * @return the current satiety
+     */
+    public double getSatiety() {
+        return satiety;
+    }
+
+    /**
+     * Returns the tick at which the stored satiety was measured.
+     *
+     * @return the tick of the stored satiety
+     */
+    public long getSatietyTick() {
+        return satietyTick;
+    }
+
+    /**
+     * Derives the satiety of the animal at the start of the specified tick from the stored satiety,
+     * the tick it was measured at and the hunger ratio.
+     *
+     * @param tick        the tick to derive the satiety for
+     * @param hungerRatio the ratio of {@code foodForSatiety} lost per tick
+     * @return the satiety at the specified tick
+     */
+    public double getSatiety(long tick, double hungerRatio) {
+        return satiety - getCharacteristics().foodForSatiety() * hungerRatio * (tick - satietyTick);
+    }
+
+    /**
+     * Marks the stored satiety as measured at the specified tick, without changing its value.
+     * It's used when the animal enters the simulation.
+     *
+     * @param tick the tick the stored satiety belongs to
+     */
+    public void stampSatiety(long tick) {
+        satietyTick = tick;
+    }
+
+    /**
+     * Brings the stored satiety up to date with the specified tick.
+     *
+     * @param tick        the current tick
+     * @param hungerRatio the ratio of {@code foodForSatiety} lost per tick
+     */
+    public void settleSatiety(long tick, double hungerRatio) {
+        satiety = getSatiety(tick, hungerRatio);
+        satietyTick = tick;
+    }
+
+    /**
+     * Returns the tick at which the animal starves to death, unless it eats before.
+     * The satiety is reduced at the end of every tick and the animal dies once it's below zero.
+     *
+     * @param hungerRatio the ratio of {@code foodForSatiety} lost per tick
+     * @return the tick of starvation, or {@code Long.MAX_VALUE} if the animal never starves
+     */
+    public long getStarvationTick(double hungerRatio) {
+        var hungerPerTick = getCharacteristics().foodForSatiety() * hungerRatio;
+
+        if (hungerPerTick <= 0) {
+            return Long.MAX_VALUE;
+        }
+
+        return satietyTick + (long) Math.floor(satiety / hungerPerTick);
+    }
+
+    /**
+     * Restores the state of the animal from a checkpoint. The satiety is stamped by the hunger service
+     * when the animal is added to the simulation.
+     *
+     * @param satiety       the satiety of the animal at the checkpoint
+     * @param isReadyToMate the readiness to mate of the animal at the checkpoint
+     */
+    public void restoreState(double satiety, boolean isReadyToMate) {
+        this.satiety = satiety;
+        this.isReadyToMate = isReadyToMate;
+    }
+
+    /**
+     * Resets the readiness to mate, e.g. at the end of the tick the animal has eaten in.
+     */
+    public void clearReadinessToMate() {
+        isReadyToMate = false;
+    }
+
     /**
      * Reduces the animal's satiety based on the hunger ratio. If the hunger ratio is negative, throws an exception.
      * If the satiety falls below zero, the animal dies.
@@ -77,10 +188,22 @@ public abstract class Animal extends Organism {
             throw new IllegalArgumentException("Hunger ratio can't be a negative number=" + hungerRatio);
         }
 
-        satiety -= getCharacteristics().foodForSatiety() * hungerRatio;
+        var newSatiety = satiety - getCharacteristics().foodForSatiety() * hungerRatio;
+        updateHungerState(newSatiety, newSatiety >= 0);
+    }
+
+    /**
+     * Applies the result of a hunger tick calculated outside the animal, e.g. by a batch hunger kernel.
+     * The animal is no longer ready to mate, and it dies if it hasn't survived the tick.
+     *
+     * @param satiety  the new satiety of the animal
+     * @param survived {@code true} if the animal survived the tick, {@code false} otherwise
+     */
+    public void updateHungerState(double satiety, boolean survived) {
+        this.satiety = satiety;
         isReadyToMate = false;
 
-        if (satiety < 0) {
+        if (!survived) {
             die();
         }
     }
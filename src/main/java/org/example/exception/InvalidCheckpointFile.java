@@ -0,0 +1,18 @@
+package org.example.exception;
+
+/**
+ * The {@code InvalidCheckpointFile} class is a custom exception that indicates an issue with reading a checkpoint file,
+ * e.g. a file of another format or version, or one written for other species.
+ * It extends the {@code RuntimeException} class.
+ */
+public class InvalidCheckpointFile extends RuntimeException {
+
+    /**
+     * Constructs a new InvalidCheckpointFile exception with the specified detail message.
+     *
+     * @param message the detail message that describes the reason for the exception
+     */
+    public InvalidCheckpointFile(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.exception;
+
+/**
+ * The {@code InvalidJournalFile} class is a custom exception that indicates an issue with reading an event journal,
+ * e.g. a file of another format or version, or a record of an unknown event type.
+ * It extends the {@code RuntimeException} class.
+ */
+public class InvalidJournalFile extends RuntimeException {
+
+    /**
+     * Constructs a new InvalidJournalFile exception with the specified detail message.
+     *
+     * @param message the detail message that describes the reason for the exception
+     */
+    public InvalidJournalFile(String message) {
+        super(message);
+    }
+}
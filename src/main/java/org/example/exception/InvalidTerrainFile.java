@@ -0,0 +1,18 @@
+package org.example.exception;
+
+/**
+ * The {@code InvalidTerrainFile} class is a custom exception that indicates an issue with reading a terrain file,
+ * e.g. a file of another size than the island or one containing an unknown location type.
+ * It extends the {@code RuntimeException} class.
+ */
+public class InvalidTerrainFile extends RuntimeException {
+
+    /**
+     * Constructs a new InvalidTerrainFile exception with the specified detail message.
+     *
+     * @param message the detail message that describes the reason for the exception
+     */
+    public InvalidTerrainFile(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,303 @@
+package org.example.history;
+
+import org.example.exception.InvalidJournalFile;
+import org.example.persistence.JournalHeader;
+import org.example.persistence.JournalReader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * The {@code HistoryIndex} class answers queries about a recorded run from the memory-mapped history index
+ * built by the {@code HistoryIndexBuilder}, without replaying the journal:
+ * <ul>
+ *     <li>the population of a species on the island or in a region after a tick,</li>
+ *     <li>the tick a species went extinct in,</li>
+ *     <li>the lifetime of an organism.</li>
+ * </ul>
+ * Regional populations are stored per tile, so regions are extended to the borders of the tiles they overlap.
+ * The population of a tile after a tick is read from the preceding keyframe and overwritten by the deltas
+ * of the following ticks up to the tick. The lifetimes are read from the birth and death records of the journal
+ * the index points to. The sections are mapped in windows, so the index isn't limited by the size of a mapping.
+ * The queries aren't thread-safe.
+ */
+public class HistoryIndex implements AutoCloseable {
+    private final Path path;
+    private final JournalReader journalReader;
+    private final FileChannel channel;
+    private final IndexLayout layout;
+    private final TileGrid tileGrid;
+    private final MappedSection speciesSummaries;
+    private final MappedSection speciesSeries;
+    private final MappedSection tileKeyframes;
+    private final MappedSection deltaStarts;
+    private final MappedSection tileDeltas;
+    private final MappedSection birthOffsets;
+    private final MappedSection deathOffsets;
+
+    /**
+     * Constructs a {@code HistoryIndex} by mapping the index file of the journal.
+     *
+     * @param path          the path of the index file
+     * @param journalReader the reader of the indexed journal
+     * @throws InvalidJournalFile   if the file isn't a history index of the supported version or of the current journal
+     * @throws UncheckedIOException if the file can't be read
+     */
+    public HistoryIndex(Path path, JournalReader journalReader) {
+        this.path = path;
+        this.journalReader = journalReader;
+
+        try {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+
+            var header = readHeader(channel);
+            if (header.getInt() != IndexLayout.MAGIC || header.getInt() != IndexLayout.VERSION) {
+                throw new InvalidJournalFile("%s isn't a history index of the supported version.".formatted(path));
+            }
+            if (header.getLong() != journalReader.getRecordsEnd()) {
+                throw new InvalidJournalFile("%s has been built for another version of the journal.".formatted(path));
+            }
+
+            var lastTick = header.getLong();
+            this.tileGrid = new TileGrid(header.getInt(), header.getInt(), header.getInt());
+            header.getInt();
+            header.getInt();
+            var speciesAmount = header.getInt();
+            var keyframeInterval = header.getInt();
+            var organismAmount = header.getLong();
+            var deltaAmount = header.getLong();
+            this.layout = new IndexLayout(lastTick, tileGrid.getTileAmount(), speciesAmount, keyframeInterval, deltaAmount, organismAmount);
+
+            if (keyframeInterval <= 0 || channel.size() != layout.getFileSize()) {
+                throw new InvalidJournalFile("%s is truncated.".formatted(path));
+            }
+
+            this.speciesSummaries = new MappedSection(channel, layout.getSpeciesSummariesStart(), layout.getSpeciesSeriesStart());
+            this.speciesSeries = new MappedSection(channel, layout.getSpeciesSeriesStart(), layout.getTileKeyframesStart());
+            this.tileKeyframes = new MappedSection(channel, layout.getTileKeyframesStart(), layout.getDeltaStartsStart());
+            this.deltaStarts = new MappedSection(channel, layout.getDeltaStartsStart(), layout.getTileDeltasStart());
+            this.tileDeltas = new MappedSection(channel, layout.getTileDeltasStart(), layout.getBirthOffsetsStart());
+            this.birthOffsets = new MappedSection(channel, layout.getBirthOffsetsStart(), layout.getDeathOffsetsStart());
+            this.deathOffsets = new MappedSection(channel, layout.getDeathOffsetsStart(), layout.getFileSize());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't read the history index from " + path, e);
+        }
+    }
+
+    /**
+     * Checks if the index file exists and has been built for the current version of the journal.
+     *
+     * @param path          the path of the index file
+     * @param journalReader the reader of the journal
+     * @return {@code true} if the index can be used for the journal
+     */
+    public static boolean isCurrent(Path path, JournalReader journalReader) {
+        if (!Files.isRegularFile(path)) {
+            return false;
+        }
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var header = readHeader(channel);
+
+            return header.getInt() == IndexLayout.MAGIC
+                    && header.getInt() == IndexLayout.VERSION
+                    && header.getLong() == journalReader.getRecordsEnd();
+        } catch (IOException | InvalidJournalFile e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the header of the indexed journal.
+     *
+     * @return the header
+     */
+    public JournalHeader getJournalHeader() {
+        return journalReader.getHeader();
+    }
+
+    /**
+     * Returns the last tick of the indexed journal.
+     *
+     * @return the last tick
+     */
+    public long getLastTick() {
+        return layout.lastTick();
+    }
+
+    /**
+     * Returns the population of the species on the island after the tick.
+     *
+     * @param speciesId the species id
+     * @param tick      the tick
+     * @return the population
+     * @throws IllegalArgumentException if the species or the tick is out of range
+     */
+    public long getPopulation(int speciesId, long tick) {
+        checkSpecies(speciesId);
+        checkTick(tick);
+
+        return speciesSeries.getInt(tick * layout.speciesAmount() + speciesId);
+    }
+
+    /**
+     * Returns the population of the species in the tiles overlapping the region after the tick.
+     * The populations of the tiles are read from the preceding keyframe and updated with the deltas
+     * of at most {@code keyframeInterval - 1} ticks.
+     *
+     * @param speciesId the species id
+     * @param tick      the tick
+     * @param region    the region
+     * @return the population
+     * @throws IllegalArgumentException if the species or the tick is out of range
+     */
+    public long getPopulation(int speciesId, long tick, Region region) {
+        checkSpecies(speciesId);
+        checkTick(tick);
+
+        var tiles = tileGrid.getTiles(region);
+        var tilePopulations = new int[tiles.length];
+        var keyframe = tick / layout.keyframeInterval();
+        var keyframeStart = keyframe * layout.getSlotAmount();
+        for (var i = 0; i < tiles.length; i++) {
+            tilePopulations[i] = tileKeyframes.getInt(keyframeStart + (long) tiles[i] * layout.speciesAmount() + speciesId);
+        }
+
+        var deltaEnd = deltaStarts.getLong(tick + 1);
+        for (var delta = deltaStarts.getLong(keyframe * layout.keyframeInterval()); delta < deltaEnd; delta++) {
+            var slot = tileDeltas.getInt(2 * delta);
+            if (slot % layout.speciesAmount() != speciesId) {
+                continue;
+            }
+
+            var i = Arrays.binarySearch(tiles, slot / layout.speciesAmount());
+            if (i >= 0) {
+                tilePopulations[i] = tileDeltas.getInt(2 * delta + 1);
+            }
+        }
+
+        return Arrays.stream(tilePopulations).asLongStream().sum();
+    }
+
+    /**
+     * Returns the cells the population of the region is counted in, i.e. the region extended to the borders
+     * of the tiles it overlaps.
+     *
+     * @param region the region
+     * @return the counted cells
+     */
+    public Region getCountedRegion(Region region) {
+        return tileGrid.snap(region);
+    }
+
+    /**
+     * Returns the first tick after which the species has never been present again.
+     *
+     * @param speciesId the species id
+     * @return the tick of the extinction, or an empty value if the species is present at the end of the journal
+     * or has never been present
+     * @throws IllegalArgumentException if the species is out of range
+     */
+    public OptionalLong getExtinctionTick(int speciesId) {
+        checkSpecies(speciesId);
+
+        var lastPresentTick = speciesSummaries.getLong(2L * speciesId + 1);
+        if (lastPresentTick < 0 || lastPresentTick == layout.lastTick()) {
+            return OptionalLong.empty();
+        }
+
+        return OptionalLong.of(lastPresentTick + 1);
+    }
+
+    /**
+     * Returns the lifetime of the organism, read from its birth and death records in the journal.
+     *
+     * @param organismId the id of the organism
+     * @return the lifetime, or an empty value if the organism hasn't been born in the journal
+     */
+    public Optional<OrganismLifetime> getLifetime(long organismId) {
+        if (organismId < 0 || organismId >= layout.organismAmount()) {
+            return Optional.empty();
+        }
+
+        var birthOffset = birthOffsets.getLong(organismId);
+        if (birthOffset < 0) {
+            return Optional.empty();
+        }
+
+        var birth = journalReader.readEvent(birthOffset);
+        var deathOffset = deathOffsets.getLong(organismId);
+        if (deathOffset < 0) {
+            return Optional.of(new OrganismLifetime(organismId, birth.speciesId(), birth.tick(), birth.cell(), -1, -1, null));
+        }
+
+        var death = journalReader.readEvent(deathOffset);
+
+        return Optional.of(new OrganismLifetime(organismId, birth.speciesId(), birth.tick(), birth.cell(), death.tick(), death.cell(), death.type()));
+    }
+
+    /**
+     * Closes the index and the journal.
+     */
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't close " + path, e);
+        } finally {
+            journalReader.close();
+        }
+    }
+
+    /**
+     * Reads the header of an index file.
+     *
+     * @param channel the channel of the index file
+     * @return the header, ready to be read
+     * @throws IOException if the file can't be read
+     */
+    private static ByteBuffer readHeader(FileChannel channel) throws IOException {
+        var header = ByteBuffer.allocate(IndexLayout.HEADER_BYTES);
+
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                throw new InvalidJournalFile("The history index is shorter than its header.");
+            }
+        }
+
+        return header.flip();
+    }
+
+    /**
+     * Checks if the species id is known.
+     *
+     * @param speciesId the species id
+     * @throws IllegalArgumentException if the species id is out of range
+     */
+    private void checkSpecies(int speciesId) {
+        if (speciesId < 0 || speciesId >= layout.speciesAmount()) {
+            throw new IllegalArgumentException("Unknown species id " + speciesId);
+        }
+    }
+
+    /**
+     * Checks if the tick is recorded in the index.
+     *
+     * @param tick the tick
+     * @throws IllegalArgumentException if the tick is out of range
+     */
+    private void checkTick(long tick) {
+        if (tick < 0 || tick > layout.lastTick()) {
+            throw new IllegalArgumentException("Tick %d is outside the recorded days 0-%d".formatted(tick, layout.lastTick()));
+        }
+    }
+}
@@ -0,0 +1,453 @@
+package org.example.history;
+
+import org.example.persistence.JournalBatch;
+import org.example.persistence.JournalEventType;
+import org.example.persistence.JournalReader;
+import org.example.replay.ReplayState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * The {@code HistoryIndexBuilder} class builds the history index of an event journal in a single pass.
+ * The journal is replayed tick by tick; the populations of the species are appended to their series after every tick,
+ * the populations of all tiles are written as a keyframe every {@value #KEYFRAME_INTERVAL} ticks and only the changed ones
+ * as deltas after the other ticks, and the positions of the birth and death records are collected per organism id.
+ * The changed tile populations are tracked by the population listener, so a tick costs its changes rather than
+ * the whole tile grid. The sections are streamed into the file through large buffers, so only the current populations
+ * are kept in memory. The index is written into a temporary file which replaces the previous index atomically,
+ * once the file store has been checked to hold the sections of known size.
+ */
+public class HistoryIndexBuilder {
+    private static final Logger logger = LoggerFactory.getLogger(HistoryIndexBuilder.class);
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int KEYFRAME_INTERVAL = 64;
+
+    private final int tileSize;
+
+    /**
+     * Constructs a {@code HistoryIndexBuilder} storing the regional populations in tiles of the specified size.
+     *
+     * @param tileSize the number of cells along a side of a tile
+     */
+    public HistoryIndexBuilder(int tileSize) {
+        this.tileSize = tileSize;
+    }
+
+    /**
+     * Builds the history index of the journal.
+     *
+     * @param journalReader the reader of the journal
+     * @param indexPath     the path of the index file
+     * @throws UncheckedIOException if the index can't be written
+     */
+    public void build(JournalReader journalReader, Path indexPath) {
+        var startNanos = System.nanoTime();
+        var header = journalReader.getHeader();
+        var tileGrid = new TileGrid(header.height(), header.width(), tileSize);
+        var speciesAmount = header.species().size();
+        var lastTick = journalReader.getLastTick();
+        var layout = new IndexLayout(lastTick, tileGrid.getTileAmount(), speciesAmount, KEYFRAME_INTERVAL, 0, 0);
+
+        var tileSeries = new TileSeries(Math.multiplyExact(tileGrid.getTileAmount(), speciesAmount));
+        var state = new ReplayState(header, (cell, speciesId, delta) ->
+                tileSeries.change(tileGrid.getTile(cell) * speciesAmount + speciesId, delta));
+        var series = new SeriesRow(speciesAmount);
+        var offsets = new OrganismOffsets();
+        var temporaryFile = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+
+        try {
+            checkUsableSpace(indexPath, layout);
+
+            try (var channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE)) {
+                var speciesSeries = new SectionWriter(channel, layout.getSpeciesSeriesStart());
+                var tileKeyframes = new SectionWriter(channel, layout.getTileKeyframesStart());
+                var deltaStarts = new SectionWriter(channel, layout.getDeltaStartsStart());
+                var tileDeltas = new SectionWriter(channel, layout.getTileDeltasStart());
+                var batch = new JournalBatch();
+                var writtenTick = -1L;
+
+                journalReader.seek(journalReader.getRecordsStart());
+                while (journalReader.readTick(batch)) {
+                    while (writtenTick < batch.getTick() - 1) {
+                        series.write(++writtenTick, state, speciesSeries);
+                        tileSeries.write(writtenTick, tileKeyframes, deltaStarts, tileDeltas);
+                    }
+
+                    state.apply(batch);
+                    offsets.add(batch);
+                    series.write(++writtenTick, state, speciesSeries);
+                    tileSeries.write(writtenTick, tileKeyframes, deltaStarts, tileDeltas);
+                }
+                while (writtenTick < lastTick) {
+                    series.write(++writtenTick, state, speciesSeries);
+                    tileSeries.write(writtenTick, tileKeyframes, deltaStarts, tileDeltas);
+                }
+                deltaStarts.putLong(tileSeries.deltaAmount);
+                speciesSeries.flush();
+                tileKeyframes.flush();
+                deltaStarts.flush();
+                tileDeltas.flush();
+
+                var finalLayout = new IndexLayout(lastTick, tileGrid.getTileAmount(), speciesAmount, KEYFRAME_INTERVAL,
+                        tileSeries.deltaAmount, offsets.amount);
+                writeHeader(channel, journalReader, tileGrid, finalLayout, series);
+                writeOffsets(channel, finalLayout.getBirthOffsetsStart(), offsets.birthOffsets, offsets.amount);
+                writeOffsets(channel, finalLayout.getDeathOffsetsStart(), offsets.deathOffsets, offsets.amount);
+                channel.force(false);
+            }
+            Files.move(temporaryFile, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't write the history index to " + indexPath, e);
+        }
+
+        logger.info("History index of {} ticks, {} tile deltas and {} organisms has been written to {} in {} ms",
+                lastTick, tileSeries.deltaAmount, offsets.amount, indexPath, (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    /**
+     * Checks that the file store of the index can hold the sections whose size is known before the journal is indexed,
+     * so an index that can't be written fails before anything is written.
+     *
+     * @param indexPath the path of the index file
+     * @param layout    the layout of the index without tile deltas and organisms
+     * @throws IOException if the file store is too small or can't be read
+     */
+    private static void checkUsableSpace(Path indexPath, IndexLayout layout) throws IOException {
+        var requiredBytes = layout.getFileSize();
+        var usableBytes = Files.getFileStore(indexPath.toAbsolutePath().getParent()).getUsableSpace();
+
+        if (requiredBytes > usableBytes) {
+            throw new FileSystemException(indexPath.toString(), null,
+                    "The index needs at least %d bytes but only %d bytes are available, use larger tiles".formatted(requiredBytes, usableBytes));
+        }
+    }
+
+    /**
+     * Writes the header and the species summaries.
+     *
+     * @param channel       the channel of the index file
+     * @param journalReader the reader of the indexed journal
+     * @param tileGrid      the tiles of the island
+     * @param layout        the layout of the index file
+     * @param series        the series row holding the species summaries
+     * @throws IOException if the file can't be written
+     */
+    private static void writeHeader(FileChannel channel,
+                                    JournalReader journalReader,
+                                    TileGrid tileGrid,
+                                    IndexLayout layout,
+                                    SeriesRow series) throws IOException {
+        var writer = new SectionWriter(channel, 0);
+
+        writer.putInt(IndexLayout.MAGIC);
+        writer.putInt(IndexLayout.VERSION);
+        writer.putLong(journalReader.getRecordsEnd());
+        writer.putLong(layout.lastTick());
+        writer.putInt(tileGrid.height());
+        writer.putInt(tileGrid.width());
+        writer.putInt(tileGrid.tileSize());
+        writer.putInt(tileGrid.getRows());
+        writer.putInt(tileGrid.getColumns());
+        writer.putInt(layout.speciesAmount());
+        writer.putInt(layout.keyframeInterval());
+        writer.putLong(layout.organismAmount());
+        writer.putLong(layout.deltaAmount());
+
+        for (var speciesId = 0; speciesId < layout.speciesAmount(); speciesId++) {
+            writer.putLong(series.firstPresentTicks[speciesId]);
+            writer.putLong(series.lastPresentTicks[speciesId]);
+        }
+        writer.flush();
+    }
+
+    /**
+     * Writes the record positions of the organism ids.
+     *
+     * @param channel the channel of the index file
+     * @param start   the position of the section
+     * @param offsets the record positions by organism id
+     * @param amount  the number of organism ids
+     * @throws IOException if the file can't be written
+     */
+    private static void writeOffsets(FileChannel channel, long start, long[] offsets, int amount) throws IOException {
+        var writer = new SectionWriter(channel, start);
+
+        for (var id = 0; id < amount; id++) {
+            writer.putLong(offsets[id]);
+        }
+        writer.flush();
+    }
+
+    /**
+     * The {@code SeriesRow} class appends the populations of the species after a tick to the series
+     * and tracks the first and the last tick every species has been present in.
+     */
+    private static class SeriesRow {
+        private final int[] speciesPopulations;
+        private final long[] firstPresentTicks;
+        private final long[] lastPresentTicks;
+
+        /**
+         * Constructs a {@code SeriesRow} for the specified number of species.
+         *
+         * @param speciesAmount the number of species
+         */
+        private SeriesRow(int speciesAmount) {
+            this.speciesPopulations = new int[speciesAmount];
+            this.firstPresentTicks = new long[speciesAmount];
+            this.lastPresentTicks = new long[speciesAmount];
+            Arrays.fill(firstPresentTicks, -1);
+            Arrays.fill(lastPresentTicks, -1);
+        }
+
+        /**
+         * Appends the populations after the tick to the series.
+         *
+         * @param tick          the tick
+         * @param state         the replayed world after the tick
+         * @param speciesSeries the writer of the species series
+         * @throws IOException if the file can't be written
+         */
+        private void write(long tick, ReplayState state, SectionWriter speciesSeries) throws IOException {
+            for (var speciesId = 0; speciesId < speciesPopulations.length; speciesId++) {
+                var population = (int) state.getPopulation(speciesId);
+                speciesPopulations[speciesId] = population;
+
+                if (population > 0) {
+                    if (firstPresentTicks[speciesId] < 0) {
+                        firstPresentTicks[speciesId] = tick;
+                    }
+                    lastPresentTicks[speciesId] = tick;
+                }
+            }
+
+            speciesSeries.putInts(speciesPopulations);
+        }
+    }
+
+    /**
+     * The {@code TileSeries} class keeps the populations of the species in the tiles and writes them after every tick,
+     * as a keyframe or as the deltas of the populations which differ from the written ones.
+     * The slot of a population is the tile times the number of species plus the species id.
+     */
+    private static class TileSeries {
+        private final int[] populations;
+        private final int[] writtenPopulations;
+        private final boolean[] isChanged;
+        private final int[] changedSlots;
+        private int changedAmount;
+        private long deltaAmount;
+
+        /**
+         * Constructs a {@code TileSeries} with empty tiles.
+         *
+         * @param slotAmount the number of tiles times the number of species
+         */
+        private TileSeries(int slotAmount) {
+            this.populations = new int[slotAmount];
+            this.writtenPopulations = new int[slotAmount];
+            this.isChanged = new boolean[slotAmount];
+            this.changedSlots = new int[slotAmount];
+        }
+
+        /**
+         * Changes a population and remembers its slot until the next write.
+         *
+         * @param slot  the slot of the population
+         * @param delta the change of the population
+         */
+        private void change(int slot, int delta) {
+            populations[slot] += delta;
+
+            if (!isChanged[slot]) {
+                isChanged[slot] = true;
+                changedSlots[changedAmount++] = slot;
+            }
+        }
+
+        /**
+         * Writes the index of the first delta of the tick, then either the keyframe or the deltas of the tick.
+         *
+         * @param tick          the tick
+         * @param tileKeyframes the writer of the tile keyframes
+         * @param deltaStarts   the writer of the tile delta starts
+         * @param tileDeltas    the writer of the tile deltas
+         * @throws IOException if the file can't be written
+         */
+        private void write(long tick, SectionWriter tileKeyframes, SectionWriter deltaStarts, SectionWriter tileDeltas) throws IOException {
+            deltaStarts.putLong(deltaAmount);
+
+            if (tick % KEYFRAME_INTERVAL == 0) {
+                tileKeyframes.putInts(populations);
+                System.arraycopy(populations, 0, writtenPopulations, 0, populations.length);
+            }
+
+            for (var i = 0; i < changedAmount; i++) {
+                var slot = changedSlots[i];
+                isChanged[slot] = false;
+
+                if (populations[slot] != writtenPopulations[slot]) {
+                    tileDeltas.putInt(slot);
+                    tileDeltas.putInt(populations[slot]);
+                    writtenPopulations[slot] = populations[slot];
+                    deltaAmount++;
+                }
+            }
+            changedAmount = 0;
+        }
+    }
+
+    /**
+     * The {@code OrganismOffsets} class collects the positions of the birth and death records by organism id.
+     */
+    private static class OrganismOffsets {
+        private long[] birthOffsets;
+        private long[] deathOffsets;
+        private int amount;
+
+        /**
+         * Constructs an empty {@code OrganismOffsets}.
+         */
+        private OrganismOffsets() {
+            this.birthOffsets = new long[INITIAL_CAPACITY];
+            this.deathOffsets = new long[INITIAL_CAPACITY];
+            Arrays.fill(birthOffsets, -1);
+            Arrays.fill(deathOffsets, -1);
+        }
+
+        /**
+         * Collects the positions of the birth and death records of a tick.
+         *
+         * @param batch the events of a tick
+         */
+        private void add(JournalBatch batch) {
+            for (var i = 0; i < batch.size(); i++) {
+                var type = batch.getType(i);
+                if (type == JournalEventType.BIRTH) {
+                    set(batch.getOrganismId(i), batch.getPosition(i), true);
+                } else if (type == JournalEventType.KILL || type == JournalEventType.STARVATION) {
+                    set(batch.getOrganismId(i), batch.getPosition(i), false);
+                }
+            }
+        }
+
+        /**
+         * Stores the position of a record of the organism, growing the columns if they can't hold its id.
+         *
+         * @param organismId the id of the organism
+         * @param position   the position of the record
+         * @param isBirth    {@code true} for a birth record, {@code false} for a death record
+         */
+        private void set(long organismId, long position, boolean isBirth) {
+            var id = (int) organismId;
+            if (id >= birthOffsets.length) {
+                var oldLength = birthOffsets.length;
+                var newLength = Math.max(id + 1, oldLength * 2);
+                birthOffsets = Arrays.copyOf(birthOffsets, newLength);
+                deathOffsets = Arrays.copyOf(deathOffsets, newLength);
+                Arrays.fill(birthOffsets, oldLength, newLength, -1);
+                Arrays.fill(deathOffsets, oldLength, newLength, -1);
+            }
+
+            if (isBirth) {
+                birthOffsets[id] = position;
+            } else {
+                deathOffsets[id] = position;
+            }
+            amount = Math.max(amount, id + 1);
+        }
+    }
+
+    /**
+     * The {@code SectionWriter} class writes a section of the index file sequentially through a large buffer.
+     */
+    private static class SectionWriter {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private long position;
+
+        /**
+         * Constructs a {@code SectionWriter} starting at the position.
+         *
+         * @param channel  the channel of the index file
+         * @param position the position of the section
+         */
+        private SectionWriter(FileChannel channel, long position) {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            this.position = position;
+        }
+
+        /**
+         * Writes an int.
+         *
+         * @param value the value to write
+         * @throws IOException if the file can't be written
+         */
+        private void putInt(int value) throws IOException {
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        /**
+         * Writes a long.
+         *
+         * @param value the value to write
+         * @throws IOException if the file can't be written
+         */
+        private void putLong(long value) throws IOException {
+            ensureRemaining(Long.BYTES);
+            buffer.putLong(value);
+        }
+
+        /**
+         * Writes the ints of the array.
+         *
+         * @param values the values to write
+         * @throws IOException if the file can't be written
+         */
+        private void putInts(int[] values) throws IOException {
+            for (var value : values) {
+                putInt(value);
+            }
+        }
+
+        /**
+         * Writes the buffered bytes into the file.
+         *
+         * @throws IOException if the file can't be written
+         */
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            buffer.clear();
+        }
+
+        /**
+         * Writes the buffered bytes if the buffer can't hold the specified number of bytes.
+         *
+         * @param bytes the number of bytes to write next
+         * @throws IOException if the file can't be written
+         */
+        private void ensureRemaining(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+    }
+}
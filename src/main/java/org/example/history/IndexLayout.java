@@ -0,0 +1,130 @@
+package org.example.history;
+
+/**
+ * The {@code IndexLayout} record computes the positions of the sections of a history index file.
+ * The file starts with a header of {@value #HEADER_BYTES} bytes followed by the sections:
+ * <ul>
+ *     <li>the species summaries: the first and the last tick every species has been present in (longs),</li>
+ *     <li>the species series: the population of every species after every tick (ints, tick-major),</li>
+ *     <li>the tile keyframes: the population of every species in every tile after every {@code keyframeInterval}-th tick
+ *     (ints, tick-major),</li>
+ *     <li>the tile delta starts: the index of the first tile delta of every tick, followed by the number of tile deltas (longs),</li>
+ *     <li>the tile deltas: the tile and species slot and the new population of every population changed by a tick
+ *     which isn't a keyframe (pairs of ints),</li>
+ *     <li>the birth offsets: the position of the birth record of every organism id in the journal (longs),</li>
+ *     <li>the death offsets: the position of the death record of every organism id, or {@code -1} (longs).</li>
+ * </ul>
+ * All sections but the tile deltas and the organism offsets have a size known before the journal is indexed.
+ *
+ * @param lastTick         the last tick of the journal
+ * @param tileAmount       the number of tiles of the island
+ * @param speciesAmount    the number of species
+ * @param keyframeInterval the number of ticks between two tile keyframes
+ * @param deltaAmount      the number of tile deltas
+ * @param organismAmount   the number of organism ids, i.e. the largest id plus one
+ */
+record IndexLayout(long lastTick, int tileAmount, int speciesAmount, int keyframeInterval, long deltaAmount, long organismAmount) {
+    static final int MAGIC = 0x574C5349;
+    static final int VERSION = 2;
+    static final int HEADER_BYTES = 2 * Integer.BYTES + 2 * Long.BYTES + 7 * Integer.BYTES + 2 * Long.BYTES;
+    static final int DELTA_BYTES = 2 * Integer.BYTES;
+
+    /**
+     * Returns the number of rows of the species series, one per tick from {@code 0} to the last tick.
+     *
+     * @return the number of rows
+     */
+    long getTickAmount() {
+        return lastTick + 1;
+    }
+
+    /**
+     * Returns the number of tile keyframes, one per {@code keyframeInterval} ticks from tick {@code 0}.
+     *
+     * @return the number of keyframes
+     */
+    long getKeyframeAmount() {
+        return Math.floorDiv(lastTick, keyframeInterval) + 1;
+    }
+
+    /**
+     * Returns the number of populations of a tile keyframe.
+     *
+     * @return the number of tile and species slots
+     */
+    long getSlotAmount() {
+        return (long) tileAmount * speciesAmount;
+    }
+
+    /**
+     * Returns the position of the species summaries.
+     *
+     * @return the position in the file
+     */
+    long getSpeciesSummariesStart() {
+        return HEADER_BYTES;
+    }
+
+    /**
+     * Returns the position of the species series.
+     *
+     * @return the position in the file
+     */
+    long getSpeciesSeriesStart() {
+        return getSpeciesSummariesStart() + 2L * speciesAmount * Long.BYTES;
+    }
+
+    /**
+     * Returns the position of the tile keyframes.
+     *
+     * @return the position in the file
+     */
+    long getTileKeyframesStart() {
+        return getSpeciesSeriesStart() + getTickAmount() * speciesAmount * Integer.BYTES;
+    }
+
+    /**
+     * Returns the position of the tile delta starts.
+     *
+     * @return the position in the file
+     */
+    long getDeltaStartsStart() {
+        return getTileKeyframesStart() + getKeyframeAmount() * getSlotAmount() * Integer.BYTES;
+    }
+
+    /**
+     * Returns the position of the tile deltas.
+     *
+     * @return the position in the file
+     */
+    long getTileDeltasStart() {
+        return getDeltaStartsStart() + (getTickAmount() + 1) * Long.BYTES;
+    }
+
+    /**
+     * Returns the position of the birth offsets.
+     *
+     * @return the position in the file
+     */
+    long getBirthOffsetsStart() {
+        return getTileDeltasStart() + deltaAmount * DELTA_BYTES;
+    }
+
+    /**
+     * Returns the position of the death offsets.
+     *
+     * @return the position in the file
+     */
+    long getDeathOffsetsStart() {
+        return getBirthOffsetsStart() + organismAmount * Long.BYTES;
+    }
+
+    /**
+     * Returns the size of the index file.
+     *
+     * @return the size in bytes
+     */
+    long getFileSize() {
+        return getDeathOffsetsStart() + organismAmount * Long.BYTES;
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.history;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * The {@code MappedSection} class reads the values of a section of the history index at random positions
+ * through read-only memory mappings. Only a window of the section is mapped at a time, so a section can be
+ * larger than a single mapping. The values never straddle two windows, since the windows are a multiple of
+ * the size of a long and the values of a section are aligned to their size from its start.
+ * The last mapped window is kept, so it isn't thread-safe.
+ */
+class MappedSection {
+    private static final int WINDOW_SIZE = 64 << 20;
+
+    private final FileChannel channel;
+    private final long start;
+    private final long size;
+    private final int windowSize;
+    private long windowStart;
+    private MappedByteBuffer window;
+
+    /**
+     * Constructs a {@code MappedSection} for the region of the file between the positions.
+     *
+     * @param channel the channel of the index file, opened for reading
+     * @param start   the position of the section
+     * @param end     the position after the section
+     */
+    MappedSection(FileChannel channel, long start, long end) {
+        this(channel, start, end, WINDOW_SIZE);
+    }
+
+    /**
+     * Constructs a {@code MappedSection} for the region of the file between the positions, mapping windows of the specified size.
+     *
+     * @param channel    the channel of the index file, opened for reading
+     * @param start      the position of the section
+     * @param end        the position after the section
+     * @param windowSize the largest number of bytes mapped at a time, a multiple of the size of a long
+     */
+    MappedSection(FileChannel channel, long start, long end, int windowSize) {
+        this.channel = channel;
+        this.start = start;
+        this.size = end - start;
+        this.windowSize = windowSize;
+        this.windowStart = -1;
+    }
+
+    /**
+     * Reads the int at the index of the section viewed as ints.
+     *
+     * @param index the index of the int
+     * @return the value
+     * @throws UncheckedIOException if the window can't be mapped
+     */
+    int getInt(long index) {
+        var offset = index * Integer.BYTES;
+
+        return window(offset).getInt((int) (offset - windowStart));
+    }
+
+    /**
+     * Reads the long at the index of the section viewed as longs.
+     *
+     * @param index the index of the long
+     * @return the value
+     * @throws UncheckedIOException if the window can't be mapped
+     */
+    long getLong(long index) {
+        var offset = index * Long.BYTES;
+
+        return window(offset).getLong((int) (offset - windowStart));
+    }
+
+    /**
+     * Returns the window containing the offset, mapping it if it isn't the current one.
+     *
+     * @param offset the offset in the section
+     * @return the window
+     * @throws UncheckedIOException if the window can't be mapped
+     */
+    private MappedByteBuffer window(long offset) {
+        if (offset < 0 || offset >= size) {
+            throw new IndexOutOfBoundsException("Offset %d is outside the section of %d bytes".formatted(offset, size));
+        }
+
+        var requestedStart = offset / windowSize * windowSize;
+        if (requestedStart != windowStart) {
+            try {
+                window = channel.map(FileChannel.MapMode.READ_ONLY, start + requestedStart, Math.min(windowSize, size - requestedStart));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Can't map the history index at position " + (start + requestedStart), e);
+            }
+            windowStart = requestedStart;
+        }
+
+        return window;
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.history;
+
+import org.example.persistence.JournalEventType;
+
+/**
+ * The {@code OrganismLifetime} record describes the life of an organism recorded in the event journal.
+ *
+ * @param organismId the id of the organism
+ * @param speciesId  the species id of the organism
+ * @param birthTick  the tick the organism has been born in
+ * @param birthCell  the row-major index of the cell the organism has been born in
+ * @param deathTick  the tick the organism has died in, or {@code -1} if it's alive at the end of the journal
+ * @param deathCell  the row-major index of the cell the organism has died in, or {@code -1} if it's alive
+ * @param deathCause {@code KILL} or {@code STARVATION}, or {@code null} if the organism is alive
+ */
+public record OrganismLifetime(long organismId,
+                               int speciesId,
+                               long birthTick,
+                               int birthCell,
+                               long deathTick,
+                               int deathCell,
+                               JournalEventType deathCause) {
+
+    /**
+     * Checks if the organism is alive at the end of the journal.
+     *
+     * @return {@code true} if no death has been recorded
+     */
+    public boolean isAlive() {
+        return deathCause == null;
+    }
+}
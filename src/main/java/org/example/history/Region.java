@@ -0,0 +1,12 @@
+package org.example.history;
+
+/**
+ * The {@code Region} record is a rectangle of cells of the island.
+ *
+ * @param y      the y-coordinate of the top row
+ * @param x      the x-coordinate of the left column
+ * @param height the number of rows
+ * @param width  the number of columns
+ */
+public record Region(int y, int x, int height, int width) {
+}
@@ -0,0 +1,96 @@
+package org.example.history;
+
+import java.util.stream.IntStream;
+
+/**
+ * The {@code TileGrid} record splits the island into square tiles of {@code tileSize} cells, the resolution
+ * the history index stores regional populations in. The tiles of the last row and column may be smaller.
+ *
+ * @param height   the height of the island
+ * @param width    the width of the island
+ * @param tileSize the number of cells along a side of a tile
+ */
+record TileGrid(int height, int width, int tileSize) {
+
+    /**
+     * Returns the number of tile rows.
+     *
+     * @return the number of rows
+     */
+    int getRows() {
+        return (height + tileSize - 1) / tileSize;
+    }
+
+    /**
+     * Returns the number of tile columns.
+     *
+     * @return the number of columns
+     */
+    int getColumns() {
+        return (width + tileSize - 1) / tileSize;
+    }
+
+    /**
+     * Returns the number of tiles.
+     *
+     * @return the number of tiles
+     */
+    int getTileAmount() {
+        return getRows() * getColumns();
+    }
+
+    /**
+     * Returns the tile containing the cell.
+     *
+     * @param cell the row-major index of the cell
+     * @return the row-major index of the tile
+     */
+    int getTile(int cell) {
+        return cell / width / tileSize * getColumns() + cell % width / tileSize;
+    }
+
+    /**
+     * Returns the tiles overlapping the region, which is clamped to the island first.
+     *
+     * @param region the region
+     * @return the row-major indexes of the tiles in ascending order, empty if the region is outside the island
+     */
+    int[] getTiles(Region region) {
+        var snapped = snap(region);
+        if (snapped.height() == 0 || snapped.width() == 0) {
+            return new int[0];
+        }
+
+        var firstRow = snapped.y() / tileSize;
+        var lastRow = (snapped.y() + snapped.height() - 1) / tileSize;
+        var firstColumn = snapped.x() / tileSize;
+        var lastColumn = (snapped.x() + snapped.width() - 1) / tileSize;
+
+        return IntStream.rangeClosed(firstRow, lastRow)
+                        .flatMap(row -> IntStream.rangeClosed(firstColumn, lastColumn).map(column -> row * getColumns() + column))
+                        .toArray();
+    }
+
+    /**
+     * Extends the region to the borders of the tiles it overlaps and clamps it to the island.
+     *
+     * @param region the region
+     * @return the cells covered by the overlapped tiles, with no rows and columns if the region is outside the island
+     */
+    Region snap(Region region) {
+        var top = Math.max(0, region.y());
+        var left = Math.max(0, region.x());
+        var bottom = Math.min(height, region.y() + region.height());
+        var right = Math.min(width, region.x() + region.width());
+        if (top >= bottom || left >= right) {
+            return new Region(top, left, 0, 0);
+        }
+
+        var snappedTop = top / tileSize * tileSize;
+        var snappedLeft = left / tileSize * tileSize;
+        var snappedBottom = Math.min(height, (bottom + tileSize - 1) / tileSize * tileSize);
+        var snappedRight = Math.min(width, (right + tileSize - 1) / tileSize * tileSize);
+
+        return new Region(snappedTop, snappedLeft, snappedBottom - snappedTop, snappedRight - snappedLeft);
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.metrics;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * The {@code ColumnarStatisticsWriter} class writes the exported rows into a column-oriented binary file.
+ * All numbers are big-endian. The file starts with a header: the magic number, the format version,
+ * the number of columns, the number of rows per block and the column names (a short length and UTF-8 bytes each),
+ * padded to a multiple of 8 bytes. It's followed by blocks of a fixed size: the number of rows in the block (long)
+ * and then, for every column, {@value #BLOCK_ROWS} longs of which the first rows are used.
+ * <p>
+ * Since every block has the same size, the file can be memory-mapped and the column of a block located
+ * without reading the blocks before it. The current block is filled in a direct buffer and written as a whole
+ * when it's full; flushing writes the incomplete block in place, so it's overwritten until it's full.
+ */
+class ColumnarStatisticsWriter implements StatisticsRowWriter {
+    static final int MAGIC = 0x574C5353;
+    static final int VERSION = 1;
+    static final int BLOCK_ROWS = 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer block;
+    private final int columnAmount;
+    private long blockPosition;
+    private int rowAmount;
+
+    /**
+     * Constructs a {@code ColumnarStatisticsWriter} replacing the file and writing the header into it.
+     *
+     * @param file    the path of the file
+     * @param columns the names of the columns
+     * @throws IOException if the file can't be created
+     */
+    ColumnarStatisticsWriter(Path file, List<String> columns) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        this.columnAmount = columns.size();
+        this.block = ByteBuffer.allocateDirect(Long.BYTES + columnAmount * BLOCK_ROWS * Long.BYTES);
+        this.blockPosition = writeHeader(columns);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(long[] row) throws IOException {
+        for (var column = 0; column < columnAmount; column++) {
+            block.putLong(Long.BYTES + (column * BLOCK_ROWS + rowAmount) * Long.BYTES, row[column]);
+        }
+        rowAmount++;
+
+        if (rowAmount == BLOCK_ROWS) {
+            flush();
+            blockPosition += block.capacity();
+            rowAmount = 0;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush() throws IOException {
+        if (rowAmount == 0) {
+            return;
+        }
+
+        block.putLong(0, rowAmount);
+        block.clear();
+        while (block.hasRemaining()) {
+            channel.write(block, blockPosition + block.position());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        try (channel) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the header of the file.
+     *
+     * @param columns the names of the columns
+     * @return the position of the first block
+     * @throws IOException if the file can't be written
+     */
+    private long writeHeader(List<String> columns) throws IOException {
+        var names = columns.stream().map(name -> name.getBytes(StandardCharsets.UTF_8)).toList();
+        var size = 4 * Integer.BYTES + names.stream().mapToInt(name -> Short.BYTES + name.length).sum();
+        var header = ByteBuffer.allocate((size + Long.BYTES - 1) / Long.BYTES * Long.BYTES);
+
+        header.putInt(MAGIC);
+        header.putInt(VERSION);
+        header.putInt(columnAmount);
+        header.putInt(BLOCK_ROWS);
+        for (var name : names) {
+            header.putShort((short) name.length);
+            header.put(name);
+        }
+
+        header.clear();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+
+        return header.capacity();
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.metrics;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * The {@code CsvStatisticsWriter} class writes the exported rows as comma-separated lines after a header line
+ * with the column names. The digits are encoded straight into a large direct buffer, which is written into the file
+ * when it's full or flushed, so encoding a row doesn't allocate.
+ */
+class CsvStatisticsWriter implements StatisticsRowWriter {
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int MAX_VALUE_BYTES = 21;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final byte[] digits;
+    private final int maxRowBytes;
+
+    /**
+     * Constructs a {@code CsvStatisticsWriter} replacing the file and writing the header into it.
+     *
+     * @param file    the path of the file
+     * @param columns the names of the columns
+     * @throws IOException if the file can't be created
+     */
+    CsvStatisticsWriter(Path file, List<String> columns) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        this.digits = new byte[MAX_VALUE_BYTES];
+        this.maxRowBytes = columns.size() * (MAX_VALUE_BYTES + 1);
+
+        buffer.put((String.join(",", columns) + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(long[] row) throws IOException {
+        if (buffer.remaining() < maxRowBytes) {
+            flush();
+        }
+
+        for (var i = 0; i < row.length; i++) {
+            if (i > 0) {
+                buffer.put((byte) ',');
+            }
+            putDecimal(row[i]);
+        }
+        buffer.put((byte) '\n');
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        try (channel) {
+            flush();
+        }
+    }
+
+    /**
+     * Puts the decimal digits of the value into the buffer.
+     *
+     * @param value the value
+     */
+    private void putDecimal(long value) {
+        if (value == Long.MIN_VALUE) {
+            buffer.put(Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+
+        var remaining = Math.abs(value);
+        var start = digits.length;
+        do {
+            digits[--start] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining > 0);
+
+        if (value < 0) {
+            digits[--start] = '-';
+        }
+        buffer.put(digits, start, digits.length - start);
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The {@code LatencyHistogram} class records durations in nanoseconds into a fixed number of log-linear buckets.
+ * Every power of two is split into {@value #SUB_BUCKETS} buckets, so the relative error of a percentile
+ * is about 6% for any duration from nanoseconds to days, while the memory footprint stays constant.
+ * Recording is lock-free and doesn't allocate.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts;
+    private final AtomicLong count;
+    private final AtomicLong sum;
+    private final AtomicLong max;
+
+    /**
+     * Constructs an empty {@code LatencyHistogram}.
+     */
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(BUCKETS);
+        this.count = new AtomicLong();
+        this.sum = new AtomicLong();
+        this.max = new AtomicLong();
+    }
+
+    /**
+     * Records a duration. Negative durations are recorded as zero.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    public void record(long nanos) {
+        var value = Math.max(nanos, 0);
+
+        counts.incrementAndGet(bucketIndex(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Returns the summary of the recorded durations.
+     *
+     * @return the latency snapshot
+     */
+    public LatencySnapshot getSnapshot() {
+        var bucketCounts = new long[BUCKETS];
+        var total = 0L;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            bucketCounts[i] = counts.get(i);
+            total += bucketCounts[i];
+        }
+
+        if (total == 0) {
+            return new LatencySnapshot(0, 0, 0, 0, 0, 0);
+        }
+
+        var maxValue = max.get();
+
+        return new LatencySnapshot(
+                total,
+                sum.get() / Math.max(count.get(), 1),
+                Math.min(getPercentile(bucketCounts, total, 0.5), maxValue),
+                Math.min(getPercentile(bucketCounts, total, 0.99), maxValue),
+                Math.min(getPercentile(bucketCounts, total, 0.999), maxValue),
+                maxValue
+        );
+    }
+
+    /**
+     * Returns the upper bound of the bucket containing the specified percentile.
+     *
+     * @param bucketCounts the counts of every bucket
+     * @param total        the total number of recorded durations
+     * @param percentile   the percentile from 0 to 1
+     * @return the duration of the percentile in nanoseconds
+     */
+    private static long getPercentile(long[] bucketCounts, long total, double percentile) {
+        var rank = (long) Math.ceil(total * percentile);
+        var seen = 0L;
+
+        for (int i = 0; i < bucketCounts.length; i++) {
+            seen += bucketCounts[i];
+            if (seen >= rank) {
+                return bucketUpperBound(i);
+            }
+        }
+
+        return bucketUpperBound(bucketCounts.length - 1);
+    }
+
+    /**
+     * Returns the index of the bucket for the specified non-negative value.
+     *
+     * @param value the value
+     * @return the bucket index
+     */
+    private static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        var exponent = 63 - Long.numberOfLeadingZeros(value);
+        var shift = exponent - SUB_BUCKET_BITS;
+        var subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+
+        return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the largest value that falls into the specified bucket.
+     *
+     * @param index the bucket index
+     * @return the upper bound of the bucket
+     */
+    private static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        var shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        var subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+
+        return ((long) (SUB_BUCKETS + subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.metrics;
+
+/**
+ * The {@code LatencySnapshot} record contains the summary of a {@code LatencyHistogram} at some point in time.
+ * All durations are in nanoseconds. Percentiles are upper bounds of the histogram buckets they fall into.
+ *
+ * @param count the number of recorded durations
+ * @param mean  the mean duration
+ * @param p50   the median duration
+ * @param p99   the 99th percentile duration
+ * @param p999  the 99.9th percentile duration
+ * @param max   the longest recorded duration
+ */
+public record LatencySnapshot(long count,
+                              long mean,
+                              long p50,
+                              long p99,
+                              long p999,
+                              long max) {
+}
@@ -0,0 +1,90 @@
+package org.example.metrics;
+
+import java.util.Map;
+
+/**
+ * The {@code LocationCostReport} record contains the costs of every cell of the area during one iteration.
+ * Cells are stored in row-major order.
+ *
+ * @param tick            the iteration the costs belong to
+ * @param height          the height of the area
+ * @param width           the width of the area
+ * @param cpuNanos        the CPU time spent on every cell in all tracked phases
+ * @param workUnits       the number of organisms processed in every cell in all tracked phases
+ * @param imbalanceRatios the ratio of the most expensive cell to the mean cell cost per tracked phase
+ *                        whose CPU time has been measured, i.e. which hasn't run nested
+ */
+public record LocationCostReport(long tick,
+                                 int height,
+                                 int width,
+                                 long[] cpuNanos,
+                                 long[] workUnits,
+                                 Map<Phase, Double> imbalanceRatios) {
+
+    /**
+     * Returns the CPU time spent on the cell.
+     *
+     * @param y the y-coordinate of the cell
+     * @param x the x-coordinate of the cell
+     * @return the CPU time in nanoseconds
+     */
+    public long getCpuNanos(int y, int x) {
+        return cpuNanos[y * width + x];
+    }
+
+    /**
+     * Returns the number of organisms processed in the cell.
+     *
+     * @param y the y-coordinate of the cell
+     * @param x the x-coordinate of the cell
+     * @return the number of work units
+     */
+    public long getWorkUnits(int y, int x) {
+        return workUnits[y * width + x];
+    }
+
+    /**
+     * Returns the CPU time of the most expensive cell.
+     *
+     * @return the maximum CPU time in nanoseconds
+     */
+    public long getMaxCpuNanos() {
+        var max = 0L;
+        for (var cost : cpuNanos) {
+            max = Math.max(max, cost);
+        }
+
+        return max;
+    }
+
+    /**
+     * Returns the ratio of the most expensive cell to the mean cell cost over all tracked phases.
+     * A ratio of {@code 1} means that all cells cost the same.
+     *
+     * @return the imbalance ratio
+     */
+    public double getImbalanceRatio() {
+        return getImbalanceRatio(cpuNanos);
+    }
+
+    /**
+     * Returns the ratio of the maximum to the mean of the costs, or {@code 1} if there are no costs.
+     *
+     * @param costs the costs of the cells
+     * @return the imbalance ratio
+     */
+    static double getImbalanceRatio(long[] costs) {
+        var max = 0L;
+        var sum = 0L;
+        for (var cost : costs) {
+            max = Math.max(max, cost);
+            sum += cost;
+        }
+
+        if (sum == 0) {
+            return 1;
+        }
+
+        return (double) max * costs.length / sum;
+    }
+}
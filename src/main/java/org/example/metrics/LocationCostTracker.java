@@ -0,0 +1,147 @@
+package org.example.metrics;
+
+import org.example.entity.location.Location;
+import org.example.service.ExecutionMode;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.EnumMap;
+
+/**
+ * The {@code LocationCostTracker} class attributes the cost of the parallel phases to the locations.
+ * For every phase and every cell of the area it sums up the CPU time of the thread processing the location
+ * and the number of processed organisms (work units). The costs are collected into a {@code LocationCostReport}
+ * once per iteration and reset.
+ * Every location is processed by one task per phase, so every cell slot has a single writer during a phase
+ * and the values are published to the simulation thread when the phase joins.
+ * <p>
+ * The CPU time is only measured while a phase runs {@code SEQUENTIAL} or {@code CHUNKED}. In the {@code NESTED} mode
+ * the thread joining the parallel stream of a crowded location runs other tasks while it waits, including whole
+ * partitions of other locations, and their CPU time would be charged to the joining location, while the work stolen
+ * from its stream by other workers would be missing. Such a phase only counts its work units, and it has no
+ * imbalance ratio in the report of the iteration.
+ */
+public class LocationCostTracker {
+    private static final Phase[] TRACKED_PHASES = {Phase.MOVEMENT, Phase.FEEDING, Phase.REPRODUCTION};
+    private static final long NOT_MEASURED = -1;
+
+    private final boolean isEnabled;
+    private final int height;
+    private final int width;
+    private final ThreadMXBean threadMXBean;
+    private final long[][] cpuNanos;
+    private final long[][] workUnits;
+    private final boolean[] isUnmeasured;
+
+    /**
+     * Constructs a {@code LocationCostTracker} for an area of the specified size.
+     *
+     * @param isEnabled {@code true} if the costs have to be measured
+     * @param height    the height of the area
+     * @param width     the width of the area
+     */
+    public LocationCostTracker(boolean isEnabled, int height, int width) {
+        this.threadMXBean = ManagementFactory.getThreadMXBean();
+        this.isEnabled = isEnabled && threadMXBean.isCurrentThreadCpuTimeSupported();
+        this.height = height;
+        this.width = width;
+        this.cpuNanos = new long[Phase.values().length][this.isEnabled ? height * width : 0];
+        this.workUnits = new long[Phase.values().length][this.isEnabled ? height * width : 0];
+        this.isUnmeasured = new boolean[Phase.values().length];
+    }
+
+    /**
+     * Checks if the costs are measured.
+     *
+     * @return {@code true} if the tracker is enabled
+     */
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Returns the CPU time of the current thread that marks the start of the processing of a location.
+     *
+     * @param executionMode the execution mode of the phase in the current tick
+     * @return the CPU time in nanoseconds, {@code 0} if the tracker is disabled,
+     * or a marker telling that the CPU time isn't measured if the phase runs nested
+     */
+    public long start(ExecutionMode executionMode) {
+        if (!isEnabled) {
+            return 0;
+        }
+
+        return executionMode == ExecutionMode.NESTED ? NOT_MEASURED : threadMXBean.getCurrentThreadCpuTime();
+    }
+
+    /**
+     * Attributes the CPU time spent by the current thread since {@code startCpuNanos} and the number of
+     * processed organisms to the location.
+     *
+     * @param phase         the phase the location has been processed in
+     * @param location      the processed location
+     * @param startCpuNanos the value returned by {@link #start(ExecutionMode)} before the processing
+     * @param processed     the number of processed organisms
+     */
+    public void record(Phase phase, Location location, long startCpuNanos, int processed) {
+        if (!isEnabled) {
+            return;
+        }
+
+        var cell = getCell(location);
+        if (startCpuNanos == NOT_MEASURED) {
+            workUnits[phase.ordinal()][cell] += processed;
+            isUnmeasured[phase.ordinal()] = true;
+            return;
+        }
+
+        cpuNanos[phase.ordinal()][cell] += threadMXBean.getCurrentThreadCpuTime() - startCpuNanos;
+        workUnits[phase.ordinal()][cell] += processed;
+    }
+
+    /**
+     * Sums up the costs of all tracked phases into a report and resets them.
+     * The phases whose CPU time hasn't been measured have no imbalance ratio.
+     * It must be called by the simulation thread between iterations.
+     *
+     * @param tick the completed iteration
+     * @return the costs of the iteration
+     */
+    public LocationCostReport collect(long tick) {
+        var cells = height * width;
+        var totalCpuNanos = new long[cells];
+        var totalWorkUnits = new long[cells];
+        var imbalanceRatios = new EnumMap<Phase, Double>(Phase.class);
+
+        for (var phase : TRACKED_PHASES) {
+            var phaseCpuNanos = cpuNanos[phase.ordinal()];
+            var phaseWorkUnits = workUnits[phase.ordinal()];
+
+            if (isUnmeasured[phase.ordinal()]) {
+                isUnmeasured[phase.ordinal()] = false;
+            } else {
+                imbalanceRatios.put(phase, LocationCostReport.getImbalanceRatio(phaseCpuNanos));
+            }
+            for (var cell = 0; cell < cells; cell++) {
+                totalCpuNanos[cell] += phaseCpuNanos[cell];
+                totalWorkUnits[cell] += phaseWorkUnits[cell];
+                phaseCpuNanos[cell] = 0;
+                phaseWorkUnits[cell] = 0;
+            }
+        }
+
+        return new LocationCostReport(tick, height, width, totalCpuNanos, totalWorkUnits, imbalanceRatios);
+    }
+
+    /**
+     * Returns the index of the cell of the location in row-major order.
+     *
+     * @param location the location
+     * @return the cell index
+     */
+    private int getCell(Location location) {
+        var coordinate = location.getCoordinate();
+
+        return coordinate.y() * width + coordinate.x();
+    }
+}
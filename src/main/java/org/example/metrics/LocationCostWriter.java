@@ -0,0 +1,75 @@
+package org.example.metrics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The {@code LocationCostWriter} class dumps the location cost reports into a CSV file,
+ * one row per cell and iteration: {@code tick,y,x,cpu_nanos,work_units}.
+ * Nothing is written if no file is configured.
+ */
+public class LocationCostWriter implements AutoCloseable {
+    private static final String HEADER = "tick,y,x,cpu_nanos,work_units";
+
+    private final Path file;
+    private BufferedWriter writer;
+
+    /**
+     * Constructs a {@code LocationCostWriter} for the specified file.
+     *
+     * @param fileName the name of the CSV file, or an empty string to write nothing
+     */
+    public LocationCostWriter(String fileName) {
+        this.file = fileName == null || fileName.isBlank() ? null : Path.of(fileName);
+    }
+
+    /**
+     * Appends the costs of all cells of the report to the file. The file is created with the first report.
+     *
+     * @param report the costs of an iteration
+     */
+    public void write(LocationCostReport report) {
+        if (file == null) {
+            return;
+        }
+
+        try {
+            if (writer == null) {
+                writer = Files.newBufferedWriter(file);
+                writer.write(HEADER);
+                writer.newLine();
+            }
+
+            for (var y = 0; y < report.height(); y++) {
+                for (var x = 0; x < report.width(); x++) {
+                    writer.write("%d,%d,%d,%d,%d".formatted(report.tick(), y, x, report.getCpuNanos(y, x), report.getWorkUnits(y, x)));
+                    writer.newLine();
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't write location costs to " + file, e);
+        }
+    }
+
+    /**
+     * Closes the file if it has been opened.
+     */
+    @Override
+    public void close() {
+        if (writer == null) {
+            return;
+        }
+
+        try {
+            writer.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't close " + file, e);
+        } finally {
+            writer = null;
+        }
+    }
+}
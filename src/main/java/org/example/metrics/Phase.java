@@ -0,0 +1,35 @@
+package org.example.metrics;
+
+/**
+ * The {@code Phase} enum lists the phases of a simulation iteration whose latency is measured.
+ */
+public enum Phase {
+    MOVEMENT("Movement"),
+    FEEDING("Feeding"),
+    REPRODUCTION("Reproduction"),
+    HUNGER("Hunger"),
+    CLEANUP("Cleanup"),
+    TERMINATION("Termination"),
+    RENDERING("Rendering"),
+    CHECKPOINT("Checkpoint");
+
+    private final String displayName;
+
+    /**
+     * Constructs a {@code Phase} with the specified display name.
+     *
+     * @param displayName the human-readable name of the phase
+     */
+    Phase(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Returns the human-readable name of the phase.
+     *
+     * @return the display name
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,160 @@
+package org.example.metrics;
+
+import org.example.metrics.jfr.PhaseEvent;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * The {@code PhaseMetrics} class measures the duration of the simulation phases with {@code System.nanoTime()}
+ * and records them into one fixed-memory {@code LatencyHistogram} per phase.
+ * The histograms can be queried at any time while the simulation is running.
+ * Every measured phase is also reported as a {@code PhaseEvent} to Java Flight Recorder.
+ * The durations are also summed into a running total per phase, so the time spent in every phase during a tick
+ * is the difference of the totals at its end and at its start.
+ */
+public class PhaseMetrics {
+    private final Map<Phase, LatencyHistogram> histograms;
+    private final AtomicLongArray totalNanos;
+
+    /**
+     * Constructs {@code PhaseMetrics} with an empty histogram for every phase.
+     */
+    public PhaseMetrics() {
+        this.histograms = new EnumMap<>(Phase.class);
+        this.totalNanos = new AtomicLongArray(Phase.values().length);
+
+        for (var phase : Phase.values()) {
+            histograms.put(phase, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * Runs the action and records its duration for the specified phase.
+     *
+     * @param phase  the phase the action belongs to
+     * @param action the action to be executed and timed
+     */
+    public void time(Phase phase, Runnable action) {
+        var event = new PhaseEvent();
+        event.begin();
+        var startTime = System.nanoTime();
+
+        try {
+            action.run();
+        } finally {
+            record(phase, System.nanoTime() - startTime);
+            commit(event, phase);
+        }
+    }
+
+    /**
+     * Runs the action and records its duration for the specified phase.
+     *
+     * @param phase  the phase the action belongs to
+     * @param action the action to be executed and timed
+     * @param <T>    the type of the result
+     * @return the result of the action
+     */
+    public <T> T time(Phase phase, Supplier<T> action) {
+        var event = new PhaseEvent();
+        event.begin();
+        var startTime = System.nanoTime();
+
+        try {
+            return action.get();
+        } finally {
+            record(phase, System.nanoTime() - startTime);
+            commit(event, phase);
+        }
+    }
+
+    /**
+     * Records a measured duration for the specified phase.
+     *
+     * @param phase the phase
+     * @param nanos the duration in nanoseconds
+     */
+    public void record(Phase phase, long nanos) {
+        histograms.get(phase).record(nanos);
+        totalNanos.addAndGet(phase.ordinal(), nanos);
+    }
+
+    /**
+     * Copies the time spent in every phase since the start into the array.
+     *
+     * @param target the array to fill, indexed by the ordinal of the phase
+     */
+    public void copyTotalNanos(long[] target) {
+        for (var i = 0; i < target.length && i < totalNanos.length(); i++) {
+            target[i] = totalNanos.get(i);
+        }
+    }
+
+    /**
+     * Returns the latency summary of the specified phase.
+     *
+     * @param phase the phase
+     * @return the latency snapshot of the phase
+     */
+    public LatencySnapshot getSnapshot(Phase phase) {
+        return histograms.get(phase).getSnapshot();
+    }
+
+    /**
+     * Returns a table with the latency summary of every phase that has been measured at least once.
+     *
+     * @return the formatted summary
+     */
+    public String getSummary() {
+        var summary = new StringBuilder();
+        summary.append("%-13s %8s %11s %11s %11s %11s %11s%n".formatted("Phase", "count", "mean, ms", "p50, ms", "p99, ms", "p999, ms", "max, ms"));
+
+        for (var phase : Phase.values()) {
+            var snapshot = getSnapshot(phase);
+            if (snapshot.count() == 0) {
+                continue;
+            }
+
+            summary.append("%-13s %8d %11.3f %11.3f %11.3f %11.3f %11.3f%n".formatted(
+                    phase.getDisplayName(),
+                    snapshot.count(),
+                    toMillis(snapshot.mean()),
+                    toMillis(snapshot.p50()),
+                    toMillis(snapshot.p99()),
+                    toMillis(snapshot.p999()),
+                    toMillis(snapshot.max())
+            ));
+        }
+
+        return summary.toString();
+    }
+
+    /**
+     * Ends the flight recorder event of the phase and commits it if it's enabled and long enough.
+     *
+     * @param event the event started before the phase
+     * @param phase the measured phase
+     */
+    private static void commit(PhaseEvent event, Phase phase) {
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.phase = phase.getDisplayName();
+            event.commit();
+        }
+    }
+
+    /**
+     * Converts nanoseconds to fractional milliseconds.
+     *
+     * @param nanos the duration in nanoseconds
+     * @return the duration in milliseconds
+     */
+    private static double toMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,253 @@
+package org.example.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.example.config.MetricsConfig;
+import org.example.service.StatisticsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The {@code PrometheusEndpoint} class is an optional embedded HTTP server that exposes the simulation metrics
+ * in the Prometheus text format on {@code /metrics}.
+ * The response is built on the server thread from the counters, histograms and the statistics snapshot,
+ * so a scrape never blocks the simulation.
+ */
+public class PrometheusEndpoint {
+    private static final Logger logger = LoggerFactory.getLogger(PrometheusEndpoint.class);
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private final MetricsConfig metricsConfig;
+    private final SimulationMetrics simulationMetrics;
+    private final PhaseMetrics phaseMetrics;
+    private final StatisticsService statisticsService;
+    private HttpServer server;
+
+    /**
+     * Constructs a {@code PrometheusEndpoint} with the specified dependencies.
+     *
+     * @param metricsConfig     the configuration of the endpoint
+     * @param simulationMetrics the counters of births, moves and the tick rate
+     * @param phaseMetrics      the latency histograms of the simulation phases
+     * @param statisticsService the service providing populations and deaths
+     */
+    public PrometheusEndpoint(MetricsConfig metricsConfig,
+                              SimulationMetrics simulationMetrics,
+                              PhaseMetrics phaseMetrics,
+                              StatisticsService statisticsService) {
+        this.metricsConfig = metricsConfig;
+        this.simulationMetrics = simulationMetrics;
+        this.phaseMetrics = phaseMetrics;
+        this.statisticsService = statisticsService;
+    }
+
+    /**
+     * Starts the HTTP server if the endpoint is enabled in the configuration.
+     */
+    public void start() {
+        if (!metricsConfig.enabled()) {
+            logger.debug("The metrics endpoint is disabled");
+            return;
+        }
+
+        try {
+            server = HttpServer.create(new InetSocketAddress(metricsConfig.host(), metricsConfig.port()), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't start the metrics endpoint on port " + metricsConfig.port(), e);
+        }
+
+        server.createContext("/metrics", this::handle);
+        server.setExecutor(Executors.newSingleThreadExecutor(runnable -> {
+            var thread = new Thread(runnable, "metrics-endpoint");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.start();
+
+        logger.info("The metrics endpoint is listening on http://{}:{}/metrics", metricsConfig.host(), metricsConfig.port());
+    }
+
+    /**
+     * Stops the HTTP server if it's running.
+     */
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+
+    /**
+     * Handles a scrape request.
+     *
+     * @param exchange the HTTP exchange
+     * @throws IOException if the response can't be written
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            var body = scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        }
+    }
+
+    /**
+     * Builds the response in the Prometheus text format.
+     *
+     * @return the exposition of all metrics
+     */
+    private String scrape() {
+        var output = new StringBuilder(4096);
+
+        writeTicks(output);
+        writeEvents(output);
+        writePopulations(output);
+        writePhases(output);
+        writeExecutor(output);
+
+        return output.toString();
+    }
+
+    /**
+     * Writes the number of completed ticks and the tick rate.
+     *
+     * @param output the response being built
+     */
+    private void writeTicks(StringBuilder output) {
+        writeHeader(output, "simulation_ticks_total", "counter", "Completed simulation iterations.");
+        output.append("simulation_ticks_total ").append(statisticsService.getSnapshot().iteration()).append('\n');
+
+        writeHeader(output, "simulation_ticks_per_second", "gauge", "Smoothed number of iterations per second.");
+        output.append("simulation_ticks_per_second ").append(simulationMetrics.getTicksPerSecond()).append('\n');
+    }
+
+    /**
+     * Writes the created organisms, births, deaths and moves as totals and per last tick.
+     *
+     * @param output the response being built
+     */
+    private void writeEvents(StringBuilder output) {
+        var snapshot = statisticsService.getSnapshot();
+
+        writeHeader(output, "simulation_created_total", "counter", "Organisms created since the start, including the initial, regrown and restored ones.");
+        output.append("simulation_created_total ").append(simulationMetrics.getTotalCreated()).append('\n');
+        writeHeader(output, "simulation_births_total", "counter", "Offspring born by reproduction since the start.");
+        output.append("simulation_births_total ").append(simulationMetrics.getTotalBirths()).append('\n');
+        writeHeader(output, "simulation_deaths_total", "counter", "Organisms died since the start.");
+        output.append("simulation_deaths_total ").append(snapshot.totalDied()).append('\n');
+        writeHeader(output, "simulation_moves_total", "counter", "Animal moves between locations since the start.");
+        output.append("simulation_moves_total ").append(simulationMetrics.getTotalMoves()).append('\n');
+
+        writeHeader(output, "simulation_last_tick_created", "gauge", "Organisms created during the last iteration.");
+        output.append("simulation_last_tick_created ").append(simulationMetrics.getLastTickCreated()).append('\n');
+        writeHeader(output, "simulation_last_tick_births", "gauge", "Offspring born by reproduction during the last iteration.");
+        output.append("simulation_last_tick_births ").append(simulationMetrics.getLastTickBirths()).append('\n');
+        writeHeader(output, "simulation_last_tick_deaths", "gauge", "Organisms died during the last iteration.");
+        output.append("simulation_last_tick_deaths ").append(snapshot.diedToday()).append('\n');
+        writeHeader(output, "simulation_last_tick_kills", "gauge", "Organisms eaten during the last iteration.");
+        output.append("simulation_last_tick_kills ").append(snapshot.killedToday()).append('\n');
+        writeHeader(output, "simulation_last_tick_moves", "gauge", "Animal moves during the last iteration.");
+        output.append("simulation_last_tick_moves ").append(simulationMetrics.getLastTickMoves()).append('\n');
+    }
+
+    /**
+     * Writes the number of alive organisms of every species.
+     *
+     * @param output the response being built
+     */
+    private void writePopulations(StringBuilder output) {
+        writeHeader(output, "simulation_population", "gauge", "Alive organisms per species.");
+
+        statisticsService.getAliveOrganismMap().forEach((organismClass, alive) -> output
+                .append("simulation_population{species=\"")
+                .append(organismClass.getSimpleName().toLowerCase())
+                .append("\"} ")
+                .append(alive)
+                .append('\n'));
+    }
+
+    /**
+     * Writes the latency summary of every phase.
+     *
+     * @param output the response being built
+     */
+    private void writePhases(StringBuilder output) {
+        writeHeader(output, "simulation_phase_duration_seconds", "summary", "Duration of the simulation phases.");
+
+        for (var phase : Phase.values()) {
+            var snapshot = phaseMetrics.getSnapshot(phase);
+            var label = phase.name().toLowerCase();
+
+            writeQuantile(output, label, "0.5", snapshot.p50());
+            writeQuantile(output, label, "0.99", snapshot.p99());
+            writeQuantile(output, label, "0.999", snapshot.p999());
+            output.append("simulation_phase_duration_seconds_sum{phase=\"").append(label).append("\"} ")
+                  .append(snapshot.mean() * snapshot.count() / NANOS_PER_SECOND).append('\n');
+            output.append("simulation_phase_duration_seconds_count{phase=\"").append(label).append("\"} ")
+                  .append(snapshot.count()).append('\n');
+        }
+    }
+
+    /**
+     * Writes the state of the common fork-join pool that runs the parallel phases.
+     *
+     * @param output the response being built
+     */
+    private void writeExecutor(StringBuilder output) {
+        var pool = ForkJoinPool.commonPool();
+        var parallelism = pool.getParallelism();
+        var activeThreads = pool.getActiveThreadCount();
+
+        writeHeader(output, "simulation_executor_parallelism", "gauge", "Target parallelism of the worker pool.");
+        output.append("simulation_executor_parallelism ").append(parallelism).append('\n');
+        writeHeader(output, "simulation_executor_active_threads", "gauge", "Workers that are running or stealing tasks.");
+        output.append("simulation_executor_active_threads ").append(activeThreads).append('\n');
+        writeHeader(output, "simulation_executor_utilisation", "gauge", "Active workers divided by the parallelism.");
+        output.append("simulation_executor_utilisation ").append((double) activeThreads / parallelism).append('\n');
+        writeHeader(output, "simulation_executor_queued_tasks", "gauge", "Tasks waiting in the worker queues.");
+        output.append("simulation_executor_queued_tasks ").append(pool.getQueuedTaskCount()).append('\n');
+        writeHeader(output, "simulation_executor_steals_total", "counter", "Tasks stolen between workers.");
+        output.append("simulation_executor_steals_total ").append(pool.getStealCount()).append('\n');
+    }
+
+    /**
+     * Writes one quantile of a phase summary.
+     *
+     * @param output   the response being built
+     * @param phase    the phase label
+     * @param quantile the quantile label
+     * @param nanos    the value of the quantile in nanoseconds
+     */
+    private static void writeQuantile(StringBuilder output, String phase, String quantile, long nanos) {
+        output.append("simulation_phase_duration_seconds{phase=\"").append(phase)
+              .append("\",quantile=\"").append(quantile).append("\"} ")
+              .append(nanos / NANOS_PER_SECOND).append('\n');
+    }
+
+    /**
+     * Writes the help and type lines of a metric.
+     *
+     * @param output the response being built
+     * @param name   the name of the metric
+     * @param type   the Prometheus type of the metric
+     * @param help   the description of the metric
+     */
+    private static void writeHeader(StringBuilder output, String name, String type, String help) {
+        output.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        output.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+}
@@ -0,0 +1,157 @@
+package org.example.metrics;
+
+import org.example.entity.location.Location;
+import org.example.entity.organism.Organism;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code SimulationMetrics} class counts the events of the simulation that aren't kept by the statistics,
+ * i.e. created organisms, births and moves, and measures the tick rate. The created organisms include
+ * the initial population, the regrown plants and the organisms restored from a checkpoint,
+ * while the births are only the offspring of reproduction.
+ * Counting is lock-free and doesn't allocate: workers increment {@code LongAdder} counters, and
+ * the per-tick values are derived from the totals once the tick is completed.
+ */
+public class SimulationMetrics {
+    private static final double TICK_RATE_SMOOTHING = 0.2;
+
+    private final LongAdder created;
+    private final LongAdder births;
+    private final LongAdder moves;
+    private volatile long lastTickCreated;
+    private volatile long lastTickBirths;
+    private volatile long lastTickMoves;
+    private volatile double ticksPerSecond;
+    private long createdAtTickStart;
+    private long birthsAtTickStart;
+    private long movesAtTickStart;
+    private long lastTickEndNanos;
+
+    /**
+     * Constructs {@code SimulationMetrics} with all counters set to zero.
+     */
+    public SimulationMetrics() {
+        this.created = new LongAdder();
+        this.births = new LongAdder();
+        this.moves = new LongAdder();
+        this.lastTickEndNanos = System.nanoTime();
+    }
+
+    /**
+     * Counts the organisms that have been created in a location.
+     * It's meant to be registered as an {@code OrganismCreationListener}.
+     *
+     * @param location  the location where the organisms have been created
+     * @param organisms the created organisms
+     */
+    public void onOrganismsCreated(Location location, List<Organism> organisms) {
+        created.add(organisms.size());
+    }
+
+    /**
+     * Counts the offspring born by reproduction.
+     *
+     * @param amount the number of offspring
+     */
+    public void registerBirths(int amount) {
+        births.add(amount);
+    }
+
+    /**
+     * Counts an animal that has moved to another location.
+     */
+    public void registerMove() {
+        moves.increment();
+    }
+
+    /**
+     * Derives the per-tick counters and the tick rate. It must be called by the simulation thread
+     * once per iteration, after the iteration is completed.
+     */
+    public void onTickCompleted() {
+        var totalCreated = created.sum();
+        var totalBirths = births.sum();
+        var totalMoves = moves.sum();
+        lastTickCreated = totalCreated - createdAtTickStart;
+        lastTickBirths = totalBirths - birthsAtTickStart;
+        lastTickMoves = totalMoves - movesAtTickStart;
+        createdAtTickStart = totalCreated;
+        birthsAtTickStart = totalBirths;
+        movesAtTickStart = totalMoves;
+
+        var now = System.nanoTime();
+        var tickNanos = Math.max(1, now - lastTickEndNanos);
+        var currentTicksPerSecond = (double) TimeUnit.SECONDS.toNanos(1) / tickNanos;
+        lastTickEndNanos = now;
+
+        ticksPerSecond = ticksPerSecond == 0
+                ? currentTicksPerSecond
+                : ticksPerSecond + TICK_RATE_SMOOTHING * (currentTicksPerSecond - ticksPerSecond);
+    }
+
+    /**
+     * Returns the number of organisms created since the start of the simulation.
+     *
+     * @return the total number of created organisms
+     */
+    public long getTotalCreated() {
+        return created.sum();
+    }
+
+    /**
+     * Returns the number of offspring born since the start of the simulation.
+     *
+     * @return the total number of births
+     */
+    public long getTotalBirths() {
+        return births.sum();
+    }
+
+    /**
+     * Returns the number of moves since the start of the simulation.
+     *
+     * @return the total number of moves
+     */
+    public long getTotalMoves() {
+        return moves.sum();
+    }
+
+    /**
+     * Returns the number of organisms created during the last completed tick.
+     *
+     * @return the number of created organisms of the last tick
+     */
+    public long getLastTickCreated() {
+        return lastTickCreated;
+    }
+
+    /**
+     * Returns the number of offspring born during the last completed tick.
+     *
+     * @return the number of births of the last tick
+     */
+    public long getLastTickBirths() {
+        return lastTickBirths;
+    }
+
+    /**
+     * Returns the number of moves during the last completed tick.
+     *
+     * @return the number of moves of the last tick
+     */
+    public long getLastTickMoves() {
+        return lastTickMoves;
+    }
+
+    /**
+     * Returns the exponentially smoothed number of ticks per second, including the delay between ticks.
+     *
+     * @return the tick rate
+     */
+    public double getTicksPerSecond() {
+        return ticksPerSecond;
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.metrics;
+
+/**
+ * The {@code StatisticsExportFormat} enum lists the file formats the per-tick statistics can be exported in.
+ */
+public enum StatisticsExportFormat {
+    /**
+     * A text file with a header line and one comma-separated line per tick.
+     */
+    CSV,
+
+    /**
+     * A binary file storing the rows in column-oriented blocks, which can be memory-mapped for analysis.
+     */
+    COLUMNAR
+}
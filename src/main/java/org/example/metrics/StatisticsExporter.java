@@ -0,0 +1,268 @@
+package org.example.metrics;
+
+import org.example.config.MetricsConfig;
+import org.example.entity.organism.OrganismRegistry;
+import org.example.service.StatisticsService;
+import org.example.statistics.HistorySeries;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code StatisticsExporter} class streams one row of statistics per tick into a file: the tick,
+ * the alive organisms, births and deaths of every species, the eaten and dead organisms, and the time spent
+ * in every phase since the previous row, copied from the latest tick of the statistics history.
+ * The plants regrown after a tick are born in the next one, like in the journal.
+ * <p>
+ * The rows are preallocated arrays of longs circulating between two bounded queues: the simulation thread
+ * takes a free row, fills it and hands it over to the export thread, which encodes it and returns it.
+ * The simulation never waits: if the export thread falls behind and no row is free, the tick is dropped.
+ * The export thread writes through large buffers and also flushes them when no row has arrived for a while.
+ * Nothing is exported if no file is configured.
+ */
+public class StatisticsExporter implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(StatisticsExporter.class);
+    private static final long[] END_OF_ROWS = new long[0];
+    private static final long FLUSH_INTERVAL_MILLIS = 1000;
+    private static final HistorySeries[] SPECIES_SERIES = {HistorySeries.ALIVE, HistorySeries.BIRTHS, HistorySeries.DEATHS};
+    private static final Phase[] PHASES = Phase.values();
+
+    private final Path file;
+    private final StatisticsExportFormat format;
+    private final StatisticsService statisticsService;
+    private final List<String> columns;
+    private final BlockingQueue<long[]> freeRows;
+    private final BlockingQueue<long[]> filledRows;
+    private final long[] droppedRow;
+    private final int speciesAmount;
+    private long droppedRows;
+    private StatisticsRowWriter rowWriter;
+    private boolean isFailed;
+    private Thread exportThread;
+
+    /**
+     * Constructs a {@code StatisticsExporter} with the specified dependencies.
+     *
+     * @param metricsConfig     the configuration of the export file, its format and the number of queued rows
+     * @param statisticsService the service providing the history of the statistics
+     * @param organismRegistry  the registry providing the species
+     */
+    public StatisticsExporter(MetricsConfig metricsConfig,
+                              StatisticsService statisticsService,
+                              OrganismRegistry organismRegistry) {
+        var fileName = metricsConfig.statisticsExportFile();
+        this.file = fileName == null || fileName.isBlank() ? null : Path.of(fileName);
+        this.format = metricsConfig.statisticsExportFormat();
+        this.statisticsService = statisticsService;
+        this.columns = createColumns(organismRegistry);
+
+        this.speciesAmount = organismRegistry.getSpecies().size();
+        var capacity = metricsConfig.statisticsExportQueueCapacity();
+        this.freeRows = new ArrayBlockingQueue<>(capacity);
+        this.filledRows = new ArrayBlockingQueue<>(capacity + 1);
+        for (var i = 0; file != null && i < capacity; i++) {
+            freeRows.add(new long[columns.size()]);
+        }
+        this.droppedRow = new long[columns.size()];
+    }
+
+    /**
+     * Creates the export file and starts the export thread if the export is enabled.
+     *
+     * @throws UncheckedIOException if the file can't be created
+     */
+    public void start() {
+        if (file == null) {
+            return;
+        }
+
+        try {
+            rowWriter = format == StatisticsExportFormat.COLUMNAR
+                    ? new ColumnarStatisticsWriter(file, columns)
+                    : new CsvStatisticsWriter(file, columns);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't create the statistics export file " + file, e);
+        }
+
+        exportThread = new Thread(this::exportRows, "statistics-exporter");
+        exportThread.setDaemon(true);
+        exportThread.start();
+    }
+
+    /**
+     * Fills the row of the completed tick and hands it over to the export thread without waiting.
+     * It must be called by the simulation thread once per iteration, after the statistics have been published
+     * and before the plants are regrown.
+     */
+    public void onTickCompleted() {
+        if (exportThread == null) {
+            return;
+        }
+
+        var row = freeRows.poll();
+        fill(row == null ? droppedRow : row);
+
+        if (row == null) {
+            droppedRows++;
+        } else {
+            filledRows.add(row);
+        }
+    }
+
+    /**
+     * Writes the queued rows, closes the file and stops the export thread.
+     */
+    @Override
+    public void close() {
+        if (exportThread == null) {
+            return;
+        }
+
+        filledRows.add(END_OF_ROWS);
+        try {
+            exportThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        exportThread = null;
+
+        logger.info("Statistics export to {} has been stopped, {} rows were dropped", file, droppedRows);
+    }
+
+    /**
+     * Fills the row with the statistics of the completed tick, the latest tick of the statistics history.
+     *
+     * @param row the row to fill
+     */
+    private void fill(long[] row) {
+        var history = statisticsService.getHistory();
+        var column = 0;
+
+        row[column++] = history.getTick(0);
+        for (var series : SPECIES_SERIES) {
+            for (var speciesId = 0; speciesId < speciesAmount; speciesId++) {
+                row[column++] = history.getValue(series, speciesId, 0);
+            }
+        }
+
+        var snapshot = statisticsService.getSnapshot();
+        row[column++] = snapshot.killedToday();
+        row[column++] = snapshot.diedToday();
+
+        for (var phase : PHASES) {
+            row[column++] = history.getValue(HistorySeries.PHASE_NANOS, phase.ordinal(), 0);
+        }
+    }
+
+    /**
+     * Writes the handed over rows until the end of the rows, flushing the buffered rows when none arrives
+     * within the flush interval, and closes the file.
+     */
+    private void exportRows() {
+        try {
+            while (true) {
+                var row = filledRows.poll(FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+
+                if (row == null) {
+                    flush();
+                } else if (row == END_OF_ROWS) {
+                    return;
+                } else {
+                    write(row);
+                    freeRows.add(row);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeRowWriter();
+        }
+    }
+
+    /**
+     * Encodes the row unless the export has failed.
+     *
+     * @param row the row to write
+     */
+    private void write(long[] row) {
+        if (isFailed) {
+            return;
+        }
+
+        try {
+            rowWriter.write(row);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Writes the buffered rows into the file unless the export has failed.
+     */
+    private void flush() {
+        if (isFailed) {
+            return;
+        }
+
+        try {
+            rowWriter.flush();
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Writes the buffered rows and closes the file.
+     */
+    private void closeRowWriter() {
+        try {
+            rowWriter.close();
+        } catch (IOException e) {
+            if (!isFailed) {
+                fail(e);
+            }
+        }
+    }
+
+    /**
+     * Stops writing after an error. The rows are still taken, so the simulation isn't affected.
+     *
+     * @param e the error
+     */
+    private void fail(IOException e) {
+        isFailed = true;
+        logger.error("Can't export the statistics to {}, the following rows are discarded", file, e);
+    }
+
+    /**
+     * Creates the names of the columns: the tick, the alive organisms, births and deaths of every species,
+     * the eaten and dead organisms, and the nanoseconds spent in every phase.
+     *
+     * @param organismRegistry the registry providing the species
+     * @return the names of the columns
+     */
+    private static List<String> createColumns(OrganismRegistry organismRegistry) {
+        var columns = new ArrayList<String>();
+        var species = organismRegistry.getSpecies();
+
+        columns.add("tick");
+        for (var prefix : List.of("alive_", "births_", "deaths_")) {
+            species.forEach(organismClass -> columns.add(prefix + organismClass.getSimpleName()));
+        }
+        columns.add("killed");
+        columns.add("died");
+        for (var phase : Phase.values()) {
+            columns.add(phase.getDisplayName().toLowerCase() + "_nanos");
+        }
+
+        return List.copyOf(columns);
+    }
+}
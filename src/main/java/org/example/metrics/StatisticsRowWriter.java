@@ -0,0 +1,33 @@
+package org.example.metrics;
+
+import java.io.IOException;
+
+/**
+ * The {@code StatisticsRowWriter} interface encodes the exported rows of statistics into a file.
+ * A row is an array of longs, one per column. The writers buffer the rows and are only used by the export thread.
+ */
+interface StatisticsRowWriter extends AutoCloseable {
+
+    /**
+     * Appends the row to the file. The row can be reused as soon as the method returns.
+     *
+     * @param row the values of the columns
+     * @throws IOException if the file can't be written
+     */
+    void write(long[] row) throws IOException;
+
+    /**
+     * Writes the buffered rows into the file.
+     *
+     * @throws IOException if the file can't be written
+     */
+    void flush() throws IOException;
+
+    /**
+     * Writes the buffered rows and closes the file.
+     *
+     * @throws IOException if the file can't be written or closed
+     */
+    @Override
+    void close() throws IOException;
+}
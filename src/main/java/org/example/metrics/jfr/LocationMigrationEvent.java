@@ -0,0 +1,38 @@
+package org.example.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The {@code LocationMigrationEvent} class is a Java Flight Recorder event with the number of animals
+ * that arrived to and departed from a location during one simulation iteration.
+ */
+@Name("org.example.LocationMigration")
+@Label("Location Migration")
+@Category({"Wild Life Simulator"})
+@Description("Animals that moved in and out of a location during an iteration")
+@StackTrace(false)
+public class LocationMigrationEvent extends Event {
+
+    @Label("Tick")
+    public long tick;
+
+    @Label("Location Id")
+    public long locationId;
+
+    @Label("Y")
+    public int y;
+
+    @Label("X")
+    public int x;
+
+    @Label("Arrivals")
+    public int arrivals;
+
+    @Label("Departures")
+    public int departures;
+}
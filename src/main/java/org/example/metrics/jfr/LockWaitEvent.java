@@ -0,0 +1,28 @@
+package org.example.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * The {@code LockWaitEvent} class is a Java Flight Recorder event spanning the acquisition of a location lock.
+ */
+@Name("org.example.LocationLockWait")
+@Label("Location Lock Wait")
+@Category({"Wild Life Simulator"})
+@Description("Time spent waiting for the lock of a location while moving an animal")
+@Threshold("20 us")
+public class LockWaitEvent extends Event {
+
+    @Label("Location Id")
+    public long locationId;
+
+    @Label("Y")
+    public int y;
+
+    @Label("X")
+    public int x;
+}
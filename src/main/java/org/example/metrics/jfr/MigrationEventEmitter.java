@@ -0,0 +1,82 @@
+package org.example.metrics.jfr;
+
+import jdk.jfr.EventType;
+import org.example.entity.area.Area;
+
+/**
+ * The {@code MigrationEventEmitter} class commits a {@code LocationMigrationEvent} for every location
+ * that animals moved in or out during an iteration. Migrations are only counted while a recording
+ * with the event enabled is running, so the cost is close to zero otherwise. The counts of an iteration
+ * are reset even if the recording stops before they are emitted, so they're never reported under a later iteration.
+ */
+public class MigrationEventEmitter {
+    private final EventType eventType;
+    private boolean isCounting;
+
+    /**
+     * Constructs a {@code MigrationEventEmitter} and registers the migration event type.
+     */
+    public MigrationEventEmitter() {
+        this.eventType = EventType.getEventType(LocationMigrationEvent.class);
+    }
+
+    /**
+     * Checks if migration events are recorded right now.
+     *
+     * @return {@code true} if a running recording has the migration event enabled
+     */
+    public boolean isEnabled() {
+        return eventType.isEnabled();
+    }
+
+    /**
+     * Decides if the migrations of the iteration are counted, which is the case while the event is enabled.
+     * It must be called by the simulation thread before the animals move.
+     *
+     * @return {@code true} if the locations must count the arrivals and departures of the iteration
+     */
+    public boolean startCounting() {
+        isCounting = isEnabled();
+        return isCounting;
+    }
+
+    /**
+     * Commits the migration counts of every location of the area, if the event is still enabled, and resets them.
+     * It must be called by the simulation thread between iterations, when no animals are moving.
+     *
+     * @param area the area whose locations are reported
+     * @param tick the completed iteration
+     */
+    public void emit(Area area, long tick) {
+        if (!isCounting) {
+            return;
+        }
+
+        isCounting = false;
+        var isEnabled = isEnabled();
+
+        for (var location : area.getLocations()) {
+            var arrivals = location.getArrivals();
+            var departures = location.getDepartures();
+            if (arrivals == 0 && departures == 0) {
+                continue;
+            }
+
+            location.resetMigrations();
+            if (!isEnabled) {
+                continue;
+            }
+
+            var event = new LocationMigrationEvent();
+            if (event.shouldCommit()) {
+                event.tick = tick;
+                event.locationId = location.getId();
+                event.y = location.getCoordinate().y();
+                event.x = location.getCoordinate().x();
+                event.arrivals = arrivals;
+                event.departures = departures;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The {@code PhaseEvent} class is a Java Flight Recorder event spanning one phase of a simulation iteration.
+ */
+@Name("org.example.Phase")
+@Label("Simulation Phase")
+@Category({"Wild Life Simulator"})
+@Description("A phase of a simulation iteration, e.g. movement or feeding")
+public class PhaseEvent extends Event {
+
+    @Label("Phase")
+    public String phase;
+}
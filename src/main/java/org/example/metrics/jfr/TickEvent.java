@@ -0,0 +1,26 @@
+package org.example.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The {@code TickEvent} class is a Java Flight Recorder event spanning one simulation iteration.
+ */
+@Name("org.example.Tick")
+@Label("Simulation Tick")
+@Category({"Wild Life Simulator"})
+@Description("One iteration of the simulation with the population before and after it")
+public class TickEvent extends Event {
+
+    @Label("Tick")
+    public long tick;
+
+    @Label("Population At Start")
+    public long populationAtStart;
+
+    @Label("Population At End")
+    public long populationAtEnd;
+}
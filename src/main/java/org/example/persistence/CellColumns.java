@@ -0,0 +1,112 @@
+package org.example.persistence;
+
+import java.io.IOException;
+
+/**
+ * The {@code CellColumns} record contains the organisms of a set of cells, stored in columns and grouped by cell.
+ * {@code organismCounts} contains the number of organisms of every cell in {@code cells}.
+ *
+ * @param cells          the row-major indices of the cells
+ * @param organismCounts the number of organisms of every cell
+ * @param organismIds    the IDs of the organisms
+ * @param speciesIds     the species ids of the organisms
+ * @param satiety        the satiety of the organisms, {@code 0} for plants
+ * @param flags          the flags of the organisms, see {@link #READY_TO_MATE}
+ */
+public record CellColumns(int[] cells,
+                          int[] organismCounts,
+                          long[] organismIds,
+                          short[] speciesIds,
+                          double[] satiety,
+                          byte[] flags) {
+
+    /**
+     * The flag of an animal that is ready to mate.
+     */
+    public static final byte READY_TO_MATE = 1;
+
+    /**
+     * Number of bytes an organism takes in a file.
+     */
+    static final int ORGANISM_BYTES = Long.BYTES + Short.BYTES + Double.BYTES + Byte.BYTES;
+
+    /**
+     * Returns the number of cells.
+     *
+     * @return the number of cells
+     */
+    public int getCellAmount() {
+        return cells.length;
+    }
+
+    /**
+     * Returns the number of organisms in all cells.
+     *
+     * @return the number of organisms
+     */
+    public int getOrganismAmount() {
+        return organismIds.length;
+    }
+
+    /**
+     * Returns the index of the first organism of every cell, followed by the total number of organisms.
+     *
+     * @return the offsets of the cells
+     */
+    public int[] getOffsets() {
+        var offsets = new int[organismCounts.length + 1];
+
+        for (var i = 0; i < organismCounts.length; i++) {
+            offsets[i + 1] = offsets[i] + organismCounts[i];
+        }
+
+        return offsets;
+    }
+
+    /**
+     * Returns the number of bytes the organisms of the cells take in a file, without the cell indices.
+     *
+     * @return the size in bytes
+     */
+    long getOrganismBytes() {
+        return (long) organismCounts.length * Integer.BYTES + (long) getOrganismAmount() * ORGANISM_BYTES;
+    }
+
+    /**
+     * Writes the organism counts and the organism columns.
+     *
+     * @param writer the writer of the file
+     * @throws IOException if the file can't be written
+     */
+    void writeOrganisms(MappedFileWriter writer) throws IOException {
+        writer.putInts(organismCounts);
+        writer.putLongs(organismIds);
+        writer.putShorts(speciesIds);
+        writer.putDoubles(satiety);
+        writer.putBytes(flags);
+    }
+
+    /**
+     * Reads the organism counts and the organism columns of the cells.
+     *
+     * @param reader         the reader of the file
+     * @param cells          the row-major indices of the cells
+     * @param organismAmount the number of organisms in all cells
+     * @return the columns
+     * @throws IOException if the file can't be read
+     */
+    static CellColumns readOrganisms(MappedFileReader reader, int[] cells, int organismAmount) throws IOException {
+        var organismCounts = new int[cells.length];
+        var organismIds = new long[organismAmount];
+        var speciesIds = new short[organismAmount];
+        var satiety = new double[organismAmount];
+        var flags = new byte[organismAmount];
+        reader.getInts(organismCounts);
+        reader.getLongs(organismIds);
+        reader.getShorts(speciesIds);
+        reader.getDoubles(satiety);
+        reader.getBytes(flags);
+
+        return new CellColumns(cells, organismCounts, organismIds, speciesIds, satiety, flags);
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.persistence;
+
+import java.util.List;
+
+/**
+ * The {@code Checkpoint} record is the content of the checkpoint files: the last full snapshot
+ * and the deltas taken after it, in order.
+ *
+ * @param snapshot the last full snapshot
+ * @param deltas   the deltas taken after the snapshot
+ */
+public record Checkpoint(WorldSnapshot snapshot, List<WorldDelta> deltas) {
+
+    /**
+     * Returns the last iteration completed before the latest snapshot or delta.
+     *
+     * @return the iteration of the checkpoint
+     */
+    public long getIteration() {
+        return deltas.isEmpty() ? snapshot.iteration() : deltas.get(deltas.size() - 1).iteration();
+    }
+}
@@ -0,0 +1,346 @@
+package org.example.persistence;
+
+import org.example.exception.InvalidCheckpointFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32C;
+
+/**
+ * The {@code CheckpointFile} class stores the checkpoints of the island in compact binary files through memory mappings.
+ * <p>
+ * A full {@code WorldSnapshot} is written into the base file: a header with the magic number, the format version,
+ * the counters and the species names, followed by the terrain and the organism count of every cell and the organism
+ * columns. It's written into a temporary file which replaces the previous base atomically, so a crash while writing
+ * never leaves a broken checkpoint behind, and the deltas of the previous base are deleted afterwards.
+ * <p>
+ * A {@code WorldDelta} is appended to the delta file next to the base. Every delta record starts with its magic number
+ * and size and ends with the CRC32C checksum of its body, which is written before the record is forced to the device.
+ * A record torn by a crash, or whose pages have only partly reached the device, is detected and ignored together
+ * with the records after it. Deltas which aren't newer than the base are left from before the base had been replaced
+ * and are ignored too.
+ */
+public class CheckpointFile {
+    private static final Logger logger = LoggerFactory.getLogger(CheckpointFile.class);
+    private static final int MAGIC = 0x574C5343;
+    private static final int DELTA_MAGIC = 0x574C5344;
+    private static final int VERSION = 1;
+    private static final int DELTA_HEADER_BYTES = Integer.BYTES + Long.BYTES;
+    private static final int CHECKSUM_WINDOW_SIZE = 64 << 20;
+
+    private final Path path;
+    private final Path deltaPath;
+
+    /**
+     * Constructs a {@code CheckpointFile} for the specified base file. The deltas are stored in the file
+     * with the same name and the {@code .delta} suffix.
+     *
+     * @param fileName the name of the base checkpoint file
+     */
+    public CheckpointFile(String fileName) {
+        this.path = Path.of(fileName);
+        this.deltaPath = path.resolveSibling(path.getFileName() + ".delta");
+    }
+
+    /**
+     * Returns the path of the base checkpoint file.
+     *
+     * @return the path
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Checks if a checkpoint has been written.
+     *
+     * @return {@code true} if the base file exists
+     */
+    public boolean exists() {
+        return Files.isRegularFile(path);
+    }
+
+    /**
+     * Writes the snapshot into the base file, replacing the previous checkpoint and its deltas.
+     *
+     * @param snapshot the snapshot to write
+     * @throws UncheckedIOException if the file can't be written
+     */
+    public void write(WorldSnapshot snapshot) {
+        var temporaryFile = path.resolveSibling(path.getFileName() + ".tmp");
+
+        try {
+            try (var channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                var writer = new MappedFileWriter(channel, 0, getFileSize(snapshot));
+                write(writer, snapshot);
+                writer.force();
+            }
+            Files.move(temporaryFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.deleteIfExists(deltaPath);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't write the checkpoint to " + path, e);
+        }
+    }
+
+    /**
+     * Appends the delta to the delta file.
+     *
+     * @param delta the delta to append
+     * @throws UncheckedIOException if the file can't be written
+     */
+    public void append(WorldDelta delta) {
+        try (var channel = FileChannel.open(deltaPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            var start = channel.size();
+            var recordSize = getRecordSize(delta);
+            var bodyStart = start + DELTA_HEADER_BYTES;
+            var writer = new MappedFileWriter(channel, start, bodyStart + recordSize + Integer.BYTES);
+
+            writer.putInt(DELTA_MAGIC);
+            writer.putLong(recordSize);
+            writer.putLong(delta.iteration());
+            writer.putLong(delta.totalDied());
+            writer.putLong(delta.lastOrganismId());
+            writer.putLong(delta.seed());
+            writer.putInt(delta.cells().getCellAmount());
+            writer.putInt(delta.cells().getOrganismAmount());
+            writer.putInts(delta.cells().cells());
+            delta.cells().writeOrganisms(writer);
+            writer.putInt(checksum(channel, bodyStart, bodyStart + recordSize));
+            writer.force();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't append the checkpoint delta to " + deltaPath, e);
+        }
+    }
+
+    /**
+     * Reads the base snapshot and the deltas written after it.
+     *
+     * @return the checkpoint
+     * @throws InvalidCheckpointFile if the base file isn't a checkpoint of the supported version or it's truncated
+     * @throws UncheckedIOException  if the files can't be read
+     */
+    public Checkpoint read() {
+        var snapshot = readSnapshot();
+        var deltas = Files.isRegularFile(deltaPath) ? readDeltas(snapshot) : List.<WorldDelta>of();
+
+        return new Checkpoint(snapshot, deltas);
+    }
+
+    /**
+     * Reads the snapshot from the base file.
+     *
+     * @return the snapshot
+     */
+    private WorldSnapshot readSnapshot() {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var reader = new MappedFileReader(channel, 0, channel.size());
+            var snapshot = read(reader);
+
+            if (reader.remaining() != 0) {
+                throw new InvalidCheckpointFile("%s has %d unexpected bytes at the end.".formatted(path, reader.remaining()));
+            }
+
+            return snapshot;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't read the checkpoint from " + path, e);
+        }
+    }
+
+    /**
+     * Reads the complete and intact delta records newer than the snapshot from the delta file.
+     * The records after the first torn or corrupted one are ignored, since they may depend on it.
+     *
+     * @param snapshot the snapshot the deltas are applied to
+     * @return the deltas in order
+     */
+    private List<WorldDelta> readDeltas(WorldSnapshot snapshot) {
+        var deltas = new ArrayList<WorldDelta>();
+
+        try (var channel = FileChannel.open(deltaPath, StandardOpenOption.READ)) {
+            var reader = new MappedFileReader(channel, 0, channel.size());
+
+            while (reader.remaining() > 0) {
+                if (reader.remaining() < DELTA_HEADER_BYTES || reader.getInt() != DELTA_MAGIC) {
+                    logger.warn("{} is corrupted at position {}, the remaining deltas are ignored", deltaPath, reader.getPosition());
+                    break;
+                }
+
+                var recordSize = reader.getLong();
+                if (recordSize < 0 || recordSize > reader.remaining() - Integer.BYTES) {
+                    logger.warn("The last delta in {} is incomplete and is ignored", deltaPath);
+                    break;
+                }
+
+                var bodyStart = reader.getPosition();
+                var bodyEnd = bodyStart + recordSize;
+                if (checksum(channel, bodyStart, bodyEnd) != new MappedFileReader(channel, bodyEnd, bodyEnd + Integer.BYTES).getInt()) {
+                    logger.warn("The delta at position {} in {} doesn't match its checksum, it and the remaining deltas are ignored",
+                            bodyStart - DELTA_HEADER_BYTES, deltaPath);
+                    break;
+                }
+
+                var delta = readDelta(reader);
+                reader.getInt();
+                if (delta.iteration() > snapshot.iteration()) {
+                    deltas.add(delta);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't read the checkpoint deltas from " + deltaPath, e);
+        }
+
+        return List.copyOf(deltas);
+    }
+
+    /**
+     * Writes the header and the columns of the snapshot.
+     *
+     * @param writer   the writer of the file
+     * @param snapshot the snapshot to write
+     * @throws IOException if the file can't be written
+     */
+    private static void write(MappedFileWriter writer, WorldSnapshot snapshot) throws IOException {
+        writer.putInt(MAGIC);
+        writer.putInt(VERSION);
+        writer.putLong(snapshot.iteration());
+        writer.putLong(snapshot.totalDied());
+        writer.putLong(snapshot.lastOrganismId());
+        writer.putLong(snapshot.seed());
+        writer.putInt(snapshot.height());
+        writer.putInt(snapshot.width());
+        writer.putInt(snapshot.species().size());
+        for (var species : snapshot.species()) {
+            var name = species.getBytes(StandardCharsets.UTF_8);
+            writer.putShort((short) name.length);
+            writer.putBytes(name);
+        }
+        writer.putInt(snapshot.cells().getOrganismAmount());
+
+        writer.putBytes(snapshot.terrain());
+        snapshot.cells().writeOrganisms(writer);
+    }
+
+    /**
+     * Reads the header and the columns of the snapshot.
+     *
+     * @param reader the reader of the file
+     * @return the snapshot
+     * @throws IOException if the file can't be read
+     */
+    private WorldSnapshot read(MappedFileReader reader) throws IOException {
+        if (reader.remaining() < Integer.BYTES * 2 || reader.getInt() != MAGIC) {
+            throw new InvalidCheckpointFile("%s isn't a checkpoint file.".formatted(path));
+        }
+
+        var version = reader.getInt();
+        if (version != VERSION) {
+            throw new InvalidCheckpointFile("%s has unsupported version %d.".formatted(path, version));
+        }
+
+        var iteration = reader.getLong();
+        var totalDied = reader.getLong();
+        var lastOrganismId = reader.getLong();
+        var seed = reader.getLong();
+        var height = reader.getInt();
+        var width = reader.getInt();
+        var speciesAmount = reader.getInt();
+        var species = new ArrayList<String>(speciesAmount);
+        for (var i = 0; i < speciesAmount; i++) {
+            var name = new byte[reader.getShort()];
+            reader.getBytes(name);
+            species.add(new String(name, StandardCharsets.UTF_8));
+        }
+        var organismAmount = reader.getInt();
+
+        if (height <= 0 || width <= 0 || organismAmount < 0) {
+            throw new InvalidCheckpointFile("%s has an invalid header.".formatted(path));
+        }
+
+        var cellAmount = height * width;
+        if (reader.remaining() != (long) cellAmount * (Byte.BYTES + Integer.BYTES) + (long) organismAmount * CellColumns.ORGANISM_BYTES) {
+            throw new InvalidCheckpointFile("%s is truncated.".formatted(path));
+        }
+
+        var terrain = new byte[cellAmount];
+        reader.getBytes(terrain);
+        var cells = CellColumns.readOrganisms(reader, IntStream.range(0, cellAmount).toArray(), organismAmount);
+
+        return new WorldSnapshot(iteration, totalDied, lastOrganismId, seed, height, width, List.copyOf(species), terrain, cells);
+    }
+
+    /**
+     * Reads the body of a delta record after its magic number and size.
+     *
+     * @param reader the reader of the delta file
+     * @return the delta
+     * @throws IOException if the file can't be read
+     */
+    private static WorldDelta readDelta(MappedFileReader reader) throws IOException {
+        var iteration = reader.getLong();
+        var totalDied = reader.getLong();
+        var lastOrganismId = reader.getLong();
+        var seed = reader.getLong();
+        var cells = new int[reader.getInt()];
+        var organismAmount = reader.getInt();
+        reader.getInts(cells);
+
+        return new WorldDelta(iteration, totalDied, lastOrganismId, seed, CellColumns.readOrganisms(reader, cells, organismAmount));
+    }
+
+    /**
+     * Computes the CRC32C checksum of the region of the file between the positions, mapping it a window at a time.
+     *
+     * @param channel the channel of the file, opened for reading
+     * @param start   the position of the first byte of the region
+     * @param end     the position after the last byte of the region
+     * @return the checksum
+     * @throws IOException if the region can't be mapped
+     */
+    private static int checksum(FileChannel channel, long start, long end) throws IOException {
+        var checksum = new CRC32C();
+        for (var position = start; position < end; position += CHECKSUM_WINDOW_SIZE) {
+            checksum.update(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(CHECKSUM_WINDOW_SIZE, end - position)));
+        }
+
+        return (int) checksum.getValue();
+    }
+
+    /**
+     * Returns the exact size of the base file the snapshot is written into.
+     *
+     * @param snapshot the snapshot
+     * @return the size in bytes
+     */
+    private static long getFileSize(WorldSnapshot snapshot) {
+        var headerSize = Integer.BYTES * 2 + Long.BYTES * 4 + Integer.BYTES * 3 + Integer.BYTES;
+        for (var species : snapshot.species()) {
+            headerSize += Short.BYTES + species.getBytes(StandardCharsets.UTF_8).length;
+        }
+
+        return headerSize + snapshot.terrain().length + snapshot.cells().getOrganismBytes();
+    }
+
+    /**
+     * Returns the size of the body of the delta record, between its size and its checksum.
+     *
+     * @param delta the delta
+     * @return the size in bytes
+     */
+    private static long getRecordSize(WorldDelta delta) {
+        var headerSize = Long.BYTES * 4 + Integer.BYTES * 2;
+
+        return headerSize + (long) delta.cells().getCellAmount() * Integer.BYTES + delta.cells().getOrganismBytes();
+    }
+}
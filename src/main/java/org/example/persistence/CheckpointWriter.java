@@ -0,0 +1,137 @@
+package org.example.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The {@code CheckpointWriter} class writes the snapshots and deltas into the checkpoint files on its own thread,
+ * so the simulation is only paused for copying the world. If the previous checkpoint is still being written
+ * when the next one is taken, the next one is skipped instead of queueing up copies in memory.
+ */
+public class CheckpointWriter implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(CheckpointWriter.class);
+
+    private final CheckpointFile checkpointFile;
+    private final ExecutorService executor;
+    private final AtomicBoolean isWriting;
+    private final AtomicBoolean hasFailed;
+
+    /**
+     * Constructs a {@code CheckpointWriter} for the specified file.
+     *
+     * @param checkpointFile the file the snapshots are written into
+     */
+    public CheckpointWriter(CheckpointFile checkpointFile) {
+        this.checkpointFile = checkpointFile;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            var thread = new Thread(runnable, "checkpoint-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.isWriting = new AtomicBoolean();
+        this.hasFailed = new AtomicBoolean();
+    }
+
+    /**
+     * Checks if the previous snapshot has been written, so the next one can be taken.
+     *
+     * @return {@code true} if no snapshot is being written
+     */
+    public boolean isReady() {
+        return !isWriting.get();
+    }
+
+    /**
+     * Checks if a checkpoint couldn't be written since the last call, and resets the failure.
+     * The changes of a failed delta are lost, so the next checkpoint has to be a full one.
+     *
+     * @return {@code true} if a write has failed
+     */
+    public boolean pollFailure() {
+        return hasFailed.getAndSet(false);
+    }
+
+    /**
+     * Writes the full snapshot in the background, unless the previous checkpoint is still being written.
+     *
+     * @param snapshot the snapshot to write
+     * @return {@code true} if the snapshot has been accepted, {@code false} if it has been skipped
+     */
+    public boolean submit(WorldSnapshot snapshot) {
+        return submit(snapshot.iteration(), "Checkpoint", snapshot.cells(), () -> checkpointFile.write(snapshot));
+    }
+
+    /**
+     * Appends the delta in the background, unless the previous checkpoint is still being written.
+     *
+     * @param delta the delta to append
+     * @return {@code true} if the delta has been accepted, {@code false} if it has been skipped
+     */
+    public boolean submit(WorldDelta delta) {
+        return submit(delta.iteration(), "Checkpoint delta", delta.cells(), () -> checkpointFile.append(delta));
+    }
+
+    /**
+     * Waits until the last accepted snapshot has been written.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+
+        try {
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                logger.error("The last checkpoint hasn't been written in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs the write in the background, unless the previous checkpoint is still being written.
+     *
+     * @param iteration the iteration of the checkpoint
+     * @param kind      the kind of the checkpoint in the log messages
+     * @param cells     the written cells
+     * @param write     the action writing the checkpoint
+     * @return {@code true} if the checkpoint has been accepted, {@code false} if it has been skipped
+     */
+    private boolean submit(long iteration, String kind, CellColumns cells, Runnable write) {
+        if (!isWriting.compareAndSet(false, true)) {
+            logger.warn("{} of iteration {} has been skipped, the previous one is still being written", kind, iteration);
+            return false;
+        }
+
+        executor.execute(() -> write(iteration, kind, cells, write));
+
+        return true;
+    }
+
+    /**
+     * Writes the checkpoint and measures how long it took.
+     *
+     * @param iteration the iteration of the checkpoint
+     * @param kind      the kind of the checkpoint in the log messages
+     * @param cells     the written cells
+     * @param write     the action writing the checkpoint
+     */
+    private void write(long iteration, String kind, CellColumns cells, Runnable write) {
+        var start = System.nanoTime();
+
+        try {
+            write.run();
+            logger.info("{} of iteration {} with {} cells and {} organisms has been written to {} in {} ms", kind, iteration, cells.getCellAmount(),
+                    cells.getOrganismAmount(), checkpointFile.getPath(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (RuntimeException e) {
+            logger.error("{} of iteration {} can't be written", kind, iteration, e);
+            hasFailed.set(true);
+        } finally {
+            isWriting.set(false);
+        }
+    }
+}
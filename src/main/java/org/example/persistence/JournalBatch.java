@@ -0,0 +1,134 @@
+package org.example.persistence;
+
+import java.util.Arrays;
+
+/**
+ * The {@code JournalBatch} class holds the events of a single tick read from the event journal in columns.
+ * A batch is reused for every tick, so reading a journal doesn't allocate per event.
+ */
+public class JournalBatch {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long tick;
+    private long position;
+    private int size;
+    private long[] organismIds;
+    private int[] cells;
+    private short[] speciesIds;
+    private byte[] types;
+
+    /**
+     * Constructs an empty {@code JournalBatch}.
+     */
+    public JournalBatch() {
+        this.organismIds = new long[INITIAL_CAPACITY];
+        this.cells = new int[INITIAL_CAPACITY];
+        this.speciesIds = new short[INITIAL_CAPACITY];
+        this.types = new byte[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Returns the tick of the events.
+     *
+     * @return the tick
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Returns the number of events of the tick.
+     *
+     * @return the number of events
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the id of the organism of the event.
+     *
+     * @param index the index of the event
+     * @return the organism id
+     */
+    public long getOrganismId(int index) {
+        return organismIds[index];
+    }
+
+    /**
+     * Returns the row-major index of the cell of the event.
+     *
+     * @param index the index of the event
+     * @return the cell index
+     */
+    public int getCell(int index) {
+        return cells[index];
+    }
+
+    /**
+     * Returns the species id of the organism of the event.
+     *
+     * @param index the index of the event
+     * @return the species id
+     */
+    public int getSpeciesId(int index) {
+        return speciesIds[index];
+    }
+
+    /**
+     * Returns the position of the record of the event in the journal file.
+     * The records of a tick are contiguous, so it's computed from the position of the first one.
+     *
+     * @param index the index of the event
+     * @return the position in the file
+     */
+    public long getPosition(int index) {
+        return position + (long) index * JournalWriter.RECORD_BYTES;
+    }
+
+    /**
+     * Returns the type of the event.
+     *
+     * @param index the index of the event
+     * @return the event type
+     */
+    public JournalEventType getType(int index) {
+        return JournalEventType.fromCode(types[index]);
+    }
+
+    /**
+     * Empties the batch for the events of another tick.
+     *
+     * @param tick     the tick of the next events
+     * @param position the position of the record of the first event
+     */
+    void clear(long tick, long position) {
+        this.tick = tick;
+        this.position = position;
+        this.size = 0;
+    }
+
+    /**
+     * Adds an event to the batch, growing the columns if they are full.
+     *
+     * @param organismId the id of the organism
+     * @param cell       the row-major index of the cell
+     * @param speciesId  the species id of the organism
+     * @param type       the code of the event type
+     */
+    void add(long organismId, int cell, short speciesId, byte type) {
+        if (size == organismIds.length) {
+            var capacity = size * 2;
+            organismIds = Arrays.copyOf(organismIds, capacity);
+            cells = Arrays.copyOf(cells, capacity);
+            speciesIds = Arrays.copyOf(speciesIds, capacity);
+            types = Arrays.copyOf(types, capacity);
+        }
+
+        organismIds[size] = organismId;
+        cells[size] = cell;
+        speciesIds[size] = speciesId;
+        types[size] = type;
+        size++;
+    }
+}
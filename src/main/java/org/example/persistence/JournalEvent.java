@@ -0,0 +1,13 @@
+package org.example.persistence;
+
+/**
+ * The {@code JournalEvent} record is a single event read from the event journal.
+ *
+ * @param tick       the tick the event happened in
+ * @param type       the type of the event
+ * @param organismId the id of the organism
+ * @param cell       the row-major index of the cell of the organism
+ * @param speciesId  the species id of the organism
+ */
+public record JournalEvent(long tick, JournalEventType type, long organismId, int cell, int speciesId) {
+}
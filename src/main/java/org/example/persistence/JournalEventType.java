@@ -0,0 +1,70 @@
+package org.example.persistence;
+
+/**
+ * The {@code JournalEventType} enum lists the lifecycle events recorded in the event journal.
+ * The codes are stored in the journal files, so they must never change.
+ */
+public enum JournalEventType {
+    /**
+     * An organism has been created: born, regrown, populated or restored from a checkpoint.
+     */
+    BIRTH((byte) 1),
+
+    /**
+     * An animal has moved to another cell. The event contains the destination cell.
+     */
+    MOVE((byte) 2),
+
+    /**
+     * An organism has been eaten.
+     */
+    KILL((byte) 3),
+
+    /**
+     * An animal has starved to death.
+     */
+    STARVATION((byte) 4),
+
+    /**
+     * A dead organism has been removed from its cell.
+     */
+    REMOVAL((byte) 5);
+
+    private static final JournalEventType[] TYPES_BY_CODE = new JournalEventType[values().length + 1];
+
+    static {
+        for (var type : values()) {
+            TYPES_BY_CODE[type.code] = type;
+        }
+    }
+
+    private final byte code;
+
+    /**
+     * Constructs a {@code JournalEventType} with the specified code.
+     *
+     * @param code the code stored in the journal
+     */
+    JournalEventType(byte code) {
+        this.code = code;
+    }
+
+    /**
+     * Returns the code of the event type stored in the journal.
+     *
+     * @return the code
+     */
+    public byte getCode() {
+        return code;
+    }
+
+    /**
+     * Returns the event type with the specified code.
+     *
+     * @param code the code read from the journal
+     * @return the event type, or {@code null} if the code is unknown
+     */
+    public static JournalEventType fromCode(byte code) {
+        return code > 0 && code < TYPES_BY_CODE.length ? TYPES_BY_CODE[code] : null;
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.persistence;
+
+import java.util.List;
+
+/**
+ * The {@code JournalHeader} record describes the island an event journal has been recorded on.
+ *
+ * @param height  the height of the island
+ * @param width   the width of the island
+ * @param species the names of the species, indexed by species id
+ */
+public record JournalHeader(int height, int width, List<String> species) {
+
+    /**
+     * Returns the number of cells of the island.
+     *
+     * @return the number of cells
+     */
+    public int getCellAmount() {
+        return height * width;
+    }
+}
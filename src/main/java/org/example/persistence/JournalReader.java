@@ -0,0 +1,255 @@
+package org.example.persistence;
+
+import org.example.exception.InvalidJournalFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code JournalReader} class reads the event journal written by the {@code JournalWriter} through memory mappings,
+ * one tick at a time. The reader can be moved to any record position it has returned, so the readers of the journal
+ * can remember positions and jump back to them. A record torn by a crash at the end of the file is ignored.
+ */
+public class JournalReader implements AutoCloseable {
+    private final Path path;
+    private final FileChannel channel;
+    private final JournalHeader header;
+    private final long recordsStart;
+    private final long recordsEnd;
+    private MappedFileReader reader;
+    private boolean hasPending;
+    private long pendingTick;
+    private long pendingOrganismId;
+    private int pendingCell;
+    private short pendingSpeciesId;
+    private byte pendingType;
+
+    /**
+     * Constructs a {@code JournalReader} for the specified file and reads its header.
+     *
+     * @param fileName the name of the journal file
+     * @throws InvalidJournalFile   if the file isn't a journal of the supported version
+     * @throws UncheckedIOException if the file can't be read
+     */
+    public JournalReader(String fileName) {
+        this.path = Path.of(fileName);
+
+        try {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.reader = new MappedFileReader(channel, 0, channel.size());
+            this.header = readHeader();
+            this.recordsStart = reader.getPosition();
+            this.recordsEnd = recordsStart + (channel.size() - recordsStart) / JournalWriter.RECORD_BYTES * JournalWriter.RECORD_BYTES;
+            this.reader = new MappedFileReader(channel, recordsStart, recordsEnd);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't read the event journal from " + path, e);
+        }
+    }
+
+    /**
+     * Returns the header of the journal.
+     *
+     * @return the header
+     */
+    public JournalHeader getHeader() {
+        return header;
+    }
+
+    /**
+     * Returns the position of the first record of the journal.
+     *
+     * @return the position in the file
+     */
+    public long getRecordsStart() {
+        return recordsStart;
+    }
+
+    /**
+     * Returns the position after the last complete record of the journal.
+     *
+     * @return the position in the file
+     */
+    public long getRecordsEnd() {
+        return recordsEnd;
+    }
+
+    /**
+     * Returns the position of the next record to read.
+     *
+     * @return the position in the file
+     */
+    public long getPosition() {
+        return hasPending ? reader.getPosition() - JournalWriter.RECORD_BYTES : reader.getPosition();
+    }
+
+    /**
+     * Returns the tick of the last complete record. The records are ordered by tick, so it's the last tick of the journal.
+     *
+     * @return the last tick, or {@code 0} if the journal has no records
+     * @throws UncheckedIOException if the file can't be read
+     */
+    public long getLastTick() {
+        if (recordsEnd == recordsStart) {
+            return 0;
+        }
+
+        return readEvent(recordsEnd - JournalWriter.RECORD_BYTES).tick();
+    }
+
+    /**
+     * Reads the single event at the position without moving the reader.
+     *
+     * @param position the position of the record
+     * @return the event
+     * @throws InvalidJournalFile   if the position isn't inside the records or the event has an unknown type
+     * @throws UncheckedIOException if the file can't be read
+     */
+    public JournalEvent readEvent(long position) {
+        if (position < recordsStart || position > recordsEnd - JournalWriter.RECORD_BYTES
+                || (position - recordsStart) % JournalWriter.RECORD_BYTES != 0) {
+            throw new InvalidJournalFile("%s has no record at position %d.".formatted(path, position));
+        }
+
+        var record = ByteBuffer.allocate(JournalWriter.RECORD_BYTES);
+        try {
+            while (record.hasRemaining()) {
+                if (channel.read(record, position + record.position()) < 0) {
+                    throw new InvalidJournalFile("%s ends at position %d.".formatted(path, position + record.position()));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't read the event journal from " + path, e);
+        }
+        record.flip();
+
+        var tick = record.getLong();
+        var organismId = record.getLong();
+        var cell = record.getInt();
+        var speciesId = record.getShort();
+        var type = JournalEventType.fromCode(record.get());
+        if (type == null) {
+            throw new InvalidJournalFile("%s has an event of unknown type at position %d.".formatted(path, position));
+        }
+
+        return new JournalEvent(tick, type, organismId, cell, speciesId);
+    }
+
+    /**
+     * Moves the reader to the record at the position.
+     *
+     * @param position the position returned by {@link #getPosition()} or {@link #getRecordsStart()}
+     */
+    public void seek(long position) {
+        reader = new MappedFileReader(channel, position, recordsEnd);
+        hasPending = false;
+    }
+
+    /**
+     * Reads the events of the next tick into the batch.
+     *
+     * @param batch the batch to fill
+     * @return {@code true} if the events have been read, {@code false} at the end of the journal
+     * @throws InvalidJournalFile   if an event has an unknown type
+     * @throws UncheckedIOException if the file can't be read
+     */
+    public boolean readTick(JournalBatch batch) {
+        if (!hasPending && !readRecord()) {
+            return false;
+        }
+
+        batch.clear(pendingTick, getPosition());
+        do {
+            batch.add(pendingOrganismId, pendingCell, pendingSpeciesId, pendingType);
+            hasPending = false;
+        } while (readRecord() && pendingTick == batch.getTick());
+
+        return true;
+    }
+
+    /**
+     * Closes the journal file.
+     */
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't close " + path, e);
+        }
+    }
+
+    /**
+     * Reads the next record into the pending fields.
+     *
+     * @return {@code true} if a record has been read, {@code false} at the end of the journal
+     */
+    private boolean readRecord() {
+        if (reader.remaining() < JournalWriter.RECORD_BYTES) {
+            return false;
+        }
+
+        try {
+            pendingTick = reader.getLong();
+            pendingOrganismId = reader.getLong();
+            pendingCell = reader.getInt();
+            pendingSpeciesId = reader.getShort();
+            pendingType = reader.getByte();
+            reader.getByte();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't read the event journal from " + path, e);
+        }
+
+        if (JournalEventType.fromCode(pendingType) == null) {
+            throw new InvalidJournalFile("%s has an event of unknown type %d at position %d."
+                    .formatted(path, pendingType, reader.getPosition() - JournalWriter.RECORD_BYTES));
+        }
+        hasPending = true;
+
+        return true;
+    }
+
+    /**
+     * Reads the header of the journal.
+     *
+     * @return the header
+     * @throws IOException if the file can't be read
+     */
+    private JournalHeader readHeader() throws IOException {
+        if (reader.remaining() < Integer.BYTES * 6 || reader.getInt() != JournalWriter.MAGIC) {
+            throw new InvalidJournalFile("%s isn't an event journal.".formatted(path));
+        }
+
+        var version = reader.getInt();
+        if (version != JournalWriter.VERSION) {
+            throw new InvalidJournalFile("%s has unsupported version %d.".formatted(path, version));
+        }
+
+        var recordBytes = reader.getInt();
+        if (recordBytes != JournalWriter.RECORD_BYTES) {
+            throw new InvalidJournalFile("%s has records of %d bytes instead of %d.".formatted(path, recordBytes, JournalWriter.RECORD_BYTES));
+        }
+
+        var height = reader.getInt();
+        var width = reader.getInt();
+        var speciesAmount = reader.getInt();
+        if (height <= 0 || width <= 0 || speciesAmount < 0) {
+            throw new InvalidJournalFile("%s has an invalid header.".formatted(path));
+        }
+
+        var species = new ArrayList<String>(speciesAmount);
+        for (var i = 0; i < speciesAmount; i++) {
+            var name = new byte[reader.getShort()];
+            reader.getBytes(name);
+            species.add(new String(name, StandardCharsets.UTF_8));
+        }
+
+        return new JournalHeader(height, width, List.copyOf(species));
+    }
+}
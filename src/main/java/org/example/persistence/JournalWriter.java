@@ -0,0 +1,238 @@
+package org.example.persistence;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * The {@code JournalWriter} class appends the lifecycle events of the simulation to a binary journal file.
+ * <p>
+ * The file starts with a header with the magic number, the format version, the record size, the dimensions
+ * of the island and the species names. It's followed by fixed-width records of {@value #RECORD_BYTES} bytes:
+ * {@code tick} (long), {@code organismId} (long), {@code cell} (int, row-major), {@code speciesId} (short),
+ * {@code type} (byte) and a reserved byte.
+ * <p>
+ * Every worker thread encodes its events into its own direct buffer without synchronization. A buffer is written
+ * when it's full, and all buffers are written at once with a single gathering write when the journal is flushed
+ * between ticks. So the events of a tick always precede the events of the next tick in the file,
+ * but they aren't ordered within the tick. Nothing is written if no file is configured.
+ */
+public class JournalWriter implements AutoCloseable {
+    static final int MAGIC = 0x574C534A;
+    static final int VERSION = 1;
+    static final int RECORD_BYTES = 24;
+    private static final int BUFFER_SIZE = RECORD_BYTES * 8192;
+
+    private final Path file;
+    private final int height;
+    private final int width;
+    private final List<String> species;
+    private final Queue<ByteBuffer> buffers;
+    private final ThreadLocal<ByteBuffer> threadBuffers;
+    private FileChannel channel;
+
+    /**
+     * Constructs a {@code JournalWriter} for the specified file.
+     *
+     * @param fileName the name of the journal file, or an empty string to write nothing
+     * @param height   the height of the island
+     * @param width    the width of the island
+     * @param species  the names of the species, indexed by species id
+     */
+    public JournalWriter(String fileName, int height, int width, List<String> species) {
+        this.file = fileName == null || fileName.isBlank() ? null : Path.of(fileName);
+        this.height = height;
+        this.width = width;
+        this.species = List.copyOf(species);
+        this.buffers = new ConcurrentLinkedQueue<>();
+        this.threadBuffers = ThreadLocal.withInitial(this::createBuffer);
+    }
+
+    /**
+     * Checks if the events are written.
+     *
+     * @return {@code true} if a journal file is configured
+     */
+    public boolean isEnabled() {
+        return file != null;
+    }
+
+    /**
+     * Encodes the event into the buffer of the current thread, writing the buffer first if it's full.
+     *
+     * @param tick       the tick the event happened in
+     * @param type       the type of the event
+     * @param organismId the id of the organism
+     * @param cell       the row-major index of the cell of the organism
+     * @param speciesId  the species id of the organism
+     * @throws UncheckedIOException if a full buffer can't be written
+     */
+    public void append(long tick, JournalEventType type, long organismId, int cell, int speciesId) {
+        if (file == null) {
+            return;
+        }
+
+        var buffer = threadBuffers.get();
+        if (buffer.remaining() < RECORD_BYTES) {
+            synchronized (this) {
+                write(buffer);
+            }
+        }
+
+        buffer.putLong(tick)
+              .putLong(organismId)
+              .putInt(cell)
+              .putShort((short) speciesId)
+              .put(type.getCode())
+              .put((byte) 0);
+    }
+
+    /**
+     * Writes the events of all threads into the file. It must be called between ticks, when no events are appended.
+     *
+     * @throws UncheckedIOException if the file can't be written
+     */
+    public synchronized void flush() {
+        if (file == null) {
+            return;
+        }
+
+        var pendingBuffers = new ArrayList<ByteBuffer>();
+        for (var buffer : buffers) {
+            if (buffer.position() > 0) {
+                pendingBuffers.add(buffer.flip());
+            }
+        }
+
+        try {
+            var sources = pendingBuffers.toArray(ByteBuffer[]::new);
+            var journalChannel = getChannel();
+            while (hasRemaining(sources)) {
+                journalChannel.write(sources);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't write the event journal to " + file, e);
+        } finally {
+            pendingBuffers.forEach(ByteBuffer::clear);
+        }
+    }
+
+    /**
+     * Writes the remaining events and closes the file if it has been opened.
+     */
+    @Override
+    public synchronized void close() {
+        if (file == null) {
+            return;
+        }
+
+        try {
+            flush();
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't close " + file, e);
+        } finally {
+            channel = null;
+        }
+    }
+
+    /**
+     * Creates the buffer of a worker thread and registers it for the flushes.
+     *
+     * @return the buffer
+     */
+    private ByteBuffer createBuffer() {
+        var buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        buffers.add(buffer);
+
+        return buffer;
+    }
+
+    /**
+     * Writes the events of a single buffer into the file.
+     *
+     * @param buffer the buffer to write
+     */
+    private void write(ByteBuffer buffer) {
+        buffer.flip();
+        try {
+            var journalChannel = getChannel();
+            while (buffer.hasRemaining()) {
+                journalChannel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't write the event journal to " + file, e);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Returns the channel of the journal file. The file is created with the header on the first write,
+     * replacing the journal of a previous run.
+     *
+     * @return the channel
+     * @throws IOException if the file can't be created
+     */
+    private FileChannel getChannel() throws IOException {
+        if (channel == null) {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+
+            var header = createHeader();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+        }
+
+        return channel;
+    }
+
+    /**
+     * Encodes the header of the journal file.
+     *
+     * @return the header, ready to be written
+     */
+    private ByteBuffer createHeader() {
+        var names = species.stream().map(name -> name.getBytes(StandardCharsets.UTF_8)).toList();
+        var size = 6 * Integer.BYTES + names.stream().mapToInt(name -> Short.BYTES + name.length).sum();
+        var header = ByteBuffer.allocate(size)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(RECORD_BYTES)
+                .putInt(height)
+                .putInt(width)
+                .putInt(names.size());
+
+        for (var name : names) {
+            header.putShort((short) name.length).put(name);
+        }
+
+        return header.flip();
+    }
+
+    /**
+     * Checks if any of the buffers has bytes left to write.
+     *
+     * @param buffers the buffers
+     * @return {@code true} if a buffer isn't written completely
+     */
+    private static boolean hasRemaining(ByteBuffer[] buffers) {
+        for (var buffer : buffers) {
+            if (buffer.hasRemaining()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,222 @@
+package org.example.persistence;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * The {@code MappedFileReader} class reads a region of a file through read-only memory mappings.
+ * Only a window of the region is mapped at a time, so files larger than a single mapping can be read,
+ * and primitive arrays are copied out of the window in bulk.
+ */
+class MappedFileReader {
+    private static final int WINDOW_SIZE = 64 << 20;
+
+    private final FileChannel channel;
+    private final long end;
+    private final int windowSize;
+    private long windowStart;
+    private MappedByteBuffer window;
+
+    /**
+     * Constructs a {@code MappedFileReader} for the region of the file between the positions.
+     *
+     * @param channel the channel of the file, opened for reading
+     * @param start   the position of the first byte of the region
+     * @param end     the position after the last byte of the region
+     */
+    MappedFileReader(FileChannel channel, long start, long end) {
+        this(channel, start, end, WINDOW_SIZE);
+    }
+
+    /**
+     * Constructs a {@code MappedFileReader} for the region of the file between the positions, mapping windows of the specified size.
+     *
+     * @param channel    the channel of the file, opened for reading
+     * @param start      the position of the first byte of the region
+     * @param end        the position after the last byte of the region
+     * @param windowSize the largest number of bytes mapped at a time, at least the size of a long
+     */
+    MappedFileReader(FileChannel channel, long start, long end, int windowSize) {
+        this.channel = channel;
+        this.end = end;
+        this.windowSize = windowSize;
+        this.windowStart = start;
+    }
+
+    /**
+     * Returns the number of bytes left in the region.
+     *
+     * @return the number of unread bytes
+     */
+    long remaining() {
+        return end - getPosition();
+    }
+
+    /**
+     * Returns the position of the next byte to read.
+     *
+     * @return the position in the file
+     */
+    long getPosition() {
+        return window == null ? windowStart : windowStart + window.position();
+    }
+
+    /**
+     * Reads a byte.
+     *
+     * @return the value
+     * @throws IOException if the region ends or can't be mapped
+     */
+    byte getByte() throws IOException {
+        return window(Byte.BYTES).get();
+    }
+
+    /**
+     * Reads a short.
+     *
+     * @return the value
+     * @throws IOException if the region ends or can't be mapped
+     */
+    short getShort() throws IOException {
+        return window(Short.BYTES).getShort();
+    }
+
+    /**
+     * Reads an int.
+     *
+     * @return the value
+     * @throws IOException if the region ends or can't be mapped
+     */
+    int getInt() throws IOException {
+        return window(Integer.BYTES).getInt();
+    }
+
+    /**
+     * Reads a long.
+     *
+     * @return the value
+     * @throws IOException if the region ends or can't be mapped
+     */
+    long getLong() throws IOException {
+        return window(Long.BYTES).getLong();
+    }
+
+    /**
+     * Reads a double.
+     *
+     * @return the value
+     * @throws IOException if the region ends or can't be mapped
+     */
+    double getDouble() throws IOException {
+        return window(Double.BYTES).getDouble();
+    }
+
+    /**
+     * Fills the array with bytes.
+     *
+     * @param values the array to fill
+     * @throws IOException if the region ends or can't be mapped
+     */
+    void getBytes(byte[] values) throws IOException {
+        for (var i = 0; i < values.length; ) {
+            var buffer = window(1);
+            var amount = Math.min(values.length - i, buffer.remaining());
+            buffer.get(values, i, amount);
+            i += amount;
+        }
+    }
+
+    /**
+     * Fills the array with shorts.
+     *
+     * @param values the array to fill
+     * @throws IOException if the region ends or can't be mapped
+     */
+    void getShorts(short[] values) throws IOException {
+        for (var i = 0; i < values.length; ) {
+            var buffer = window(Short.BYTES);
+            var amount = Math.min(values.length - i, buffer.remaining() / Short.BYTES);
+            buffer.asShortBuffer().get(values, i, amount);
+            buffer.position(buffer.position() + amount * Short.BYTES);
+            i += amount;
+        }
+    }
+
+    /**
+     * Fills the array with ints.
+     *
+     * @param values the array to fill
+     * @throws IOException if the region ends or can't be mapped
+     */
+    void getInts(int[] values) throws IOException {
+        for (var i = 0; i < values.length; ) {
+            var buffer = window(Integer.BYTES);
+            var amount = Math.min(values.length - i, buffer.remaining() / Integer.BYTES);
+            buffer.asIntBuffer().get(values, i, amount);
+            buffer.position(buffer.position() + amount * Integer.BYTES);
+            i += amount;
+        }
+    }
+
+    /**
+     * Fills the array with longs.
+     *
+     * @param values the array to fill
+     * @throws IOException if the region ends or can't be mapped
+     */
+    void getLongs(long[] values) throws IOException {
+        for (var i = 0; i < values.length; ) {
+            var buffer = window(Long.BYTES);
+            var amount = Math.min(values.length - i, buffer.remaining() / Long.BYTES);
+            buffer.asLongBuffer().get(values, i, amount);
+            buffer.position(buffer.position() + amount * Long.BYTES);
+            i += amount;
+        }
+    }
+
+    /**
+     * Fills the array with doubles.
+     *
+     * @param values the array to fill
+     * @throws IOException if the region ends or can't be mapped
+     */
+    void getDoubles(double[] values) throws IOException {
+        for (var i = 0; i < values.length; ) {
+            var buffer = window(Double.BYTES);
+            var amount = Math.min(values.length - i, buffer.remaining() / Double.BYTES);
+            buffer.asDoubleBuffer().get(values, i, amount);
+            buffer.position(buffer.position() + amount * Double.BYTES);
+            i += amount;
+        }
+    }
+
+    /**
+     * Returns the mapped window with at least the specified number of unread bytes.
+     * When the current window is exhausted, the next window is mapped from the current position.
+     *
+     * @param bytes the number of bytes to read next
+     * @return the window
+     * @throws IOException if the region ends or can't be mapped
+     */
+    private ByteBuffer window(int bytes) throws IOException {
+        if (window != null && window.remaining() >= bytes) {
+            return window;
+        }
+
+        if (window != null) {
+            windowStart += window.position();
+        }
+
+        var size = Math.min(windowSize, end - windowStart);
+        if (size < bytes) {
+            throw new EOFException("Unexpected end of file at position " + windowStart);
+        }
+
+        window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, size);
+
+        return window;
+    }
+}
@@ -0,0 +1,193 @@
+package org.example.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * The {@code MappedFileWriter} class writes a region of a file of known size through memory mappings.
+ * Only a window of the region is mapped at a time, so files larger than a single mapping can be written,
+ * and primitive arrays are copied into the window in bulk.
+ */
+class MappedFileWriter {
+    private static final int WINDOW_SIZE = 64 << 20;
+
+    private final FileChannel channel;
+    private final long end;
+    private final int windowSize;
+    private long windowStart;
+    private MappedByteBuffer window;
+
+    /**
+     * Constructs a {@code MappedFileWriter} for the region of the file between the positions.
+     *
+     * @param channel the channel of the file, opened for reading and writing
+     * @param start   the position of the first byte of the region
+     * @param end     the position after the last byte of the region
+     */
+    MappedFileWriter(FileChannel channel, long start, long end) {
+        this(channel, start, end, WINDOW_SIZE);
+    }
+
+    /**
+     * Constructs a {@code MappedFileWriter} for the region of the file between the positions, mapping windows of the specified size.
+     *
+     * @param channel    the channel of the file, opened for reading and writing
+     * @param start      the position of the first byte of the region
+     * @param end        the position after the last byte of the region
+     * @param windowSize the largest number of bytes mapped at a time, at least the size of a long
+     */
+    MappedFileWriter(FileChannel channel, long start, long end, int windowSize) {
+        this.channel = channel;
+        this.end = end;
+        this.windowSize = windowSize;
+        this.windowStart = start;
+    }
+
+    /**
+     * Writes a short.
+     *
+     * @param value the value to write
+     * @throws IOException if the region can't be mapped
+     */
+    void putShort(short value) throws IOException {
+        window(Short.BYTES).putShort(value);
+    }
+
+    /**
+     * Writes an int.
+     *
+     * @param value the value to write
+     * @throws IOException if the region can't be mapped
+     */
+    void putInt(int value) throws IOException {
+        window(Integer.BYTES).putInt(value);
+    }
+
+    /**
+     * Writes a long.
+     *
+     * @param value the value to write
+     * @throws IOException if the region can't be mapped
+     */
+    void putLong(long value) throws IOException {
+        window(Long.BYTES).putLong(value);
+    }
+
+    /**
+     * Writes the bytes.
+     *
+     * @param values the values to write
+     * @throws IOException if the region can't be mapped
+     */
+    void putBytes(byte[] values) throws IOException {
+        for (var i = 0; i < values.length; ) {
+            var buffer = window(1);
+            var amount = Math.min(values.length - i, buffer.remaining());
+            buffer.put(values, i, amount);
+            i += amount;
+        }
+    }
+
+    /**
+     * Writes the shorts.
+     *
+     * @param values the values to write
+     * @throws IOException if the region can't be mapped
+     */
+    void putShorts(short[] values) throws IOException {
+        for (var i = 0; i < values.length; ) {
+            var buffer = window(Short.BYTES);
+            var amount = Math.min(values.length - i, buffer.remaining() / Short.BYTES);
+            buffer.asShortBuffer().put(values, i, amount);
+            buffer.position(buffer.position() + amount * Short.BYTES);
+            i += amount;
+        }
+    }
+
+    /**
+     * Writes the ints.
+     *
+     * @param values the values to write
+     * @throws IOException if the region can't be mapped
+     */
+    void putInts(int[] values) throws IOException {
+        for (var i = 0; i < values.length; ) {
+            var buffer = window(Integer.BYTES);
+            var amount = Math.min(values.length - i, buffer.remaining() / Integer.BYTES);
+            buffer.asIntBuffer().put(values, i, amount);
+            buffer.position(buffer.position() + amount * Integer.BYTES);
+            i += amount;
+        }
+    }
+
+    /**
+     * Writes the longs.
+     *
+     * @param values the values to write
+     * @throws IOException if the region can't be mapped
+     */
+    void putLongs(long[] values) throws IOException {
+        for (var i = 0; i < values.length; ) {
+            var buffer = window(Long.BYTES);
+            var amount = Math.min(values.length - i, buffer.remaining() / Long.BYTES);
+            buffer.asLongBuffer().put(values, i, amount);
+            buffer.position(buffer.position() + amount * Long.BYTES);
+            i += amount;
+        }
+    }
+
+    /**
+     * Writes the doubles.
+     *
+     * @param values the values to write
+     * @throws IOException if the region can't be mapped
+     */
+    void putDoubles(double[] values) throws IOException {
+        for (var i = 0; i < values.length; ) {
+            var buffer = window(Double.BYTES);
+            var amount = Math.min(values.length - i, buffer.remaining() / Double.BYTES);
+            buffer.asDoubleBuffer().put(values, i, amount);
+            buffer.position(buffer.position() + amount * Double.BYTES);
+            i += amount;
+        }
+    }
+
+    /**
+     * Flushes the written bytes of the last window to the storage device.
+     */
+    void force() {
+        if (window != null) {
+            window.force();
+        }
+    }
+
+    /**
+     * Returns the mapped window with room for at least the specified number of bytes. When the current window
+     * is full, it's flushed and the next window is mapped from the current position.
+     *
+     * @param bytes the number of bytes to write next
+     * @return the window
+     * @throws IOException if the region can't be mapped
+     */
+    private ByteBuffer window(int bytes) throws IOException {
+        if (window != null && window.remaining() >= bytes) {
+            return window;
+        }
+
+        if (window != null) {
+            window.force();
+            windowStart += window.position();
+        }
+
+        var size = Math.min(windowSize, end - windowStart);
+        if (size < bytes) {
+            throw new IOException("The mapped region is too small, %d bytes are left".formatted(size));
+        }
+
+        window = channel.map(FileChannel.MapMode.READ_WRITE, windowStart, size);
+
+        return window;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.persistence;
+
+/**
+ * The {@code WorldDelta} record is a tick-consistent copy of the cells which have changed since the previous
+ * checkpoint, together with the counters of the island. Applied over the last full snapshot in order,
+ * the deltas recreate the island at the iteration of the last delta.
+ *
+ * @param iteration      the last iteration completed before the delta
+ * @param totalDied      the number of organisms that died since the start of the simulation
+ * @param lastOrganismId the last ID assigned to an organism
+ * @param seed           the seed the random generators have been reseeded with at the delta
+ * @param cells          the organisms of the changed cells
+ */
+public record WorldDelta(long iteration,
+                         long totalDied,
+                         long lastOrganismId,
+                         long seed,
+                         CellColumns cells) {
+}
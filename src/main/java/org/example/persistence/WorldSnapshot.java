@@ -0,0 +1,29 @@
+package org.example.persistence;
+
+import java.util.List;
+
+/**
+ * The {@code WorldSnapshot} record is a tick-consistent copy of the whole island, taken between two iterations.
+ * It only holds primitive arrays, so it can be written to a file while the simulation goes on.
+ * The organisms of all cells are stored in row-major order.
+ *
+ * @param iteration      the last iteration completed before the snapshot
+ * @param totalDied      the number of organisms that died since the start of the simulation
+ * @param lastOrganismId the last ID assigned to an organism
+ * @param seed           the seed the random generators have been reseeded with at the snapshot
+ * @param height         the height of the island
+ * @param width          the width of the island
+ * @param species        the class names of the species, indexed by species id
+ * @param terrain        the location type ordinal of every cell
+ * @param cells          the organisms of all cells
+ */
+public record WorldSnapshot(long iteration,
+                            long totalDied,
+                            long lastOrganismId,
+                            long seed,
+                            int height,
+                            int width,
+                            List<String> species,
+                            byte[] terrain,
+                            CellColumns cells) {
+}
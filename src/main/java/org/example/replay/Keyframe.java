@@ -0,0 +1,20 @@
+package org.example.replay;
+
+/**
+ * The {@code Keyframe} record is a compact copy of the replayed world after a tick, together with the position
+ * of the journal the replay continues from. Only the organisms present on the island are stored.
+ *
+ * @param tick        the tick the keyframe has been taken after
+ * @param position    the position of the first journal record after the tick
+ * @param organismIds the ids of the present organisms
+ * @param cells       the cells of the present organisms
+ * @param speciesIds  the species ids of the present organisms
+ * @param totals      the cumulative counters of the replay
+ */
+record Keyframe(long tick,
+                long position,
+                long[] organismIds,
+                int[] cells,
+                short[] speciesIds,
+                ReplayTotals totals) {
+}
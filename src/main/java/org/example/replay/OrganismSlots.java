@@ -0,0 +1,153 @@
+package org.example.replay;
+
+import java.util.Arrays;
+
+/**
+ * The {@code OrganismSlots} class maps the ids of the organisms present on the island to their slots
+ * in the organism columns of the {@code ReplayState}. It's an open-addressing hash map of primitive keys
+ * and values with linear probing, so it holds as many entries as there are present organisms,
+ * whatever their ids, and a lookup doesn't allocate. Removals shift the following entries of the probe
+ * sequence back, so no tombstones are left behind.
+ */
+class OrganismSlots {
+    static final int ABSENT = -1;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final long MIXER = 0x9E3779B97F4A7C15L;
+
+    private long[] ids;
+    private int[] slots;
+    private int size;
+    private int shift;
+
+    /**
+     * Constructs an empty {@code OrganismSlots}.
+     */
+    OrganismSlots() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Returns the slot of the organism.
+     *
+     * @param organismId the id of the organism
+     * @return the slot, or {@link #ABSENT} if the organism isn't present
+     */
+    int get(long organismId) {
+        for (var bucket = bucket(organismId); slots[bucket] != ABSENT; bucket = next(bucket)) {
+            if (ids[bucket] == organismId) {
+                return slots[bucket];
+            }
+        }
+
+        return ABSENT;
+    }
+
+    /**
+     * Sets the slot of the organism, adding it if it isn't present.
+     *
+     * @param organismId the id of the organism
+     * @param slot       the slot, not negative
+     */
+    void put(long organismId, int slot) {
+        var bucket = bucket(organismId);
+        for (; slots[bucket] != ABSENT; bucket = next(bucket)) {
+            if (ids[bucket] == organismId) {
+                slots[bucket] = slot;
+                return;
+            }
+        }
+
+        ids[bucket] = organismId;
+        slots[bucket] = slot;
+        size++;
+        if (size * 2 > slots.length) {
+            grow();
+        }
+    }
+
+    /**
+     * Removes the organism.
+     *
+     * @param organismId the id of the organism
+     * @return the slot the organism has had, or {@link #ABSENT} if it hasn't been present
+     */
+    int remove(long organismId) {
+        var bucket = bucket(organismId);
+        for (; slots[bucket] != ABSENT; bucket = next(bucket)) {
+            if (ids[bucket] == organismId) {
+                break;
+            }
+        }
+
+        var slot = slots[bucket];
+        if (slot == ABSENT) {
+            return ABSENT;
+        }
+
+        var hole = bucket;
+        for (var current = next(hole); slots[current] != ABSENT; current = next(current)) {
+            var home = bucket(ids[current]);
+            if (((current - home) & (slots.length - 1)) >= ((current - hole) & (slots.length - 1))) {
+                ids[hole] = ids[current];
+                slots[hole] = slots[current];
+                hole = current;
+            }
+        }
+        slots[hole] = ABSENT;
+        size--;
+
+        return slot;
+    }
+
+    /**
+     * Returns the bucket the probe sequence of the id starts at.
+     *
+     * @param organismId the id of the organism
+     * @return the bucket
+     */
+    private int bucket(long organismId) {
+        return (int) ((organismId * MIXER) >>> shift);
+    }
+
+    /**
+     * Returns the bucket after the specified one, wrapping around at the end of the table.
+     *
+     * @param bucket the bucket
+     * @return the next bucket
+     */
+    private int next(int bucket) {
+        return (bucket + 1) & (slots.length - 1);
+    }
+
+    /**
+     * Doubles the table and puts the entries into their new buckets.
+     */
+    private void grow() {
+        var oldIds = ids;
+        var oldSlots = slots;
+
+        allocate(oldSlots.length * 2);
+        for (var i = 0; i < oldSlots.length; i++) {
+            if (oldSlots[i] != ABSENT) {
+                var bucket = bucket(oldIds[i]);
+                while (slots[bucket] != ABSENT) {
+                    bucket = next(bucket);
+                }
+                ids[bucket] = oldIds[i];
+                slots[bucket] = oldSlots[i];
+            }
+        }
+    }
+
+    /**
+     * Allocates an empty table of the capacity.
+     *
+     * @param capacity the number of buckets, a power of two
+     */
+    private void allocate(int capacity) {
+        ids = new long[capacity];
+        slots = new int[capacity];
+        shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+        Arrays.fill(slots, ABSENT);
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.replay;
+
+/**
+ * The {@code PopulationListener} interface is notified by the {@code ReplayState}
+ * every time the population of a species in a cell changes.
+ */
+@FunctionalInterface
+public interface PopulationListener {
+
+    /**
+     * Called after the population of the species in the cell has changed.
+     *
+     * @param cell      the row-major index of the cell
+     * @param speciesId the species id
+     * @param delta     the change of the population
+     */
+    void onPopulationChanged(int cell, int speciesId, int delta);
+}
@@ -0,0 +1,161 @@
+package org.example.replay;
+
+import org.example.persistence.JournalBatch;
+import org.example.persistence.JournalHeader;
+import org.example.persistence.JournalReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code ReplayEngine} class reconstructs the world at any tick of a recorded run by applying the events
+ * of its journal. No movement, feeding or mating decision is made again, so replaying a tick costs only as much
+ * as the number of its events.
+ * <p>
+ * The journal is indexed once when the engine is opened: a {@code Keyframe} is taken every {@code keyframeInterval}
+ * ticks. Seeking to a tick starts from the nearest keyframe before it, or continues from the current state
+ * when moving forward, so any tick is reached by applying at most {@code keyframeInterval} ticks of events.
+ */
+public class ReplayEngine implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(ReplayEngine.class);
+
+    private final JournalReader journalReader;
+    private final int keyframeInterval;
+    private final JournalBatch batch;
+    private final List<Keyframe> keyframes;
+    private ReplayState state;
+    private long lastTick;
+
+    /**
+     * Constructs a {@code ReplayEngine} for the journal.
+     *
+     * @param journalReader    the reader of the journal
+     * @param keyframeInterval the number of ticks between two keyframes
+     */
+    public ReplayEngine(JournalReader journalReader, int keyframeInterval) {
+        this.journalReader = journalReader;
+        this.keyframeInterval = keyframeInterval;
+        this.batch = new JournalBatch();
+        this.keyframes = new ArrayList<>();
+    }
+
+    /**
+     * Replays the whole journal once and takes the keyframes. It must be called before seeking.
+     */
+    public void open() {
+        var startNanos = System.nanoTime();
+        var header = journalReader.getHeader();
+
+        journalReader.seek(journalReader.getRecordsStart());
+        state = new ReplayState(header);
+        keyframes.clear();
+        keyframes.add(state.toKeyframe(journalReader.getRecordsStart()));
+
+        var events = 0L;
+        while (journalReader.readTick(batch)) {
+            state.apply(batch);
+            events += batch.size();
+
+            if (state.getTick() - keyframes.get(keyframes.size() - 1).tick() >= keyframeInterval) {
+                keyframes.add(state.toKeyframe(journalReader.getPosition()));
+            }
+        }
+        lastTick = state.getTick();
+
+        logger.info("Indexed {} events of {} ticks with {} keyframes in {} ms",
+                events, lastTick, keyframes.size(), (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    /**
+     * Returns the header of the journal.
+     *
+     * @return the header
+     */
+    public JournalHeader getHeader() {
+        return journalReader.getHeader();
+    }
+
+    /**
+     * Returns the last tick recorded in the journal.
+     *
+     * @return the last tick
+     */
+    public long getLastTick() {
+        return lastTick;
+    }
+
+    /**
+     * Returns the number of keyframes taken while opening the journal.
+     *
+     * @return the number of keyframes
+     */
+    public int getKeyframeAmount() {
+        return keyframes.size();
+    }
+
+    /**
+     * Reconstructs the world after the tick. Ticks after the end of the journal are clamped to the last tick.
+     * The returned state is reused by the next seek.
+     *
+     * @param tick the tick to seek to
+     * @return the state after the tick
+     */
+    public ReplayState seek(long tick) {
+        var targetTick = Math.max(0, Math.min(tick, lastTick));
+        var keyframe = findKeyframe(targetTick);
+
+        if (state.getTick() > targetTick || state.getTick() < keyframe.tick()) {
+            state = ReplayState.fromKeyframe(getHeader(), keyframe);
+            journalReader.seek(keyframe.position());
+        }
+
+        while (true) {
+            var position = journalReader.getPosition();
+            if (!journalReader.readTick(batch)) {
+                break;
+            }
+
+            if (batch.getTick() > targetTick) {
+                journalReader.seek(position);
+                break;
+            }
+
+            state.apply(batch);
+        }
+        state.advanceTo(targetTick);
+
+        return state;
+    }
+
+    /**
+     * Closes the journal.
+     */
+    @Override
+    public void close() {
+        journalReader.close();
+    }
+
+    /**
+     * Finds the last keyframe taken at or before the tick.
+     *
+     * @param tick the tick
+     * @return the keyframe
+     */
+    private Keyframe findKeyframe(long tick) {
+        var low = 0;
+        var high = keyframes.size() - 1;
+
+        while (low < high) {
+            var middle = (low + high + 1) >>> 1;
+            if (keyframes.get(middle).tick() <= tick) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return keyframes.get(low);
+    }
+}
@@ -0,0 +1,304 @@
+package org.example.replay;
+
+import org.example.persistence.JournalBatch;
+import org.example.persistence.JournalEventType;
+import org.example.persistence.JournalHeader;
+
+import java.util.Arrays;
+
+/**
+ * The {@code ReplayState} class is the world reconstructed from the event journal: the cell and the species
+ * of every organism present on the island, and the population of every species in every cell.
+ * The present organisms are kept in dense columns, and {@code OrganismSlots} maps their ids to their slots.
+ * A removed organism is replaced by the last one, so the columns and the map only grow with the number of present
+ * organisms, not with the largest id of the run, and applying an event is a lookup and a few array writes.
+ * <p>
+ * The events of a tick aren't ordered in the journal, so they are applied in the order of the phases:
+ * births, moves, deaths and removals. An animal moves at most once per tick and its move is recorded with
+ * its destination, so the moves of a tick give the same cells in any order. Events of organisms which aren't
+ * present, e.g. a move reordered after the removal of the organism, are ignored. An optional {@code PopulationListener} is told about every change
+ * of a population in a cell, so aggregates over regions can be maintained without scanning the cells.
+ */
+public class ReplayState {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final JournalHeader header;
+    private final int speciesAmount;
+    private final int[] populations;
+    private final long[] speciesPopulations;
+    private final PopulationListener populationListener;
+    private final OrganismSlots slotsById;
+    private long[] organismIds;
+    private int[] cells;
+    private short[] speciesIds;
+    private int presentAmount;
+    private long tick;
+    private long bornInTick;
+    private long diedInTick;
+    private long totalBorn;
+    private long totalKilled;
+    private long totalStarved;
+    private long totalDied;
+
+    /**
+     * Constructs an empty {@code ReplayState} of the island described by the journal header.
+     *
+     * @param header the header of the journal
+     */
+    public ReplayState(JournalHeader header) {
+        this(header, (cell, speciesId, delta) -> {
+        });
+    }
+
+    /**
+     * Constructs an empty {@code ReplayState} of the island described by the journal header,
+     * reporting the population changes to the listener.
+     *
+     * @param header             the header of the journal
+     * @param populationListener the listener of the population changes
+     */
+    public ReplayState(JournalHeader header, PopulationListener populationListener) {
+        this.header = header;
+        this.populationListener = populationListener;
+        this.speciesAmount = header.species().size();
+        this.populations = new int[header.getCellAmount() * speciesAmount];
+        this.speciesPopulations = new long[speciesAmount];
+        this.slotsById = new OrganismSlots();
+        this.organismIds = new long[INITIAL_CAPACITY];
+        this.cells = new int[INITIAL_CAPACITY];
+        this.speciesIds = new short[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Reconstructs the state from a keyframe.
+     *
+     * @param header   the header of the journal
+     * @param keyframe the keyframe
+     * @return the state after the tick of the keyframe
+     */
+    static ReplayState fromKeyframe(JournalHeader header, Keyframe keyframe) {
+        var state = new ReplayState(header);
+
+        for (var i = 0; i < keyframe.organismIds().length; i++) {
+            state.add(keyframe.organismIds()[i], keyframe.cells()[i], keyframe.speciesIds()[i]);
+        }
+
+        var totals = keyframe.totals();
+        state.tick = keyframe.tick();
+        state.bornInTick = totals.bornInTick();
+        state.diedInTick = totals.diedInTick();
+        state.totalBorn = totals.totalBorn();
+        state.totalKilled = totals.totalKilled();
+        state.totalStarved = totals.totalStarved();
+        state.totalDied = totals.totalDied();
+
+        return state;
+    }
+
+    /**
+     * Returns the header of the journal the state is replayed from.
+     *
+     * @return the header
+     */
+    public JournalHeader getHeader() {
+        return header;
+    }
+
+    /**
+     * Returns the tick the state has been replayed to.
+     *
+     * @return the tick
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Returns the number of organisms of the species on the island.
+     *
+     * @param speciesId the species id
+     * @return the population of the species
+     */
+    public long getPopulation(int speciesId) {
+        return speciesPopulations[speciesId];
+    }
+
+    /**
+     * Returns the number of organisms of the species in the cell.
+     *
+     * @param cell      the row-major index of the cell
+     * @param speciesId the species id
+     * @return the population of the species in the cell
+     */
+    public int getPopulation(int cell, int speciesId) {
+        return populations[cell * speciesAmount + speciesId];
+    }
+
+    /**
+     * Returns the number of organisms on the island.
+     *
+     * @return the total population
+     */
+    public long getTotalPopulation() {
+        return presentAmount;
+    }
+
+    /**
+     * Returns the event counters of the tick and of all ticks up to it.
+     *
+     * @return the counters
+     */
+    public ReplayTotals getTotals() {
+        return new ReplayTotals(bornInTick, diedInTick, totalBorn, totalKilled, totalStarved, totalDied);
+    }
+
+    /**
+     * Applies the events of the next tick, one event type after another in the order of the phases.
+     *
+     * @param batch the events of a tick after the current one
+     */
+    public void apply(JournalBatch batch) {
+        advanceTo(batch.getTick());
+
+        for (var i = 0; i < batch.size(); i++) {
+            if (batch.getType(i) == JournalEventType.BIRTH) {
+                add(batch.getOrganismId(i), batch.getCell(i), (short) batch.getSpeciesId(i));
+                bornInTick++;
+                totalBorn++;
+            }
+        }
+
+        for (var i = 0; i < batch.size(); i++) {
+            if (batch.getType(i) == JournalEventType.MOVE) {
+                move(batch.getOrganismId(i), batch.getCell(i));
+            }
+        }
+
+        for (var i = 0; i < batch.size(); i++) {
+            var type = batch.getType(i);
+            if (type == JournalEventType.KILL) {
+                totalKilled++;
+            } else if (type == JournalEventType.STARVATION) {
+                totalStarved++;
+            }
+        }
+
+        for (var i = 0; i < batch.size(); i++) {
+            if (batch.getType(i) == JournalEventType.REMOVAL && remove(batch.getOrganismId(i))) {
+                diedInTick++;
+                totalDied++;
+            }
+        }
+    }
+
+    /**
+     * Moves the state to a later tick without events, resetting the counters of the tick.
+     *
+     * @param nextTick the later tick
+     */
+    void advanceTo(long nextTick) {
+        if (nextTick <= tick) {
+            return;
+        }
+
+        tick = nextTick;
+        bornInTick = 0;
+        diedInTick = 0;
+    }
+
+    /**
+     * Copies the organisms present on the island into a keyframe.
+     *
+     * @param position the position of the first journal record after the tick
+     * @return the keyframe
+     */
+    Keyframe toKeyframe(long position) {
+        return new Keyframe(tick, position, Arrays.copyOf(organismIds, presentAmount), Arrays.copyOf(cells, presentAmount),
+                Arrays.copyOf(speciesIds, presentAmount), getTotals());
+    }
+
+    /**
+     * Puts the organism on the island.
+     *
+     * @param organismId the id of the organism
+     * @param cell       the cell of the organism
+     * @param speciesId  the species id of the organism
+     */
+    private void add(long organismId, int cell, short speciesId) {
+        if (slotsById.get(organismId) != OrganismSlots.ABSENT) {
+            return;
+        }
+
+        ensureCapacity();
+        var slot = presentAmount++;
+        organismIds[slot] = organismId;
+        cells[slot] = cell;
+        speciesIds[slot] = speciesId;
+        slotsById.put(organismId, slot);
+        populations[cell * speciesAmount + speciesId]++;
+        speciesPopulations[speciesId]++;
+        populationListener.onPopulationChanged(cell, speciesId, 1);
+    }
+
+    /**
+     * Moves the organism to another cell if it's on the island.
+     *
+     * @param organismId the id of the organism
+     * @param cell       the new cell of the organism
+     */
+    private void move(long organismId, int cell) {
+        var slot = slotsById.get(organismId);
+        if (slot == OrganismSlots.ABSENT) {
+            return;
+        }
+
+        var speciesId = speciesIds[slot];
+        populations[cells[slot] * speciesAmount + speciesId]--;
+        populations[cell * speciesAmount + speciesId]++;
+        populationListener.onPopulationChanged(cells[slot], speciesId, -1);
+        populationListener.onPopulationChanged(cell, speciesId, 1);
+        cells[slot] = cell;
+    }
+
+    /**
+     * Removes the organism from the island, moving the organism of the last slot into its slot.
+     *
+     * @param organismId the id of the organism
+     * @return {@code true} if the organism has been on the island
+     */
+    private boolean remove(long organismId) {
+        var slot = slotsById.remove(organismId);
+        if (slot == OrganismSlots.ABSENT) {
+            return false;
+        }
+
+        var speciesId = speciesIds[slot];
+        populations[cells[slot] * speciesAmount + speciesId]--;
+        speciesPopulations[speciesId]--;
+        populationListener.onPopulationChanged(cells[slot], speciesId, -1);
+
+        var lastSlot = --presentAmount;
+        if (slot != lastSlot) {
+            organismIds[slot] = organismIds[lastSlot];
+            cells[slot] = cells[lastSlot];
+            speciesIds[slot] = speciesIds[lastSlot];
+            slotsById.put(organismIds[slot], slot);
+        }
+
+        return true;
+    }
+
+    /**
+     * Grows the organism columns if they are full.
+     */
+    private void ensureCapacity() {
+        if (presentAmount < organismIds.length) {
+            return;
+        }
+
+        var newLength = presentAmount * 2;
+        organismIds = Arrays.copyOf(organismIds, newLength);
+        cells = Arrays.copyOf(cells, newLength);
+        speciesIds = Arrays.copyOf(speciesIds, newLength);
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.replay;
+
+/**
+ * The {@code ReplayTotals} record contains the event counters of a replayed tick and of all ticks up to it.
+ *
+ * @param bornInTick    the number of organisms born in the tick
+ * @param diedInTick    the number of dead organisms removed in the tick
+ * @param totalBorn     the number of organisms born up to the tick
+ * @param totalKilled   the number of organisms eaten up to the tick
+ * @param totalStarved  the number of animals starved up to the tick
+ * @param totalDied     the number of dead organisms removed up to the tick
+ */
+public record ReplayTotals(long bornInTick,
+                           long diedInTick,
+                           long totalBorn,
+                           long totalKilled,
+                           long totalStarved,
+                           long totalDied) {
+}
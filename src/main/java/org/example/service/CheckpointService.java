@@ -0,0 +1,356 @@
+package org.example.service;
+
+import org.example.config.PersistenceConfig;
+import org.example.entity.area.Area;
+import org.example.entity.location.Location;
+import org.example.entity.organism.Organism;
+import org.example.entity.organism.OrganismFactory;
+import org.example.entity.organism.OrganismRegistry;
+import org.example.entity.organism.animal.Animal;
+import org.example.exception.InvalidCheckpointFile;
+import org.example.metrics.Phase;
+import org.example.metrics.PhaseMetrics;
+import org.example.persistence.CellColumns;
+import org.example.persistence.Checkpoint;
+import org.example.persistence.CheckpointWriter;
+import org.example.persistence.WorldDelta;
+import org.example.persistence.WorldSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * The {@code CheckpointService} class takes checkpoints of the island and restores the island from them.
+ * A checkpoint is copied by the simulation thread between two iterations and written by the {@code CheckpointWriter}
+ * in the background. Besides the organisms it contains the organism ID counter, the statistics totals and a seed
+ * the random generators are reseeded with. Only that seed is restored: the worker threads split their generators
+ * from it in the order of their first draws, so a restored run doesn't repeat the draws made after the checkpoint.
+ * <p>
+ * Most checkpoints are deltas containing only the locations marked dirty since the previous checkpoint, so their
+ * size is proportional to the activity on the island rather than to its size. Every {@code fullCheckpointInterval}-th
+ * checkpoint is a full snapshot which compacts the deltas. The first checkpoint of a run is always a full one,
+ * and so is the one after a failed write, whose changes would be lost otherwise.
+ */
+public class CheckpointService implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(CheckpointService.class);
+
+    private final PersistenceConfig persistenceConfig;
+    private final CheckpointWriter checkpointWriter;
+    private final Checkpoint restoredCheckpoint;
+    private final OrganismRegistry organismRegistry;
+    private final OrganismFactory organismFactory;
+    private final HungerService hungerService;
+    private final StatisticsService statisticsService;
+    private final RandomizerService randomizerService;
+    private final PhaseMetrics phaseMetrics;
+    private int checkpointsSinceFull;
+
+    /**
+     * Constructs a {@code CheckpointService} with the specified dependencies.
+     *
+     * @param persistenceConfig  the configuration of the checkpoints
+     * @param checkpointWriter   the writer of the checkpoint files
+     * @param restoredCheckpoint the checkpoint read from the files, or {@code null} if the island is new
+     * @param organismRegistry   the registry providing the species ids
+     * @param organismFactory    the factory restoring the organisms
+     * @param hungerService      the service providing the current satiety of the animals
+     * @param statisticsService  the service providing the iteration and the statistics totals
+     * @param randomizerService  the service whose random generators are reseeded at every checkpoint
+     * @param phaseMetrics       the metrics recording the pauses for the copies
+     */
+    public CheckpointService(PersistenceConfig persistenceConfig,
+                             CheckpointWriter checkpointWriter,
+                             Checkpoint restoredCheckpoint,
+                             OrganismRegistry organismRegistry,
+                             OrganismFactory organismFactory,
+                             HungerService hungerService,
+                             StatisticsService statisticsService,
+                             RandomizerService randomizerService,
+                             PhaseMetrics phaseMetrics) {
+        this.persistenceConfig = persistenceConfig;
+        this.checkpointWriter = checkpointWriter;
+        this.restoredCheckpoint = restoredCheckpoint;
+        this.organismRegistry = organismRegistry;
+        this.organismFactory = organismFactory;
+        this.hungerService = hungerService;
+        this.statisticsService = statisticsService;
+        this.randomizerService = randomizerService;
+        this.phaseMetrics = phaseMetrics;
+        this.checkpointsSinceFull = persistenceConfig.fullCheckpointInterval();
+    }
+
+    /**
+     * Checks if the island is restored from a checkpoint instead of being populated.
+     *
+     * @return {@code true} if a checkpoint has been read
+     */
+    public boolean isRestoring() {
+        return restoredCheckpoint != null;
+    }
+
+    /**
+     * Puts the organisms of the checkpoint into the locations of the restored island and resumes the counters
+     * and the random state of the latest delta. Every cell is restored from the latest snapshot or delta containing it,
+     * and the satiety of its animals is reduced by the hunger of the iterations since then. The locations are restored
+     * in parallel.
+     *
+     * @param area the island created with the terrain of the checkpoint
+     * @throws InvalidCheckpointFile if the checkpoint has been written for other species
+     */
+    public void restore(Area area) {
+        var snapshot = restoredCheckpoint.snapshot();
+        var speciesClasses = getSpeciesClasses(snapshot);
+        var iteration = restoredCheckpoint.getIteration();
+        var latest = restoredCheckpoint.deltas().isEmpty() ? null : restoredCheckpoint.deltas().get(restoredCheckpoint.deltas().size() - 1);
+
+        statisticsService.restore(iteration, latest == null ? snapshot.totalDied() : latest.totalDied());
+        organismFactory.restoreLastOrganismId(latest == null ? snapshot.lastOrganismId() : latest.lastOrganismId());
+        randomizerService.reseed(latest == null ? snapshot.seed() : latest.seed());
+
+        var locations = getLocationsByCell(area);
+        var sources = new CellSource[locations.length];
+        addCellSources(sources, snapshot.cells(), snapshot.iteration());
+        restoredCheckpoint.deltas().forEach(delta -> addCellSources(sources, delta.cells(), delta.iteration()));
+
+        IntStream.range(0, locations.length)
+                 .parallel()
+                 .forEach(cell -> restoreLocation(sources[cell], speciesClasses, locations[cell], iteration));
+
+        logger.info("The island has been restored from the checkpoint of iteration {} with {} deltas", iteration, restoredCheckpoint.deltas().size());
+    }
+
+    /**
+     * Takes a checkpoint if the completed iteration is a multiple of the checkpoint interval and the previous
+     * checkpoint has been written. It must be called by the simulation thread between iterations.
+     *
+     * @param area the simulated area
+     */
+    public void onTickCompleted(Area area) {
+        if (!persistenceConfig.isCheckpointEnabled()) {
+            return;
+        }
+
+        var iteration = statisticsService.getSnapshot().iteration();
+        if (iteration % persistenceConfig.checkpointInterval() != 0 || !checkpointWriter.isReady()) {
+            return;
+        }
+
+        if (checkpointWriter.pollFailure() || checkpointsSinceFull >= persistenceConfig.fullCheckpointInterval()) {
+            var snapshot = phaseMetrics.time(Phase.CHECKPOINT, () -> takeSnapshot(area, iteration));
+            checkpointWriter.submit(snapshot);
+            checkpointsSinceFull = 1;
+        } else {
+            var delta = phaseMetrics.time(Phase.CHECKPOINT, () -> takeDelta(area, iteration));
+            checkpointWriter.submit(delta);
+            checkpointsSinceFull++;
+        }
+    }
+
+    /**
+     * Waits until the last checkpoint has been written.
+     */
+    @Override
+    public void close() {
+        checkpointWriter.close();
+    }
+
+    /**
+     * Copies the terrain and all locations into a snapshot.
+     *
+     * @param area      the simulated area
+     * @param iteration the completed iteration
+     * @return the snapshot
+     */
+    private WorldSnapshot takeSnapshot(Area area, long iteration) {
+        var locations = getLocationsByCell(area);
+        var terrain = new byte[locations.length];
+
+        for (var cell = 0; cell < locations.length; cell++) {
+            terrain[cell] = (byte) locations[cell].getLocationType().ordinal();
+        }
+
+        var cells = copyCells(locations, IntStream.range(0, locations.length).toArray());
+        var seed = reseed();
+        var species = organismRegistry.getSpecies().stream().map(Class::getName).toList();
+
+        return new WorldSnapshot(iteration, statisticsService.getTotalDiedOrganisms(), organismFactory.getLastOrganismId(), seed,
+                area.getHeight(), area.getWidth(), species, terrain, cells);
+    }
+
+    /**
+     * Copies the locations marked dirty since the previous checkpoint into a delta.
+     *
+     * @param area      the simulated area
+     * @param iteration the completed iteration
+     * @return the delta
+     */
+    private WorldDelta takeDelta(Area area, long iteration) {
+        var locations = getLocationsByCell(area);
+        var dirtyCells = IntStream.range(0, locations.length)
+                                  .filter(cell -> locations[cell].isDirty())
+                                  .toArray();
+
+        var cells = copyCells(locations, dirtyCells);
+        var seed = reseed();
+
+        return new WorldDelta(iteration, statisticsService.getTotalDiedOrganisms(), organismFactory.getLastOrganismId(), seed, cells);
+    }
+
+    /**
+     * Copies the alive organisms of the cells into columns and marks the copied locations as unchanged.
+     *
+     * @param locations the locations by cell
+     * @param cells     the cells to copy
+     * @return the columns of the cells
+     */
+    private CellColumns copyCells(Location[] locations, int[] cells) {
+        var organismCounts = new int[cells.length];
+        for (var i = 0; i < cells.length; i++) {
+            for (var organism : locations[cells[i]].getOrganisms()) {
+                if (organism.isAlive()) {
+                    organismCounts[i]++;
+                }
+            }
+        }
+
+        var organismAmount = Arrays.stream(organismCounts).sum();
+        var organismIds = new long[organismAmount];
+        var speciesIds = new short[organismAmount];
+        var satiety = new double[organismAmount];
+        var flags = new byte[organismAmount];
+
+        var index = 0;
+        for (var cell : cells) {
+            var location = locations[cell];
+            for (var organism : location.getOrganisms()) {
+                if (!organism.isAlive()) {
+                    continue;
+                }
+
+                organismIds[index] = organism.getId();
+                speciesIds[index] = (short) organismRegistry.getSpeciesId(organism.getClass());
+                if (organism instanceof Animal animal) {
+                    satiety[index] = hungerService.getSatiety(animal);
+                    flags[index] = animal.isReadyToMate() ? CellColumns.READY_TO_MATE : 0;
+                }
+                index++;
+            }
+            location.clearDirty();
+        }
+
+        return new CellColumns(cells, organismCounts, organismIds, speciesIds, satiety, flags);
+    }
+
+    /**
+     * Reseeds the random generators with a seed drawn from them.
+     *
+     * @return the new seed
+     */
+    private long reseed() {
+        var seed = randomizerService.nextSeed();
+        randomizerService.reseed(seed);
+
+        return seed;
+    }
+
+    /**
+     * Makes the columns the source of their cells, replacing the sources of older checkpoints.
+     *
+     * @param sources   the sources by cell
+     * @param columns   the columns of a snapshot or delta
+     * @param iteration the iteration of the snapshot or delta
+     */
+    private static void addCellSources(CellSource[] sources, CellColumns columns, long iteration) {
+        var offsets = columns.getOffsets();
+
+        for (var i = 0; i < columns.getCellAmount(); i++) {
+            sources[columns.cells()[i]] = new CellSource(columns, offsets[i], offsets[i + 1], iteration);
+        }
+    }
+
+    /**
+     * Restores the organisms of a cell, one batch per species. The satiety of the animals is reduced by the hunger
+     * of the iterations between the checkpoint of the cell and the restored iteration.
+     *
+     * @param source         the columns the cell is restored from
+     * @param speciesClasses the classes of the species, indexed by species id
+     * @param location       the location of the cell
+     * @param iteration      the restored iteration
+     */
+    private void restoreLocation(CellSource source, List<Class<? extends Organism>> speciesClasses, Location location, long iteration) {
+        if (source.from() == source.to()) {
+            location.clearDirty();
+            return;
+        }
+
+        var columns = source.columns();
+        var batches = new ArrayList<List<Organism>>(speciesClasses.size());
+        for (var i = 0; i < speciesClasses.size(); i++) {
+            batches.add(new ArrayList<>());
+        }
+
+        for (var index = source.from(); index < source.to(); index++) {
+            var speciesId = columns.speciesIds()[index];
+            var organism = organismFactory.restoreOrganism(speciesClasses.get(speciesId), location.getCoordinate(), columns.organismIds()[index]);
+            if (organism instanceof Animal animal) {
+                var satiety = hungerService.getSatietyAfter(animal, columns.satiety()[index], iteration - source.iteration());
+                animal.restoreState(satiety, (columns.flags()[index] & CellColumns.READY_TO_MATE) != 0);
+            }
+            batches.get(speciesId).add(organism);
+        }
+
+        batches.forEach(batch -> organismFactory.addRestoredOrganisms(location, batch));
+        location.clearDirty();
+    }
+
+    /**
+     * Resolves the species of the checkpoint, which must be the registered ones in the same order.
+     *
+     * @param snapshot the snapshot read from the checkpoint
+     * @return the classes of the species, indexed by species id
+     * @throws InvalidCheckpointFile if the species don't match
+     */
+    private List<Class<? extends Organism>> getSpeciesClasses(WorldSnapshot snapshot) {
+        var species = organismRegistry.getSpecies();
+        var speciesNames = species.stream().map(Class::getName).toList();
+
+        if (!speciesNames.equals(snapshot.species())) {
+            throw new InvalidCheckpointFile("The checkpoint has been written for species %s, but %s are registered.".formatted(snapshot.species(), speciesNames));
+        }
+
+        return species;
+    }
+
+    /**
+     * Returns the locations of the area indexed by their cell in row-major order.
+     *
+     * @param area the area
+     * @return the locations by cell
+     */
+    private static Location[] getLocationsByCell(Area area) {
+        var locations = new Location[area.getHeight() * area.getWidth()];
+
+        for (var location : area.getLocations()) {
+            var coordinate = location.getCoordinate();
+            locations[coordinate.y() * area.getWidth() + coordinate.x()] = location;
+        }
+
+        return locations;
+    }
+
+    /**
+     * The {@code CellSource} record is the range of the organisms of a cell in the columns of the latest
+     * snapshot or delta containing the cell.
+     *
+     * @param columns   the columns of the snapshot or delta
+     * @param from      the index of the first organism of the cell
+     * @param to        the index after the last organism of the cell
+     * @param iteration the iteration of the snapshot or delta
+     */
+    private record CellSource(CellColumns columns, int from, int to, long iteration) {
+    }
+}
@@ -2,6 +2,9 @@ package org.example.service;
 
 import org.example.entity.area.Area;
 import org.example.entity.location.Location;
+import org.example.metrics.Phase;
+import org.example.metrics.PhaseMetrics;
+import org.example.statistics.StatisticsAccumulator;
 
 /**
  * The {@code DeadOrganismRemover} class is responsible for removing dead organisms
@@ -9,38 +12,68 @@ import org.example.entity.location.Location;
  */
 public class DeadOrganismRemover {
     private final StatisticsService statisticsService;
+    private final PhaseMetrics phaseMetrics;
+    private final PhaseScheduler phaseScheduler;
+    private final JournalService journalService;
+    private final HungerService hungerService;
 
     /**
      * Constructs a new {@code DeadOrganismRemover} with the specified {@code StatisticsService}.
      *
-     * @param statisticsService the {@code StatisticsService} used to register dead and alive organisms
+     * @param statisticsService the {@code StatisticsService} used to register dead organisms
+     * @param phaseMetrics      the metrics recording phase latencies
+     * @param phaseScheduler    the scheduler distributing the locations among the workers
+     * @param journalService    the service recording the removed organisms
+     * @param hungerService     the service whose starvation schedule releases the removed animals
      */
-    public DeadOrganismRemover(StatisticsService statisticsService) {
+    public DeadOrganismRemover(StatisticsService statisticsService,
+                               PhaseMetrics phaseMetrics,
+                               PhaseScheduler phaseScheduler,
+                               JournalService journalService,
+                               HungerService hungerService) {
         this.statisticsService = statisticsService;
+        this.phaseMetrics = phaseMetrics;
+        this.phaseScheduler = phaseScheduler;
+        this.journalService = journalService;
+        this.hungerService = hungerService;
     }
 
     /**
      * Removes dead organisms from all locations within the specified {@code Area}.
-     * This method processes locations in parallel.
+     * This method processes partitions of locations in parallel. Every worker counts organisms in its own accumulator,
+     * and the merged result is published to the {@code StatisticsService} once.
      *
      * @param area the {@code Area} from which dead organisms are to be removed
      */
     public void removeDeadOrganisms(Area area) {
-        area.getLocations()
-            .parallelStream()
-            .forEach(this::removeDeadOrganismsInLocation);
+        var accumulator = phaseMetrics.time(Phase.CLEANUP, () -> phaseScheduler.collectOverLocations(Phase.CLEANUP, area,
+                StatisticsAccumulator::new, this::removeDeadOrganismsInLocation, StatisticsAccumulator::merge));
+
+        statisticsService.publish(accumulator);
     }
 
     /**
-     * Removes dead organisms from the specified {@code Location} and updates statistics.
+     * Removes dead organisms from the specified {@code Location} and counts them in the accumulator.
      *
-     * @param location the {@code Location} from which dead organisms are to be removed
+     * @param accumulator the accumulator of the current worker
+     * @param location    the {@code Location} from which dead organisms are to be removed
      */
-    private void removeDeadOrganismsInLocation(Location location) {
-        var deadOrganismsInLocation = location.getDeadOrganisms();
-        var aliveOrganismsInLocation = location.getAiveOrganisms();
-        statisticsService.registerDeadOrganisms(deadOrganismsInLocation);
-        statisticsService.registerAliveOrganisms(aliveOrganismsInLocation);
-        location.removeDeadOrganisms();
+    private void removeDeadOrganismsInLocation(StatisticsAccumulator accumulator, Location location) {
+        var lock = location.getReentrantLock();
+
+        lock.lock();
+        try {
+            for (var organism : location.getOrganisms()) {
+                if (!organism.isAlive()) {
+                    accumulator.registerDeadOrganism(organism);
+                    journalService.recordRemoval(organism);
+                    hungerService.unregisterOrganism(organism);
+                }
+            }
+
+            location.removeDeadOrganisms();
+        } finally {
+            lock.unlock();
+        }
     }
 }
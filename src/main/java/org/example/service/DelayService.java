@@ -1,29 +1,48 @@
 package org.example.service;
 
+import java.util.concurrent.TimeUnit;
+
 /**
- * The {@code DelayService} class provides a method to introduce a delay
- * based on a specified latency.
+ * The {@code DelayService} class paces the iterations of the simulation to a target period.
+ * The start of every iteration is measured with {@link System#nanoTime()}, and the delay after it only sleeps
+ * for the remainder of the period, so the time spent on the iteration itself isn't added to it.
+ * Iterations which take longer than the period aren't delayed at all.
  */
 public class DelayService {
-    private final int latency;
+    private final long periodNanos;
+    private long tickStartNanos;
 
     /**
      * Constructs a new {@code DelayService} with the specified latency.
      *
-     * @param latency the delay duration in milliseconds
+     * @param latency the target period of an iteration in milliseconds, or {@code 0} to run iterations back-to-back
      */
     public DelayService(int latency) {
-        this.latency = latency;
+        this.periodNanos = TimeUnit.MILLISECONDS.toNanos(latency);
+        this.tickStartNanos = System.nanoTime();
     }
 
     /**
-     * Introduces a delay for the duration specified by the latency.
-     * This method catches and ignores {@code InterruptedException}.
+     * Marks the start of an iteration.
+     */
+    public void startTick() {
+        tickStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Sleeps for the rest of the period of the current iteration.
+     * The interrupt status is restored if the sleep is interrupted.
      */
     public void delay() {
+        var remainingNanos = periodNanos - (System.nanoTime() - tickStartNanos);
+        if (remainingNanos <= 0) {
+            return;
+        }
+
         try {
-            Thread.sleep(latency);
-        } catch (InterruptedException ignored) {
+            TimeUnit.NANOSECONDS.sleep(remainingNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
     }
 }
@@ -0,0 +1,22 @@
+package org.example.service;
+
+/**
+ * The {@code ExecutionMode} enum lists the ways the {@code PhaseScheduler} can run a phase.
+ */
+public enum ExecutionMode {
+    /**
+     * All locations are processed by the simulation thread, without fork-join overhead.
+     */
+    SEQUENTIAL,
+
+    /**
+     * Partitions of locations are processed in parallel, the organisms of a location sequentially.
+     */
+    CHUNKED,
+
+    /**
+     * Partitions of locations are processed in parallel, and the organisms of crowded locations are
+     * processed in parallel as well.
+     */
+    NESTED
+}
@@ -4,15 +4,15 @@ import org.example.entity.area.Area;
 import org.example.entity.location.Location;
 import org.example.entity.organism.Organism;
 import org.example.entity.organism.animal.Animal;
-import org.example.logger.TimeExecutionLogger;
+import org.example.metrics.LocationCostTracker;
+import org.example.metrics.Phase;
+import org.example.metrics.PhaseMetrics;
 import org.example.provider.DietProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * The {@code FeedingService} class manages the feeding process of animals
@@ -25,8 +25,11 @@ public class FeedingService {
     private final DietProvider dietProvider;
     private final RandomizerService randomizerService;
     private final StatisticsService statisticsService;
-    private final TimeExecutionLogger timeExecutionLogger;
-    private final Queue<Organism> deadAnimals;
+    private final HungerService hungerService;
+    private final JournalService journalService;
+    private final PhaseMetrics phaseMetrics;
+    private final LocationCostTracker locationCostTracker;
+    private final PhaseScheduler phaseScheduler;
 
     /**
      * Constructs a new {@code FeedingService} with the specified dependencies.
@@ -34,17 +37,28 @@ public class FeedingService {
      * @param dietProvider the provider for diet configurations
      * @param randomizerService the service for randomization tasks
      * @param statisticsService the service for updating statistics
-     * @param timeExecutionLogger the logger for timing executions
+     * @param hungerService the service managing satiety of the animals
+     * @param journalService the service recording the eaten organisms
+     * @param phaseMetrics the metrics recording phase latencies
+     * @param locationCostTracker the tracker attributing the feeding cost to the locations
+     * @param phaseScheduler the scheduler distributing the locations among the workers
      */
     public FeedingService(DietProvider dietProvider,
                           RandomizerService randomizerService,
                           StatisticsService statisticsService,
-                          TimeExecutionLogger timeExecutionLogger) {
+                          HungerService hungerService,
+                          JournalService journalService,
+                          PhaseMetrics phaseMetrics,
+                          LocationCostTracker locationCostTracker,
+                          PhaseScheduler phaseScheduler) {
         this.dietProvider = dietProvider;
         this.randomizerService = randomizerService;
         this.statisticsService = statisticsService;
-        this.timeExecutionLogger = timeExecutionLogger;
-        this.deadAnimals = new ConcurrentLinkedQueue<>();
+        this.hungerService = hungerService;
+        this.journalService = journalService;
+        this.phaseMetrics = phaseMetrics;
+        this.locationCostTracker = locationCostTracker;
+        this.phaseScheduler = phaseScheduler;
     }
 
     /**
@@ -53,34 +67,41 @@ public class FeedingService {
      * @param area the area where the feeding process takes place
      */
     public void feed(Area area) {
-        timeExecutionLogger.logExecutionTime("Feeding", feedAnimals(area));
-        statisticsService.registerDeadOrganisms(deadAnimals.stream().toList());
+        phaseMetrics.time(Phase.FEEDING, feedAnimals(area));
     }
 
     /**
      * Returns a {@link Runnable} that initiates the feeding process for all animals
-     * in the given area in parallel.
+     * in the given area in parallel, one partition of locations per task. The number of eaten organisms
+     * is summed up per worker and registered in the statistics once.
      *
      * @param area the area where the feeding process takes place
      * @return a {@link Runnable} for the feeding process
      */
     private Runnable feedAnimals(Area area) {
-        return () -> area.getLocations()
-                .parallelStream()
-                .forEach(this::feedAnimalsByLocation);
+        return () -> {
+            var killedOrganisms = phaseScheduler.sumOverLocations(Phase.FEEDING, area, this::feedAnimalsByLocation);
+
+            statisticsService.registerKilledOrganisms(killedOrganisms);
+        };
     }
 
     /**
      * Feeds animals in a specific location.
      *
      * @param location the location where the animals are to be fed
+     * @return the number of organisms eaten in the location
      */
-    private void feedAnimalsByLocation(Location location) {
+    private long feedAnimalsByLocation(Location location) {
+        var startCpuNanos = locationCostTracker.start(phaseScheduler.getExecutionMode(Phase.FEEDING));
         var groupedOrganismsByClass = location.getGroupedOrganismsByClass();
+        var animals = location.getAnimals();
+
+        var killedOrganisms = phaseScheduler.count(Phase.FEEDING, animals, animal -> feedAnimal(animal, groupedOrganismsByClass));
+
+        locationCostTracker.record(Phase.FEEDING, location, startCpuNanos, animals.size());
 
-        location.getAnimals()
-                .parallelStream()
-                .forEach(animal -> feedAnimal(animal, groupedOrganismsByClass));
+        return killedOrganisms;
     }
 
     /**
@@ -88,21 +109,22 @@ public class FeedingService {
      *
      * @param animal the animal to be fed
      * @param groupedOrganisms a map of organisms grouped by their class
+     * @return {@code true} if the animal has eaten a prey, {@code false} otherwise
      */
-    private void feedAnimal(Animal animal, Map<Class<?>, List<Organism>> groupedOrganisms) {
+    private boolean feedAnimal(Animal animal, Map<Class<?>, List<Organism>> groupedOrganisms) {
         var animalClassNameWithId = animal.getClass().getSimpleName() + animal.getId();
 
         logger.debug("Feeding animal {} at {}", animalClassNameWithId, animal.getCoordinate());
 
         if (!animal.isAlive()) {
             logger.debug("Animal {} is already dead", animalClassNameWithId);
-            return;
+            return false;
         }
 
         var preys = getPossiblePreys(animal, groupedOrganisms);
         if (preys.isEmpty()) {
             logger.debug("No preys found for {}", animalClassNameWithId);
-            return;
+            return false;
         }
 
         logger.debug("Prey list: {}", preys);
@@ -111,13 +133,18 @@ public class FeedingService {
         var preyClassNameWithId = prey.getClass().getSimpleName() + prey.getId();
         if (!isPreyCaught(animal, prey)) {
             logger.debug("Animal {} didn't catch {}", animalClassNameWithId, preyClassNameWithId);
-            return;
+            return false;
         }
 
         logger.debug("Animal {} caught {}", animalClassNameWithId, preyClassNameWithId);
 
-        animal.eat(prey);
-        deadAnimals.add(prey);
+        if (!hungerService.feed(animal, prey)) {
+            return false;
+        }
+
+        journalService.recordKill(prey);
+
+        return true;
     }
 
     /**
@@ -0,0 +1,19 @@
+package org.example.service;
+
+/**
+ * The {@code HungerKernel} interface defines a computation that applies one tick of hunger
+ * to a block of satiety values that belong to animals of the same species.
+ */
+public interface HungerKernel {
+
+    /**
+     * Decreases the first {@code length} satiety values by the specified decrement and marks
+     * the values that fell below zero as not alive.
+     *
+     * @param satiety   the satiety values, updated in place
+     * @param alive     the output flags, {@code true} if the animal survives the tick
+     * @param length    the number of values to process
+     * @param decrement the satiety loss per tick
+     */
+    void applyHunger(double[] satiety, boolean[] alive, int length, double decrement);
+}
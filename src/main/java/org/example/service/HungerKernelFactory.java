@@ -0,0 +1,35 @@
+package org.example.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@code HungerKernelFactory} class chooses the {@code HungerKernel} implementation for the current runtime.
+ * The vectorised kernel is used when the JVM was started with {@code --add-modules jdk.incubator.vector},
+ * otherwise the scalar kernel is used.
+ */
+public class HungerKernelFactory {
+    private static final Logger logger = LoggerFactory.getLogger(HungerKernelFactory.class);
+    private static final String VECTOR_MODULE_NAME = "jdk.incubator.vector";
+
+    /**
+     * Creates the fastest {@code HungerKernel} supported by the current runtime.
+     *
+     * @return the hunger kernel
+     */
+    public HungerKernel createHungerKernel() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE_NAME).isEmpty()) {
+            logger.info("Module {} isn't enabled, the scalar hunger kernel is used", VECTOR_MODULE_NAME);
+            return new ScalarHungerKernel();
+        }
+
+        try {
+            var hungerKernel = new VectorHungerKernel();
+            logger.info("The vector hunger kernel is used");
+            return hungerKernel;
+        } catch (LinkageError e) {
+            logger.warn("Can't initialize the vector hunger kernel, the scalar hunger kernel is used", e);
+            return new ScalarHungerKernel();
+        }
+    }
+}
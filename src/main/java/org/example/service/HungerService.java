@@ -2,21 +2,81 @@ package org.example.service;
 
 import org.example.entity.area.Area;
 import org.example.entity.location.Location;
+import org.example.entity.organism.Organism;
+import org.example.entity.organism.animal.Animal;
+import org.example.metrics.Phase;
+import org.example.metrics.PhaseMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * The {@code HungerService} class manages the increase of hunger levels
  * for animals within specified locations of an area.
+ * <p>
+ * In the eager mode, animals of the same species in a location are processed as one block by a {@code HungerKernel}
+ * every tick. In the lazy mode, every animal keeps its satiety together with the tick it was measured at,
+ * and the current satiety is derived only when the animal eats. Since the starvation tick is known in advance,
+ * animals are put on a starvation schedule and the hunger phase only touches the animals that die or have eaten.
+ * An animal has a single entry in the schedule: it's moved when the animal eats and dropped when the animal
+ * is removed from the island, so the schedule doesn't keep eaten animals until their starvation tick.
+ * </p>
  */
 public class HungerService {
+    private static final Logger logger = LoggerFactory.getLogger(HungerService.class);
+
     private final double hungerRatio;
+    private final boolean isLazy;
+    private final HungerKernel hungerKernel;
+    private final StatisticsService statisticsService;
+    private final JournalService journalService;
+    private final PhaseMetrics phaseMetrics;
+    private final PhaseScheduler phaseScheduler;
+    private final ThreadLocal<HungerBlock> hungerBlocks;
+    private final Map<Long, Set<Animal>> starvationSchedule;
+    private final Queue<Animal> fedAnimals;
 
     /**
      * Constructs a new {@code HungerService} with the specified hunger ratio.
      *
-     * @param hungerRatio the ratio by which hunger levels are increased
+     * @param hungerRatio       the ratio by which hunger levels are increased
+     * @param isLazy            {@code true} to derive satiety on demand, {@code false} to update it every tick
+     * @param hungerKernel      the kernel that applies hunger to blocks of satiety values
+     * @param statisticsService the service providing the current tick
+     * @param journalService    the service recording the starvations
+     * @param phaseMetrics      the metrics recording phase latencies
+     * @param phaseScheduler    the scheduler distributing the locations among the workers
+     * @throws IllegalArgumentException if the hunger ratio is negative
      */
-    public HungerService(double hungerRatio) {
+    public HungerService(double hungerRatio,
+                         boolean isLazy,
+                         HungerKernel hungerKernel,
+                         StatisticsService statisticsService,
+                         JournalService journalService,
+                         PhaseMetrics phaseMetrics,
+                         PhaseScheduler phaseScheduler) {
+        if (hungerRatio < 0) {
+            throw new IllegalArgumentException("Hunger ratio can't be a negative number=" + hungerRatio);
+        }
+
         this.hungerRatio = hungerRatio;
+        this.isLazy = isLazy;
+        this.hungerKernel = hungerKernel;
+        this.statisticsService = statisticsService;
+        this.journalService = journalService;
+        this.phaseMetrics = phaseMetrics;
+        this.phaseScheduler = phaseScheduler;
+        this.hungerBlocks = ThreadLocal.withInitial(HungerBlock::new);
+        this.starvationSchedule = new ConcurrentHashMap<>();
+        this.fedAnimals = new ConcurrentLinkedQueue<>();
     }
 
     /**
@@ -25,19 +85,236 @@ public class HungerService {
      * @param area the area where animals' hunger levels are increased
      */
     public void increaseHunger(Area area) {
-        area.getLocations()
-            .parallelStream()
-            .forEach(this::increaseHungerInLocation);
+        phaseMetrics.time(Phase.HUNGER, increaseHungerOfAnimals(area));
+    }
+
+    /**
+     * Returns a runnable that increases the hunger levels either through the starvation schedule or eagerly
+     * in each location of the area in parallel, one partition of locations per task.
+     *
+     * @param area the area where animals' hunger levels are increased
+     * @return a runnable for increasing hunger
+     */
+    private Runnable increaseHungerOfAnimals(Area area) {
+        if (isLazy) {
+            return this::starveScheduledAnimals;
+        }
+
+        return () -> phaseScheduler.forEachLocation(Phase.HUNGER, area, this::increaseHungerInLocation);
     }
 
     /**
-     * Increases the hunger level for animals in a specific location.
+     * Makes the animal eat the prey. In the lazy mode the satiety of the animal is brought up to date
+     * before eating and the animal is rescheduled for starvation according to its new satiety.
+     *
+     * @param animal the animal that eats
+     * @param prey   the organism to be eaten
+     * @return {@code true} if the prey has been eaten, {@code false} if it was already dead
+     */
+    public boolean feed(Animal animal, Organism prey) {
+        if (!isLazy) {
+            return animal.eat(prey);
+        }
+
+        if (!prey.isAlive()) {
+            return false;
+        }
+
+        unscheduleStarvation(animal);
+        animal.settleSatiety(statisticsService.getCurrentIterationCounter(), hungerRatio);
+        if (!animal.eat(prey)) {
+            scheduleStarvation(animal);
+            return false;
+        }
+
+        fedAnimals.add(animal);
+        scheduleStarvation(animal);
+
+        return true;
+    }
+
+    /**
+     * Returns the satiety of the animal at the start of the current tick. In the lazy mode it's derived
+     * from the stored satiety, otherwise the stored satiety is up to date.
+     *
+     * @param animal the animal
+     * @return the current satiety of the animal
+     */
+    public double getSatiety(Animal animal) {
+        if (!isLazy) {
+            return animal.getSatiety();
+        }
+
+        return animal.getSatiety(statisticsService.getCurrentIterationCounter(), hungerRatio);
+    }
+
+    /**
+     * Returns the satiety the animal will have the specified number of ticks later, unless it eats in between.
+     *
+     * @param animal  the animal
+     * @param satiety the current satiety of the animal
+     * @param ticks   the number of ticks
+     * @return the satiety after the ticks
+     */
+    public double getSatietyAfter(Animal animal, double satiety, long ticks) {
+        return satiety - animal.getCharacteristics().foodForSatiety() * hungerRatio * ticks;
+    }
+
+    /**
+     * Registers newly created animals in the lazy mode: their satiety is stamped with the current tick
+     * and they are put on the starvation schedule. Other organisms are ignored.
+     *
+     * @param location  the location where the organisms have been created
+     * @param organisms the created organisms
+     */
+    public void registerOrganisms(Location location, List<Organism> organisms) {
+        if (!isLazy) {
+            return;
+        }
+
+        var currentTick = statisticsService.getCurrentIterationCounter();
+        for (var organism : organisms) {
+            if (organism instanceof Animal animal) {
+                animal.stampSatiety(currentTick);
+                scheduleStarvation(animal);
+            }
+        }
+    }
+
+    /**
+     * Drops the entry of a removed animal from the starvation schedule in the lazy mode. Other organisms are ignored.
+     *
+     * @param organism the removed organism
+     */
+    public void unregisterOrganism(Organism organism) {
+        if (isLazy && organism instanceof Animal animal) {
+            unscheduleStarvation(animal);
+        }
+    }
+
+    /**
+     * Puts the animal on the starvation schedule according to its current satiety.
+     *
+     * @param animal the animal to schedule
+     */
+    private void scheduleStarvation(Animal animal) {
+        var starvationTick = animal.getStarvationTick(hungerRatio);
+
+        if (starvationTick == Long.MAX_VALUE) {
+            return;
+        }
+
+        starvationSchedule.computeIfAbsent(starvationTick, tick -> ConcurrentHashMap.newKeySet()).add(animal);
+    }
+
+    /**
+     * Removes the animal from the entry of the starvation schedule its current satiety has put it on.
+     * The emptied sets are kept until their tick, since a concurrent scheduling may be adding to them.
+     *
+     * @param animal the animal to remove
+     */
+    private void unscheduleStarvation(Animal animal) {
+        var scheduledAnimals = starvationSchedule.get(animal.getStarvationTick(hungerRatio));
+
+        if (scheduledAnimals != null) {
+            scheduledAnimals.remove(animal);
+        }
+    }
+
+    /**
+     * Kills the animals scheduled to starve in the current tick and resets the readiness to mate
+     * of the animals that have eaten in it. The starvation tick is checked again to be safe against an entry
+     * which hasn't been moved, e.g. of an animal restored with another satiety.
+     */
+    private void starveScheduledAnimals() {
+        var currentTick = statisticsService.getCurrentIterationCounter();
+
+        Animal fedAnimal;
+        while ((fedAnimal = fedAnimals.poll()) != null) {
+            fedAnimal.clearReadinessToMate();
+        }
+
+        var scheduledAnimals = starvationSchedule.remove(currentTick);
+        if (scheduledAnimals == null) {
+            return;
+        }
+
+        var starvedAnimals = 0;
+        for (var animal : scheduledAnimals) {
+            if (animal.isAlive() && animal.getStarvationTick(hungerRatio) == currentTick) {
+                animal.settleSatiety(currentTick + 1, hungerRatio);
+                animal.die();
+                journalService.recordStarvation(animal);
+                starvedAnimals++;
+            }
+        }
+
+        logger.debug("{} animals starved at tick {}", starvedAnimals, currentTick);
+    }
+
+    /**
+     * Increases the hunger level for animals in a specific location, one species block at a time.
      *
      * @param location the location where animals' hunger levels are increased
      */
     private void increaseHungerInLocation(Location location) {
-        location.getAnimals()
-                .parallelStream()
-                .forEach(animal -> animal.hunger(hungerRatio));
+        var speciesBlocks = new LinkedHashMap<Class<?>, List<Animal>>();
+
+        for (var organism : location.getOrganisms()) {
+            if (organism instanceof Animal animal && animal.isAlive()) {
+                speciesBlocks.computeIfAbsent(animal.getClass(), key -> new ArrayList<>()).add(animal);
+            }
+        }
+
+        speciesBlocks.values().forEach(this::increaseHungerInSpeciesBlock);
+        if (!speciesBlocks.isEmpty()) {
+            location.markDirty();
+        }
+    }
+
+    /**
+     * Gathers the satiety of animals of the same species, applies the hunger kernel and writes the result back.
+     *
+     * @param animals the alive animals of the same species
+     */
+    private void increaseHungerInSpeciesBlock(List<Animal> animals) {
+        var size = animals.size();
+        var block = hungerBlocks.get();
+        block.ensureCapacity(size);
+
+        for (int i = 0; i < size; i++) {
+            block.satiety[i] = animals.get(i).getSatiety();
+        }
+
+        var decrement = animals.get(0).getCharacteristics().foodForSatiety() * hungerRatio;
+        hungerKernel.applyHunger(block.satiety, block.alive, size, decrement);
+
+        for (int i = 0; i < size; i++) {
+            animals.get(i).updateHungerState(block.satiety[i], block.alive[i]);
+            if (!block.alive[i]) {
+                journalService.recordStarvation(animals.get(i));
+            }
+        }
+    }
+
+    /**
+     * Reusable per-thread buffers for satiety values and survival flags of a species block.
+     */
+    private static class HungerBlock {
+        private double[] satiety = new double[64];
+        private boolean[] alive = new boolean[64];
+
+        /**
+         * Grows the buffers if they can't hold the specified number of values.
+         *
+         * @param size the required number of values
+         */
+        private void ensureCapacity(int size) {
+            if (satiety.length < size) {
+                var capacity = Math.max(size, satiety.length * 2);
+                satiety = new double[capacity];
+                alive = new boolean[capacity];
+            }
+        }
     }
 }
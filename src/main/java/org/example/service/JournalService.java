@@ -0,0 +1,139 @@
+package org.example.service;
+
+import org.example.entity.coordinate.Coordinate;
+import org.example.entity.location.Location;
+import org.example.entity.organism.Organism;
+import org.example.entity.organism.OrganismRegistry;
+import org.example.persistence.JournalEventType;
+import org.example.persistence.JournalWriter;
+
+import java.util.List;
+
+/**
+ * The {@code JournalService} class records the lifecycle events of the organisms into the event journal.
+ * Every event is stamped with the iteration in progress, the id, the species id and the cell of the organism.
+ * The organisms created between iterations, e.g. the regrown plants, are stamped with the next iteration.
+ * All methods return immediately if the journal is disabled.
+ * <p>
+ * A journal describes a single run: it's replaced at the start of the run, and when the island is restored
+ * from a checkpoint the restored organisms are recorded as born in the restored iteration.
+ */
+public class JournalService implements AutoCloseable {
+    private final JournalWriter journalWriter;
+    private final OrganismRegistry organismRegistry;
+    private final StatisticsService statisticsService;
+    private final int width;
+
+    /**
+     * Constructs a {@code JournalService} with the specified dependencies.
+     *
+     * @param journalWriter     the writer of the journal file
+     * @param organismRegistry  the registry providing the species ids
+     * @param statisticsService the service providing the iteration in progress
+     * @param width             the width of the island, used to compute the cell indexes
+     */
+    public JournalService(JournalWriter journalWriter, OrganismRegistry organismRegistry, StatisticsService statisticsService, int width) {
+        this.journalWriter = journalWriter;
+        this.organismRegistry = organismRegistry;
+        this.statisticsService = statisticsService;
+        this.width = width;
+    }
+
+    /**
+     * Records the birth of the organisms created in a location. It's registered as an organism creation listener.
+     *
+     * @param location  the location where the organisms have been placed
+     * @param organisms the created organisms
+     */
+    public void recordBirths(Location location, List<Organism> organisms) {
+        if (!journalWriter.isEnabled()) {
+            return;
+        }
+
+        for (var organism : organisms) {
+            record(JournalEventType.BIRTH, organism);
+        }
+    }
+
+    /**
+     * Records the move of an animal to its destination cell. It must be called while the locations of the move
+     * are locked, so the destination is the one of this move, and every animal moves at most once per iteration,
+     * so the order of the moves within the iteration doesn't matter.
+     *
+     * @param organism    the moved animal
+     * @param destination the coordinate the animal has moved to
+     */
+    public void recordMove(Organism organism, Coordinate destination) {
+        record(JournalEventType.MOVE, organism, destination);
+    }
+
+    /**
+     * Records that an organism has been eaten.
+     *
+     * @param organism the eaten organism
+     */
+    public void recordKill(Organism organism) {
+        record(JournalEventType.KILL, organism);
+    }
+
+    /**
+     * Records that an animal has starved to death.
+     *
+     * @param organism the starved organism
+     */
+    public void recordStarvation(Organism organism) {
+        record(JournalEventType.STARVATION, organism);
+    }
+
+    /**
+     * Records that a dead organism has been removed from its location.
+     *
+     * @param organism the removed organism
+     */
+    public void recordRemoval(Organism organism) {
+        record(JournalEventType.REMOVAL, organism);
+    }
+
+    /**
+     * Writes the events of the completed iteration into the journal. It must be called by the simulation thread
+     * between iterations, before the organisms stamped with the next iteration are created, so the records stay
+     * ordered by tick.
+     */
+    public void onTickCompleted() {
+        journalWriter.flush();
+    }
+
+    /**
+     * Writes the remaining events and closes the journal.
+     */
+    @Override
+    public void close() {
+        journalWriter.close();
+    }
+
+    /**
+     * Records an event of the organism at its current cell.
+     *
+     * @param type     the type of the event
+     * @param organism the organism
+     */
+    private void record(JournalEventType type, Organism organism) {
+        record(type, organism, organism.getCoordinate());
+    }
+
+    /**
+     * Records an event of the organism at the specified cell.
+     *
+     * @param type       the type of the event
+     * @param organism   the organism
+     * @param coordinate the coordinate of the cell
+     */
+    private void record(JournalEventType type, Organism organism, Coordinate coordinate) {
+        if (!journalWriter.isEnabled()) {
+            return;
+        }
+
+        journalWriter.append(statisticsService.getCurrentIterationCounter(), type, organism.getId(),
+                coordinate.y() * width + coordinate.x(), organismRegistry.getSpeciesId(organism.getClass()));
+    }
+}
@@ -3,7 +3,12 @@ package org.example.service;
 import org.example.entity.area.Area;
 import org.example.entity.location.Location;
 import org.example.entity.organism.animal.Animal;
-import org.example.logger.TimeExecutionLogger;
+import org.example.metrics.LocationCostTracker;
+import org.example.metrics.Phase;
+import org.example.metrics.PhaseMetrics;
+import org.example.metrics.SimulationMetrics;
+import org.example.metrics.jfr.LockWaitEvent;
+import org.example.metrics.jfr.MigrationEventEmitter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -15,44 +20,67 @@ public class MovementService {
 
     private final MovementCalculator movementCalculator;
     private final LockCoordinator lockCoordinator;
-    private final TimeExecutionLogger timeExecutionLogger;
+    private final PhaseMetrics phaseMetrics;
+    private final SimulationMetrics simulationMetrics;
+    private final MigrationEventEmitter migrationEventEmitter;
+    private final LocationCostTracker locationCostTracker;
+    private final PhaseScheduler phaseScheduler;
+    private final JournalService journalService;
     private Area area;
+    private volatile boolean isMigrationTracked;
+    private volatile long moveRound;
 
     /**
      * Constructs a {@code MovementService} with the specified dependencies.
      *
      * @param movementCalculator the calculator for calculating next coordinates
      * @param lockCoordinator    the coordinator for managing locks during movement
-     * @param timeExecutionLogger the logger for logging execution time
+     * @param phaseMetrics       the metrics recording phase latencies
+     * @param simulationMetrics  the metrics counting moves
+     * @param migrationEventEmitter the emitter telling if migrations have to be counted
+     * @param locationCostTracker the tracker attributing the movement cost to the locations
+     * @param phaseScheduler     the scheduler distributing the locations among the workers
+     * @param journalService     the service recording the moves
      */
     public MovementService(MovementCalculator movementCalculator,
                            LockCoordinator lockCoordinator,
-                           TimeExecutionLogger timeExecutionLogger) {
+                           PhaseMetrics phaseMetrics,
+                           SimulationMetrics simulationMetrics,
+                           MigrationEventEmitter migrationEventEmitter,
+                           LocationCostTracker locationCostTracker,
+                           PhaseScheduler phaseScheduler,
+                           JournalService journalService) {
         this.movementCalculator = movementCalculator;
         this.lockCoordinator = lockCoordinator;
-        this.timeExecutionLogger = timeExecutionLogger;
+        this.phaseMetrics = phaseMetrics;
+        this.simulationMetrics = simulationMetrics;
+        this.migrationEventEmitter = migrationEventEmitter;
+        this.locationCostTracker = locationCostTracker;
+        this.phaseScheduler = phaseScheduler;
+        this.journalService = journalService;
     }
 
     /**
-     * Moves all animals within the specified area.
+     * Moves all animals within the specified area, each animal at most once.
      *
      * @param area the area where animals are moved
      */
     public void move(Area area) {
         this.area = area;
-        timeExecutionLogger.logExecutionTime("Movement", moveAnimals(area));
+        this.moveRound++;
+        this.isMigrationTracked = migrationEventEmitter.startCounting();
+        phaseMetrics.time(Phase.MOVEMENT, moveAnimals(area));
     }
 
     /**
-     * Returns a runnable that moves animals in each location of the area in parallel.
+     * Returns a runnable that moves animals in each location of the area in parallel,
+     * one partition of locations per task.
      *
      * @param area the area where animals are moved
      * @return a runnable for moving animals
      */
     private Runnable moveAnimals(Area area) {
-        return () -> area.getLocations()
-                         .parallelStream()
-                         .forEach(this::moveAnimalsInLocation);
+        return () -> phaseScheduler.forEachLocation(Phase.MOVEMENT, area, this::moveAnimalsInLocation);
     }
 
     /**
@@ -61,13 +89,18 @@ public class MovementService {
      * @param location the location where animals are moved
      */
     private void moveAnimalsInLocation(Location location) {
-        location.getAnimals()
-                .parallelStream()
-                .forEach(this::moveAnimal);
+        var startCpuNanos = locationCostTracker.start(phaseScheduler.getExecutionMode(Phase.MOVEMENT));
+        var animals = location.getAnimals();
+
+        phaseScheduler.forEach(Phase.MOVEMENT, animals, this::moveAnimal);
+
+        locationCostTracker.record(Phase.MOVEMENT, location, startCpuNanos, animals.size());
     }
 
     /**
      * Moves a specific animal to its next coordinate based on movement calculations.
+     * The animal is skipped if it has already been claimed in the current round,
+     * i.e. it has arrived from a location handled before.
      *
      * @param animal the animal to be moved
      */
@@ -77,6 +110,11 @@ public class MovementService {
             return;
         }
 
+        if (!animal.claimMove(moveRound)) {
+            logger.debug("Animal {} has already moved in this round", animal.getClass().getSimpleName() + animal.getId());
+            return;
+        }
+
         logger.debug("Move animal {}", animal.getClass().getSimpleName() + animal.getId());
 
         var currentCoordinate = animal.getCoordinate();
@@ -102,16 +140,23 @@ public class MovementService {
         var firstLocationLock = firstLocationToLock.getReentrantLock();
         var secondLocationLock = secondLocationToLock.getReentrantLock();
 
-        firstLocationLock.lock();
+        lock(firstLocationToLock);
         logger.debug("The first location lock has been acquired");
 
-        secondLocationLock.lock();
+        lock(secondLocationToLock);
         logger.debug("The second location lock has been acquired");
 
         try {
             animal.move(newCoordinate);
             newLocation.addOrganism(animal);
             currentLocation.removeOrganism(animal);
+
+            if (isMigrationTracked) {
+                newLocation.registerArrival();
+                currentLocation.registerDeparture();
+            }
+
+            journalService.recordMove(animal, newCoordinate);
         } finally {
             firstLocationLock.unlock();
             logger.debug("The first location lock has been released");
@@ -120,6 +165,27 @@ public class MovementService {
             logger.debug("The second location lock has been released");
         }
 
+        simulationMetrics.registerMove();
         logger.debug("The animal has moved successfully.");
     }
+
+    /**
+     * Acquires the lock of the location and reports the time spent waiting for it as a {@code LockWaitEvent}.
+     *
+     * @param location the location to lock
+     */
+    private void lock(Location location) {
+        var event = new LockWaitEvent();
+        event.begin();
+
+        location.getReentrantLock().lock();
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.locationId = location.getId();
+            event.y = location.getCoordinate().y();
+            event.x = location.getCoordinate().x();
+            event.commit();
+        }
+    }
 }
@@ -0,0 +1,404 @@
+package org.example.service;
+
+import org.example.config.SchedulerConfig;
+import org.example.entity.area.Area;
+import org.example.entity.location.Location;
+import org.example.entity.organism.animal.Animal;
+import org.example.metrics.Phase;
+import org.example.statistics.PopulationCounter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * The {@code PhaseScheduler} class distributes the locations of an area among the worker threads of the parallel phases.
+ * The locations are split into partitions of roughly equal cost with the longest-processing-time-first heuristic,
+ * where the cost of a location is estimated by the number of organisms in it. Each partition is processed by one task,
+ * so a few crowded locations don't end up in the same task while other workers are idle.
+ * The partitions are rebalanced every {@code rebalanceInterval} ticks as the populations migrate,
+ * and built right away when the locations of an area that hasn't been partitioned yet are processed.
+ * <p>
+ * Every tick each phase chooses its {@code ExecutionMode} from the number of organisms it has to process,
+ * read from the population counters: small worlds run on the simulation thread without fork-join overhead,
+ * and the organisms of a location are only split into parallel tasks if the location is crowded.
+ */
+public class PhaseScheduler {
+    private static final Logger logger = LoggerFactory.getLogger(PhaseScheduler.class);
+
+    private final int rebalanceInterval;
+    private final int partitionAmount;
+    private final int parallelThreshold;
+    private final int nestedThreshold;
+    private final PopulationCounter populationCounter;
+    private volatile List<List<Location>> partitions;
+    private volatile Area partitionedArea;
+    private volatile Map<Phase, ExecutionMode> executionModes;
+    private long largestLocationCost;
+    private int ticksSinceRebalance;
+
+    /**
+     * Constructs a {@code PhaseScheduler} with the specified configuration.
+     *
+     * @param schedulerConfig   the configuration of the scheduler
+     * @param populationCounter the counters providing the work size of the phases
+     */
+    public PhaseScheduler(SchedulerConfig schedulerConfig, PopulationCounter populationCounter) {
+        this.rebalanceInterval = schedulerConfig.rebalanceInterval();
+        this.partitionAmount = (ForkJoinPool.getCommonPoolParallelism() + 1) * schedulerConfig.partitionsPerWorker();
+        this.parallelThreshold = schedulerConfig.parallelThreshold();
+        this.nestedThreshold = schedulerConfig.nestedThreshold();
+        this.populationCounter = populationCounter;
+        this.partitions = List.of();
+        this.executionModes = new EnumMap<>(Phase.class);
+        this.ticksSinceRebalance = rebalanceInterval;
+    }
+
+    /**
+     * Prepares the partitions and the execution modes for the next tick. The partitions are rebuilt on the first tick
+     * and then every {@code rebalanceInterval} ticks. It must be called by the simulation thread before the phases are run.
+     *
+     * @param area the simulated area
+     */
+    public void onTickStarted(Area area) {
+        if (++ticksSinceRebalance >= rebalanceInterval) {
+            rebalance(area);
+        }
+
+        var modes = new EnumMap<Phase, ExecutionMode>(Phase.class);
+        for (var phase : Phase.values()) {
+            modes.put(phase, chooseExecutionMode(phase));
+        }
+
+        if (!modes.equals(executionModes)) {
+            logger.debug("Execution modes have been changed to {}", modes);
+        }
+        executionModes = modes;
+    }
+
+    /**
+     * Returns the execution mode the phase runs in during the current tick.
+     *
+     * @param phase the phase
+     * @return the execution mode of the phase
+     */
+    public ExecutionMode getExecutionMode(Phase phase) {
+        return executionModes.getOrDefault(phase, ExecutionMode.CHUNKED);
+    }
+
+    /**
+     * Runs the action for every location of the area, one partition per task unless the phase runs sequentially.
+     *
+     * @param phase  the phase the action belongs to
+     * @param area   the area whose locations are processed
+     * @param action the action to run for a location
+     */
+    public void forEachLocation(Phase phase, Area area, Consumer<Location> action) {
+        var partitions = getPartitions(area);
+        if (getExecutionMode(phase) == ExecutionMode.SEQUENTIAL) {
+            partitions.forEach(partition -> partition.forEach(action));
+            return;
+        }
+
+        partitions.parallelStream()
+                  .forEach(partition -> partition.forEach(action));
+    }
+
+    /**
+     * Sums up the values computed for every location of the area, one partition per task
+     * unless the phase runs sequentially.
+     *
+     * @param phase    the phase the function belongs to
+     * @param area     the area whose locations are processed
+     * @param function the function computing the value of a location
+     * @return the sum of the values
+     */
+    public long sumOverLocations(Phase phase, Area area, ToLongFunction<Location> function) {
+        var partitions = getPartitions(area);
+        if (getExecutionMode(phase) == ExecutionMode.SEQUENTIAL) {
+            var sum = 0L;
+            for (var partition : partitions) {
+                sum += sumOverPartition(partition, function);
+            }
+
+            return sum;
+        }
+
+        return partitions.parallelStream()
+                         .mapToLong(partition -> sumOverPartition(partition, function))
+                         .sum();
+    }
+
+    /**
+     * Folds every location of the area into per-task containers and merges them, one partition per task
+     * unless the phase runs sequentially, in which case a single container is used.
+     *
+     * @param phase       the phase the accumulator belongs to
+     * @param area        the area whose locations are processed
+     * @param supplier    the supplier of the empty container
+     * @param accumulator the function folding a location into a container
+     * @param combiner    the function merging two containers
+     * @param <R>         the type of the container
+     * @return the merged container
+     */
+    public <R> R collectOverLocations(Phase phase, Area area, Supplier<R> supplier, BiConsumer<R, Location> accumulator, BiConsumer<R, R> combiner) {
+        var partitions = getPartitions(area);
+        if (getExecutionMode(phase) == ExecutionMode.SEQUENTIAL) {
+            var result = supplier.get();
+            partitions.forEach(partition -> partition.forEach(location -> accumulator.accept(result, location)));
+
+            return result;
+        }
+
+        return partitions.parallelStream()
+                         .collect(supplier, (result, partition) -> partition.forEach(location -> accumulator.accept(result, location)), combiner);
+    }
+
+    /**
+     * Runs the action for every item of a location, in parallel only if the phase runs nested
+     * and there are at least {@code nestedThreshold} items.
+     *
+     * @param phase  the phase the action belongs to
+     * @param items  the items of a location, e.g. its animals
+     * @param action the action to run for an item
+     * @param <T>    the type of the items
+     */
+    public <T> void forEach(Phase phase, List<T> items, Consumer<T> action) {
+        if (isNested(phase, items)) {
+            items.parallelStream().forEach(action);
+            return;
+        }
+
+        for (var item : items) {
+            action.accept(item);
+        }
+    }
+
+    /**
+     * Runs the action for every group of items of a location, e.g. its animals grouped by species,
+     * in parallel only if the phase runs nested and the groups hold at least {@code nestedThreshold} items together.
+     * It's meant for actions whose items can only be processed together with their group.
+     *
+     * @param phase  the phase the action belongs to
+     * @param groups the groups of items of a location
+     * @param action the action to run for a group
+     * @param <T>    the type of the items
+     */
+    public <T> void forEachGroup(Phase phase, List<List<T>> groups, Consumer<List<T>> action) {
+        var itemAmount = 0;
+        for (var group : groups) {
+            itemAmount += group.size();
+        }
+
+        if (getExecutionMode(phase) == ExecutionMode.NESTED && itemAmount >= nestedThreshold) {
+            groups.parallelStream().forEach(action);
+            return;
+        }
+
+        for (var group : groups) {
+            action.accept(group);
+        }
+    }
+
+    /**
+     * Counts the items of a location matching the predicate, in parallel only if the phase runs nested
+     * and there are at least {@code nestedThreshold} items.
+     *
+     * @param phase     the phase the predicate belongs to
+     * @param items     the items of a location, e.g. its animals
+     * @param predicate the predicate to evaluate for an item
+     * @param <T>       the type of the items
+     * @return the number of items matching the predicate
+     */
+    public <T> long count(Phase phase, List<T> items, Predicate<T> predicate) {
+        if (isNested(phase, items)) {
+            return items.parallelStream().filter(predicate).count();
+        }
+
+        var count = 0L;
+        for (var item : items) {
+            if (predicate.test(item)) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the partitions of the locations of the area, partitioning them first if the current partitions
+     * belong to another area or haven't been built yet. It must be called by the simulation thread.
+     *
+     * @param area the area whose locations are processed
+     * @return the partitions of the area
+     */
+    List<List<Location>> getPartitions(Area area) {
+        if (area != partitionedArea) {
+            rebalance(area);
+        }
+
+        return partitions;
+    }
+
+    /**
+     * Splits the locations of the area into new partitions and restarts the rebalance interval.
+     *
+     * @param area the area whose locations are partitioned
+     */
+    private void rebalance(Area area) {
+        ticksSinceRebalance = 0;
+        partitions = partition(area.getLocations());
+        partitionedArea = area;
+    }
+
+    /**
+     * Checks if the items of a location have to be processed in parallel.
+     *
+     * @param phase the phase processing the items
+     * @param items the items of a location
+     * @return {@code true} if the phase runs nested and the location is crowded
+     */
+    private boolean isNested(Phase phase, List<?> items) {
+        return getExecutionMode(phase) == ExecutionMode.NESTED && items.size() >= nestedThreshold;
+    }
+
+    /**
+     * Chooses the execution mode of the phase from the number of organisms it has to process.
+     * The cleanup visits all organisms, the other phases only the animals.
+     *
+     * @param phase the phase
+     * @return the execution mode for the current tick
+     */
+    private ExecutionMode chooseExecutionMode(Phase phase) {
+        var workSize = phase == Phase.CLEANUP
+                ? populationCounter.getTotalAlive()
+                : populationCounter.getAliveInGroup(Animal.class);
+
+        if (workSize < parallelThreshold) {
+            return ExecutionMode.SEQUENTIAL;
+        }
+
+        if (largestLocationCost >= nestedThreshold) {
+            return ExecutionMode.NESTED;
+        }
+
+        return ExecutionMode.CHUNKED;
+    }
+
+    /**
+     * Splits the locations into partitions of roughly equal cost. Locations are taken from the most expensive one
+     * and each is put into the partition with the lowest cost so far.
+     *
+     * @param locations the locations to split
+     * @return the partitions
+     */
+    private List<List<Location>> partition(List<Location> locations) {
+        var sortedLocations = new ArrayList<WeightedLocation>(locations.size());
+        for (var location : locations) {
+            sortedLocations.add(new WeightedLocation(location, estimateCost(location)));
+        }
+        sortedLocations.sort(Comparator.comparingLong(WeightedLocation::cost).reversed());
+        largestLocationCost = sortedLocations.isEmpty() ? 0 : sortedLocations.get(0).cost();
+
+        var binAmount = Math.min(partitionAmount, Math.max(1, sortedLocations.size()));
+        var bins = new PriorityQueue<Bin>(binAmount, Comparator.comparingLong(Bin::getCost));
+        for (var i = 0; i < binAmount; i++) {
+            bins.add(new Bin());
+        }
+
+        for (var weightedLocation : sortedLocations) {
+            var bin = bins.poll();
+            bin.add(weightedLocation.location(), weightedLocation.cost());
+            bins.add(bin);
+        }
+
+        var result = new ArrayList<List<Location>>(binAmount);
+        var maxCost = 0L;
+        var totalCost = 0L;
+        for (var bin : bins) {
+            result.add(List.copyOf(bin.locations));
+            maxCost = Math.max(maxCost, bin.cost);
+            totalCost += bin.cost;
+        }
+
+        logger.debug("Rebalanced {} locations into {} partitions, the heaviest partition costs {} of {}", locations.size(), binAmount, maxCost, totalCost);
+
+        return List.copyOf(result);
+    }
+
+    /**
+     * Sums up the values computed for every location of the partition.
+     *
+     * @param partition the locations of the partition
+     * @param function  the function computing the value of a location
+     * @return the sum of the values
+     */
+    private static long sumOverPartition(List<Location> partition, ToLongFunction<Location> function) {
+        var sum = 0L;
+        for (var location : partition) {
+            sum += function.applyAsLong(location);
+        }
+
+        return sum;
+    }
+
+    /**
+     * Estimates the cost of processing the location from the number of organisms in it.
+     * Every location costs at least one unit, because it's visited even if it's empty.
+     *
+     * @param location the location
+     * @return the estimated cost
+     */
+    private static long estimateCost(Location location) {
+        return location.getOrganisms().size() + 1L;
+    }
+
+    /**
+     * The {@code WeightedLocation} record is a location with its cost estimated once before partitioning,
+     * so that organisms added concurrently don't change the order while sorting.
+     *
+     * @param location the location
+     * @param cost     the estimated cost of the location
+     */
+    private record WeightedLocation(Location location, long cost) {
+    }
+
+    /**
+     * The {@code Bin} class is a partition being filled with locations.
+     */
+    private static class Bin {
+        private final List<Location> locations = new ArrayList<>();
+        private long cost;
+
+        /**
+         * Adds the location to the partition.
+         *
+         * @param location the location to add
+         * @param locationCost the estimated cost of the location
+         */
+        private void add(Location location, long locationCost) {
+            locations.add(location);
+            cost += locationCost;
+        }
+
+        /**
+         * Returns the estimated cost of the partition.
+         *
+         * @return the sum of the costs of its locations
+         */
+        private long getCost() {
+            return cost;
+        }
+    }
+}
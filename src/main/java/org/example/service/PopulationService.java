@@ -1,6 +1,5 @@
 package org.example.service;
 
-import org.example.entity.coordinate.Coordinate;
 import org.example.entity.area.Area;
 import org.example.entity.location.Location;
 import org.example.entity.organism.Organism;
@@ -10,9 +9,7 @@ import org.example.entity.organism.plant.Plant;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.List;
 import java.util.function.Consumer;
-import java.util.stream.IntStream;
 
 /**
  * The {@code PopulationService} class handles population of organisms and plants in the specified area.
@@ -85,15 +82,13 @@ public class PopulationService {
      * @param location the location to populate with plants
      */
     private void populatePlantsInLocation(Location location) {
-        var plants = organismRegistry.getPossibleOrganisms()
+        var plantsAmount = organismRegistry.getPossibleOrganisms()
                 .stream()
                 .filter(Plant.class::isAssignableFrom)
-                .flatMap(organismClass -> generateOrganismList(organismClass, location.getCoordinate(), randomizerService.getRandomPopulationAmountForLocation(organismClass, location)).stream())
-                .toList();
+                .mapToInt(organismClass -> populateSpecies(organismClass, location, randomizerService.getRandomPopulationAmountForLocation(organismClass, location)))
+                .sum();
 
-        location.addOrganisms(plants);
-
-        logger.debug("{} plants were populated successfully in location: {}", plants.size(), location);
+        logger.debug("{} plants were populated successfully in location: {}", plantsAmount, location);
     }
 
     /**
@@ -102,27 +97,24 @@ public class PopulationService {
      * @param location the location to populate with organisms
      */
     private void populateOrganismsInLocation(Location location) {
-        var organisms = organismRegistry.getPossibleOrganisms()
+        var organismsAmount = organismRegistry.getPossibleOrganisms()
                 .stream()
-                .flatMap(organismClass -> generateOrganismList(organismClass, location.getCoordinate(), randomizerService.getRandomPopulationAmount(organismClass)).stream())
-                .toList();
-
-        location.addOrganisms(organisms);
+                .mapToInt(organismClass -> populateSpecies(organismClass, location, randomizerService.getRandomPopulationAmount(organismClass)))
+                .sum();
 
-        logger.debug("{} organisms were populated successfully in location: {}", organisms.size(), location);
+        logger.debug("{} organisms were populated successfully in location: {}", organismsAmount, location);
     }
 
     /**
-     * Generates a list of organisms of the specified class at the given coordinate.
+     * Creates organisms of the specified class in the given location in one batch.
+     * The factory limits the amount by the remaining capacity of the location.
      *
-     * @param organismClass the class of organisms to generate
-     * @param coordinate    the coordinate for the organisms
-     * @param populationAmount the number of organisms to generate
-     * @return a list of generated organisms
+     * @param organismClass    the class of organisms to create
+     * @param location         the location to populate
+     * @param populationAmount the requested number of organisms
+     * @return the number of actually created organisms
      */
-    private List<Organism> generateOrganismList(Class<? extends Organism> organismClass, Coordinate coordinate, int populationAmount) {
-        return IntStream.range(0, populationAmount)
-                .mapToObj(i -> organismFactory.createOrganism(organismClass, coordinate))
-                .toList();
+    private int populateSpecies(Class<? extends Organism> organismClass, Location location, int populationAmount) {
+        return organismFactory.createOrganisms(organismClass, location, populationAmount).size();
     }
-}
\ No newline at end of file
+}
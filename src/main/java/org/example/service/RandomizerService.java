@@ -7,27 +7,57 @@ import org.example.entity.organism.Organism;
 
 import java.util.List;
 import java.util.NavigableMap;
+import java.util.SplittableRandom;
 import java.util.TreeMap;
-import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * The {@code RandomizerService} provides methods for generating random values and making probabilistic decisions.
+ * Every thread draws from its own generator split from a seeded root generator, so the threads don't contend.
+ * The generators are split in the order of the first draws of the threads, which isn't deterministic, so a seed
+ * fixes the random state of a single-threaded run only. Reseeding replaces the root generator, and the threads
+ * split new generators from it on their next draw.
+ * <p>
+ * The root generator is only replaced by the simulation thread between the phases, while no other thread draws,
+ * and the workers are handed the tasks of a phase afterwards, so it's a plain field and a draw costs the lookup
+ * of the generator of the thread and a reference comparison.
  */
 public class RandomizerService {
     private final CharacteristicsFactory characteristicsFactory;
     private final NavigableMap<Double, LocationType> probabilityMap;
-    private final ThreadLocalRandom random;
+    private final ThreadLocal<Generator> generators;
+    private SplittableRandom root;
     private double totalProbability;
 
     /**
-     * Constructs a {@code RandomizerService} with the given characteristics factory.
+     * Constructs a {@code RandomizerService} with the given characteristics factory and seed.
      *
      * @param characteristicsFactory the factory for organism characteristics
+     * @param seed                   the seed of the random generators, or {@code 0} to choose a random one
      */
-    public RandomizerService(CharacteristicsFactory characteristicsFactory) {
+    public RandomizerService(CharacteristicsFactory characteristicsFactory, long seed) {
         this.characteristicsFactory = characteristicsFactory;
         this.probabilityMap = initializeProbabilityMap();
-        this.random = ThreadLocalRandom.current();
+        this.generators = new ThreadLocal<>();
+        this.root = seed == 0 ? new SplittableRandom() : new SplittableRandom(seed);
+    }
+
+    /**
+     * Replaces the random generators of all threads with ones derived from the seed.
+     * It must be called while no other thread draws, e.g. between the iterations.
+     *
+     * @param seed the new seed
+     */
+    public void reseed(long seed) {
+        root = new SplittableRandom(seed);
+    }
+
+    /**
+     * Draws a seed from the random generator of the current thread, e.g. to reseed the service with it.
+     *
+     * @return the random seed
+     */
+    public long nextSeed() {
+        return getRandom().nextLong();
     }
 
     /**
@@ -36,7 +66,7 @@ public class RandomizerService {
      * @return a random location type
      */
     public LocationType getRandomLocationType() {
-        var randomValue = random.nextDouble() * totalProbability;
+        var randomValue = getRandom().nextDouble() * totalProbability;
 
         return probabilityMap.higherEntry(randomValue).getValue();
     }
@@ -51,7 +81,7 @@ public class RandomizerService {
     public int getRandomPopulationAmount(Class<? extends Organism> organismClass) {
         var maxSpeciesPerCoordinate = characteristicsFactory.getCharacteristics(organismClass).maxSpeciesPerCoordinate();
 
-        return random.nextInt(maxSpeciesPerCoordinate);
+        return getRandom().nextInt(maxSpeciesPerCoordinate);
     }
 
     /**
@@ -65,10 +95,14 @@ public class RandomizerService {
      */
     public int getRandomPopulationAmountForLocation(Class<? extends Organism> organismClass, Location location) {
         var maxSpeciesPerCoordinate = characteristicsFactory.getCharacteristics(organismClass).maxSpeciesPerCoordinate();
-        var speciesInLocation = location.getSpeciesCounterMap().get(organismClass);
+        var speciesInLocation = location.countOrganisms(organismClass);
         var availableSlots = maxSpeciesPerCoordinate - speciesInLocation;
 
-        return random.nextInt(availableSlots);
+        if (availableSlots <= 0) {
+            return 0;
+        }
+
+        return getRandom().nextInt(availableSlots);
     }
 
     /**
@@ -81,7 +115,7 @@ public class RandomizerService {
         var maxSpeciesPerCoordinate = characteristicsFactory.getCharacteristics(organismClass).maxSpeciesPerCoordinate();
         var maxOffspringAmount = Integer.parseInt(Integer.toString(maxSpeciesPerCoordinate).substring(0, 1));
 
-        return random.nextInt(0, maxOffspringAmount + 1);
+        return getRandom().nextInt(0, maxOffspringAmount + 1);
     }
 
     /**
@@ -91,7 +125,7 @@ public class RandomizerService {
      * @return {@code true} if successful, otherwise {@code false}
      */
     public boolean isSuccessfulAttempt(double chance) {
-        return random.nextDouble() < chance;
+        return getRandom().nextDouble() < chance;
     }
 
     /**
@@ -102,7 +136,27 @@ public class RandomizerService {
      * @return the random index
      */
     public <T> int getRandomIndex(List<T> list) {
-        return random.nextInt(0, list.size());
+        return getRandom().nextInt(0, list.size());
+    }
+
+    /**
+     * Returns the random generator of the current thread, splitting a new one from the root generator
+     * on the first draw of the thread and after reseeding.
+     *
+     * @return the random generator of the current thread
+     */
+    private SplittableRandom getRandom() {
+        var currentRoot = root;
+        var generator = generators.get();
+
+        if (generator == null || generator.root() != currentRoot) {
+            synchronized (currentRoot) {
+                generator = new Generator(currentRoot, currentRoot.split());
+            }
+            generators.set(generator);
+        }
+
+        return generator.random();
     }
 
     /**
@@ -123,4 +177,13 @@ public class RandomizerService {
 
         return map;
     }
+
+    /**
+     * The {@code Generator} record is the random generator of a thread with the root generator it was split from.
+     *
+     * @param root   the root generator
+     * @param random the generator of the thread
+     */
+    private record Generator(SplittableRandom root, SplittableRandom random) {
+    }
 }
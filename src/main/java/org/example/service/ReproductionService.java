@@ -5,12 +5,14 @@ import org.example.entity.location.Location;
 import org.example.entity.organism.Organism;
 import org.example.entity.organism.OrganismFactory;
 import org.example.entity.organism.animal.Animal;
-import org.example.logger.TimeExecutionLogger;
+import org.example.metrics.LocationCostTracker;
+import org.example.metrics.Phase;
+import org.example.metrics.PhaseMetrics;
+import org.example.metrics.SimulationMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
-import java.util.stream.IntStream;
 
 /**
  * Service responsible for managing animal reproduction within an area.
@@ -20,22 +22,37 @@ public class ReproductionService {
 
     private final RandomizerService randomizerService;
     private final OrganismFactory organismFactory;
-    private final TimeExecutionLogger timeExecutionLogger;
+    private final PhaseMetrics phaseMetrics;
     private final PartnerFindingService partnerFindingService;
+    private final LocationCostTracker locationCostTracker;
+    private final PhaseScheduler phaseScheduler;
+    private final SimulationMetrics simulationMetrics;
 
     /**
      * Constructs a ReproductionService instance.
      *
      * @param randomizerService     Service providing randomization functionalities.
      * @param organismFactory       Factory for creating new organisms.
-     * @param timeExecutionLogger   Logger for recording execution times.
+     * @param phaseMetrics          Metrics recording phase latencies.
      * @param partnerFindingService Service for finding potential reproduction partners.
+     * @param locationCostTracker   Tracker attributing the reproduction cost to the locations.
+     * @param phaseScheduler        Scheduler distributing the locations among the workers.
+     * @param simulationMetrics     Metrics counting the births.
      */
-    public ReproductionService(RandomizerService randomizerService, OrganismFactory organismFactory, TimeExecutionLogger timeExecutionLogger, PartnerFindingService partnerFindingService) {
+    public ReproductionService(RandomizerService randomizerService,
+                               OrganismFactory organismFactory,
+                               PhaseMetrics phaseMetrics,
+                               PartnerFindingService partnerFindingService,
+                               LocationCostTracker locationCostTracker,
+                               PhaseScheduler phaseScheduler,
+                               SimulationMetrics simulationMetrics) {
         this.randomizerService = randomizerService;
         this.organismFactory = organismFactory;
-        this.timeExecutionLogger = timeExecutionLogger;
+        this.phaseMetrics = phaseMetrics;
         this.partnerFindingService = partnerFindingService;
+        this.locationCostTracker = locationCostTracker;
+        this.phaseScheduler = phaseScheduler;
+        this.simulationMetrics = simulationMetrics;
     }
 
     /**
@@ -44,18 +61,17 @@ public class ReproductionService {
      * @param area The area within which reproduction should occur.
      */
     public void reproduce(Area area) {
-        timeExecutionLogger.logExecutionTime("Reproduction", reproduceAnimals(area));
+        phaseMetrics.time(Phase.REPRODUCTION, reproduceAnimals(area));
     }
 
     /**
-     * Creates a runnable task to reproduce animals in each location of the given area.
+     * Creates a runnable task to reproduce animals in each location of the area, one partition of locations per task.
      *
-     * @param area The area containing locations with animals to reproduce.
+     * @param area The area within which reproduction should occur.
      * @return A {@link Runnable} task that reproduces animals in each location.
      */
     private Runnable reproduceAnimals(Area area) {
-        return () -> area.getLocations()
-                         .forEach(this::reproduceAnimalsInLocation);
+        return () -> phaseScheduler.forEachLocation(Phase.REPRODUCTION, area, this::reproduceAnimalsInLocation);
     }
 
     /**
@@ -64,7 +80,15 @@ public class ReproductionService {
      * @param location The location where animals should reproduce.
      */
     private void reproduceAnimalsInLocation(Location location) {
-        location.getGroupedAnimalsByClass().entrySet().parallelStream().forEach(entry -> reproduceAnimalType(entry.getValue(), location));
+        var startCpuNanos = locationCostTracker.start(phaseScheduler.getExecutionMode(Phase.REPRODUCTION));
+        var groupedAnimals = location.getGroupedAnimalsByClass();
+
+        var sameTypeAnimalGroups = List.copyOf(groupedAnimals.values());
+
+        phaseScheduler.forEachGroup(Phase.REPRODUCTION, sameTypeAnimalGroups, sameTypeAnimals -> reproduceAnimalType(sameTypeAnimals, location));
+
+        var processed = sameTypeAnimalGroups.stream().mapToInt(List::size).sum();
+        locationCostTracker.record(Phase.REPRODUCTION, location, startCpuNanos, processed);
     }
 
     /**
@@ -104,23 +128,23 @@ public class ReproductionService {
         animal.reproduce();
         partner.reproduce();
 
-        var offspring = generateOffspring(animal);
-        logger.debug("Offspring list: {}", offspring);
-
-        location.addOrganisms(offspring);
-        logger.debug("Added offspring list to location at {}", animal.getCoordinate());
+        var offspring = generateOffspring(animal, location);
+        simulationMetrics.registerBirths(offspring.size());
+        logger.debug("Added offspring list {} to location at {}", offspring, animal.getCoordinate());
     }
 
     /**
-     * Generates offspring for a given animal based on its species characteristics.
+     * Generates offspring for a given animal based on its species characteristics and adds them to the location.
+     * The amount of offspring is limited by the remaining capacity of the location.
      *
-     * @param animal The animal for which offspring should be generated.
+     * @param animal   The animal for which offspring should be generated.
+     * @param location The location where the offspring is placed.
      * @return List of generated offspring organisms.
      */
-    private List<Organism> generateOffspring(Animal animal) {
+    private List<Organism> generateOffspring(Animal animal, Location location) {
         var randomOffspringAmount = randomizerService.getRandomOffspringAmount(animal.getClass());
 
-        return IntStream.range(0, randomOffspringAmount).mapToObj(i -> organismFactory.createOrganism(animal.getClass(), animal.getCoordinate())).toList();
+        return organismFactory.createOrganisms(animal.getClass(), location, randomOffspringAmount);
     }
 
     /**
@@ -0,0 +1,20 @@
+package org.example.service;
+
+/**
+ * The {@code ScalarHungerKernel} class is a plain loop implementation of the {@code HungerKernel}.
+ * It's used when the Vector API module isn't available at runtime.
+ */
+public class ScalarHungerKernel implements HungerKernel {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void applyHunger(double[] satiety, boolean[] alive, int length, double decrement) {
+        for (int i = 0; i < length; i++) {
+            var newSatiety = satiety[i] - decrement;
+            satiety[i] = newSatiety;
+            alive[i] = newSatiety >= 0;
+        }
+    }
+}
@@ -14,6 +14,7 @@ public class SimulationService {
     private final FeedingService feedingService;
     private final ReproductionService reproductionService;
     private final HungerService hungerService;
+    private final PhaseScheduler phaseScheduler;
 
     /**
      * Constructs a SimulationService with required dependencies.
@@ -22,15 +23,18 @@ public class SimulationService {
      * @param feedingService      The service responsible for feeding animals.
      * @param reproductionService The service responsible for animal reproduction.
      * @param hungerService       The service responsible for increasing hunger in animals.
+     * @param phaseScheduler      The scheduler distributing the locations among the workers.
      */
     public SimulationService(MovementService movementService,
                              FeedingService feedingService,
                              ReproductionService reproductionService,
-                             HungerService hungerService) {
+                             HungerService hungerService,
+                             PhaseScheduler phaseScheduler) {
         this.movementService = movementService;
         this.feedingService = feedingService;
         this.reproductionService = reproductionService;
         this.hungerService = hungerService;
+        this.phaseScheduler = phaseScheduler;
     }
 
     /**
@@ -40,6 +44,7 @@ public class SimulationService {
      */
     public void simulateLife(Area area) {
         logger.info("Simulation cycle started");
+        phaseScheduler.onTickStarted(area);
         movementService.move(area);
         feedingService.feed(area);
         reproductionService.reproduce(area);
@@ -1,36 +1,91 @@
 package org.example.service;
 
-import org.example.entity.area.Area;
 import org.example.entity.organism.Organism;
+import org.example.metrics.Phase;
+import org.example.metrics.PhaseMetrics;
+import org.example.statistics.PopulationCounter;
+import org.example.statistics.StatisticsAccumulator;
+import org.example.statistics.StatisticsHistory;
+import org.example.statistics.StatisticsSnapshot;
 
-import java.util.List;
+import java.util.Collections;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service class for collecting and providing statistics on organisms in an area.
+ * The statistics of every iteration are collected by workers into local accumulators and published
+ * as an immutable {@code StatisticsSnapshot} at the end of the iteration.
+ * The alive population is read from the incrementally maintained {@code PopulationCounter}.
+ * The alive organisms, births and deaths of every species and the time spent in every phase are also kept
+ * for the last iterations in a {@code StatisticsHistory}, derived from running totals into preallocated arrays.
  */
 public class StatisticsService {
-    private final ConcurrentHashMap<Class<? extends Organism>, Long> aliveOrganismMap;
-    private long totalDiedOrganisms;
-    private long diedTodayOrganisms;
+    private final PopulationCounter populationCounter;
+    private final PhaseMetrics phaseMetrics;
+    private final StatisticsHistory history;
+    private final long[] alive;
+    private final long[] births;
+    private final long[] deaths;
+    private final long[] phaseNanos;
+    private final long[] totals;
+    private final long[] previousCreated;
+    private final long[] previousRemoved;
+    private final long[] previousPhaseNanos;
+    private volatile StatisticsSnapshot snapshot;
+    private long killedTodayOrganisms;
     private long currentIterationCounter;
 
     /**
      * Constructs a StatisticsService with initial counters.
+     *
+     * @param populationCounter Counter of alive organisms of every species.
+     * @param phaseMetrics      Metrics providing the time spent in the phases.
+     * @param historyLength     Number of iterations kept in the history.
      */
-    public StatisticsService() {
-        this.aliveOrganismMap = new ConcurrentHashMap<>();
+    public StatisticsService(PopulationCounter populationCounter, PhaseMetrics phaseMetrics, int historyLength) {
+        var speciesAmount = populationCounter.getSpeciesAmount();
+        var phaseAmount = Phase.values().length;
+
+        this.populationCounter = populationCounter;
+        this.phaseMetrics = phaseMetrics;
+        this.history = new StatisticsHistory(historyLength, speciesAmount, phaseAmount);
+        this.alive = new long[speciesAmount];
+        this.births = new long[speciesAmount];
+        this.deaths = new long[speciesAmount];
+        this.phaseNanos = new long[phaseAmount];
+        this.totals = new long[Math.max(speciesAmount, phaseAmount)];
+        this.previousCreated = new long[speciesAmount];
+        this.previousRemoved = new long[speciesAmount];
+        this.previousPhaseNanos = new long[phaseAmount];
+        this.snapshot = StatisticsSnapshot.empty();
         this.currentIterationCounter = 1;
     }
 
+    /**
+     * Retrieves the statistics of the last completed iteration.
+     *
+     * @return Snapshot of the last completed iteration.
+     */
+    public StatisticsSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Retrieves the history of the last completed iterations. It must only be used by the simulation thread.
+     *
+     * @return History of the statistics.
+     */
+    public StatisticsHistory getHistory() {
+        return history;
+    }
+
     /**
      * Retrieves the total number of organisms that have died across all iterations.
      *
      * @return Total number of died organisms.
      */
     public long getTotalDiedOrganisms() {
-        return totalDiedOrganisms;
+        return snapshot.totalDied();
     }
 
     /**
@@ -50,12 +105,25 @@ public class StatisticsService {
     }
 
     /**
-     * Retrieves the number of organisms that died today in the current iteration.
+     * Resumes the statistics from a checkpoint taken after the specified iteration.
+     * It must be called before the organisms are restored, so they are registered in the next iteration.
+     * The alive organisms are published with the first iteration after the checkpoint.
+     *
+     * @param iteration The last iteration completed before the checkpoint.
+     * @param totalDied Total number of organisms that died before the checkpoint.
+     */
+    public void restore(long iteration, long totalDied) {
+        currentIterationCounter = iteration + 1;
+        snapshot = new StatisticsSnapshot(iteration, Map.of(), 0, 0, totalDied);
+    }
+
+    /**
+     * Retrieves the number of organisms that died in the last completed iteration.
      *
      * @return Number of organisms died today.
      */
     public long getDiedToday() {
-        return diedTodayOrganisms;
+        return snapshot.diedToday();
     }
 
     /**
@@ -64,40 +132,89 @@ public class StatisticsService {
      * @return Map of alive organisms.
      */
     public Map<Class<? extends Organism>, Long> getAliveOrganismMap() {
-        return aliveOrganismMap;
+        return snapshot.aliveOrganisms();
+    }
+
+    /**
+     * Retrieves the total number of alive organisms on the island.
+     * Organisms which died in the current iteration are counted until they are removed.
+     *
+     * @return Total number of alive organisms.
+     */
+    public long getTotalAliveOrganisms() {
+        return populationCounter.getTotalAlive();
+    }
+
+    /**
+     * Retrieves the counter of alive organisms of every species.
+     *
+     * @return Population counter.
+     */
+    public PopulationCounter getPopulationCounter() {
+        return populationCounter;
     }
 
     /**
-     * Calculates the total number of alive organisms in the specified area.
+     * Registers the number of organisms eaten during the current iteration.
+     * It must be called once per feeding phase with the already merged number.
      *
-     * @param area The area containing organisms.
-     * @return Total number of alive organisms in the area.
+     * @param killedOrganisms Number of eaten organisms.
      */
-    public int getTotalAliveOrganisms(Area area) {
-        return area.getLocations()
-                .stream()
-                .flatMap(location -> location.getOrganisms().stream())
-                .filter(Organism::isAlive)
-                .mapToInt(organism -> 1).sum();
+    public void registerKilledOrganisms(long killedOrganisms) {
+        this.killedTodayOrganisms += killedOrganisms;
     }
 
     /**
-     * Registers the list of organisms that have died today.
+     * Publishes the statistics of the current iteration from the merged accumulator of all workers
+     * and adds them to the history. It must be called once per iteration, after the dead organisms have been removed.
      *
-     * @param deadOrganisms List of organisms that have died.
+     * @param accumulator Merged statistics of the current iteration.
      */
-    public void registerDeadOrganisms(List<Organism> deadOrganisms) {
-        this.diedTodayOrganisms = deadOrganisms.size();
-        this.totalDiedOrganisms += deadOrganisms.size();
+    public void publish(StatisticsAccumulator accumulator) {
+        var diedToday = accumulator.getDiedOrganisms();
+        populationCounter.onOrganismsRemoved(accumulator.getDeadOrganisms());
+
+        snapshot = new StatisticsSnapshot(
+                currentIterationCounter,
+                Collections.unmodifiableMap(populationCounter.getAliveOrganisms()),
+                diedToday,
+                killedTodayOrganisms,
+                snapshot.totalDied() + diedToday
+        );
+        killedTodayOrganisms = 0;
+        recordHistory();
+    }
+
+    /**
+     * Adds the published iteration to the history. The births, deaths and phase timings are the differences
+     * of the running totals since the previous iteration, so the plants regrown after an iteration are born in the next one.
+     */
+    private void recordHistory() {
+        populationCounter.copyAlive(alive);
+
+        populationCounter.copyCreated(totals);
+        subtractPrevious(totals, previousCreated, births);
+
+        populationCounter.copyRemoved(totals);
+        subtractPrevious(totals, previousRemoved, deaths);
+
+        phaseMetrics.copyTotalNanos(totals);
+        subtractPrevious(totals, previousPhaseNanos, phaseNanos);
+
+        history.record(currentIterationCounter, alive, births, deaths, phaseNanos);
     }
 
     /**
-     * Registers the list of organisms that are currently alive.
+     * Computes the differences of the running totals since the previous call and remembers the totals.
      *
-     * @param aliveOrganisms List of organisms that are alive.
+     * @param totals   The current running totals.
+     * @param previous The running totals of the previous call, replaced by the current ones.
+     * @param target   The array to fill with the differences.
      */
-    public void registerAliveOrganisms(List<Organism> aliveOrganisms) {
-        aliveOrganisms.parallelStream()
-                .forEach(organism -> aliveOrganismMap.merge(organism.getClass(), 1L, Long::sum));
+    private static void subtractPrevious(long[] totals, long[] previous, long[] target) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] = totals[i] - previous[i];
+            previous[i] = totals[i];
+        }
     }
 }
@@ -1,54 +1,76 @@
 package org.example.service;
 
 import org.example.config.TerminationConfig;
-import org.example.entity.area.Area;
-import org.example.entity.location.Location;
 import org.example.entity.organism.animal.Animal;
 import org.example.entity.organism.animal.herbivore.Herbivore;
 import org.example.entity.organism.animal.predator.Predator;
+import org.example.metrics.Phase;
+import org.example.metrics.PhaseMetrics;
+import org.example.statistics.HistorySeries;
+import org.example.statistics.PopulationCounter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.function.Predicate;
-
 /**
  * Service class for determining if the simulation should be terminated based on configured termination conditions.
+ * All conditions are evaluated against the incrementally maintained population counters, so no organisms are scanned.
+ * Besides extinction and the iteration limit, the simulation can stop when the population dynamics settle
+ * into a steady state or a limit cycle, detected in the alive organisms kept by the statistics history.
  */
 public class TerminationService {
     private static final Logger logger = LoggerFactory.getLogger(TerminationService.class);
 
     private final TerminationConfig terminationConfig;
     private final StatisticsService statisticsService;
+    private final PhaseMetrics phaseMetrics;
+    private final PopulationCounter populationCounter;
 
     /**
      * Constructs a TerminationService with termination configuration and statistics service.
      *
      * @param terminationConfig Configuration for termination conditions.
      * @param statisticsService Service for collecting and providing statistics.
+     * @param phaseMetrics      Metrics recording phase latencies.
      */
     public TerminationService(TerminationConfig terminationConfig,
-                              StatisticsService statisticsService) {
+                              StatisticsService statisticsService,
+                              PhaseMetrics phaseMetrics) {
         this.terminationConfig = terminationConfig;
         this.statisticsService = statisticsService;
+        this.phaseMetrics = phaseMetrics;
+        this.populationCounter = statisticsService.getPopulationCounter();
     }
 
     /**
      * Checks if the simulation should be finished based on configured termination conditions.
      *
-     * @param area The simulation area.
      * @return true if the simulation should be finished, otherwise false.
      */
-    public boolean isSimulationFinished(Area area) {
-        var areAllHerbivoreDead = areAllHerbivoreDead(area);
-        var areAllPredatorsDead = areAllPredatorsDead(area);
-        var areAllAnimalsDead = areAllAnimalsDead(area);
+    public boolean isSimulationFinished() {
+        return phaseMetrics.time(Phase.TERMINATION, this::checkTerminationConditions);
+    }
+
+    /**
+     * Evaluates every configured termination condition.
+     *
+     * @return true if the simulation should be finished, otherwise false.
+     */
+    private boolean checkTerminationConditions() {
+        var areAllHerbivoreDead = areAllHerbivoreDead();
+        var areAllPredatorsDead = areAllPredatorsDead();
+        var areAllAnimalsDead = areAllAnimalsDead();
         var isIterationLimitReached = isIterationLimitReached();
-        var isSimulationFinished = areAllHerbivoreDead || areAllPredatorsDead || areAllAnimalsDead || isIterationLimitReached;
+        var isSteadyStateReached = isSteadyStateReached();
+        var isLimitCycleReached = isLimitCycleReached();
+        var isSimulationFinished = areAllHerbivoreDead || areAllPredatorsDead || areAllAnimalsDead || isIterationLimitReached
+                || isSteadyStateReached || isLimitCycleReached;
 
         logger.debug("Check if all herbivore are dead: {}", areAllHerbivoreDead);
         logger.debug("Check if all predators are dead: {}", areAllPredatorsDead);
         logger.debug("Check if all animals are dead: {}", areAllAnimalsDead);
         logger.debug("Check if iteration limit is reached: {}", isIterationLimitReached);
+        logger.debug("Check if steady state is reached: {}", isSteadyStateReached);
+        logger.debug("Check if limit cycle is reached: {}", isLimitCycleReached);
         logger.debug("Check if simulation should stop: {}", isSimulationFinished);
 
         return isSimulationFinished;
@@ -65,68 +87,58 @@ public class TerminationService {
     }
 
     /**
-     * Checks if all predators are dead in the area based on configured condition.
+     * Checks if all predators are dead based on configured condition.
      *
-     * @param area The simulation area.
      * @return true if all predators are dead, otherwise false.
      */
-    private boolean areAllPredatorsDead(Area area) {
-        if (!terminationConfig.allPredatorsDead()) {
-            return false;
-        }
-
-        // doesn't work with var
-        Predicate<Location> hasAlivePredator = location -> location.getGroupedOrganismsBySuperclass()
-                .get(Predator.class)
-                .parallelStream()
-                .anyMatch(organism -> organism.isAlive() && organism instanceof Predator);
-
-        return area.getLocations()
-                   .parallelStream()
-                   .noneMatch(hasAlivePredator);
+    private boolean areAllPredatorsDead() {
+        return terminationConfig.allPredatorsDead() && populationCounter.getAliveInGroup(Predator.class) == 0;
     }
 
     /**
-     * Checks if all herbivores are dead in the area based on configured condition.
+     * Checks if all herbivores are dead based on configured condition.
      *
-     * @param area The simulation area.
      * @return true if all herbivores are dead, otherwise false.
      */
-    private boolean areAllHerbivoreDead(Area area) {
-        if (!terminationConfig.allHerbivoreDead()) {
-            return false;
-        }
+    private boolean areAllHerbivoreDead() {
+        return terminationConfig.allHerbivoreDead() && populationCounter.getAliveInGroup(Herbivore.class) == 0;
+    }
 
-        // doesn't work with var
-        Predicate<Location> hasAliveHerbivore = location -> location.getGroupedOrganismsBySuperclass()
-                .get(Herbivore.class)
-                .parallelStream()
-                .anyMatch(organism -> organism.isAlive() && organism instanceof Herbivore);
+    /**
+     * Checks if all animals are dead based on configured condition.
+     *
+     * @return true if all animals are dead, otherwise false.
+     */
+    private boolean areAllAnimalsDead() {
+        return terminationConfig.allAnimalsDead() && populationCounter.getAliveInGroup(Animal.class) == 0;
+    }
 
-        return area.getLocations()
-                   .parallelStream()
-                   .noneMatch(hasAliveHerbivore);
+    /**
+     * Checks if the population of every species stayed within the tolerance during the window based on configured condition.
+     *
+     * @return true if the steady state is reached, otherwise false.
+     */
+    private boolean isSteadyStateReached() {
+        return terminationConfig.steadyState()
+                && statisticsService.getHistory().isSteady(HistorySeries.ALIVE, terminationConfig.dynamicsWindow(), terminationConfig.dynamicsTolerance());
     }
 
     /**
-     * Checks if all animals are dead in the area based on configured condition.
+     * Checks if the population vectors repeat themselves with a period during the window based on configured condition.
      *
-     * @param area The simulation area.
-     * @return true if all animals are dead, otherwise false.
+     * @return true if the limit cycle is reached, otherwise false.
      */
-    private boolean areAllAnimalsDead(Area area) {
-        if (!terminationConfig.allAnimalsDead()) {
+    private boolean isLimitCycleReached() {
+        if (!terminationConfig.limitCycle()) {
             return false;
         }
 
-        // doesn't work with var
-        Predicate<Location> hasAliveAnimal = location -> location.getGroupedOrganismsBySuperclass()
-                .get(Animal.class)
-                .parallelStream()
-                .anyMatch(organism -> organism.isAlive() && organism instanceof Animal);
+        var period = statisticsService.getHistory().findPeriod(HistorySeries.ALIVE, terminationConfig.dynamicsWindow(),
+                terminationConfig.dynamicsTolerance(), terminationConfig.limitCycleMaxPeriod());
+        if (period > 0) {
+            logger.info("Limit cycle with period {} has been detected", period);
+        }
 
-        return area.getLocations()
-                   .parallelStream()
-                   .noneMatch(hasAliveAnimal);
+        return period > 0;
     }
 }
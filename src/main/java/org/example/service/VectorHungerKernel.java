@@ -0,0 +1,35 @@
+package org.example.service;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The {@code VectorHungerKernel} class implements the {@code HungerKernel} with the incubating Vector API.
+ * It processes as many satiety values per instruction as the preferred vector shape of the CPU allows.
+ * The class must only be loaded when the {@code jdk.incubator.vector} module is present.
+ */
+public class VectorHungerKernel implements HungerKernel {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void applyHunger(double[] satiety, boolean[] alive, int length, double decrement) {
+        var upperBound = SPECIES.loopBound(length);
+        var i = 0;
+
+        for (; i < upperBound; i += SPECIES.length()) {
+            var newSatiety = DoubleVector.fromArray(SPECIES, satiety, i).sub(decrement);
+            newSatiety.intoArray(satiety, i);
+            newSatiety.compare(VectorOperators.GE, 0).intoArray(alive, i);
+        }
+
+        for (; i < length; i++) {
+            var newSatiety = satiety[i] - decrement;
+            satiety[i] = newSatiety;
+            alive[i] = newSatiety >= 0;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.statistics;
+
+/**
+ * The {@code HistorySeries} enum lists the per-tick values kept by the {@code StatisticsHistory}.
+ * The values of the species series are indexed by species id, the values of the phase series by the ordinal of the phase.
+ */
+public enum HistorySeries {
+    /**
+     * The number of alive organisms of a species after the tick.
+     */
+    ALIVE,
+
+    /**
+     * The number of organisms of a species created since the previous tick.
+     */
+    BIRTHS,
+
+    /**
+     * The number of dead organisms of a species removed during the tick.
+     */
+    DEATHS,
+
+    /**
+     * The nanoseconds spent in a phase since the previous tick.
+     */
+    PHASE_NANOS
+}
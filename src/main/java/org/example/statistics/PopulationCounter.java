@@ -0,0 +1,177 @@
+package org.example.statistics;
+
+import org.example.entity.location.Location;
+import org.example.entity.organism.Organism;
+import org.example.entity.organism.OrganismRegistry;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code PopulationCounter} class keeps the number of alive organisms of every species on the whole island.
+ * The counters are updated incrementally from creation events (initial population, regrowth and births)
+ * and from removal of dead organisms, so population queries cost O(number of species) instead of a world scan.
+ * The numbers of created and removed organisms of every species are kept as running totals as well,
+ * so the births and deaths of a tick are the differences of the totals at its end and at its start.
+ */
+public class PopulationCounter {
+    private final OrganismRegistry organismRegistry;
+    private final LongAdder[] counters;
+    private final LongAdder[] createdCounters;
+    private final LongAdder[] removedCounters;
+
+    /**
+     * Constructs a {@code PopulationCounter} with zero population of every registered species.
+     *
+     * @param organismRegistry the registry providing species ids
+     */
+    public PopulationCounter(OrganismRegistry organismRegistry) {
+        this.organismRegistry = organismRegistry;
+        this.counters = new LongAdder[organismRegistry.getSpecies().size()];
+        this.createdCounters = new LongAdder[counters.length];
+        this.removedCounters = new LongAdder[counters.length];
+
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+            createdCounters[i] = new LongAdder();
+            removedCounters[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Registers organisms created in a location. The factory creates organisms of one species per batch.
+     *
+     * @param location  the location where the organisms have been created
+     * @param organisms the created organisms
+     */
+    public void onOrganismsCreated(Location location, List<Organism> organisms) {
+        if (organisms.isEmpty()) {
+            return;
+        }
+
+        var speciesId = organismRegistry.getSpeciesId(organisms.get(0).getClass());
+        counters[speciesId].add(organisms.size());
+        createdCounters[speciesId].add(organisms.size());
+    }
+
+    /**
+     * Registers dead organisms removed from the island.
+     *
+     * @param deadOrganisms the number of removed dead organisms of every species
+     */
+    public void onOrganismsRemoved(Map<Class<? extends Organism>, Long> deadOrganisms) {
+        deadOrganisms.forEach((organismClass, amount) -> {
+            var speciesId = organismRegistry.getSpeciesId(organismClass);
+            counters[speciesId].add(-amount);
+            removedCounters[speciesId].add(amount);
+        });
+    }
+
+    /**
+     * Returns the number of alive organisms of the specified species.
+     *
+     * @param organismClass the class of the species
+     * @return the number of alive organisms
+     */
+    public long getAlive(Class<? extends Organism> organismClass) {
+        return counters[organismRegistry.getSpeciesId(organismClass)].sum();
+    }
+
+    /**
+     * Copies the number of alive organisms of every species into the array, indexed by species id.
+     *
+     * @param target the array to fill, at least as long as the number of species
+     */
+    public void copyAlive(long[] target) {
+        for (int i = 0; i < counters.length; i++) {
+            target[i] = counters[i].sum();
+        }
+    }
+
+    /**
+     * Copies the number of organisms of every species created since the start into the array, indexed by species id.
+     *
+     * @param target the array to fill, at least as long as the number of species
+     */
+    public void copyCreated(long[] target) {
+        for (int i = 0; i < createdCounters.length; i++) {
+            target[i] = createdCounters[i].sum();
+        }
+    }
+
+    /**
+     * Copies the number of dead organisms of every species removed since the start into the array, indexed by species id.
+     *
+     * @param target the array to fill, at least as long as the number of species
+     */
+    public void copyRemoved(long[] target) {
+        for (int i = 0; i < removedCounters.length; i++) {
+            target[i] = removedCounters[i].sum();
+        }
+    }
+
+    /**
+     * Returns the number of species tracked by the counter.
+     *
+     * @return the number of species
+     */
+    public int getSpeciesAmount() {
+        return counters.length;
+    }
+
+    /**
+     * Returns the number of alive organisms of all species that are subclasses of the specified group,
+     * e.g. {@code Predator.class} or {@code Animal.class}.
+     *
+     * @param group the superclass of the species to count
+     * @return the number of alive organisms in the group
+     */
+    public long getAliveInGroup(Class<?> group) {
+        var species = organismRegistry.getSpecies();
+        var alive = 0L;
+
+        for (int i = 0; i < counters.length; i++) {
+            if (group.isAssignableFrom(species.get(i))) {
+                alive += counters[i].sum();
+            }
+        }
+
+        return alive;
+    }
+
+    /**
+     * Returns the total number of alive organisms on the island.
+     *
+     * @return the total number of alive organisms
+     */
+    public long getTotalAlive() {
+        var alive = 0L;
+
+        for (var counter : counters) {
+            alive += counter.sum();
+        }
+
+        return alive;
+    }
+
+    /**
+     * Returns the number of alive organisms of every species with a non-zero population, ordered by species id.
+     *
+     * @return the map of species to the number of alive organisms
+     */
+    public Map<Class<? extends Organism>, Long> getAliveOrganisms() {
+        var species = organismRegistry.getSpecies();
+        var aliveOrganisms = new LinkedHashMap<Class<? extends Organism>, Long>();
+
+        for (int i = 0; i < counters.length; i++) {
+            var alive = counters[i].sum();
+            if (alive > 0) {
+                aliveOrganisms.put(species.get(i), alive);
+            }
+        }
+
+        return aliveOrganisms;
+    }
+}
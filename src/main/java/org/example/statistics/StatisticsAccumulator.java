@@ -0,0 +1,61 @@
+package org.example.statistics;
+
+import org.example.entity.organism.Organism;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@code StatisticsAccumulator} class collects statistics of a part of the area without any synchronization.
+ * Every worker of a parallel phase fills its own accumulator, and the accumulators are merged
+ * when the phase is completed.
+ */
+public class StatisticsAccumulator {
+    private final Map<Class<? extends Organism>, Long> deadOrganisms;
+    private long diedOrganisms;
+
+    /**
+     * Constructs an empty {@code StatisticsAccumulator}.
+     */
+    public StatisticsAccumulator() {
+        this.deadOrganisms = new HashMap<>();
+    }
+
+    /**
+     * Registers an organism that died during the iteration.
+     *
+     * @param organism the dead organism
+     */
+    public void registerDeadOrganism(Organism organism) {
+        deadOrganisms.merge(organism.getClass(), 1L, Long::sum);
+        diedOrganisms++;
+    }
+
+    /**
+     * Adds the statistics collected by another accumulator to this one.
+     *
+     * @param other the accumulator to merge
+     */
+    public void merge(StatisticsAccumulator other) {
+        other.deadOrganisms.forEach((organismClass, amount) -> deadOrganisms.merge(organismClass, amount, Long::sum));
+        diedOrganisms += other.diedOrganisms;
+    }
+
+    /**
+     * Returns the number of dead organisms of every species.
+     *
+     * @return the map of species to the number of dead organisms
+     */
+    public Map<Class<? extends Organism>, Long> getDeadOrganisms() {
+        return deadOrganisms;
+    }
+
+    /**
+     * Returns the number of organisms that died during the iteration.
+     *
+     * @return the number of dead organisms
+     */
+    public long getDiedOrganisms() {
+        return diedOrganisms;
+    }
+}
@@ -0,0 +1,293 @@
+package org.example.statistics;
+
+/**
+ * The {@code StatisticsHistory} class keeps the statistics of the last ticks in preallocated rings of longs,
+ * one flat array per {@code HistorySeries}, indexed by its ordinal, with a row of values per tick.
+ * Recording a tick only copies arrays, so the history neither boxes nor allocates after it's created,
+ * and its memory stays bounded by the capacity.
+ * <p>
+ * Values are addressed by their age: {@code 0} is the latest recorded tick. The history is written and read
+ * by the simulation thread only.
+ */
+public class StatisticsHistory {
+    private static final String SPARKLINE_LEVELS = "▁▂▃▄▅▆▇█";
+
+    private final int capacity;
+    private final long[] ticks;
+    private final long[][] rings;
+    private final int[] widths;
+    private int size;
+    private int next;
+
+    /**
+     * Constructs an empty {@code StatisticsHistory}.
+     *
+     * @param capacity      the number of ticks kept in the history
+     * @param speciesAmount the number of species
+     * @param phaseAmount   the number of phases
+     * @throws IllegalArgumentException if the capacity isn't positive
+     */
+    public StatisticsHistory(int capacity, int speciesAmount, int phaseAmount) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Statistics history capacity must be positive=" + capacity);
+        }
+
+        this.capacity = capacity;
+        this.ticks = new long[capacity];
+        this.rings = new long[HistorySeries.values().length][];
+        this.widths = new int[rings.length];
+
+        for (var series : HistorySeries.values()) {
+            var width = series == HistorySeries.PHASE_NANOS ? phaseAmount : speciesAmount;
+            widths[series.ordinal()] = width;
+            rings[series.ordinal()] = new long[capacity * width];
+        }
+    }
+
+    /**
+     * Adds the statistics of a tick to the history, evicting the oldest tick if it's full.
+     *
+     * @param tick       the tick
+     * @param alive      the alive organisms of every species
+     * @param births     the births of every species
+     * @param deaths     the deaths of every species
+     * @param phaseNanos the nanoseconds spent in every phase
+     */
+    public void record(long tick, long[] alive, long[] births, long[] deaths, long[] phaseNanos) {
+        ticks[next] = tick;
+        copyRow(HistorySeries.ALIVE, alive);
+        copyRow(HistorySeries.BIRTHS, births);
+        copyRow(HistorySeries.DEATHS, deaths);
+        copyRow(HistorySeries.PHASE_NANOS, phaseNanos);
+
+        next = (next + 1) % capacity;
+        size = Math.min(size + 1, capacity);
+    }
+
+    /**
+     * Returns the number of ticks in the history.
+     *
+     * @return the number of recorded ticks, at most the capacity
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of ticks the history can keep.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the tick of the specified age.
+     *
+     * @param age the number of ticks recorded after it
+     * @return the tick
+     * @throws IndexOutOfBoundsException if the age isn't in the history
+     */
+    public long getTick(int age) {
+        return ticks[indexOf(age)];
+    }
+
+    /**
+     * Returns a value of the tick of the specified age.
+     *
+     * @param series the series of the value
+     * @param index  the species id, or the ordinal of the phase for {@code PHASE_NANOS}
+     * @param age    the number of ticks recorded after it
+     * @return the value
+     * @throws IndexOutOfBoundsException if the age isn't in the history or the index is out of range
+     */
+    public long getValue(HistorySeries series, int index, int age) {
+        var width = widths[series.ordinal()];
+        if (index < 0 || index >= width) {
+            throw new IndexOutOfBoundsException("Index %d is out of the %s series of width %d".formatted(index, series, width));
+        }
+
+        return rings[series.ordinal()][indexOf(age) * width + index];
+    }
+
+    /**
+     * Returns the mean of the values of the latest ticks.
+     *
+     * @param series the series of the values
+     * @param index  the species id, or the ordinal of the phase for {@code PHASE_NANOS}
+     * @param window the number of latest ticks, limited to the size of the history
+     * @return the moving average, or {@code 0} if the history is empty
+     */
+    public double getMovingAverage(HistorySeries series, int index, int window) {
+        var length = Math.min(window, size);
+        if (length <= 0) {
+            return 0;
+        }
+
+        var sum = 0L;
+        for (var age = 0; age < length; age++) {
+            sum += getValue(series, index, age);
+        }
+
+        return (double) sum / length;
+    }
+
+    /**
+     * Returns the mean change of the value per tick over the latest ticks.
+     *
+     * @param series the series of the values
+     * @param index  the species id, or the ordinal of the phase for {@code PHASE_NANOS}
+     * @param window the number of ticks to look back, limited to the size of the history
+     * @return the rate of change, or {@code 0} if fewer than two ticks are recorded
+     */
+    public double getRateOfChange(HistorySeries series, int index, int window) {
+        var age = Math.min(window, size - 1);
+        if (age <= 0) {
+            return 0;
+        }
+
+        return (double) (getValue(series, index, 0) - getValue(series, index, age)) / age;
+    }
+
+    /**
+     * Draws the values of the latest ticks as a line of block characters, from the oldest to the latest tick,
+     * scaled between the smallest and the largest of the drawn values.
+     *
+     * @param series the series of the values
+     * @param index  the species id, or the ordinal of the phase for {@code PHASE_NANOS}
+     * @param length the number of latest ticks, limited to the size of the history
+     * @return the sparkline, empty if the history is empty
+     */
+    public String getSparkline(HistorySeries series, int index, int length) {
+        var shown = Math.min(length, size);
+        var min = Long.MAX_VALUE;
+        var max = Long.MIN_VALUE;
+
+        for (var age = 0; age < shown; age++) {
+            var value = getValue(series, index, age);
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+
+        var sparkline = new char[shown];
+        var topLevel = SPARKLINE_LEVELS.length() - 1;
+        for (var age = 0; age < shown; age++) {
+            var level = max == min ? 0 : (int) ((getValue(series, index, age) - min) * topLevel / (max - min));
+            sparkline[shown - 1 - age] = SPARKLINE_LEVELS.charAt(level);
+        }
+
+        return new String(sparkline);
+    }
+
+    /**
+     * Checks if every value of the series stayed within the tolerance of its mean during the latest ticks.
+     *
+     * @param series    the series of the values
+     * @param window    the number of latest ticks
+     * @param tolerance the allowed deviation relative to the mean
+     * @return {@code true} if the history holds the whole window and the values are steady
+     */
+    public boolean isSteady(HistorySeries series, int window, double tolerance) {
+        if (window <= 0 || size < window) {
+            return false;
+        }
+
+        for (var index = 0; index < widths[series.ordinal()]; index++) {
+            var min = Long.MAX_VALUE;
+            var max = Long.MIN_VALUE;
+            var sum = 0L;
+
+            for (var age = 0; age < window; age++) {
+                var value = getValue(series, index, age);
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+                sum += value;
+            }
+
+            var mean = (double) sum / window;
+            if (max - min > tolerance * Math.max(mean, 1)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Finds the shortest period from 2 to {@code maxPeriod} with which the values of the series repeat themselves
+     * within the tolerance during the latest ticks. At least two full periods must fit into the window.
+     * A window which is steady within the tolerance repeats itself with any period but doesn't oscillate,
+     * so it has no period; it's detected by {@link #isSteady(HistorySeries, int, double)} instead.
+     *
+     * @param series    the series of the values
+     * @param window    the number of latest ticks
+     * @param tolerance the allowed deviation relative to the later value
+     * @param maxPeriod the longest period to look for
+     * @return the period, or {@code 0} if there is none, the window is steady or the history doesn't hold the whole window
+     */
+    public int findPeriod(HistorySeries series, int window, double tolerance, int maxPeriod) {
+        if (window <= 0 || size < window || isSteady(series, window, tolerance)) {
+            return 0;
+        }
+
+        var longestPeriod = Math.min(maxPeriod, window / 2);
+        for (var period = 2; period <= longestPeriod; period++) {
+            if (isPeriodic(series, window, period, tolerance)) {
+                return period;
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Checks if every value of the series during the latest ticks equals, within the tolerance,
+     * the value {@code period} ticks before it.
+     *
+     * @param series    the series of the values
+     * @param window    the number of latest ticks
+     * @param period    the period to check
+     * @param tolerance the allowed deviation relative to the later value
+     * @return {@code true} if the values are periodic
+     */
+    private boolean isPeriodic(HistorySeries series, int window, int period, double tolerance) {
+        for (var age = 0; age + period < window; age++) {
+            for (var index = 0; index < widths[series.ordinal()]; index++) {
+                var value = getValue(series, index, age);
+                var previousValue = getValue(series, index, age + period);
+                if (Math.abs(value - previousValue) > tolerance * Math.max(value, 1)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Copies the values of the tick being recorded into the ring of the series.
+     *
+     * @param series the series
+     * @param values the values, one per species or phase
+     */
+    private void copyRow(HistorySeries series, long[] values) {
+        var width = widths[series.ordinal()];
+        System.arraycopy(values, 0, rings[series.ordinal()], next * width, width);
+    }
+
+    /**
+     * Returns the ring index of the tick of the specified age.
+     *
+     * @param age the number of ticks recorded after it
+     * @return the index in the rings
+     * @throws IndexOutOfBoundsException if the age isn't in the history
+     */
+    private int indexOf(int age) {
+        if (age < 0 || age >= size) {
+            throw new IndexOutOfBoundsException("Age %d is outside the history of %d ticks".formatted(age, size));
+        }
+
+        return Math.floorMod(next - 1 - age, capacity);
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.statistics;
+
+import org.example.entity.organism.Organism;
+
+import java.util.Map;
+
+/**
+ * The {@code StatisticsSnapshot} record is an immutable view of the statistics of one iteration.
+ * It's published once per iteration after the dead organisms have been removed.
+ *
+ * @param iteration      the iteration the statistics belong to
+ * @param aliveOrganisms the number of alive organisms of every species
+ * @param diedToday      the number of organisms that died during the iteration
+ * @param killedToday    the number of organisms that were eaten during the iteration
+ * @param totalDied      the number of organisms that died since the start of the simulation
+ */
+public record StatisticsSnapshot(long iteration,
+                                 Map<Class<? extends Organism>, Long> aliveOrganisms,
+                                 long diedToday,
+                                 long killedToday,
+                                 long totalDied) {
+
+    /**
+     * Returns the snapshot used before the first iteration is completed.
+     *
+     * @return the empty snapshot
+     */
+    public static StatisticsSnapshot empty() {
+        return new StatisticsSnapshot(0, Map.of(), 0, 0, 0);
+    }
+}
@@ -1,11 +1,26 @@
 package org.example.task;
 
+import org.example.config.SimulationConfig;
 import org.example.entity.area.Area;
+import org.example.metrics.Phase;
+import org.example.metrics.LocationCostReport;
+import org.example.metrics.LocationCostTracker;
+import org.example.metrics.LocationCostWriter;
+import org.example.metrics.PhaseMetrics;
+import org.example.metrics.SimulationMetrics;
+import org.example.metrics.StatisticsExporter;
+import org.example.metrics.jfr.MigrationEventEmitter;
+import org.example.metrics.jfr.TickEvent;
 import org.example.service.*;
+import org.example.view.AsyncFrameRenderer;
+import org.example.view.FrameFactory;
 import org.example.view.View;
 
 /**
  * Represents a task that runs the life cycle of a simulation.
+ * Plants regrow inside the loop every {@code plantRegrowthInterval} ticks, so the simulation behaves the same
+ * whether the ticks are paced or run back-to-back. In the headless mode the map isn't shown
+ * and the statistics are only rendered every {@code statisticsInterval} ticks and after the last one.
  */
 public class LifeCycleTask implements Runnable {
     private final View view;
@@ -16,6 +31,19 @@ public class LifeCycleTask implements Runnable {
     private final TerminationService terminationService;
     private final DeadOrganismRemover deadOrganismRemover;
     private final DelayService delayService;
+    private final PhaseMetrics phaseMetrics;
+    private final SimulationMetrics simulationMetrics;
+    private final MigrationEventEmitter migrationEventEmitter;
+    private final LocationCostTracker locationCostTracker;
+    private final LocationCostWriter locationCostWriter;
+    private final FrameFactory frameFactory;
+    private final AsyncFrameRenderer frameRenderer;
+    private final PlantRegrowingTask plantRegrowingTask;
+    private final CheckpointService checkpointService;
+    private final JournalService journalService;
+    private final StatisticsExporter statisticsExporter;
+    private final SimulationConfig simulationConfig;
+    private long lastRenderedIteration;
 
     /**
      * Constructs a LifeCycleTask with the specified dependencies.
@@ -28,6 +56,18 @@ public class LifeCycleTask implements Runnable {
      * @param terminationService   Service for checking termination conditions of the simulation.
      * @param deadOrganismRemover  Service for removing dead organisms from the simulation area.
      * @param delayService         Service for introducing delays between simulation cycles.
+     * @param phaseMetrics         Metrics recording phase latencies.
+     * @param simulationMetrics    Metrics counting births, moves and the tick rate.
+     * @param migrationEventEmitter Emitter of the flight recorder migration events.
+     * @param locationCostTracker  Tracker attributing the cost of the parallel phases to the locations.
+     * @param locationCostWriter   Writer dumping the location costs into a CSV file.
+     * @param frameFactory         Factory creating the frames of the completed iterations.
+     * @param frameRenderer        Renderer showing the frames on its own thread.
+     * @param plantRegrowingTask   Task regrowing the plants of the area.
+     * @param checkpointService    Service restoring the island and taking the checkpoints.
+     * @param journalService       Service recording the lifecycle events into the event journal.
+     * @param statisticsExporter   Exporter streaming the statistics of every tick into a file.
+     * @param simulationConfig     Configuration of the pacing, the statistics and the plant regrowth intervals.
      */
     public LifeCycleTask(View view,
                          Area area,
@@ -36,7 +76,19 @@ public class LifeCycleTask implements Runnable {
                          StatisticsService statisticsService,
                          TerminationService terminationService,
                          DeadOrganismRemover deadOrganismRemover,
-                         DelayService delayService) {
+                         DelayService delayService,
+                         PhaseMetrics phaseMetrics,
+                         SimulationMetrics simulationMetrics,
+                         MigrationEventEmitter migrationEventEmitter,
+                         LocationCostTracker locationCostTracker,
+                         LocationCostWriter locationCostWriter,
+                         FrameFactory frameFactory,
+                         AsyncFrameRenderer frameRenderer,
+                         PlantRegrowingTask plantRegrowingTask,
+                         CheckpointService checkpointService,
+                         JournalService journalService,
+                         StatisticsExporter statisticsExporter,
+                         SimulationConfig simulationConfig) {
         this.view = view;
         this.area = area;
         this.simulationService = simulationService;
@@ -45,24 +97,132 @@ public class LifeCycleTask implements Runnable {
         this.terminationService = terminationService;
         this.deadOrganismRemover = deadOrganismRemover;
         this.delayService = delayService;
+        this.phaseMetrics = phaseMetrics;
+        this.simulationMetrics = simulationMetrics;
+        this.migrationEventEmitter = migrationEventEmitter;
+        this.locationCostTracker = locationCostTracker;
+        this.locationCostWriter = locationCostWriter;
+        this.frameFactory = frameFactory;
+        this.frameRenderer = frameRenderer;
+        this.plantRegrowingTask = plantRegrowingTask;
+        this.checkpointService = checkpointService;
+        this.journalService = journalService;
+        this.statisticsExporter = statisticsExporter;
+        this.simulationConfig = simulationConfig;
     }
 
     /**
      * Runs the life cycle of the simulation until termination conditions are met.
+     * The island is either populated or restored from a checkpoint.
      */
     @Override
     public void run() {
-        view.showWorldMap(area);
-        populationService.populateOrganisms(area);
-        view.showTotalAliveOrganisms(area);
-        while (!terminationService.isSimulationFinished(area)) {
-            view.showIterationNumber();
+        if (!simulationConfig.headless()) {
+            view.showWorldMap(area);
+        }
+        if (checkpointService.isRestoring()) {
+            checkpointService.restore(area);
+        } else {
+            populationService.populateOrganisms(area);
+        }
+        view.showTotalAliveOrganisms();
+        frameRenderer.start();
+        statisticsExporter.start();
+        try (locationCostWriter; frameRenderer; checkpointService; journalService; statisticsExporter) {
+            simulate();
+        }
+    }
+
+    /**
+     * Runs the iterations of the simulation until termination conditions are met.
+     * The last iteration is always rendered, even if it's between two statistics samples.
+     */
+    private void simulate() {
+        while (!terminationService.isSimulationFinished()) {
+            delayService.startTick();
+            var tickEvent = startTick();
             simulationService.simulateLife(area);
-            statisticsService.increaseIterationCounter();
             deadOrganismRemover.removeDeadOrganisms(area);
-            view.showAliveToday();
-            view.showStatistics(area);
+            endTick(tickEvent);
+            statisticsService.increaseIterationCounter();
+            journalService.onTickCompleted();
+            statisticsExporter.onTickCompleted();
+            regrowPlants();
+            checkpointService.onTickCompleted(area);
+            simulationMetrics.onTickCompleted();
+            if (getCompletedIteration() % simulationConfig.statisticsInterval() == 0) {
+                phaseMetrics.time(Phase.RENDERING, this::publishFrame);
+            }
             delayService.delay();
         }
+
+        if (lastRenderedIteration != getCompletedIteration()) {
+            phaseMetrics.time(Phase.RENDERING, this::publishFrame);
+        }
+    }
+
+    /**
+     * Regrows the plants if the completed iteration is a multiple of the plant regrowth interval.
+     */
+    private void regrowPlants() {
+        if (getCompletedIteration() % simulationConfig.plantRegrowthInterval() == 0) {
+            plantRegrowingTask.run();
+        }
+    }
+
+    /**
+     * Hands the frame of the completed iteration over to the renderer. The simulation doesn't wait for it to be shown.
+     * The location costs are accumulated over all iterations since the previous frame.
+     */
+    private void publishFrame() {
+        LocationCostReport locationCosts = null;
+        lastRenderedIteration = getCompletedIteration();
+
+        if (locationCostTracker.isEnabled()) {
+            locationCosts = locationCostTracker.collect(lastRenderedIteration);
+            locationCostWriter.write(locationCosts);
+        }
+
+        frameRenderer.publish(frameFactory.createFrame(area, locationCosts));
+    }
+
+    /**
+     * Returns the number of the last completed iteration.
+     *
+     * @return the iteration number, or {@code 0} before the first iteration
+     */
+    private long getCompletedIteration() {
+        return statisticsService.getSnapshot().iteration();
+    }
+
+    /**
+     * Starts the flight recorder event of the current iteration.
+     *
+     * @return the started tick event
+     */
+    private TickEvent startTick() {
+        var tickEvent = new TickEvent();
+        if (tickEvent.isEnabled()) {
+            tickEvent.tick = statisticsService.getCurrentIterationCounter();
+            tickEvent.populationAtStart = statisticsService.getTotalAliveOrganisms();
+        }
+        tickEvent.begin();
+
+        return tickEvent;
+    }
+
+    /**
+     * Ends the flight recorder event of the current iteration and emits the migrations of the iteration.
+     *
+     * @param tickEvent the tick event started before the iteration
+     */
+    private void endTick(TickEvent tickEvent) {
+        tickEvent.end();
+        if (tickEvent.shouldCommit()) {
+            tickEvent.populationAtEnd = statisticsService.getTotalAliveOrganisms();
+            tickEvent.commit();
+        }
+
+        migrationEventEmitter.emit(area, statisticsService.getCurrentIterationCounter());
     }
 }
@@ -0,0 +1,202 @@
+package org.example.task;
+
+import org.example.history.HistoryIndex;
+import org.example.history.Region;
+import org.example.persistence.JournalEventType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Represents a task that answers queries about a recorded run from its history index.
+ * The query is either passed on the command line or, if there is none, read from the standard input one per line
+ * until an empty line. The supported queries are:
+ * <ul>
+ *     <li>{@code population <species> <day> [<y> <x> <height> <width>]} - the population on the island or in a region,</li>
+ *     <li>{@code extinction <species>} - the day the species went extinct,</li>
+ *     <li>{@code lifetime <organism id>} - the birth and the death of an organism.</li>
+ * </ul>
+ */
+public class QueryTask implements Runnable {
+    private static final String USAGE = "Queries: population <species> <day> [<y> <x> <height> <width>], extinction <species>, lifetime <organism id>";
+
+    private final HistoryIndex historyIndex;
+    private final List<String> query;
+
+    /**
+     * Constructs a QueryTask with the specified index and query.
+     *
+     * @param historyIndex The index of the recorded run.
+     * @param query        The words of the query, or an empty list to read the queries from the standard input.
+     */
+    public QueryTask(HistoryIndex historyIndex, List<String> query) {
+        this.historyIndex = historyIndex;
+        this.query = query;
+    }
+
+    /**
+     * Answers the query, or the queries read from the standard input.
+     */
+    @Override
+    public void run() {
+        try (historyIndex) {
+            if (!query.isEmpty()) {
+                answer(query);
+                return;
+            }
+
+            System.out.println(USAGE);
+            readQueries();
+        }
+    }
+
+    /**
+     * Reads the queries from the standard input and answers them until an empty line or the end of the input.
+     */
+    private void readQueries() {
+        var reader = new BufferedReader(new InputStreamReader(System.in));
+
+        try {
+            while (true) {
+                System.out.print("Query (empty line to quit): ");
+                var line = reader.readLine();
+                if (line == null || line.isBlank()) {
+                    return;
+                }
+
+                answer(Arrays.asList(line.trim().split("\\s+")));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't read the standard input", e);
+        }
+    }
+
+    /**
+     * Answers a single query and prints the answer, or the reason the query is invalid.
+     *
+     * @param words the words of the query
+     */
+    private void answer(List<String> words) {
+        var startNanos = System.nanoTime();
+
+        try {
+            var answer = switch (words.get(0)) {
+                case "population" -> answerPopulation(words);
+                case "extinction" -> answerExtinction(words);
+                case "lifetime" -> answerLifetime(words);
+                default -> throw new IllegalArgumentException(USAGE);
+            };
+
+            System.out.printf("%s (answered in %.3f ms)%n", answer, (System.nanoTime() - startNanos) / 1e6);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            System.out.println(e instanceof IndexOutOfBoundsException ? USAGE : e.getMessage());
+        }
+    }
+
+    /**
+     * Answers the population query.
+     *
+     * @param words the words of the query
+     * @return the answer
+     */
+    private String answerPopulation(List<String> words) {
+        var speciesId = getSpeciesId(words.get(1));
+        var tick = Long.parseLong(words.get(2));
+
+        if (words.size() < 7) {
+            return "%s on day %d: %d".formatted(words.get(1), tick, historyIndex.getPopulation(speciesId, tick));
+        }
+
+        var region = new Region(Integer.parseInt(words.get(3)), Integer.parseInt(words.get(4)),
+                Integer.parseInt(words.get(5)), Integer.parseInt(words.get(6)));
+        var counted = historyIndex.getCountedRegion(region);
+        if (counted.height() == 0 || counted.width() == 0) {
+            return "The region is outside the island";
+        }
+
+        return "%s on day %d in rows %d-%d, columns %d-%d: %d".formatted(words.get(1), tick,
+                counted.y(), counted.y() + counted.height() - 1, counted.x(), counted.x() + counted.width() - 1,
+                historyIndex.getPopulation(speciesId, tick, region));
+    }
+
+    /**
+     * Answers the extinction query.
+     *
+     * @param words the words of the query
+     * @return the answer
+     */
+    private String answerExtinction(List<String> words) {
+        var extinctionTick = historyIndex.getExtinctionTick(getSpeciesId(words.get(1)));
+
+        if (extinctionTick.isEmpty()) {
+            return "%s hasn't gone extinct".formatted(words.get(1));
+        }
+
+        return "%s went extinct on day %d".formatted(words.get(1), extinctionTick.getAsLong());
+    }
+
+    /**
+     * Answers the lifetime query.
+     *
+     * @param words the words of the query
+     * @return the answer
+     */
+    private String answerLifetime(List<String> words) {
+        var organismId = Long.parseLong(words.get(1));
+        var lifetime = historyIndex.getLifetime(organismId);
+
+        if (lifetime.isEmpty()) {
+            return "Organism %d hasn't been born in the recorded run".formatted(organismId);
+        }
+
+        var life = lifetime.get();
+        var species = getSpeciesName(life.speciesId());
+        var width = historyIndex.getJournalHeader().width();
+        var birth = "%s %d was born on day %d at (%d, %d)".formatted(species, organismId, life.birthTick(),
+                life.birthCell() / width, life.birthCell() % width);
+
+        if (life.isAlive()) {
+            return birth + " and is alive at the end";
+        }
+
+        var cause = life.deathCause() == JournalEventType.KILL ? "was eaten" : "starved";
+
+        return birth + ", %s on day %d at (%d, %d) after %d days".formatted(cause, life.deathTick(), life.deathCell() / width, life.deathCell() % width,
+                life.deathTick() - life.birthTick());
+    }
+
+    /**
+     * Resolves the species by its class name, ignoring the case and the package.
+     *
+     * @param name the name of the species
+     * @return the species id
+     * @throws IllegalArgumentException if no species has the name
+     */
+    private int getSpeciesId(String name) {
+        var species = historyIndex.getJournalHeader().species();
+
+        for (var speciesId = 0; speciesId < species.size(); speciesId++) {
+            if (getSpeciesName(speciesId).equalsIgnoreCase(name) || species.get(speciesId).equals(name)) {
+                return speciesId;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown species " + name);
+    }
+
+    /**
+     * Returns the class name of the species without the package.
+     *
+     * @param speciesId the species id
+     * @return the name of the species
+     */
+    private String getSpeciesName(int speciesId) {
+        var name = historyIndex.getJournalHeader().species().get(speciesId);
+
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.task;
+
+import org.example.replay.ReplayEngine;
+import org.example.replay.ReplayState;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Represents a task that replays a recorded run from its event journal and prints the world at the requested days.
+ * The days are either passed on the command line or, if there are none, read from the standard input one per line
+ * until an empty line, so the run can be scrubbed interactively.
+ */
+public class ReplayTask implements Runnable {
+    private final ReplayEngine replayEngine;
+    private final List<Long> ticks;
+
+    /**
+     * Constructs a ReplayTask with the specified engine and days.
+     *
+     * @param replayEngine The engine replaying the journal.
+     * @param ticks        The days to print, or an empty list to read them from the standard input.
+     */
+    public ReplayTask(ReplayEngine replayEngine, List<Long> ticks) {
+        this.replayEngine = replayEngine;
+        this.ticks = ticks;
+    }
+
+    /**
+     * Indexes the journal and prints the requested days.
+     */
+    @Override
+    public void run() {
+        try (replayEngine) {
+            var startNanos = System.nanoTime();
+            replayEngine.open();
+            System.out.printf("Replaying %d days with %d keyframes, indexed in %.1f ms%n",
+                    replayEngine.getLastTick(), replayEngine.getKeyframeAmount(), (System.nanoTime() - startNanos) / 1e6);
+
+            if (ticks.isEmpty()) {
+                readTicks();
+            } else {
+                ticks.forEach(this::show);
+            }
+        }
+    }
+
+    /**
+     * Reads the days from the standard input and prints them until an empty line or the end of the input.
+     */
+    private void readTicks() {
+        var reader = new BufferedReader(new InputStreamReader(System.in));
+
+        try {
+            while (true) {
+                System.out.printf("Day to show (1-%d, empty line to quit): ", replayEngine.getLastTick());
+                var line = reader.readLine();
+                if (line == null || line.isBlank()) {
+                    return;
+                }
+
+                try {
+                    show(Long.parseLong(line.trim()));
+                } catch (NumberFormatException e) {
+                    System.out.println("Not a day: " + line);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't read the standard input", e);
+        }
+    }
+
+    /**
+     * Replays the run to the end of the day and prints the populations and the counters of the day.
+     *
+     * @param tick the day to print
+     */
+    private void show(long tick) {
+        var startNanos = System.nanoTime();
+        var state = replayEngine.seek(tick);
+        var seekMillis = (System.nanoTime() - startNanos) / 1e6;
+
+        System.out.printf("--- Day %d --- (replayed in %.2f ms)%n", state.getTick(), seekMillis);
+        printPopulations(state);
+    }
+
+    /**
+     * Prints the population of every species and the counters of the replayed day.
+     *
+     * @param state the replayed world
+     */
+    private static void printPopulations(ReplayState state) {
+        var species = state.getHeader().species();
+        var totals = state.getTotals();
+
+        System.out.println("Alive:");
+        for (var speciesId = 0; speciesId < species.size(); speciesId++) {
+            var population = state.getPopulation(speciesId);
+            if (population > 0) {
+                var name = species.get(speciesId);
+                System.out.printf("%s: %d%n", name.substring(name.lastIndexOf('.') + 1), population);
+            }
+        }
+
+        System.out.println("Born today " + totals.bornInTick());
+        System.out.println("Died today " + totals.diedInTick());
+        System.out.println("Total alive organisms: " + state.getTotalPopulation());
+        System.out.printf("Total died: %d (eaten %d, starved %d)%n", totals.totalDied(), totals.totalKilled(), totals.totalStarved());
+    }
+}
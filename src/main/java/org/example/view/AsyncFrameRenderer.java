@@ -0,0 +1,104 @@
+package org.example.view;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The {@code AsyncFrameRenderer} class renders frames on its own thread, so the simulation never waits for the console.
+ * Frames are handed over through a single slot: publishing replaces a frame that hasn't been rendered yet,
+ * so a slow console skips frames instead of slowing down the simulation.
+ */
+public class AsyncFrameRenderer implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncFrameRenderer.class);
+
+    private final View view;
+    private final AtomicReference<Frame> pendingFrame;
+    private final AtomicLong droppedFrames;
+    private volatile boolean isRunning;
+    private Thread renderThread;
+
+    /**
+     * Constructs an {@code AsyncFrameRenderer} for the specified view.
+     *
+     * @param view the view rendering the frames
+     */
+    public AsyncFrameRenderer(View view) {
+        this.view = view;
+        this.pendingFrame = new AtomicReference<>();
+        this.droppedFrames = new AtomicLong();
+    }
+
+    /**
+     * Starts the render thread.
+     */
+    public void start() {
+        isRunning = true;
+        renderThread = new Thread(this::renderFrames, "frame-renderer");
+        renderThread.setDaemon(true);
+        renderThread.start();
+    }
+
+    /**
+     * Hands the frame over to the render thread without waiting. A frame that hasn't been rendered yet is dropped.
+     *
+     * @param frame the frame to render
+     */
+    public void publish(Frame frame) {
+        if (pendingFrame.getAndSet(frame) != null) {
+            droppedFrames.incrementAndGet();
+        }
+
+        LockSupport.unpark(renderThread);
+    }
+
+    /**
+     * Renders the last published frame and stops the render thread.
+     */
+    @Override
+    public void close() {
+        isRunning = false;
+        LockSupport.unpark(renderThread);
+
+        try {
+            renderThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        logger.info("Frame rendering has been stopped, {} frames were dropped", droppedFrames.get());
+    }
+
+    /**
+     * Renders the published frames until the renderer is closed and no frame is pending.
+     */
+    private void renderFrames() {
+        while (true) {
+            var frame = pendingFrame.getAndSet(null);
+
+            if (frame != null) {
+                view.showFrame(frame);
+            } else if (isRunning) {
+                LockSupport.park(this);
+            } else {
+                renderLastFrame();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Renders the frame that may have been published after the render thread has seen the empty slot
+     * but before the renderer has been closed.
+     */
+    private void renderLastFrame() {
+        var frame = pendingFrame.getAndSet(null);
+
+        if (frame != null) {
+            view.showFrame(frame);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.view;
+
+/**
+ * The {@code CellGrid} record is the dominant species of every cell of a rectangular region of the map.
+ *
+ * @param y               the y-coordinate of the top left cell
+ * @param x               the x-coordinate of the top left cell
+ * @param height          the number of rows
+ * @param width           the number of columns
+ * @param dominantSpecies the species id of the most numerous species of every cell in row-major order,
+ *                        {@code -1} for empty cells
+ */
+public record CellGrid(int y,
+                       int x,
+                       int height,
+                       int width,
+                       int[] dominantSpecies) {
+}
@@ -3,21 +3,45 @@ package org.example.view;
 import org.example.config.ViewConfig;
 import org.example.entity.coordinate.CoordinateFactory;
 import org.example.entity.area.Area;
-import org.example.entity.location.Location;
+import org.example.entity.location.LocationType;
+import org.example.entity.organism.OrganismRegistry;
+import org.example.metrics.LocationCostReport;
+import org.example.entity.organism.Organism;
 import org.example.provider.EmojiProvider;
 import org.example.service.StatisticsService;
 
+import java.util.Arrays;
+import java.util.Map;
+
 /**
  * ConsoleView implements the View interface to provide textual representation
  * and visualization of a simulation area and its statistics on the console.
  * It uses emojis and textual information to display the state of the simulation
  * including the world map, iteration numbers, organism statistics, and more.
+ * Every frame is assembled in a {@code TerminalBuffer} and written to the console at once.
+ * The alive organisms can be followed by the sparkline, the moving average and the rate of change of their population.
+ * With the live map visible, the map stays at the top of the screen and only the cells whose dominant species
+ * has changed since the previous frame are redrawn.
+ * Large islands can be shown as an overview of super-cells, each with its dominant terrain and a density glyph,
+ * while the viewport shows the dominant species of a region in full detail.
  */
 public class ConsoleView implements View {
+    private static final String HEAT_LEVELS = " .:-=+*#%@";
+    private static final int CELL_WIDTH = 3;
+    private static final int SUPER_CELL_WIDTH = 4;
+
     private final StatisticsService statisticsService;
     private final EmojiProvider emojiProvider;
     private final CoordinateFactory coordinateFactory;
+    private final OrganismRegistry organismRegistry;
     private final ViewConfig viewConfig;
+    private final TerminalBuffer buffer;
+    private LocationType[] terrain;
+    private LocationType[] overviewTerrain;
+    private int[] displayedCells;
+    private int height;
+    private int width;
+    private int mapHeight;
 
     /**
      * Constructs a ConsoleView object with the specified dependencies.
@@ -25,160 +49,374 @@ public class ConsoleView implements View {
      * @param statisticsService  Service for retrieving simulation statistics.
      * @param emojiProvider     Provider for obtaining emojis representing organisms.
      * @param coordinateFactory Factory for creating coordinates within the simulation area.
+     * @param organismRegistry  Registry resolving the species ids of the live map.
      * @param viewConfig        Configuration for controlling the display options.
      */
     public ConsoleView(StatisticsService statisticsService,
                        EmojiProvider emojiProvider,
-                       CoordinateFactory coordinateFactory, ViewConfig viewConfig) {
+                       CoordinateFactory coordinateFactory,
+                       OrganismRegistry organismRegistry,
+                       ViewConfig viewConfig) {
         this.statisticsService = statisticsService;
         this.emojiProvider = emojiProvider;
         this.coordinateFactory = coordinateFactory;
+        this.organismRegistry = organismRegistry;
         this.viewConfig = viewConfig;
+        this.buffer = new TerminalBuffer();
     }
 
     /**
      * Displays the world map of the simulation area using emojis or characters
-     * representing different types of locations and organisms.
+     * representing different types of locations. The terrain is remembered, so the live map and the viewport
+     * can show it for cells without organisms. In the overview mode the map shows the dominant terrain
+     * of every super-cell instead.
      *
      * @param area The simulation area to be displayed.
      */
     @Override
     public void showWorldMap(Area area) {
-        for (int y = 0; y < area.getHeight(); y++) {
-            for (int x = 0; x < area.getWidth(); x++) {
-                printLocationByCoordinate(area, y, x);
+        height = area.getHeight();
+        width = area.getWidth();
+        terrain = new LocationType[height * width];
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                var location = area.getLocationByCoordinate(coordinateFactory.getCoordinate(y, x));
+                terrain[y * width + x] = location.getLocationType();
+            }
+        }
+
+        if (viewConfig.isLiveMapVisible()) {
+            buffer.clearScreen();
+        }
+
+        if (viewConfig.isOverviewVisible()) {
+            overviewTerrain = getOverviewTerrain(viewConfig.superCellSize());
+            mapHeight = Math.ceilDiv(height, viewConfig.superCellSize());
+            appendOverview(new MapOverview(mapHeight, overviewTerrain.length / mapHeight, viewConfig.superCellSize(), new long[overviewTerrain.length]));
+        } else {
+            mapHeight = height;
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    appendCell(x, width, emojiProvider.getLocationTypeEmoji(terrain[y * width + x]));
+                }
+                buffer.newLine();
             }
-            System.out.println();
         }
+
+        displayedCells = new int[viewConfig.isOverviewVisible() ? overviewTerrain.length : terrain.length];
+        Arrays.fill(displayedCells, -1);
+
+        buffer.flush();
     }
 
     /**
-     * Prints the current iteration number of the simulation.
+     * Prints the statistics of a completed iteration: the iteration number, the alive organisms by species,
+     * optionally detailed location information, the deaths and the location costs if they are tracked.
+     * With the live map visible, the changed cells of the map are redrawn first and the statistics
+     * replace the previous ones below the map.
+     *
+     * @param frame The frame of the completed iteration.
      */
     @Override
-    public void showIterationNumber() {
-        System.out.println("--- Day " + statisticsService.getCurrentIterationCounter() + " ---");
-    }
+    public void showFrame(Frame frame) {
+        if (viewConfig.isLiveMapVisible()) {
+            if (frame.overview() != null) {
+                appendChangedSuperCells(frame.overview());
+            } else {
+                appendChangedCells(frame.map());
+            }
+            buffer.moveCursor(mapHeight + 2, 1).clearToEnd();
+        }
+
+        var statistics = frame.statistics();
+
+        buffer.append("--- Day ").append(statistics.iteration()).append(" ---").newLine();
+        if (!viewConfig.isLiveMapVisible() && frame.overview() != null) {
+            appendOverview(frame.overview());
+        }
+        appendAliveOrganisms(statistics.aliveOrganisms(), frame.trends());
+        if (frame.viewport() != null) {
+            appendViewport(frame.viewport());
+        }
+        if (viewConfig.isDetailedLocationInfoVisible()) {
+            frame.locations().forEach(this::appendLocation);
+        }
+        buffer.append("Died today ").append(statistics.diedToday()).newLine();
+        buffer.append("Total alive organisms: ").append(getTotalAlive(statistics.aliveOrganisms())).newLine();
+        buffer.append("Total died: ").append(statistics.totalDied()).newLine();
+        buffer.newLine();
+
+        if (frame.locationCosts() != null) {
+            appendLocationCosts(frame.locationCosts());
+        }
 
+        buffer.flush();
+    }
 
     /**
-     * Prints the total number of organisms that have died since the start of the simulation.
+     * Prints the total number of alive organisms currently present in the simulation area.
+     * The number is read from the population counters, so no organisms are iterated.
      */
     @Override
-    public void showTotalDied() {
-        System.out.println("Total died: " + statisticsService.getTotalDiedOrganisms());
+    public void showTotalAliveOrganisms() {
+        var totalAliveOrganisms = statisticsService.getTotalAliveOrganisms();
+        buffer.append("Total alive organisms: ").append(totalAliveOrganisms).newLine();
+        buffer.flush();
     }
 
     /**
-     * Prints the number of organisms that have died during the current iteration.
+     * Appends the cell of a row and the space separating it from the next one.
+     *
+     * @param x        The column of the cell.
+     * @param rowWidth The number of cells in the row.
+     * @param emoji    The emoji shown in the cell.
      */
-    @Override
-    public void showDiedToday() {
-        System.out.println("Died today " + statisticsService.getDiedToday());
+    private void appendCell(int x, int rowWidth, String emoji) {
+        buffer.append(emoji);
+
+        if (x != rowWidth - 1) {
+            buffer.append(' ');
+        }
     }
 
     /**
-     * Displays detailed statistics about the simulation area, including
-     * total alive organisms, organisms that died today, and optionally detailed
-     * location information based on the configuration.
+     * Appends the cursor moves and emojis redrawing the cells whose dominant species has changed.
+     * Cells without organisms show their terrain.
      *
-     * @param area The simulation area to retrieve statistics from.
+     * @param map The dominant species of all cells.
      */
-    @Override
-    public void showStatistics(Area area) {
-        if (viewConfig.isDetailedLocationInfoVisible()) {
-            printLocations(area);
+    private void appendChangedCells(CellGrid map) {
+        var dominantSpecies = map.dominantSpecies();
+
+        for (int cell = 0; cell < dominantSpecies.length; cell++) {
+            var speciesId = dominantSpecies[cell];
+            if (displayedCells[cell] == speciesId) {
+                continue;
+            }
+
+            displayedCells[cell] = speciesId;
+            var x = cell % width;
+
+            buffer.moveCursor(cell / width + 1, x * CELL_WIDTH + 1);
+            appendCell(x, width, getCellEmoji(speciesId, cell));
         }
-        showDiedToday();
-        showTotalAliveOrganisms(area);
-        showTotalDied();
-        System.out.println();
     }
 
     /**
-     * Prints the total number of alive organisms currently present in the simulation area.
+     * Appends the cursor moves and glyphs redrawing the super-cells whose density level has changed.
      *
-     * @param area The simulation area to retrieve statistics from.
+     * @param overview The population density of the super-cells.
      */
-    @Override
-    public void showTotalAliveOrganisms(Area area) {
-        var totalAliveOrganisms = statisticsService.getTotalAliveOrganisms(area);
-        System.out.printf("Total alive organisms: %d%n".formatted(totalAliveOrganisms));
+    private void appendChangedSuperCells(MapOverview overview) {
+        var maxDensity = overview.getMaxDensity();
+
+        for (int superCell = 0; superCell < overview.density().length; superCell++) {
+            var level = getDensityLevel(overview.density()[superCell], maxDensity);
+            if (displayedCells[superCell] == level) {
+                continue;
+            }
+
+            displayedCells[superCell] = level;
+            var x = superCell % overview.columns();
+
+            buffer.moveCursor(superCell / overview.columns() + 1, x * SUPER_CELL_WIDTH + 1);
+            appendSuperCell(x, overview.columns(), superCell, level);
+        }
     }
 
     /**
-     * Prints the number of organisms alive today categorized by their class
-     * along with corresponding emojis representing each class.
+     * Appends all super-cells of the overview, one row of super-cells per line.
+     *
+     * @param overview The population density of the super-cells.
      */
-    @Override
-    public void showAliveToday() {
-        var aliveOrganismMap = statisticsService.getAliveOrganismMap();
-        System.out.println("Alive:");
+    private void appendOverview(MapOverview overview) {
+        var maxDensity = overview.getMaxDensity();
+
+        for (int y = 0; y < overview.rows(); y++) {
+            for (int x = 0; x < overview.columns(); x++) {
+                var superCell = y * overview.columns() + x;
+                appendSuperCell(x, overview.columns(), superCell, getDensityLevel(overview.density()[superCell], maxDensity));
+            }
+            buffer.newLine();
+        }
+    }
+
+    /**
+     * Appends the dominant terrain of the super-cell followed by the glyph of its density level.
+     *
+     * @param x         The column of the super-cell.
+     * @param columns   The number of super-cell columns.
+     * @param superCell The index of the super-cell.
+     * @param level     The density level of the super-cell.
+     */
+    private void appendSuperCell(int x, int columns, int superCell, int level) {
+        buffer.append(emojiProvider.getLocationTypeEmoji(overviewTerrain[superCell]));
+        appendCell(x, columns, String.valueOf(HEAT_LEVELS.charAt(level)));
+    }
+
+    /**
+     * Appends the dominant species of every cell of the viewport, with the terrain shown for empty cells.
+     *
+     * @param viewport The dominant species of the cells in the viewport.
+     */
+    private void appendViewport(CellGrid viewport) {
+        buffer.append("Viewport [%d,%d]-[%d,%d]:".formatted(viewport.y(), viewport.x(),
+                viewport.y() + viewport.height() - 1, viewport.x() + viewport.width() - 1)).newLine();
+
+        for (int y = 0; y < viewport.height(); y++) {
+            for (int x = 0; x < viewport.width(); x++) {
+                var speciesId = viewport.dominantSpecies()[y * viewport.width() + x];
+                appendCell(x, viewport.width(), getCellEmoji(speciesId, (viewport.y() + y) * width + viewport.x() + x));
+            }
+            buffer.newLine();
+        }
+    }
+
+    /**
+     * Returns the emoji of the dominant species of the cell, or of its terrain if the cell is empty.
+     *
+     * @param speciesId The species id of the dominant species, or {@code -1} if the cell is empty.
+     * @param cell      The index of the cell in the area.
+     * @return The emoji shown in the cell.
+     */
+    private String getCellEmoji(int speciesId, int cell) {
+        return speciesId < 0
+                ? emojiProvider.getLocationTypeEmoji(terrain[cell])
+                : emojiProvider.getOrganismEmoji(organismRegistry.getSpecies().get(speciesId));
+    }
+
+    /**
+     * Finds the most frequent terrain of every super-cell.
+     *
+     * @param superCellSize The number of locations on a side of a super-cell.
+     * @return The dominant terrain of every super-cell in row-major order.
+     */
+    private LocationType[] getOverviewTerrain(int superCellSize) {
+        var rows = Math.ceilDiv(height, superCellSize);
+        var columns = Math.ceilDiv(width, superCellSize);
+        var locationTypes = LocationType.values();
+        var counts = new int[rows * columns * locationTypes.length];
+
+        for (int cell = 0; cell < terrain.length; cell++) {
+            var superCell = cell / width / superCellSize * columns + cell % width / superCellSize;
+            counts[superCell * locationTypes.length + terrain[cell].ordinal()]++;
+        }
+
+        var result = new LocationType[rows * columns];
+        for (int superCell = 0; superCell < result.length; superCell++) {
+            var dominant = 0;
+            for (int type = 1; type < locationTypes.length; type++) {
+                if (counts[superCell * locationTypes.length + type] > counts[superCell * locationTypes.length + dominant]) {
+                    dominant = type;
+                }
+            }
+            result[superCell] = locationTypes[dominant];
+        }
+
+        return result;
+    }
+
+    /**
+     * Scales the density to one of the heat levels, from {@code ' '} for empty super-cells
+     * to {@code '@'} for the most populated one.
+     *
+     * @param density    The number of organisms in the super-cell.
+     * @param maxDensity The number of organisms in the most populated super-cell.
+     * @return The index of the heat level.
+     */
+    private static int getDensityLevel(long density, long maxDensity) {
+        return maxDensity == 0 ? 0 : (int) (density * (HEAT_LEVELS.length() - 1) / maxDensity);
+    }
+
+    /**
+     * Appends the number of alive organisms categorized by their class
+     * along with corresponding emojis representing each class, followed by the trend of the species if it's shown.
+     *
+     * @param aliveOrganismMap The number of alive organisms of every species.
+     * @param trends           The population trends of the species.
+     */
+    private void appendAliveOrganisms(Map<Class<? extends Organism>, Long> aliveOrganismMap,
+                                      Map<Class<? extends Organism>, SpeciesTrend> trends) {
+        buffer.append("Alive:").newLine();
         for (var entry : aliveOrganismMap.entrySet()) {
             var organismClass = entry.getKey();
             var aliveOrganisms = entry.getValue();
             var organismEmoji = emojiProvider.getOrganismEmoji(organismClass);
-            System.out.println(organismEmoji + ": " + aliveOrganisms);
+            buffer.append(organismEmoji).append(": ").append(aliveOrganisms);
+
+            var trend = trends.get(organismClass);
+            if (trend != null) {
+                buffer.append("  %s avg %.1f, %+.1f/day".formatted(trend.sparkline(), trend.movingAverage(), trend.rateOfChange()));
+            }
+            buffer.newLine();
         }
     }
 
     /**
-     * Prints the location within the simulation area specified by coordinates,
-     * including emojis representing the location type and organisms present.
+     * Returns the total number of alive organisms of all species.
      *
-     * @param area The simulation area containing the location.
-     * @param y    The y-coordinate of the location.
-     * @param x    The x-coordinate of the location.
+     * @param aliveOrganismMap The number of alive organisms of every species.
+     * @return The total number of alive organisms.
      */
-    private void printLocationByCoordinate(Area area, int y, int x) {
-        var coordinate = coordinateFactory.getCoordinate(y, x);
-        var location = area.getLocationByCoordinate(coordinate);
-        var locationType = location.getLocationType();
-        var emoji = emojiProvider.getLocationTypeEmoji(locationType);
-
-        System.out.print(emoji);
-
-        if (x != area.getHeight() - 1) {
-            System.out.print(" ");
+    private static long getTotalAlive(Map<Class<? extends Organism>, Long> aliveOrganismMap) {
+        var totalAlive = 0L;
+        for (var alive : aliveOrganismMap.values()) {
+            totalAlive += alive;
         }
+
+        return totalAlive;
     }
 
     /**
-     * Iterates over all locations in the simulation area and prints detailed information
-     * about each location, including the types and number of organisms present.
+     * Appends the cost heatmap of the locations, one character per location from {@code ' '} for idle cells
+     * to {@code '@'} for the most expensive one, followed by the imbalance ratio of every tracked phase.
      *
-     * @param area The simulation area containing the locations.
+     * @param report The costs of the locations during the last iteration.
      */
-    private void printLocations(Area area) {
-        area.getLocations()
-                .forEach(this::printLocation);
+    private void appendLocationCosts(LocationCostReport report) {
+        var maxCpuNanos = report.getMaxCpuNanos();
+        buffer.append("Location costs:").newLine();
+
+        for (int y = 0; y < report.height(); y++) {
+            buffer.append('|');
+            for (int x = 0; x < report.width(); x++) {
+                var level = maxCpuNanos == 0 ? 0 : (int) (report.getCpuNanos(y, x) * (HEAT_LEVELS.length() - 1) / maxCpuNanos);
+                buffer.append(HEAT_LEVELS.charAt(level));
+            }
+            buffer.append('|').newLine();
+        }
+
+        buffer.append("Imbalance: total %.2f".formatted(report.getImbalanceRatio()));
+        report.imbalanceRatios().forEach((phase, ratio) -> buffer.append(", %s %.2f".formatted(phase.getDisplayName().toLowerCase(), ratio)));
+        buffer.newLine();
     }
 
     /**
-     * Prints detailed information about a specific location within the simulation area,
+     * Appends detailed information about a specific location within the simulation area,
      * including the types and number of organisms present at that location.
      *
-     * @param location The location within the simulation area to be printed.
+     * @param location The snapshot of the location to be printed.
      */
-    private void printLocation(Location location) {
-        var coordinate = location.getCoordinate();
-        System.out.printf("Location at coordinate at [%d,%d] contains:%n", coordinate.y(), coordinate.x());
+    private void appendLocation(LocationSnapshot location) {
+        var coordinate = location.coordinate();
+        buffer.append("Location at coordinate at [%d,%d] contains:".formatted(coordinate.y(), coordinate.x())).newLine();
         var aliveOrganismsNumberInCoordinate = 0;
 
-        if (location.getSpeciesCounterMap().isEmpty()) {
-            System.out.println("    No alive organisms");
+        if (location.speciesCounts().isEmpty()) {
+            buffer.append("    No alive organisms").newLine();
             return;
         }
 
-        for (var specieAndAmount : location.getSpeciesCounterMap().entrySet()) {
+        for (var specieAndAmount : location.speciesCounts().entrySet()) {
             var specieClass = specieAndAmount.getKey();
             var specieAmount = specieAndAmount.getValue();
-            var message = specieAmount == 1 ? "    %s %d specie %n" : "    %s %d species %n";
-            System.out.printf(message, specieClass.getSimpleName(), specieAmount);
+            var message = specieAmount == 1 ? "    %s %d specie " : "    %s %d species ";
+            buffer.append(message.formatted(specieClass.getSimpleName(), specieAmount)).newLine();
 
             aliveOrganismsNumberInCoordinate += specieAmount;
         }
 
-        System.out.printf("Alive organisms here: %d%n".formatted(aliveOrganismsNumberInCoordinate));
+        buffer.append("Alive organisms here: ").append(aliveOrganismsNumberInCoordinate).newLine();
     }
 }
@@ -0,0 +1,30 @@
+package org.example.view;
+
+import org.example.entity.organism.Organism;
+import org.example.metrics.LocationCostReport;
+import org.example.statistics.StatisticsSnapshot;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@code Frame} record contains everything the view shows about one iteration.
+ * It's created by the simulation thread and rendered by the render thread, so it only holds immutable data.
+ *
+ * @param statistics    the statistics of the iteration
+ * @param trends        the population trends of the alive species, or an empty map if the trends are hidden
+ * @param locations     the snapshots of the locations in the viewport, or of all locations if there's no viewport,
+ *                      or an empty list if the detailed location info is hidden
+ * @param locationCosts the costs of the locations, or {@code null} if they aren't tracked
+ * @param map           the dominant species of all cells, or {@code null} if the live map is hidden or shows the overview
+ * @param overview      the population density of the super-cells, or {@code null} if the overview is hidden
+ * @param viewport      the dominant species of the cells in the viewport, or {@code null} if there's no viewport
+ */
+public record Frame(StatisticsSnapshot statistics,
+                    Map<Class<? extends Organism>, SpeciesTrend> trends,
+                    List<LocationSnapshot> locations,
+                    LocationCostReport locationCosts,
+                    CellGrid map,
+                    MapOverview overview,
+                    CellGrid viewport) {
+}
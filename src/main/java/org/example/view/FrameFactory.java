@@ -0,0 +1,230 @@
+package org.example.view;
+
+import org.example.config.ViewConfig;
+import org.example.entity.area.Area;
+import org.example.entity.coordinate.Coordinate;
+import org.example.entity.location.Location;
+import org.example.entity.organism.Organism;
+import org.example.entity.organism.OrganismRegistry;
+import org.example.metrics.LocationCostReport;
+import org.example.service.StatisticsService;
+import org.example.statistics.HistorySeries;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The {@code FrameFactory} class creates the frames of the completed iterations.
+ * The location snapshots are only taken if the detailed location info is visible, and only for the viewport if it's set.
+ * The species of a location are counted in a single pass over its organisms, and only for the cells that are shown
+ * in full detail. The overview density is aggregated from the sizes of the locations without iterating organisms.
+ * The population trends are computed from the statistics history.
+ */
+public class FrameFactory {
+    private final StatisticsService statisticsService;
+    private final OrganismRegistry organismRegistry;
+    private final ViewConfig viewConfig;
+    private final int[] speciesCounts;
+
+    /**
+     * Constructs a {@code FrameFactory} with the specified dependencies.
+     *
+     * @param statisticsService the service providing the statistics snapshot
+     * @param organismRegistry  the registry providing the species ids
+     * @param viewConfig        the configuration controlling the display options
+     */
+    public FrameFactory(StatisticsService statisticsService, OrganismRegistry organismRegistry, ViewConfig viewConfig) {
+        this.statisticsService = statisticsService;
+        this.organismRegistry = organismRegistry;
+        this.viewConfig = viewConfig;
+        this.speciesCounts = new int[organismRegistry.getSpecies().size()];
+    }
+
+    /**
+     * Creates the frame of the last completed iteration.
+     * It must be called by the simulation thread between iterations.
+     *
+     * @param area          the simulated area
+     * @param locationCosts the costs of the locations, or {@code null} if they aren't tracked
+     * @return the frame
+     */
+    public Frame createFrame(Area area, LocationCostReport locationCosts) {
+        var viewport = viewConfig.isViewportVisible()
+                ? createCellGrid(area, clampViewport(area))
+                : null;
+
+        var locations = viewConfig.isDetailedLocationInfoVisible()
+                ? createLocationSnapshots(area)
+                : List.<LocationSnapshot>of();
+
+        var map = viewConfig.isLiveMapVisible() && !viewConfig.isOverviewVisible()
+                ? createCellGrid(area, new ViewConfig.Viewport(0, 0, area.getHeight(), area.getWidth()))
+                : null;
+
+        var overview = viewConfig.isOverviewVisible()
+                ? createOverview(area)
+                : null;
+
+        var statistics = statisticsService.getSnapshot();
+        var trends = viewConfig.isTrendVisible()
+                ? createTrends(statistics.aliveOrganisms().keySet())
+                : Map.<Class<? extends Organism>, SpeciesTrend>of();
+
+        return new Frame(statistics, trends, locations, locationCosts, map, overview, viewport);
+    }
+
+    /**
+     * Creates the population trends of the species over the last {@code trendLength} iterations of the history.
+     *
+     * @param species the species to create the trends of
+     * @return the trends of the species
+     */
+    private Map<Class<? extends Organism>, SpeciesTrend> createTrends(Set<Class<? extends Organism>> species) {
+        var history = statisticsService.getHistory();
+        var trendLength = viewConfig.trendLength();
+        var trends = new LinkedHashMap<Class<? extends Organism>, SpeciesTrend>();
+
+        for (var organismClass : species) {
+            var speciesId = organismRegistry.getSpeciesId(organismClass);
+            trends.put(organismClass, new SpeciesTrend(
+                    history.getSparkline(HistorySeries.ALIVE, speciesId, trendLength),
+                    history.getMovingAverage(HistorySeries.ALIVE, speciesId, trendLength),
+                    history.getRateOfChange(HistorySeries.ALIVE, speciesId, trendLength)
+            ));
+        }
+
+        return Collections.unmodifiableMap(trends);
+    }
+
+    /**
+     * Creates the snapshots of the locations in the viewport, or of all locations if there's no viewport.
+     *
+     * @param area the simulated area
+     * @return the location snapshots
+     */
+    private List<LocationSnapshot> createLocationSnapshots(Area area) {
+        var locations = area.getLocations().stream();
+
+        if (viewConfig.isViewportVisible()) {
+            var viewport = clampViewport(area);
+            locations = locations.filter(location -> isInside(viewport, location.getCoordinate()));
+        }
+
+        return locations.map(FrameFactory::createLocationSnapshot).toList();
+    }
+
+    /**
+     * Creates the snapshot of a location.
+     *
+     * @param location the location
+     * @return the snapshot of the location
+     */
+    private static LocationSnapshot createLocationSnapshot(Location location) {
+        return new LocationSnapshot(
+                location.getCoordinate(),
+                location.getLocationType(),
+                Map.copyOf(location.getSpeciesCounterMap())
+        );
+    }
+
+    /**
+     * Sums up the number of organisms of the locations in every super-cell.
+     *
+     * @param area the simulated area
+     * @return the overview of the map
+     */
+    private MapOverview createOverview(Area area) {
+        var superCellSize = viewConfig.superCellSize();
+        var rows = Math.ceilDiv(area.getHeight(), superCellSize);
+        var columns = Math.ceilDiv(area.getWidth(), superCellSize);
+        var density = new long[rows * columns];
+
+        for (var location : area.getLocations()) {
+            var coordinate = location.getCoordinate();
+            var superCell = coordinate.y() / superCellSize * columns + coordinate.x() / superCellSize;
+            density[superCell] += location.getOrganisms().size();
+        }
+
+        return new MapOverview(rows, columns, superCellSize, density);
+    }
+
+    /**
+     * Finds the most numerous alive species of every cell of the region.
+     *
+     * @param area   the simulated area
+     * @param region the region of the area
+     * @return the dominant species of the region
+     */
+    private CellGrid createCellGrid(Area area, ViewConfig.Viewport region) {
+        var dominantSpecies = new int[region.height() * region.width()];
+
+        for (var location : area.getLocations()) {
+            var coordinate = location.getCoordinate();
+            if (isInside(region, coordinate)) {
+                var cell = (coordinate.y() - region.y()) * region.width() + coordinate.x() - region.x();
+                dominantSpecies[cell] = getDominantSpecies(location);
+            }
+        }
+
+        return new CellGrid(region.y(), region.x(), region.height(), region.width(), dominantSpecies);
+    }
+
+    /**
+     * Finds the most numerous alive species of the location.
+     *
+     * @param location the location
+     * @return the species id, or {@code -1} if there are no alive organisms
+     */
+    private int getDominantSpecies(Location location) {
+        Arrays.fill(speciesCounts, 0);
+
+        var dominantSpecies = -1;
+        var dominantCount = 0;
+        for (var organism : location.getOrganisms()) {
+            if (!organism.isAlive()) {
+                continue;
+            }
+
+            var speciesId = organismRegistry.getSpeciesId(organism.getClass());
+            var count = ++speciesCounts[speciesId];
+            if (count > dominantCount) {
+                dominantSpecies = speciesId;
+                dominantCount = count;
+            }
+        }
+
+        return dominantSpecies;
+    }
+
+    /**
+     * Returns the configured viewport cut to the bounds of the area.
+     *
+     * @param area the simulated area
+     * @return the viewport inside the area
+     */
+    private ViewConfig.Viewport clampViewport(Area area) {
+        var viewport = viewConfig.viewport();
+        var y = Math.max(0, Math.min(viewport.y(), area.getHeight() - 1));
+        var x = Math.max(0, Math.min(viewport.x(), area.getWidth() - 1));
+        var height = Math.min(viewport.height(), area.getHeight() - y);
+        var width = Math.min(viewport.width(), area.getWidth() - x);
+
+        return new ViewConfig.Viewport(y, x, height, width);
+    }
+
+    /**
+     * Checks if the coordinate is inside the region.
+     *
+     * @param region     the region
+     * @param coordinate the coordinate
+     * @return {@code true} if the region contains the coordinate
+     */
+    private static boolean isInside(ViewConfig.Viewport region, Coordinate coordinate) {
+        return coordinate.y() >= region.y() && coordinate.y() < region.y() + region.height()
+                && coordinate.x() >= region.x() && coordinate.x() < region.x() + region.width();
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.view;
+
+import org.example.entity.coordinate.Coordinate;
+import org.example.entity.location.LocationType;
+import org.example.entity.organism.Organism;
+
+import java.util.Map;
+
+/**
+ * The {@code LocationSnapshot} record is an immutable view of a location at the end of an iteration.
+ *
+ * @param coordinate    the coordinate of the location
+ * @param locationType  the type of the location
+ * @param speciesCounts the number of alive organisms of every species in the location
+ */
+public record LocationSnapshot(Coordinate coordinate,
+                               LocationType locationType,
+                               Map<Class<? extends Organism>, Integer> speciesCounts) {
+}
@@ -0,0 +1,31 @@
+package org.example.view;
+
+/**
+ * The {@code MapOverview} record is the population density of the super-cells of the map.
+ * A super-cell is a square block of {@code superCellSize} x {@code superCellSize} locations; the blocks
+ * on the bottom and right edges may be smaller.
+ *
+ * @param rows          the number of super-cell rows
+ * @param columns       the number of super-cell columns
+ * @param superCellSize the number of locations on a side of a super-cell
+ * @param density       the number of organisms in every super-cell in row-major order
+ */
+public record MapOverview(int rows,
+                          int columns,
+                          int superCellSize,
+                          long[] density) {
+
+    /**
+     * Returns the number of organisms in the most populated super-cell.
+     *
+     * @return the maximum density
+     */
+    public long getMaxDensity() {
+        var max = 0L;
+        for (var value : density) {
+            max = Math.max(max, value);
+        }
+
+        return max;
+    }
+}
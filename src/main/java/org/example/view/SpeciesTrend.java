@@ -0,0 +1,13 @@
+package org.example.view;
+
+/**
+ * The {@code SpeciesTrend} record describes how the population of a species has developed over the last iterations.
+ *
+ * @param sparkline     the population of the last iterations drawn as block characters, the latest one last
+ * @param movingAverage the mean population over the last iterations
+ * @param rateOfChange  the mean change of the population per iteration
+ */
+public record SpeciesTrend(String sparkline,
+                           double movingAverage,
+                           double rateOfChange) {
+}
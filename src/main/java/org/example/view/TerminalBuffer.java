@@ -0,0 +1,163 @@
+package org.example.view;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * The {@code TerminalBuffer} class assembles the output of a whole frame in memory and writes it to the standard output
+ * with a single channel write. The character and byte buffers are reused between frames, so rendering a frame
+ * of the same size doesn't allocate. It also provides the ANSI escape sequences used to redraw parts of the screen.
+ */
+public class TerminalBuffer {
+    private static final int INITIAL_CAPACITY = 8192;
+
+    private final StringBuilder text;
+    private final CharsetEncoder encoder;
+    private final WritableByteChannel channel;
+    private ByteBuffer bytes;
+
+    /**
+     * Constructs a {@code TerminalBuffer} writing to the standard output in its encoding.
+     */
+    public TerminalBuffer() {
+        this.text = new StringBuilder(INITIAL_CAPACITY);
+        this.encoder = getStandardOutputCharset().newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.channel = Channels.newChannel(new FileOutputStream(FileDescriptor.out));
+        this.bytes = ByteBuffer.allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Appends the text to the frame.
+     *
+     * @param value the text to append
+     * @return this buffer
+     */
+    public TerminalBuffer append(String value) {
+        text.append(value);
+        return this;
+    }
+
+    /**
+     * Appends the number to the frame.
+     *
+     * @param value the number to append
+     * @return this buffer
+     */
+    public TerminalBuffer append(long value) {
+        text.append(value);
+        return this;
+    }
+
+    /**
+     * Appends the character to the frame.
+     *
+     * @param value the character to append
+     * @return this buffer
+     */
+    public TerminalBuffer append(char value) {
+        text.append(value);
+        return this;
+    }
+
+    /**
+     * Appends a line separator to the frame.
+     *
+     * @return this buffer
+     */
+    public TerminalBuffer newLine() {
+        text.append(System.lineSeparator());
+        return this;
+    }
+
+    /**
+     * Appends the escape sequence that clears the screen and moves the cursor to its top left corner.
+     *
+     * @return this buffer
+     */
+    public TerminalBuffer clearScreen() {
+        text.append("\033[2J\033[H");
+        return this;
+    }
+
+    /**
+     * Appends the escape sequence that moves the cursor to the specified position.
+     *
+     * @param row    the row, starting from 1
+     * @param column the column, starting from 1
+     * @return this buffer
+     */
+    public TerminalBuffer moveCursor(int row, int column) {
+        text.append("\033[").append(row).append(';').append(column).append('H');
+        return this;
+    }
+
+    /**
+     * Appends the escape sequence that clears the screen from the cursor to its end.
+     *
+     * @return this buffer
+     */
+    public TerminalBuffer clearToEnd() {
+        text.append("\033[J");
+        return this;
+    }
+
+    /**
+     * Encodes the assembled frame and writes it to the standard output at once. The buffer is empty afterwards.
+     */
+    public void flush() {
+        if (text.isEmpty()) {
+            return;
+        }
+
+        System.out.flush();
+        encode();
+
+        try {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't write the frame to the console", e);
+        } finally {
+            text.setLength(0);
+        }
+    }
+
+    /**
+     * Encodes the assembled text into the byte buffer, growing it if the frame doesn't fit.
+     */
+    private void encode() {
+        var maxBytes = (int) Math.ceil(text.length() * encoder.maxBytesPerChar());
+        if (bytes.capacity() < maxBytes) {
+            bytes = ByteBuffer.allocate(Math.max(maxBytes, bytes.capacity() * 2));
+        }
+
+        bytes.clear();
+        encoder.reset();
+        encoder.encode(CharBuffer.wrap(text), bytes, true);
+        encoder.flush(bytes);
+        bytes.flip();
+    }
+
+    /**
+     * Returns the charset of the standard output, or the default charset if it's unknown.
+     *
+     * @return the charset of the standard output
+     */
+    private static Charset getStandardOutputCharset() {
+        var encoding = System.getProperty("stdout.encoding");
+
+        return encoding == null ? Charset.defaultCharset() : Charset.forName(encoding);
+    }
+}
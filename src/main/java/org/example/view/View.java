@@ -15,36 +15,15 @@ public interface View {
     void showWorldMap(Area area);
 
     /**
-     * Displays detailed statistics of the simulation area.
-     *
-     * @param area The simulation area to display statistics for.
-     */
-    void showStatistics(Area area);
-
-    /**
-     * Displays the current iteration number of the simulation.
-     */
-    void showIterationNumber();
-
-    /**
-     * Displays the number of organisms that died today.
-     */
-    void showDiedToday();
-
-    /**
-     * Displays the number of organisms that are alive today, categorized by type.
-     */
-    void showAliveToday();
-
-    /**
-     * Displays the total number of organisms that have died in the simulation.
+     * Displays the total number of organisms that are currently alive in the simulation area.
      */
-    void showTotalDied();
+    void showTotalAliveOrganisms();
 
     /**
-     * Displays the total number of organisms that are currently alive in the simulation area.
+     * Displays the statistics of a completed iteration. It reads only the data of the frame,
+     * so it can be called from a thread other than the simulation thread.
      *
-     * @param area The simulation area to calculate total alive organisms.
+     * @param frame The frame of the completed iteration.
      */
-    void showTotalAliveOrganisms(Area area);
+    void showFrame(Frame frame);
 }
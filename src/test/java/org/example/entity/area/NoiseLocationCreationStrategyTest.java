@@ -0,0 +1,111 @@
+package org.example.entity.area;
+
+import org.example.config.reader.YamlConfigReader;
+import org.example.entity.characteristic.CharacteristicsFactory;
+import org.example.entity.coordinate.CoordinateFactory;
+import org.example.entity.location.Location;
+import org.example.entity.location.LocationFactory;
+import org.example.entity.location.LocationType;
+import org.example.entity.organism.OrganismRegistry;
+import org.example.service.RandomizerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the {@code NoiseLocationCreationStrategy} gives every location type the share of the island
+ * set by its probability, and the same island for the same seed.
+ */
+class NoiseLocationCreationStrategyTest {
+    private static final int HEIGHT = 300;
+    private static final int WIDTH = 280;
+    private static final int SCALE = 40;
+
+    private LocationFactory locationFactory;
+    private CoordinateFactory coordinateFactory;
+
+    /**
+     * Creates the factories of the locations of the island.
+     */
+    @BeforeEach
+    void createFactories() {
+        var characteristicsFactory = new CharacteristicsFactory(new YamlConfigReader(new OrganismRegistry()));
+        locationFactory = new LocationFactory(new RandomizerService(characteristicsFactory, 1));
+        coordinateFactory = new CoordinateFactory(HEIGHT, WIDTH);
+    }
+
+    /**
+     * Generates islands of several seeds, spanning several tiles of the generator, and checks that the number
+     * of locations of every type differs from its share of the island by at most a few locations
+     * sharing an elevation level at a threshold.
+     */
+    @Test
+    void givesTheLocationTypesTheirShares() {
+        var totalProbability = Arrays.stream(LocationType.values()).mapToDouble(LocationType::getProbability).sum();
+
+        for (var seed : new long[]{1, 42, -7}) {
+            var counts = new EnumMap<LocationType, Integer>(LocationType.class);
+            generate(seed).forEach(location -> counts.merge(location.getLocationType(), 1, Integer::sum));
+
+            for (var locationType : LocationType.values()) {
+                var expected = locationType.getProbability() / totalProbability * HEIGHT * WIDTH;
+                var actual = counts.getOrDefault(locationType, 0);
+                assertTrue(Math.abs(actual - expected) <= 20, "%s has %d locations instead of %.0f with seed %d"
+                        .formatted(locationType, actual, expected, seed));
+            }
+        }
+    }
+
+    /**
+     * Generates the island twice with the same seed and once with another one.
+     */
+    @Test
+    void generatesTheSameIslandForTheSameSeed() {
+        var first = getLocationTypes(generate(2024));
+        var second = getLocationTypes(generate(2024));
+        var other = getLocationTypes(generate(2025));
+
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+    }
+
+    /**
+     * Checks that the locations are created in row-major order with their coordinates.
+     */
+    @Test
+    void createsTheLocationsInRowMajorOrder() {
+        var locations = generate(5);
+
+        assertEquals(HEIGHT * WIDTH, locations.size());
+        for (var i = 0; i < locations.size(); i += 997) {
+            assertEquals(coordinateFactory.getCoordinate(i / WIDTH, i % WIDTH), locations.get(i).getCoordinate());
+        }
+    }
+
+    /**
+     * Generates the island with the seed.
+     *
+     * @param seed the seed of the noise
+     * @return the locations in row-major order
+     */
+    private List<Location> generate(long seed) {
+        return new NoiseLocationCreationStrategy(HEIGHT, WIDTH, SCALE, seed, locationFactory, coordinateFactory).createLocations();
+    }
+
+    /**
+     * Returns the location types of the locations.
+     *
+     * @param locations the locations
+     * @return the location types in the same order
+     */
+    private static List<LocationType> getLocationTypes(List<Location> locations) {
+        return locations.stream().map(Location::getLocationType).toList();
+    }
+}
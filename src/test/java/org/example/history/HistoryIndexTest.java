@@ -0,0 +1,185 @@
+package org.example.history;
+
+import org.example.persistence.JournalBatch;
+import org.example.persistence.JournalEventType;
+import org.example.persistence.JournalReader;
+import org.example.persistence.JournalWriter;
+import org.example.replay.ReplayState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests that the {@code HistoryIndex} answers the population, extinction and lifetime queries of a recorded run
+ * as a replay of its journal does, on both sides of the tile keyframes and over ticks without events.
+ */
+class HistoryIndexTest {
+    private static final int HEIGHT = 6;
+    private static final int WIDTH = 7;
+    private static final int TILE_SIZE = 3;
+    private static final List<String> SPECIES = List.of("org.example.entity.organism.animal.herbivore.Rabbit",
+                                                        "org.example.entity.organism.animal.predator.Wolf",
+                                                        "org.example.entity.organism.plant.Plant",
+                                                        "org.example.entity.organism.animal.herbivore.Mouse");
+    private static final long LAST_TICK = 150;
+    private static final long EXTINCTION_TICK = 90;
+    private static final List<Region> REGIONS = List.of(new Region(0, 0, HEIGHT, WIDTH),
+                                                        new Region(1, 2, 2, 3),
+                                                        new Region(3, 6, 3, 1),
+                                                        new Region(0, 0, 1, 1));
+
+    @TempDir
+    private Path directory;
+    private String journalFile;
+    private Map<Long, OrganismLifetime> lifetimes;
+
+    /**
+     * Records a journal of random births, moves and deaths up to tick {@value #LAST_TICK}, with a few ticks
+     * without events. The second species dies out in tick {@value #EXTINCTION_TICK} and the third is never born.
+     */
+    @BeforeEach
+    void recordJournal() {
+        journalFile = directory.resolve("journal.bin").toString();
+        lifetimes = new HashMap<>();
+        var random = new Random(5);
+        var present = new ArrayList<long[]>();
+        var nextOrganismId = 0L;
+
+        try (var journalWriter = new JournalWriter(journalFile, HEIGHT, WIDTH, SPECIES)) {
+            for (var tick = 0L; tick <= LAST_TICK; tick++) {
+                if (tick >= 100 && tick < 105) {
+                    continue;
+                }
+
+                var births = 1 + random.nextInt(5);
+                for (var i = 0; i < births; i++) {
+                    var speciesId = tick < EXTINCTION_TICK - 20 && random.nextBoolean() ? 1 : random.nextBoolean() ? 0 : 3;
+                    var organism = new long[]{nextOrganismId++, random.nextInt(HEIGHT * WIDTH), speciesId};
+                    journalWriter.append(tick, JournalEventType.BIRTH, organism[0], (int) organism[1], speciesId);
+                    lifetimes.put(organism[0], new OrganismLifetime(organism[0], speciesId, tick, (int) organism[1], -1, -1, null));
+                    present.add(organism);
+                }
+
+                for (var organism : present) {
+                    if (random.nextInt(3) == 0) {
+                        organism[1] = random.nextInt(HEIGHT * WIDTH);
+                        journalWriter.append(tick, JournalEventType.MOVE, organism[0], (int) organism[1], (int) organism[2]);
+                    }
+                }
+
+                for (var i = present.size() - 1; i >= 0; i--) {
+                    var organism = present.get(i);
+                    if (random.nextInt(8) == 0 || tick == EXTINCTION_TICK && organism[2] == 1) {
+                        present.remove(i);
+                        var death = random.nextBoolean() ? JournalEventType.KILL : JournalEventType.STARVATION;
+                        journalWriter.append(tick, death, organism[0], (int) organism[1], (int) organism[2]);
+                        journalWriter.append(tick, JournalEventType.REMOVAL, organism[0], (int) organism[1], (int) organism[2]);
+                        var birth = lifetimes.get(organism[0]);
+                        lifetimes.put(organism[0], new OrganismLifetime(organism[0], birth.speciesId(), birth.birthTick(), birth.birthCell(),
+                                tick, (int) organism[1], death));
+                    }
+                }
+                journalWriter.flush();
+            }
+        }
+    }
+
+    /**
+     * Compares the populations of every species on the island and in the regions after every tick
+     * with a replay of the journal.
+     */
+    @Test
+    void readsThePopulationsOfAReplay() {
+        try (var historyIndex = buildIndex(); var journalReader = new JournalReader(journalFile)) {
+            assertEquals(LAST_TICK, historyIndex.getLastTick());
+
+            var state = new ReplayState(journalReader.getHeader());
+            var batch = new JournalBatch();
+            var hasBatch = journalReader.readTick(batch);
+            for (var tick = 0L; tick <= LAST_TICK; tick++) {
+                if (hasBatch && batch.getTick() == tick) {
+                    state.apply(batch);
+                    hasBatch = journalReader.readTick(batch);
+                }
+
+                for (var speciesId = 0; speciesId < SPECIES.size(); speciesId++) {
+                    assertEquals(state.getPopulation(speciesId), historyIndex.getPopulation(speciesId, tick), "tick " + tick);
+                    for (var region : REGIONS) {
+                        assertEquals(countPopulation(state, speciesId, historyIndex.getCountedRegion(region)),
+                                historyIndex.getPopulation(speciesId, tick, region), "tick %d in %s".formatted(tick, region));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the extinction ticks of a species which has died out, of one present at the end
+     * and of one never born.
+     */
+    @Test
+    void readsTheExtinctionTicks() {
+        try (var historyIndex = buildIndex()) {
+            assertEquals(OptionalLong.of(EXTINCTION_TICK), historyIndex.getExtinctionTick(1));
+            assertEquals(OptionalLong.empty(), historyIndex.getExtinctionTick(0));
+            assertEquals(OptionalLong.empty(), historyIndex.getExtinctionTick(2));
+        }
+    }
+
+    /**
+     * Reads the lifetimes of every organism of the journal and of ids which haven't been born.
+     */
+    @Test
+    void readsTheLifetimes() {
+        try (var historyIndex = buildIndex()) {
+            for (var lifetime : lifetimes.values()) {
+                assertEquals(Optional.of(lifetime), historyIndex.getLifetime(lifetime.organismId()));
+            }
+
+            assertEquals(Optional.empty(), historyIndex.getLifetime(-1));
+            assertEquals(Optional.empty(), historyIndex.getLifetime(lifetimes.size()));
+        }
+    }
+
+    /**
+     * Builds the history index of the journal and opens it.
+     *
+     * @return the index
+     */
+    private HistoryIndex buildIndex() {
+        var indexPath = directory.resolve("journal.bin.index");
+        new HistoryIndexBuilder(TILE_SIZE).build(new JournalReader(journalFile), indexPath);
+
+        return new HistoryIndex(indexPath, new JournalReader(journalFile));
+    }
+
+    /**
+     * Counts the organisms of the species in the cells of the region.
+     *
+     * @param state     the replayed state
+     * @param speciesId the species id
+     * @param region    the region
+     * @return the population
+     */
+    private static long countPopulation(ReplayState state, int speciesId, Region region) {
+        var population = 0L;
+        for (var y = region.y(); y < region.y() + region.height(); y++) {
+            for (var x = region.x(); x < region.x() + region.width(); x++) {
+                population += state.getPopulation(y * WIDTH + x, speciesId);
+            }
+        }
+
+        return population;
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.history;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests that the {@code MappedSection} reads the values of a section through windows much smaller than the section,
+ * jumping between them in any order.
+ */
+class MappedSectionTest {
+    private static final int WINDOW_SIZE = 3 * Long.BYTES;
+    private static final int START = 12;
+    private static final int LONGS = 40;
+
+    @TempDir
+    private Path directory;
+
+    /**
+     * Reads longs forwards, backwards and alternating between the first and the last window,
+     * and the same section viewed as ints.
+     */
+    @Test
+    void remapsTheWindowOfEveryValue() throws IOException {
+        var file = directory.resolve("section.bin");
+        var values = ByteBuffer.allocate(START + LONGS * Long.BYTES);
+        for (var i = 0; i < LONGS; i++) {
+            values.putLong(START + i * Long.BYTES, getValue(i));
+        }
+
+        try (var channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            channel.write(values);
+
+            var section = new MappedSection(channel, START, START + LONGS * Long.BYTES, WINDOW_SIZE);
+            for (var i = 0; i < LONGS; i++) {
+                assertEquals(getValue(i), section.getLong(i));
+            }
+            for (var i = LONGS - 1; i >= 0; i--) {
+                assertEquals(getValue(i), section.getLong(i));
+            }
+            for (var i = 0; i < LONGS / 2; i++) {
+                assertEquals(getValue(i), section.getLong(i));
+                assertEquals(getValue(LONGS - 1 - i), section.getLong(LONGS - 1 - i));
+            }
+            for (var i = 0; i < LONGS; i++) {
+                assertEquals((int) (getValue(i) >>> Integer.SIZE), section.getInt(2L * i));
+                assertEquals((int) getValue(i), section.getInt(2L * i + 1));
+            }
+        }
+    }
+
+    /**
+     * Reads before and after the section, including from its last window.
+     */
+    @Test
+    void failsToReadOutsideTheSection() throws IOException {
+        var file = directory.resolve("section.bin");
+
+        try (var channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(START + LONGS * Long.BYTES));
+
+            var section = new MappedSection(channel, START, START + LONGS * Long.BYTES, WINDOW_SIZE);
+            section.getLong(LONGS - 1);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> section.getLong(LONGS));
+            assertThrows(IndexOutOfBoundsException.class, () -> section.getInt(2L * LONGS));
+            assertThrows(IndexOutOfBoundsException.class, () -> section.getLong(-1));
+        }
+    }
+
+    /**
+     * Returns the value stored at the index, different in both of its halves.
+     *
+     * @param index the index of the long
+     * @return the value
+     */
+    private static long getValue(int index) {
+        return 0x0123_4567_89AB_CDEFL * (index + 1) ^ (long) index << 40;
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.example.persistence.CheckpointFixtures.assertDeltaEquals;
+import static org.example.persistence.CheckpointFixtures.assertSnapshotEquals;
+import static org.example.persistence.CheckpointFixtures.createDelta;
+import static org.example.persistence.CheckpointFixtures.createSnapshot;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the {@code CheckpointFile} reads back the deltas appended after the base snapshot,
+ * and skips the deltas a crash may have torn or corrupted.
+ */
+class CheckpointDeltaTest {
+    @TempDir
+    private Path directory;
+
+    /**
+     * Writes a base snapshot and two deltas and reads them back.
+     */
+    @Test
+    void roundTripsBaseAndDeltas() {
+        var checkpointFile = new CheckpointFile(directory.resolve("checkpoint.bin").toString());
+        var snapshot = createSnapshot(10);
+        var firstDelta = createDelta(11, new int[]{1, 4});
+        var secondDelta = createDelta(12, new int[]{0});
+
+        checkpointFile.write(snapshot);
+        checkpointFile.append(firstDelta);
+        checkpointFile.append(secondDelta);
+        var checkpoint = checkpointFile.read();
+
+        assertSnapshotEquals(snapshot, checkpoint.snapshot());
+        assertEquals(2, checkpoint.deltas().size());
+        assertDeltaEquals(firstDelta, checkpoint.deltas().get(0));
+        assertDeltaEquals(secondDelta, checkpoint.deltas().get(1));
+        assertEquals(12, checkpoint.getIteration());
+    }
+
+    /**
+     * Replaces the base with a newer snapshot, which drops the deltas of the previous base.
+     */
+    @Test
+    void dropsTheDeltasOfAReplacedBase() {
+        var checkpointFile = new CheckpointFile(directory.resolve("checkpoint.bin").toString());
+
+        checkpointFile.write(createSnapshot(10));
+        checkpointFile.append(createDelta(11, new int[]{2}));
+        checkpointFile.write(createSnapshot(20));
+        var checkpoint = checkpointFile.read();
+
+        assertEquals(20, checkpoint.snapshot().iteration());
+        assertTrue(checkpoint.deltas().isEmpty());
+    }
+
+    /**
+     * Cuts the last delta record short, as a crash while appending it would, at several positions.
+     */
+    @Test
+    void ignoresATornDeltaRecord() throws IOException {
+        var checkpointFile = new CheckpointFile(directory.resolve("checkpoint.bin").toString());
+        var deltaPath = directory.resolve("checkpoint.bin.delta");
+        var firstDelta = createDelta(11, new int[]{1, 4});
+
+        checkpointFile.write(createSnapshot(10));
+        checkpointFile.append(firstDelta);
+        var firstRecordEnd = Files.size(deltaPath);
+        checkpointFile.append(createDelta(12, new int[]{0, 3, 5}));
+        var secondRecordEnd = Files.size(deltaPath);
+
+        for (var tornEnd : new long[]{firstRecordEnd + 2, firstRecordEnd + 9, (firstRecordEnd + secondRecordEnd) / 2, secondRecordEnd - 1}) {
+            try (var channel = FileChannel.open(deltaPath, StandardOpenOption.WRITE)) {
+                channel.truncate(tornEnd);
+            }
+
+            var checkpoint = checkpointFile.read();
+
+            assertEquals(1, checkpoint.deltas().size(), "torn at " + tornEnd);
+            assertDeltaEquals(firstDelta, checkpoint.deltas().get(0));
+        }
+    }
+
+    /**
+     * Zeroes the body of the second of three records after its header, as a crash would leave a record whose size
+     * has reached the device before its pages, and checks that it and the record after it are ignored.
+     */
+    @Test
+    void ignoresTheDeltasFromACorruptedRecord() throws IOException {
+        var checkpointFile = new CheckpointFile(directory.resolve("checkpoint.bin").toString());
+        var deltaPath = directory.resolve("checkpoint.bin.delta");
+        var firstDelta = createDelta(11, new int[]{1, 4});
+
+        checkpointFile.write(createSnapshot(10));
+        checkpointFile.append(firstDelta);
+        var secondRecordStart = Files.size(deltaPath);
+        checkpointFile.append(createDelta(12, new int[]{0, 3, 5}));
+        var secondRecordEnd = Files.size(deltaPath);
+        checkpointFile.append(createDelta(13, new int[]{2}));
+
+        var bodyStart = secondRecordStart + Integer.BYTES + Long.BYTES;
+        try (var channel = FileChannel.open(deltaPath, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate((int) (secondRecordEnd - Integer.BYTES - bodyStart)), bodyStart);
+        }
+        var checkpoint = checkpointFile.read();
+
+        assertEquals(1, checkpoint.deltas().size());
+        assertDeltaEquals(firstDelta, checkpoint.deltas().get(0));
+    }
+
+    /**
+     * Flips a single bit in the organism columns of the last record and checks that the record is ignored.
+     */
+    @Test
+    void ignoresADeltaRecordWithAFlippedBit() throws IOException {
+        var checkpointFile = new CheckpointFile(directory.resolve("checkpoint.bin").toString());
+        var deltaPath = directory.resolve("checkpoint.bin.delta");
+        var firstDelta = createDelta(11, new int[]{1, 4});
+
+        checkpointFile.write(createSnapshot(10));
+        checkpointFile.append(firstDelta);
+        checkpointFile.append(createDelta(12, new int[]{0, 3, 5}));
+
+        var position = Files.size(deltaPath) - Integer.BYTES - 6;
+        try (var channel = FileChannel.open(deltaPath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            var value = ByteBuffer.allocate(1);
+            channel.read(value, position);
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) (value.get(0) ^ 0x10)}), position);
+        }
+        var checkpoint = checkpointFile.read();
+
+        assertEquals(1, checkpoint.deltas().size());
+        assertDeltaEquals(firstDelta, checkpoint.deltas().get(0));
+    }
+}
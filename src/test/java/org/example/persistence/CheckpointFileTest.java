@@ -0,0 +1,78 @@
+package org.example.persistence;
+
+import org.example.config.reader.YamlConfigReader;
+import org.example.entity.characteristic.CharacteristicsFactory;
+import org.example.entity.organism.OrganismRegistry;
+import org.example.service.RandomizerService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.stream.LongStream;
+
+import static org.example.persistence.CheckpointFixtures.assertSnapshotEquals;
+import static org.example.persistence.CheckpointFixtures.createSnapshot;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the {@code CheckpointFile} reads back the base snapshot it has written, and that the seed it carries
+ * restores the random state a single-threaded run had at the checkpoint.
+ */
+class CheckpointFileTest {
+    @TempDir
+    private Path directory;
+
+    /**
+     * Writes a base snapshot and reads it back.
+     */
+    @Test
+    void roundTripsTheBase() {
+        var checkpointFile = new CheckpointFile(directory.resolve("checkpoint.bin").toString());
+        var snapshot = createSnapshot(10);
+
+        checkpointFile.write(snapshot);
+
+        assertSnapshotEquals(snapshot, checkpointFile.read().snapshot());
+    }
+
+    /**
+     * Reseeds the generators with a drawn seed and stores it as the {@code CheckpointService} does, and checks
+     * that a service of another seed reseeded from the read checkpoint draws what the original one drew afterwards.
+     */
+    @Test
+    void restoresTheRandomStateFromTheSeed() {
+        var checkpointFile = new CheckpointFile(directory.resolve("checkpoint.bin").toString());
+        var characteristicsFactory = new CharacteristicsFactory(new YamlConfigReader(new OrganismRegistry()));
+        var originalService = new RandomizerService(characteristicsFactory, 42);
+        var restoredService = new RandomizerService(characteristicsFactory, 7);
+
+        LongStream.range(0, 5).forEach(i -> originalService.nextSeed());
+        var seed = originalService.nextSeed();
+        originalService.reseed(seed);
+        var snapshot = createSnapshot(10);
+        checkpointFile.write(new WorldSnapshot(snapshot.iteration(), snapshot.totalDied(), snapshot.lastOrganismId(), seed,
+                snapshot.height(), snapshot.width(), snapshot.species(), snapshot.terrain(), snapshot.cells()));
+        var originalDraws = LongStream.range(0, 20).map(i -> originalService.nextSeed()).toArray();
+
+        restoredService.reseed(checkpointFile.read().snapshot().seed());
+        var restoredDraws = LongStream.range(0, 20).map(i -> restoredService.nextSeed()).toArray();
+
+        assertArrayEquals(originalDraws, restoredDraws);
+    }
+
+    /**
+     * Reads a base without deltas.
+     */
+    @Test
+    void readsABaseWithoutDeltas() {
+        var checkpointFile = new CheckpointFile(directory.resolve("checkpoint.bin").toString());
+        assertFalse(checkpointFile.exists());
+
+        checkpointFile.write(createSnapshot(3));
+
+        assertTrue(checkpointFile.exists());
+        assertTrue(checkpointFile.read().deltas().isEmpty());
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.persistence;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The {@code CheckpointFixtures} class creates the snapshots and deltas written by the checkpoint tests
+ * and compares them with the ones read back.
+ */
+final class CheckpointFixtures {
+    private static final List<String> SPECIES = List.of("org.example.entity.organism.animal.herbivore.Rabbit",
+                                                        "org.example.entity.organism.plant.Plant");
+
+    private CheckpointFixtures() {
+    }
+
+    /**
+     * Creates a snapshot of an island of 2x3 cells with organisms in some of them.
+     *
+     * @param iteration the iteration of the snapshot
+     * @return the snapshot
+     */
+    static WorldSnapshot createSnapshot(long iteration) {
+        var cells = new CellColumns(new int[]{0, 1, 2, 3, 4, 5},
+                                    new int[]{2, 0, 1, 0, 3, 1},
+                                    new long[]{1, 2, 5, 8, 9, 13, 21},
+                                    new short[]{0, 1, 1, 0, 0, 1, 0},
+                                    new double[]{1.25, 0, 0, 0.5, 3.0, 0, 0.75},
+                                    new byte[]{CellColumns.READY_TO_MATE, 0, 0, 0, CellColumns.READY_TO_MATE, 0, 0});
+
+        return new WorldSnapshot(iteration, 17, 21, 0x5EEDL + iteration, 2, 3, SPECIES, new byte[]{0, 1, 2, 1, 0, 1}, cells);
+    }
+
+    /**
+     * Creates a delta of the cells with one organism in each of them.
+     *
+     * @param iteration the iteration of the delta
+     * @param cells     the changed cells
+     * @return the delta
+     */
+    static WorldDelta createDelta(long iteration, int[] cells) {
+        var organismCounts = new int[cells.length];
+        var organismIds = new long[cells.length];
+        var speciesIds = new short[cells.length];
+        var satiety = new double[cells.length];
+        var flags = new byte[cells.length];
+        for (var i = 0; i < cells.length; i++) {
+            organismCounts[i] = 1;
+            organismIds[i] = 100 * iteration + i;
+            speciesIds[i] = (short) (i % SPECIES.size());
+            satiety[i] = i * 0.5;
+            flags[i] = (byte) (i % 2);
+        }
+
+        return new WorldDelta(iteration, 20 + iteration, 100 * iteration + cells.length, 0xDE17AL + iteration,
+                new CellColumns(cells, organismCounts, organismIds, speciesIds, satiety, flags));
+    }
+
+    /**
+     * Asserts that the snapshots hold the same values.
+     *
+     * @param expected the written snapshot
+     * @param actual   the read snapshot
+     */
+    static void assertSnapshotEquals(WorldSnapshot expected, WorldSnapshot actual) {
+        assertEquals(expected.iteration(), actual.iteration());
+        assertEquals(expected.totalDied(), actual.totalDied());
+        assertEquals(expected.lastOrganismId(), actual.lastOrganismId());
+        assertEquals(expected.seed(), actual.seed());
+        assertEquals(expected.height(), actual.height());
+        assertEquals(expected.width(), actual.width());
+        assertEquals(expected.species(), actual.species());
+        assertArrayEquals(expected.terrain(), actual.terrain());
+        assertColumnsEqual(expected.cells(), actual.cells());
+    }
+
+    /**
+     * Asserts that the deltas hold the same values.
+     *
+     * @param expected the written delta
+     * @param actual   the read delta
+     */
+    static void assertDeltaEquals(WorldDelta expected, WorldDelta actual) {
+        assertEquals(expected.iteration(), actual.iteration());
+        assertEquals(expected.totalDied(), actual.totalDied());
+        assertEquals(expected.lastOrganismId(), actual.lastOrganismId());
+        assertEquals(expected.seed(), actual.seed());
+        assertColumnsEqual(expected.cells(), actual.cells());
+    }
+
+    /**
+     * Asserts that the columns hold the same cells and organisms.
+     *
+     * @param expected the written columns
+     * @param actual   the read columns
+     */
+    private static void assertColumnsEqual(CellColumns expected, CellColumns actual) {
+        assertArrayEquals(expected.cells(), actual.cells());
+        assertArrayEquals(expected.organismCounts(), actual.organismCounts());
+        assertArrayEquals(expected.organismIds(), actual.organismIds());
+        assertArrayEquals(expected.speciesIds(), actual.speciesIds());
+        assertArrayEquals(expected.satiety(), actual.satiety());
+        assertArrayEquals(expected.flags(), actual.flags());
+    }
+}
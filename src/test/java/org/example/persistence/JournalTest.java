@@ -0,0 +1,155 @@
+package org.example.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the {@code JournalReader} reads back the events the {@code JournalWriter} has collected
+ * in the buffers of several worker threads, grouped by tick in the order of the ticks.
+ */
+class JournalTest {
+    private static final int HEIGHT = 4;
+    private static final int WIDTH = 5;
+    private static final List<String> SPECIES = List.of("org.example.entity.organism.animal.herbivore.Rabbit",
+                                                        "org.example.entity.organism.animal.predator.Wolf",
+                                                        "org.example.entity.organism.plant.Plant");
+    private static final int WORKERS = 3;
+    private static final JournalEventType[] TYPES = JournalEventType.values();
+
+    @TempDir
+    private Path directory;
+
+    /**
+     * Appends the events of every tick from several worker threads, flushing between the ticks, with one tick
+     * overflowing the buffers of the workers, and reads them back tick by tick.
+     */
+    @Test
+    void roundTripsTheEventsOfSeveralWorkers() throws Exception {
+        var file = directory.resolve("journal.bin").toString();
+        var eventAmounts = new int[]{5, 0, 20_000, 1, 300};
+        var expected = new ArrayList<List<JournalEvent>>();
+
+        try (var journalWriter = new JournalWriter(file, HEIGHT, WIDTH, SPECIES);
+             var executor = Executors.newFixedThreadPool(WORKERS)) {
+            for (var tick = 0; tick < eventAmounts.length; tick++) {
+                var tasks = new ArrayList<Callable<List<JournalEvent>>>();
+                for (var worker = 0; worker < WORKERS; worker++) {
+                    tasks.add(appendEvents(journalWriter, tick, worker, eventAmounts[tick]));
+                }
+
+                var tickEvents = new ArrayList<JournalEvent>();
+                for (var future : executor.invokeAll(tasks)) {
+                    tickEvents.addAll(future.get());
+                }
+                if (!tickEvents.isEmpty()) {
+                    expected.add(sort(tickEvents));
+                }
+                journalWriter.flush();
+            }
+        }
+
+        try (var journalReader = new JournalReader(file)) {
+            assertEquals(new JournalHeader(HEIGHT, WIDTH, SPECIES), journalReader.getHeader());
+            assertEquals(eventAmounts.length - 1, journalReader.getLastTick());
+
+            var batch = new JournalBatch();
+            for (var tickEvents : expected) {
+                assertTrue(journalReader.readTick(batch));
+
+                var events = IntStream.range(0, batch.size())
+                                      .mapToObj(i -> new JournalEvent(batch.getTick(), batch.getType(i), batch.getOrganismId(i),
+                                              batch.getCell(i), batch.getSpeciesId(i)))
+                                      .toList();
+                assertEquals(tickEvents, sort(events));
+                assertEquals(events.get(events.size() - 1), journalReader.readEvent(batch.getPosition(batch.size() - 1)));
+            }
+            assertFalse(journalReader.readTick(batch));
+        }
+    }
+
+    /**
+     * Remembers the position of a tick, reads on, and reads the tick again from the position.
+     */
+    @Test
+    void readsATickAgainFromItsPosition() {
+        var file = directory.resolve("journal.bin").toString();
+
+        try (var journalWriter = new JournalWriter(file, HEIGHT, WIDTH, SPECIES)) {
+            LongStream.range(0, 4).forEach(tick -> {
+                appendEvents(journalWriter, (int) tick, 0, 7).call();
+                journalWriter.flush();
+            });
+        }
+
+        try (var journalReader = new JournalReader(file)) {
+            var batch = new JournalBatch();
+            journalReader.readTick(batch);
+            var position = journalReader.getPosition();
+            journalReader.readTick(batch);
+            var firstRead = IntStream.range(0, batch.size()).mapToLong(batch::getOrganismId).toArray();
+            journalReader.readTick(batch);
+
+            journalReader.seek(position);
+            journalReader.readTick(batch);
+
+            assertEquals(1, batch.getTick());
+            assertArrayEquals(firstRead, IntStream.range(0, batch.size()).mapToLong(batch::getOrganismId).toArray());
+        }
+    }
+
+    /**
+     * Returns a task appending events with ids unique to the tick and the worker to the journal.
+     *
+     * @param journalWriter the writer of the journal
+     * @param tick          the tick of the events
+     * @param worker        the number of the worker
+     * @param amount        the number of events
+     * @return the task returning the appended events
+     */
+    private static AppendTask appendEvents(JournalWriter journalWriter, int tick, int worker, int amount) {
+        return () -> {
+            var events = new ArrayList<JournalEvent>(amount);
+            for (var i = 0; i < amount; i++) {
+                var event = new JournalEvent(tick, TYPES[(i + worker) % TYPES.length], (long) tick << 32 | (long) worker << 24 | i,
+                        (i * 7 + worker) % (HEIGHT * WIDTH), (i + tick) % SPECIES.size());
+                journalWriter.append(event.tick(), event.type(), event.organismId(), event.cell(), event.speciesId());
+                events.add(event);
+            }
+
+            return events;
+        };
+    }
+
+    /**
+     * Sorts the events of a tick by organism id, since the journal doesn't order them within the tick.
+     *
+     * @param events the events
+     * @return the sorted events
+     */
+    private static List<JournalEvent> sort(List<JournalEvent> events) {
+        return events.stream().sorted(Comparator.comparingLong(JournalEvent::organismId)).toList();
+    }
+
+    /**
+     * The {@code AppendTask} interface is a task appending events which doesn't throw checked exceptions.
+     */
+    @FunctionalInterface
+    private interface AppendTask extends Callable<List<JournalEvent>> {
+        @Override
+        List<JournalEvent> call();
+    }
+}
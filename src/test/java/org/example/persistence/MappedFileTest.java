@@ -0,0 +1,120 @@
+package org.example.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests that the {@code MappedFileWriter} and the {@code MappedFileReader} carry values across the borders of their windows.
+ */
+class MappedFileTest {
+    private static final int WINDOW_SIZE = 13;
+    private static final int START = 5;
+
+    @TempDir
+    private Path directory;
+
+    /**
+     * Writes single values and arrays of every type through small windows which split them,
+     * and reads them back through windows of another size.
+     */
+    @Test
+    void roundTripsValuesAcrossWindows() throws IOException {
+        var bytes = new byte[]{1, -2, 3, -4, 5, -6, 7};
+        var shorts = new short[]{Short.MIN_VALUE, -1, 0, 1, Short.MAX_VALUE};
+        var ints = IntStream.range(-20, 20).map(i -> i * 104_729).toArray();
+        var longs = LongStream.range(-10, 10).map(i -> i * 0x1234_5678_9ABCL).toArray();
+        var doubles = new double[]{-1.5, 0.0, Math.PI, Double.MAX_VALUE, Double.MIN_VALUE, Double.NaN};
+        var end = START + Short.BYTES + Integer.BYTES + Long.BYTES + bytes.length + (long) shorts.length * Short.BYTES
+                + (long) ints.length * Integer.BYTES + (long) longs.length * Long.BYTES + (long) doubles.length * Double.BYTES;
+        var file = directory.resolve("mapped.bin");
+
+        try (var channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            var writer = new MappedFileWriter(channel, START, end, WINDOW_SIZE);
+            writer.putShort((short) -12_345);
+            writer.putInt(0xCAFEBABE);
+            writer.putLong(Long.MIN_VALUE + 1);
+            writer.putBytes(bytes);
+            writer.putShorts(shorts);
+            writer.putInts(ints);
+            writer.putLongs(longs);
+            writer.putDoubles(doubles);
+            writer.force();
+        }
+
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertEquals(end, channel.size());
+
+            var reader = new MappedFileReader(channel, START, end, WINDOW_SIZE + 4);
+            assertEquals(-12_345, reader.getShort());
+            assertEquals(0xCAFEBABE, reader.getInt());
+            assertEquals(Long.MIN_VALUE + 1, reader.getLong());
+            assertArrayEquals(bytes, read(reader, new byte[bytes.length]));
+
+            var readShorts = new short[shorts.length];
+            reader.getShorts(readShorts);
+            assertArrayEquals(shorts, readShorts);
+
+            var readInts = new int[ints.length];
+            reader.getInts(readInts);
+            assertArrayEquals(ints, readInts);
+
+            var readLongs = new long[longs.length];
+            reader.getLongs(readLongs);
+            assertArrayEquals(longs, readLongs);
+
+            var readDoubles = new double[doubles.length];
+            reader.getDoubles(readDoubles);
+            assertArrayEquals(doubles, readDoubles);
+
+            assertEquals(0, reader.remaining());
+            assertEquals(end, reader.getPosition());
+        }
+    }
+
+    /**
+     * Reads a value which is longer than the rest of the region.
+     */
+    @Test
+    void failsToReadPastTheEndOfTheRegion() throws IOException {
+        var file = directory.resolve("short.bin");
+
+        try (var channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            var writer = new MappedFileWriter(channel, 0, Integer.BYTES + Short.BYTES, WINDOW_SIZE);
+            writer.putInt(42);
+            writer.putShort((short) 7);
+            writer.force();
+        }
+
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            var reader = new MappedFileReader(channel, 0, channel.size(), Long.BYTES);
+            assertEquals(42, reader.getInt());
+            assertThrows(EOFException.class, reader::getInt);
+        }
+    }
+
+    /**
+     * Fills the array from the reader.
+     *
+     * @param reader the reader
+     * @param values the array to fill
+     * @return the filled array
+     * @throws IOException if the region ends
+     */
+    private static byte[] read(MappedFileReader reader, byte[] values) throws IOException {
+        reader.getBytes(values);
+
+        return values;
+    }
+}
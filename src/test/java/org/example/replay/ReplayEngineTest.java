@@ -0,0 +1,137 @@
+package org.example.replay;
+
+import org.example.persistence.JournalBatch;
+import org.example.persistence.JournalEventType;
+import org.example.persistence.JournalHeader;
+import org.example.persistence.JournalReader;
+import org.example.persistence.JournalWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests that the {@code ReplayEngine} reconstructs the same world by seeking from its keyframes as by replaying
+ * the journal from its first tick, with organism ids beyond the range of an int.
+ */
+class ReplayEngineTest {
+    private static final int HEIGHT = 3;
+    private static final int WIDTH = 4;
+    private static final List<String> SPECIES = List.of("org.example.entity.organism.animal.herbivore.Rabbit",
+                                                        "org.example.entity.organism.animal.predator.Wolf",
+                                                        "org.example.entity.organism.plant.Plant");
+    private static final int KEYFRAME_INTERVAL = 16;
+    private static final long LAST_TICK = 100;
+    private static final long FIRST_ORGANISM_ID = 5_000_000_000L;
+
+    @TempDir
+    private Path directory;
+    private String journalFile;
+
+    /**
+     * Records a journal of random births, moves and deaths for every tick up to {@value #LAST_TICK}.
+     */
+    @BeforeEach
+    void recordJournal() {
+        journalFile = directory.resolve("journal.bin").toString();
+        var random = new Random(11);
+        var present = new ArrayList<long[]>();
+        var nextOrganismId = FIRST_ORGANISM_ID;
+
+        try (var journalWriter = new JournalWriter(journalFile, HEIGHT, WIDTH, SPECIES)) {
+            for (var tick = 0L; tick <= LAST_TICK; tick++) {
+                var births = 1 + random.nextInt(6);
+                for (var i = 0; i < births; i++) {
+                    var organism = new long[]{nextOrganismId, random.nextInt(HEIGHT * WIDTH), random.nextInt(SPECIES.size())};
+                    nextOrganismId += 1 + random.nextInt(1_000);
+                    journalWriter.append(tick, JournalEventType.BIRTH, organism[0], (int) organism[1], (int) organism[2]);
+                    present.add(organism);
+                }
+
+                for (var organism : present) {
+                    if (random.nextInt(3) == 0) {
+                        organism[1] = random.nextInt(HEIGHT * WIDTH);
+                        journalWriter.append(tick, JournalEventType.MOVE, organism[0], (int) organism[1], (int) organism[2]);
+                    }
+                }
+
+                for (var i = present.size() - 1; i >= 0; i--) {
+                    if (random.nextInt(5) == 0) {
+                        var organism = present.remove(i);
+                        var death = random.nextBoolean() ? JournalEventType.KILL : JournalEventType.STARVATION;
+                        journalWriter.append(tick, death, organism[0], (int) organism[1], (int) organism[2]);
+                        journalWriter.append(tick, JournalEventType.REMOVAL, organism[0], (int) organism[1], (int) organism[2]);
+                        journalWriter.append(tick, JournalEventType.MOVE, organism[0], (int) organism[1], (int) organism[2]);
+                    }
+                }
+                journalWriter.flush();
+            }
+        }
+    }
+
+    /**
+     * Seeks backwards and forwards to ticks before, on and after keyframes and past the end of the journal,
+     * and compares every state with a replay from the first tick.
+     */
+    @Test
+    void seeksToTheStateOfAStraightReplay() {
+        var ticks = new long[]{47, 48, 49, 15, 16, 17, 0, 1, 63, 64, 65, 31, 100, 99, 33, 32, 150};
+
+        try (var replayEngine = new ReplayEngine(new JournalReader(journalFile), KEYFRAME_INTERVAL)) {
+            replayEngine.open();
+            assertEquals(LAST_TICK, replayEngine.getLastTick());
+            assertEquals(LAST_TICK / KEYFRAME_INTERVAL + 1, replayEngine.getKeyframeAmount());
+
+            for (var tick : ticks) {
+                assertStatesEqual(replayFromStart(Math.min(tick, LAST_TICK)), replayEngine.seek(tick));
+            }
+        }
+    }
+
+    /**
+     * Replays the journal from its first tick with a fresh reader.
+     *
+     * @param tick the tick to replay up to
+     * @return the state after the tick
+     */
+    private ReplayState replayFromStart(long tick) {
+        try (var journalReader = new JournalReader(journalFile)) {
+            var state = new ReplayState(journalReader.getHeader());
+            var batch = new JournalBatch();
+
+            while (journalReader.readTick(batch) && batch.getTick() <= tick) {
+                state.apply(batch);
+            }
+            state.advanceTo(tick);
+
+            return state;
+        }
+    }
+
+    /**
+     * Asserts that the states are at the same tick with the same counters and populations.
+     *
+     * @param expected the state replayed from the first tick
+     * @param actual   the state the engine has sought to
+     */
+    private static void assertStatesEqual(ReplayState expected, ReplayState actual) {
+        var header = expected.getHeader();
+        var tick = "tick " + expected.getTick();
+
+        assertEquals(expected.getTick(), actual.getTick());
+        assertEquals(expected.getTotals(), actual.getTotals(), tick);
+        assertEquals(expected.getTotalPopulation(), actual.getTotalPopulation(), tick);
+        for (var speciesId = 0; speciesId < header.species().size(); speciesId++) {
+            assertEquals(expected.getPopulation(speciesId), actual.getPopulation(speciesId), tick);
+            for (var cell = 0; cell < header.getCellAmount(); cell++) {
+                assertEquals(expected.getPopulation(cell, speciesId), actual.getPopulation(cell, speciesId), tick);
+            }
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package org.example.service;
+
+import org.example.config.SchedulerConfig;
+import org.example.entity.area.Area;
+import org.example.entity.area.Island;
+import org.example.entity.characteristic.Characteristics;
+import org.example.entity.coordinate.Coordinate;
+import org.example.entity.location.Location;
+import org.example.entity.location.LocationType;
+import org.example.entity.organism.OrganismRegistry;
+import org.example.entity.organism.animal.herbivore.Mouse;
+import org.example.metrics.Phase;
+import org.example.statistics.PopulationCounter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the partitioning of the locations by the {@code PhaseScheduler} and the coverage of its parallel loops.
+ */
+class PhaseSchedulerTest {
+    private static final int PARTITIONS_PER_WORKER = 2;
+    private static final Characteristics MOUSE = new Characteristics(0.05, 500, 1, 0.01, 1.0);
+
+    /**
+     * Partitions locations of random costs and checks that every location is in exactly one partition.
+     */
+    @Test
+    void assignsEveryLocationExactlyOnce() {
+        var random = new Random(7);
+        var area = createArea(12, 9, (y, x) -> random.nextInt(40));
+        var partitions = createScheduler(100, 1_000).getPartitions(area);
+
+        var assigned = partitions.stream().flatMap(List::stream).toList();
+
+        assertEquals(getPartitionAmount(), partitions.size());
+        assertEquals(area.getLocations().size(), assigned.size());
+        assertEquals(new HashSet<>(area.getLocations()), new HashSet<>(assigned));
+    }
+
+    /**
+     * Partitions a few crowded locations among many cheap ones and checks that the heaviest partition stays within
+     * the 4/3 factor of the longest-processing-time heuristic of the lower bound of the optimum, the larger of
+     * the mean partition cost and the cost of the most expensive location.
+     */
+    @Test
+    void balancesSkewedCosts() {
+        var area = createArea(10, 10, (y, x) -> y == 0 && x < 3 ? 300 - 100 * x : (y * x) % 7 == 0 ? 20 : 0);
+        var partitions = createScheduler(100, 1_000).getPartitions(area);
+
+        var partitionCosts = partitions.stream().mapToLong(PhaseSchedulerTest::getPartitionCost).toArray();
+        var totalCost = area.getLocations().stream().mapToLong(PhaseSchedulerTest::getCost).sum();
+        var largestCost = area.getLocations().stream().mapToLong(PhaseSchedulerTest::getCost).max().orElseThrow();
+        var lowerBound = Math.max((double) totalCost / partitions.size(), largestCost);
+        var heaviestCost = IntStream.range(0, partitionCosts.length).mapToLong(i -> partitionCosts[i]).max().orElseThrow();
+
+        assertEquals(totalCost, IntStream.range(0, partitionCosts.length).mapToLong(i -> partitionCosts[i]).sum());
+        assertTrue(heaviestCost <= lowerBound * 4 / 3, "heaviest partition costs %d of %d".formatted(heaviestCost, totalCost));
+    }
+
+    /**
+     * Gives the most expensive location a cost above the mean partition cost and checks that it gets a partition of its own.
+     */
+    @Test
+    void isolatesALocationCostlierThanAPartition() {
+        var area = createArea(6, 6, (y, x) -> y == 3 && x == 4 ? 1_000 : 1);
+        var partitions = createScheduler(100, 1_000).getPartitions(area);
+        var crowdedLocation = area.getLocationByCoordinate(new Coordinate(3, 4));
+
+        var crowdedPartition = partitions.stream().filter(partition -> partition.contains(crowdedLocation)).findFirst().orElseThrow();
+
+        assertEquals(List.of(crowdedLocation), crowdedPartition);
+    }
+
+    /**
+     * Processes the locations of two areas in turn and checks that the partitions follow the area
+     * and are kept as long as the area doesn't change.
+     */
+    @Test
+    void repartitionsWhenTheAreaChanges() {
+        var scheduler = createScheduler(100, 1_000);
+        var firstArea = createArea(4, 5, (y, x) -> x);
+        var secondArea = createArea(3, 3, (y, x) -> y);
+
+        var firstPartitions = scheduler.getPartitions(firstArea);
+        assertSame(firstPartitions, scheduler.getPartitions(firstArea));
+
+        var secondPartitions = scheduler.getPartitions(secondArea);
+        assertNotSame(firstPartitions, secondPartitions);
+        assertEquals(new HashSet<>(secondArea.getLocations()), new HashSet<>(secondPartitions.stream().flatMap(List::stream).toList()));
+
+        var visited = ConcurrentHashMap.<Location>newKeySet();
+        scheduler.forEachLocation(Phase.MOVEMENT, firstArea, visited::add);
+        assertEquals(new HashSet<>(firstArea.getLocations()), visited);
+    }
+
+    /**
+     * Runs the groups of a crowded location nested and of a small one sequentially, and checks that
+     * every item of every group is processed exactly once with its group.
+     */
+    @Test
+    void forEachGroupProcessesEveryItemOnce() {
+        var area = createArea(2, 2, (y, x) -> y == 0 && x == 0 ? 10 : 0);
+
+        var nestedScheduler = createScheduler(0, 1);
+        nestedScheduler.onTickStarted(area);
+        assertEquals(ExecutionMode.NESTED, nestedScheduler.getExecutionMode(Phase.REPRODUCTION));
+        assertProcessesEveryItemOnce(nestedScheduler, List.of(700, 3, 0, 1, 250));
+
+        var sequentialScheduler = createScheduler(Integer.MAX_VALUE, 1);
+        sequentialScheduler.onTickStarted(area);
+        assertEquals(ExecutionMode.SEQUENTIAL, sequentialScheduler.getExecutionMode(Phase.REPRODUCTION));
+        assertProcessesEveryItemOnce(sequentialScheduler, List.of(5, 2));
+    }
+
+    /**
+     * Runs {@code forEachGroup} over groups of the specified sizes and checks that every item has been seen once
+     * and every group has been passed whole.
+     *
+     * @param scheduler  the scheduler
+     * @param groupSizes the sizes of the groups
+     */
+    private static void assertProcessesEveryItemOnce(PhaseScheduler scheduler, List<Integer> groupSizes) {
+        var groups = new ArrayList<List<Integer>>();
+        var nextItem = 0;
+        for (var groupSize : groupSizes) {
+            groups.add(IntStream.range(nextItem, nextItem + groupSize).boxed().toList());
+            nextItem += groupSize;
+        }
+
+        var counts = new ConcurrentHashMap<Integer, AtomicInteger>();
+        var processedGroups = ConcurrentHashMap.<List<Integer>>newKeySet();
+        scheduler.forEachGroup(Phase.REPRODUCTION, groups, group -> {
+            processedGroups.add(group);
+            group.forEach(item -> counts.computeIfAbsent(item, key -> new AtomicInteger()).incrementAndGet());
+        });
+
+        assertEquals(nextItem, counts.size());
+        assertTrue(counts.values().stream().allMatch(count -> count.get() == 1));
+        assertEquals(new HashSet<>(groups), processedGroups);
+    }
+
+    /**
+     * Creates a scheduler without species counted, so the execution mode only depends on the thresholds.
+     *
+     * @param parallelThreshold the number of organisms from which the phases run in parallel
+     * @param nestedThreshold   the number of organisms in a location from which it's processed nested
+     * @return the scheduler
+     */
+    private static PhaseScheduler createScheduler(int parallelThreshold, int nestedThreshold) {
+        var schedulerConfig = new SchedulerConfig(10, PARTITIONS_PER_WORKER, parallelThreshold, nestedThreshold);
+
+        return new PhaseScheduler(schedulerConfig, new PopulationCounter(new OrganismRegistry()));
+    }
+
+    /**
+     * Creates an island whose locations hold the given number of mice.
+     *
+     * @param height        the height of the island
+     * @param width         the width of the island
+     * @param organismCount the number of mice of a location by its coordinate
+     * @return the island
+     */
+    private static Area createArea(int height, int width, OrganismCount organismCount) {
+        return new Island(height, width, () -> {
+            var locations = new ArrayList<Location>();
+            for (var y = 0; y < height; y++) {
+                for (var x = 0; x < width; x++) {
+                    var coordinate = new Coordinate(y, x);
+                    var location = new Location(LocationType.FOREST, coordinate);
+                    for (var i = 0; i < organismCount.get(y, x); i++) {
+                        location.addOrganism(new Mouse(MOUSE, coordinate));
+                    }
+                    locations.add(location);
+                }
+            }
+
+            return locations;
+        });
+    }
+
+    /**
+     * Returns the cost the scheduler estimates for the location.
+     *
+     * @param location the location
+     * @return the number of organisms plus one
+     */
+    private static long getCost(Location location) {
+        return location.getOrganisms().size() + 1L;
+    }
+
+    /**
+     * Returns the summed cost of the locations of a partition.
+     *
+     * @param partition the partition
+     * @return the cost
+     */
+    private static long getPartitionCost(List<Location> partition) {
+        return partition.stream().mapToLong(PhaseSchedulerTest::getCost).sum();
+    }
+
+    /**
+     * Returns the number of partitions the scheduler splits a large area into.
+     *
+     * @return the number of partitions
+     */
+    private static int getPartitionAmount() {
+        return (ForkJoinPool.getCommonPoolParallelism() + 1) * PARTITIONS_PER_WORKER;
+    }
+
+    /**
+     * The {@code OrganismCount} interface gives the number of organisms of a location.
+     */
+    @FunctionalInterface
+    private interface OrganismCount {
+        int get(int y, int x);
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.function.LongUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the {@code StatisticsHistory} tells steady populations from periodic and noisy ones.
+ */
+class StatisticsHistoryTest {
+    private static final int CAPACITY = 50;
+    private static final int WINDOW = 24;
+    private static final double TOLERANCE = 0.05;
+    private static final int MAX_PERIOD = 6;
+
+    /**
+     * Records constant populations, which are steady and have no period.
+     */
+    @Test
+    void findsNoPeriodInAConstantSeries() {
+        var history = record(tick -> 120, tick -> 7);
+
+        assertTrue(history.isSteady(HistorySeries.ALIVE, WINDOW, TOLERANCE));
+        assertEquals(0, history.findPeriod(HistorySeries.ALIVE, WINDOW, TOLERANCE, MAX_PERIOD));
+    }
+
+    /**
+     * Records populations which vary less than the tolerance, which are steady and have no period.
+     */
+    @Test
+    void findsNoPeriodInASteadySeries() {
+        var history = record(tick -> 1_000 + tick % 2 * 10, tick -> 500 + tick % 3 * 5);
+
+        assertTrue(history.isSteady(HistorySeries.ALIVE, WINDOW, TOLERANCE));
+        assertEquals(0, history.findPeriod(HistorySeries.ALIVE, WINDOW, TOLERANCE, MAX_PERIOD));
+    }
+
+    /**
+     * Records a population oscillating with a period of three next to a constant one.
+     */
+    @Test
+    void findsThePeriodOfAnOscillation() {
+        var cycle = new long[]{100, 160, 230};
+        var history = record(tick -> cycle[(int) (tick % cycle.length)], tick -> 40);
+
+        assertFalse(history.isSteady(HistorySeries.ALIVE, WINDOW, TOLERANCE));
+        assertEquals(3, history.findPeriod(HistorySeries.ALIVE, WINDOW, TOLERANCE, MAX_PERIOD));
+        assertEquals(0, history.findPeriod(HistorySeries.ALIVE, WINDOW, TOLERANCE, 2));
+    }
+
+    /**
+     * Records an oscillation with a period of four disturbed by less than the tolerance.
+     */
+    @Test
+    void findsThePeriodOfANoisyOscillation() {
+        var random = new Random(3);
+        var cycle = new long[]{400, 700, 1_000, 700};
+        var history = record(tick -> cycle[(int) (tick % cycle.length)] + random.nextInt(-8, 9), tick -> 90 + random.nextInt(-2, 3));
+
+        assertFalse(history.isSteady(HistorySeries.ALIVE, WINDOW, TOLERANCE));
+        assertEquals(4, history.findPeriod(HistorySeries.ALIVE, WINDOW, TOLERANCE, MAX_PERIOD));
+    }
+
+    /**
+     * Records populations varying randomly by far more than the tolerance.
+     */
+    @Test
+    void findsNothingInNoise() {
+        var random = new Random(9);
+        var history = record(tick -> 500 + random.nextInt(-200, 201), tick -> 80 + random.nextInt(-30, 31));
+
+        assertFalse(history.isSteady(HistorySeries.ALIVE, WINDOW, TOLERANCE));
+        assertEquals(0, history.findPeriod(HistorySeries.ALIVE, WINDOW, TOLERANCE, MAX_PERIOD));
+    }
+
+    /**
+     * Checks a window longer than the recorded ticks.
+     */
+    @Test
+    void needsTheWholeWindow() {
+        var history = new StatisticsHistory(CAPACITY, 1, 1);
+        for (var tick = 0L; tick < WINDOW - 1; tick++) {
+            history.record(tick, new long[]{tick % 2 * 100}, new long[1], new long[1], new long[1]);
+        }
+
+        assertFalse(history.isSteady(HistorySeries.ALIVE, WINDOW, TOLERANCE));
+        assertEquals(0, history.findPeriod(HistorySeries.ALIVE, WINDOW, TOLERANCE, MAX_PERIOD));
+    }
+
+    /**
+     * Records more ticks than the capacity, so the window wraps around the rings, with the alive organisms
+     * of two species given by the functions of the tick.
+     *
+     * @param firstSpecies  the population of the first species
+     * @param secondSpecies the population of the second species
+     * @return the history
+     */
+    private static StatisticsHistory record(LongUnaryOperator firstSpecies, LongUnaryOperator secondSpecies) {
+        var history = new StatisticsHistory(CAPACITY, 2, 1);
+        for (var tick = 0L; tick < CAPACITY + 17; tick++) {
+            var alive = new long[]{firstSpecies.applyAsLong(tick), secondSpecies.applyAsLong(tick)};
+            history.record(tick, alive, new long[2], new long[2], new long[1]);
+        }
+
+        return history;
+    }
+}